@@ -156,6 +156,7 @@ public class DefaultSyncServiceFactory implements SyncServiceFactory {
         metrics,
         storageUpdateChannel,
         asyncRunner,
+        asyncRunnerFactory,
         p2pNetwork,
         combinedChainDataClient,
         signatureVerifier,
@@ -190,6 +191,7 @@ public class DefaultSyncServiceFactory implements SyncServiceFactory {
               syncConfig.getForwardSyncBatchSize(),
               syncConfig.getForwardSyncMaxPendingBatches(),
               syncConfig.getForwardSyncMaxBlocksPerMinute(),
+              syncConfig.isForwardSyncBatchSignatureVerificationEnabled(),
               spec);
     } else {
       LOG.info("Using single peer sync");
@@ -24,6 +24,7 @@ public class SyncConfig {
   public static final int DEFAULT_HISTORICAL_SYNC_BATCH_SIZE = 50;
   public static final int DEFAULT_FORWARD_SYNC_MAX_PENDING_BATCHES = 5;
   public static final int DEFAULT_FORWARD_SYNC_MAX_BLOCKS_PER_MINUTE = 500;
+  public static final boolean DEFAULT_FORWARD_SYNC_BATCH_SIGNATURE_VERIFICATION_ENABLED = true;
 
   private final boolean isEnabled;
   private final boolean isMultiPeerSyncEnabled;
@@ -33,6 +34,7 @@ public class SyncConfig {
   private final int forwardSyncBatchSize;
   private final int forwardSyncMaxPendingBatches;
   private final int forwardSyncMaxBlocksPerMinute;
+  private final boolean forwardSyncBatchSignatureVerificationEnabled;
 
   private SyncConfig(
       final boolean isEnabled,
@@ -42,7 +44,8 @@ public class SyncConfig {
       final int historicalSyncBatchSize,
       final int forwardSyncBatchSize,
       final int forwardSyncMaxPendingBatches,
-      final int forwardSyncMaxBlocksPerMinute) {
+      final int forwardSyncMaxBlocksPerMinute,
+      final boolean forwardSyncBatchSignatureVerificationEnabled) {
     this.isEnabled = isEnabled;
     this.isMultiPeerSyncEnabled = isMultiPeerSyncEnabled;
     this.reconstructHistoricStatesEnabled = reconstructHistoricStatesEnabled;
@@ -51,6 +54,8 @@ public class SyncConfig {
     this.forwardSyncBatchSize = forwardSyncBatchSize;
     this.forwardSyncMaxPendingBatches = forwardSyncMaxPendingBatches;
     this.forwardSyncMaxBlocksPerMinute = forwardSyncMaxBlocksPerMinute;
+    this.forwardSyncBatchSignatureVerificationEnabled =
+        forwardSyncBatchSignatureVerificationEnabled;
   }
 
   public static Builder builder() {
@@ -89,6 +94,10 @@ public class SyncConfig {
     return forwardSyncMaxBlocksPerMinute;
   }
 
+  public boolean isForwardSyncBatchSignatureVerificationEnabled() {
+    return forwardSyncBatchSignatureVerificationEnabled;
+  }
+
   public static class Builder {
     private Boolean isEnabled;
     private Boolean isMultiPeerSyncEnabled = DEFAULT_MULTI_PEER_SYNC_ENABLED;
@@ -98,6 +107,8 @@ public class SyncConfig {
     private Integer forwardSyncBatchSize = DEFAULT_FORWARD_SYNC_BATCH_SIZE;
     private Integer forwardSyncMaxPendingBatches = DEFAULT_FORWARD_SYNC_MAX_PENDING_BATCHES;
     private Integer forwardSyncMaxBlocksPerMinute = DEFAULT_FORWARD_SYNC_MAX_BLOCKS_PER_MINUTE;
+    private boolean forwardSyncBatchSignatureVerificationEnabled =
+        DEFAULT_FORWARD_SYNC_BATCH_SIGNATURE_VERIFICATION_ENABLED;
 
     private Builder() {}
 
@@ -111,7 +122,8 @@ public class SyncConfig {
           historicalSyncBatchSize,
           forwardSyncBatchSize,
           forwardSyncMaxPendingBatches,
-          forwardSyncMaxBlocksPerMinute);
+          forwardSyncMaxBlocksPerMinute,
+          forwardSyncBatchSignatureVerificationEnabled);
     }
 
     private void initMissingDefaults() {
@@ -163,6 +175,13 @@ public class SyncConfig {
       return this;
     }
 
+    public Builder forwardSyncBatchSignatureVerificationEnabled(
+        final boolean forwardSyncBatchSignatureVerificationEnabled) {
+      this.forwardSyncBatchSignatureVerificationEnabled =
+          forwardSyncBatchSignatureVerificationEnabled;
+      return this;
+    }
+
     public Builder reconstructHistoricStatesEnabled(
         final Boolean reconstructHistoricStatesEnabled) {
       checkNotNull(reconstructHistoricStatesEnabled);
@@ -29,8 +29,10 @@ import tech.pegasys.teku.networking.eth2.peers.SyncSource;
 import tech.pegasys.teku.networking.p2p.peer.DisconnectReason;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.statetransition.blobs.BlobSidecarPool;
+import tech.pegasys.teku.statetransition.block.BlockBatchSignatureVerifier;
 import tech.pegasys.teku.statetransition.block.BlockImporter;
 
 public class BatchImporter {
@@ -39,14 +41,29 @@ public class BatchImporter {
   private final BlockImporter blockImporter;
   private final BlobSidecarPool blobSidecarPool;
   private final AsyncRunner asyncRunner;
+  private final Optional<BlockBatchSignatureVerifier> batchSignatureVerifier;
 
   public BatchImporter(
       final BlockImporter blockImporter,
       final BlobSidecarPool blobSidecarPool,
       final AsyncRunner asyncRunner) {
+    this(blockImporter, blobSidecarPool, asyncRunner, Optional.empty());
+  }
+
+  /**
+   * @param batchSignatureVerifier if present, the signatures of all blocks in a batch are verified
+   *     together before they're imported, falling back to verifying each block as it's imported
+   *     when that fails
+   */
+  public BatchImporter(
+      final BlockImporter blockImporter,
+      final BlobSidecarPool blobSidecarPool,
+      final AsyncRunner asyncRunner,
+      final Optional<BlockBatchSignatureVerifier> batchSignatureVerifier) {
     this.blockImporter = blockImporter;
     this.blobSidecarPool = blobSidecarPool;
     this.asyncRunner = asyncRunner;
+    this.batchSignatureVerifier = batchSignatureVerifier;
   }
 
   /**
@@ -67,47 +84,85 @@ public class BatchImporter {
 
     checkState(!blocks.isEmpty(), "Batch has no blocks to import");
     return asyncRunner.runAsync(
-        () -> {
-          final SignedBeaconBlock firstBlock = blocks.get(0);
-          SafeFuture<BlockImportResult> importResult =
-              importBlockAndBlobSidecars(firstBlock, blobSidecarsByBlockRoot, source.orElseThrow());
-          for (int i = 1; i < blocks.size(); i++) {
-            final SignedBeaconBlock block = blocks.get(i);
-            importResult =
-                importResult.thenCompose(
-                    previousResult -> {
-                      if (previousResult.isSuccessful()) {
-                        return importBlockAndBlobSidecars(
-                            block, blobSidecarsByBlockRoot, source.orElseThrow());
-                      } else {
-                        return SafeFuture.completedFuture(previousResult);
+        () ->
+            verifyBatchSignatures(blocks)
+                .thenCompose(
+                    verifiedBlockSlotStates ->
+                        importBlocks(
+                            blocks,
+                            verifiedBlockSlotStates,
+                            blobSidecarsByBlockRoot,
+                            source.orElseThrow()))
+                .thenApply(
+                    lastBlockImportResult -> {
+                      if (lastBlockImportResult.isSuccessful()) {
+                        return BatchImportResult.IMPORTED_ALL_BLOCKS;
+                      } else if (lastBlockImportResult.hasFailedExecutingExecutionPayload()) {
+                        return BatchImportResult.SERVICE_OFFLINE;
                       }
-                    });
-          }
-          return importResult.thenApply(
-              lastBlockImportResult -> {
-                if (lastBlockImportResult.isSuccessful()) {
-                  return BatchImportResult.IMPORTED_ALL_BLOCKS;
-                } else if (lastBlockImportResult.hasFailedExecutingExecutionPayload()) {
-                  return BatchImportResult.SERVICE_OFFLINE;
+                      LOG.debug(
+                          "Failed to import batch {}: {}",
+                          batch,
+                          lastBlockImportResult.getFailureReason(),
+                          lastBlockImportResult.getFailureCause().orElse(null));
+                      return BatchImportResult.IMPORT_FAILED;
+                    }));
+  }
+
+  private SafeFuture<Optional<List<BeaconState>>> verifyBatchSignatures(
+      final List<SignedBeaconBlock> blocks) {
+    if (batchSignatureVerifier.isEmpty()) {
+      return SafeFuture.completedFuture(Optional.empty());
+    }
+    return batchSignatureVerifier
+        .get()
+        .verify(blocks)
+        .exceptionally(
+            error -> {
+              LOG.debug("Failed to verify batch signatures, verifying each block instead", error);
+              return Optional.empty();
+            });
+  }
+
+  private SafeFuture<BlockImportResult> importBlocks(
+      final List<SignedBeaconBlock> blocks,
+      final Optional<List<BeaconState>> verifiedBlockSlotStates,
+      final Map<Bytes32, List<BlobSidecar>> blobSidecarsByBlockRoot,
+      final SyncSource source) {
+    SafeFuture<BlockImportResult> importResult =
+        importBlockAndBlobSidecars(
+            blocks.get(0),
+            verifiedBlockSlotStates.map(states -> states.get(0)),
+            blobSidecarsByBlockRoot,
+            source);
+    for (int i = 1; i < blocks.size(); i++) {
+      final SignedBeaconBlock block = blocks.get(i);
+      final int blockIndex = i;
+      importResult =
+          importResult.thenCompose(
+              previousResult -> {
+                if (previousResult.isSuccessful()) {
+                  return importBlockAndBlobSidecars(
+                      block,
+                      verifiedBlockSlotStates.map(states -> states.get(blockIndex)),
+                      blobSidecarsByBlockRoot,
+                      source);
+                } else {
+                  return SafeFuture.completedFuture(previousResult);
                 }
-                LOG.debug(
-                    "Failed to import batch {}: {}",
-                    batch,
-                    lastBlockImportResult.getFailureReason(),
-                    lastBlockImportResult.getFailureCause().orElse(null));
-                return BatchImportResult.IMPORT_FAILED;
               });
-        });
+    }
+    return importResult;
   }
 
   private SafeFuture<BlockImportResult> importBlockAndBlobSidecars(
       final SignedBeaconBlock block,
+      final Optional<BeaconState> verifiedBlockSlotState,
       final Map<Bytes32, List<BlobSidecar>> blobSidecarsByBlockRoot,
       final SyncSource source) {
     final Bytes32 blockRoot = block.getRoot();
     if (!blobSidecarsByBlockRoot.containsKey(blockRoot)) {
-      return importBlock(block, source);
+      return importBlock(block, verifiedBlockSlotState, source);
     }
     final List<BlobSidecar> blobSidecars = blobSidecarsByBlockRoot.get(blockRoot);
     LOG.debug(
@@ -117,27 +172,29 @@ public class BatchImporter {
     // Add blob sidecars to the pool in order for them to be available when the block is being
     // imported
     blobSidecarPool.onCompletedBlockAndBlobSidecars(block, blobSidecars);
-    return importBlock(block, source);
+    return importBlock(block, verifiedBlockSlotState, source);
   }
 
   private SafeFuture<BlockImportResult> importBlock(
-      final SignedBeaconBlock block, final SyncSource source) {
-    return blockImporter
-        .importBlock(block)
-        .thenApply(
-            result -> {
-              if (result.getFailureReason()
-                  == BlockImportResult.FailureReason.FAILED_WEAK_SUBJECTIVITY_CHECKS) {
-                LOG.warn(
-                    "Disconnecting source ({}) for sending block that failed weak subjectivity checks: {}",
-                    source,
-                    result);
-                source
-                    .disconnectCleanly(DisconnectReason.REMOTE_FAULT)
-                    .ifExceptionGetsHereRaiseABug();
-              }
-              return result;
-            });
+      final SignedBeaconBlock block,
+      final Optional<BeaconState> verifiedBlockSlotState,
+      final SyncSource source) {
+    final SafeFuture<BlockImportResult> importResult =
+        verifiedBlockSlotState.isPresent()
+            ? blockImporter.importBlockWithVerifiedSignatures(block, verifiedBlockSlotState.get())
+            : blockImporter.importBlock(block);
+    return importResult.thenApply(
+        result -> {
+          if (result.getFailureReason()
+              == BlockImportResult.FailureReason.FAILED_WEAK_SUBJECTIVITY_CHECKS) {
+            LOG.warn(
+                "Disconnecting source ({}) for sending block that failed weak subjectivity checks: {}",
+                source,
+                result);
+            source.disconnectCleanly(DisconnectReason.REMOTE_FAULT).ifExceptionGetsHereRaiseABug();
+          }
+          return result;
+        });
   }
 
   public enum BatchImportResult {
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.beacon.sync.forward.multipeer;
 
+import java.util.Optional;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.beacon.sync.events.SyncingStatus;
 import tech.pegasys.teku.beacon.sync.forward.ForwardSyncService;
@@ -38,6 +39,7 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.statetransition.blobs.BlobSidecarManager;
 import tech.pegasys.teku.statetransition.blobs.BlobSidecarPool;
+import tech.pegasys.teku.statetransition.block.BlockBatchSignatureVerifier;
 import tech.pegasys.teku.statetransition.block.BlockImporter;
 import tech.pegasys.teku.statetransition.util.PendingPool;
 import tech.pegasys.teku.storage.client.RecentChainData;
@@ -76,6 +78,7 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
       final int batchSize,
       final int maxPendingBatches,
       final int maxBlocksPerMinute,
+      final boolean batchSignatureVerificationEnabled,
       final Spec spec) {
     final EventThread eventThread = new AsyncRunnerEventThread("sync", asyncRunnerFactory);
     final SettableLabelledGauge targetChainCountGauge =
@@ -93,7 +96,13 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
             eventThread,
             asyncRunner,
             recentChainData,
-            new BatchImporter(blockImporter, blobSidecarPool, asyncRunner),
+            new BatchImporter(
+                blockImporter,
+                blobSidecarPool,
+                asyncRunner,
+                batchSignatureVerificationEnabled
+                    ? Optional.of(new BlockBatchSignatureVerifier(spec, recentChainData))
+                    : Optional.empty()),
             new BatchFactory(
                 eventThread, blobSidecarManager, new PeerScoringConflictResolutionStrategy()),
             batchSize,
@@ -29,6 +29,7 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.beacon.sync.events.SyncStateProvider;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
@@ -127,6 +128,7 @@ public class HistoricalBlockSyncService extends Service {
       final MetricsSystem metricsSystem,
       final StorageUpdateChannel storageUpdateChannel,
       final AsyncRunner asyncRunner,
+      final AsyncRunnerFactory asyncRunnerFactory,
       final P2PNetwork<Eth2Peer> network,
       final CombinedChainDataClient chainData,
       final AsyncBLSSignatureVerifier signatureVerifier,
@@ -142,6 +144,8 @@ public class HistoricalBlockSyncService extends Service {
                     storageUpdateChannel,
                     chainData,
                     spec,
+                    asyncRunnerFactory.create(
+                        ReconstructHistoricalStatesService.class.getSimpleName(), 1),
                     timeProvider,
                     metricsSystem,
                     genesisStateResource))
@@ -15,6 +15,7 @@ package tech.pegasys.teku.beacon.sync.historical;
 
 import java.time.Duration;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
 import tech.pegasys.teku.infrastructure.logging.StatusLogger;
 import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
@@ -24,8 +25,10 @@ import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 
 public class ProgressLogger {
   private final SettableGauge reconstructGauge;
+  private final Counter reconstructedBlocksCounter;
   private final TimeProvider timeProvider;
   private UInt64 lastLogged;
+  private long blocksSinceLastLogged;
   private final StatusLogger statusLogger;
 
   protected ProgressLogger(
@@ -38,20 +41,30 @@ public class ProgressLogger {
             TekuMetricCategory.BEACON,
             "reconstruct_historical_states_slot",
             "The slot the reconstruct historical states service has last saved");
+    this.reconstructedBlocksCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "reconstruct_historical_states_blocks_total",
+            "Number of blocks the reconstruct historical states service has saved");
 
     this.timeProvider = timeProvider;
     this.lastLogged = timeProvider.getTimeInSeconds();
     this.statusLogger = statusLogger;
   }
 
-  void update(final SignedBeaconBlock block, final UInt64 anchorSlot) {
-    final UInt64 currentSlot = block.getSlot();
+  void update(final SignedBeaconBlock lastBlock, final int blockCount, final UInt64 anchorSlot) {
+    final UInt64 currentSlot = lastBlock.getSlot();
     reconstructGauge.set(currentSlot.doubleValue());
+    reconstructedBlocksCounter.inc(blockCount);
+    blocksSinceLastLogged += blockCount;
 
     final UInt64 now = timeProvider.getTimeInSeconds();
     if (now.isGreaterThanOrEqualTo(lastLogged.plus(Duration.ofMinutes(5).toSeconds()))) {
-      statusLogger.reconstructedHistoricalBlocks(currentSlot, anchorSlot);
+      final double blocksPerSecond =
+          (double) blocksSinceLastLogged / now.minus(lastLogged).longValue();
+      statusLogger.reconstructedHistoricalBlocks(currentSlot, anchorSlot, blocksPerSecond);
       lastLogged = now;
+      blocksSinceLastLogged = 0;
     }
   }
 }
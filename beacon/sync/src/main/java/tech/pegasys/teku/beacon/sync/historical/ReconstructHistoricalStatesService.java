@@ -16,8 +16,11 @@ package tech.pegasys.teku.beacon.sync.historical;
 import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_SLOT;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -25,6 +28,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.infrastructure.logging.StatusLogger;
@@ -34,21 +38,35 @@ import tech.pegasys.teku.service.serviceutils.Service;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockHeader;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.ChainDataLoader;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.storage.server.ShuttingDownException;
 
+/**
+ * Regenerates the finalized states before the initial anchor by replaying finalized blocks from
+ * genesis.
+ *
+ * <p>The blocks are processed as a pipeline of batches of {@code slotsPerBatch} slots: while one
+ * batch is applied on a dedicated thread, the blocks for the next batch are read from the database
+ * with a single range query and the states from the previous batch are written in a single storage
+ * transaction. Blocks are replayed without verifying signatures as they were already verified when
+ * they were imported into the local database.
+ */
 public class ReconstructHistoricalStatesService extends Service {
   private static final Logger LOG = LogManager.getLogger();
+  static final int DEFAULT_SLOTS_PER_BATCH = 128;
 
   private final Spec spec;
+  private final AsyncRunner asyncRunner;
   private final CombinedChainDataClient chainDataClient;
   private final Optional<String> genesisStateResource;
   private final StorageUpdateChannel storageUpdateChannel;
   private final StatusLogger statusLogger;
   private final ProgressLogger progressLogger;
+  private final int slotsPerBatch;
 
   private final AtomicBoolean shutdown = new AtomicBoolean(false);
   private final SafeFuture<Void> stopped = new SafeFuture<>();
@@ -57,6 +75,7 @@ public class ReconstructHistoricalStatesService extends Service {
       final StorageUpdateChannel storageUpdateChannel,
       final CombinedChainDataClient chainDataClient,
       final Spec spec,
+      final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
       final MetricsSystem metricsSystem,
       final Optional<String> genesisStateResource) {
@@ -64,26 +83,33 @@ public class ReconstructHistoricalStatesService extends Service {
         storageUpdateChannel,
         chainDataClient,
         spec,
+        asyncRunner,
         timeProvider,
         metricsSystem,
         genesisStateResource,
-        STATUS_LOG);
+        STATUS_LOG,
+        DEFAULT_SLOTS_PER_BATCH);
   }
 
-  public ReconstructHistoricalStatesService(
+  @VisibleForTesting
+  ReconstructHistoricalStatesService(
       final StorageUpdateChannel storageUpdateChannel,
       final CombinedChainDataClient chainDataClient,
       final Spec spec,
+      final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
       final MetricsSystem metricsSystem,
       final Optional<String> genesisStateResource,
-      final StatusLogger statusLogger) {
+      final StatusLogger statusLogger,
+      final int slotsPerBatch) {
     this.storageUpdateChannel = storageUpdateChannel;
     this.chainDataClient = chainDataClient;
     this.spec = spec;
+    this.asyncRunner = asyncRunner;
     this.genesisStateResource = genesisStateResource;
     this.statusLogger = statusLogger;
     this.progressLogger = new ProgressLogger(metricsSystem, statusLogger, timeProvider);
+    this.slotsPerBatch = slotsPerBatch;
   }
 
   @Override
@@ -132,7 +158,10 @@ public class ReconstructHistoricalStatesService extends Service {
                                     new Context(
                                         genesisState, GENESIS_SLOT.increment(), anchorSlot));
                       })
-                  .thenComposeChecked(this::applyNextBlock)
+                  .thenComposeChecked(
+                      context ->
+                          applyNextBatch(
+                              context, fetchBatch(context.slot, anchorSlot), SafeFuture.COMPLETE))
                   .finish(
                       error -> {
                         final Throwable rootCause = Throwables.getRootCause(error);
@@ -147,34 +176,71 @@ public class ReconstructHistoricalStatesService extends Service {
             });
   }
 
-  private SafeFuture<Void> applyNextBlock(Context context) {
+  private SafeFuture<Void> applyNextBatch(
+      final Context context,
+      final SafeFuture<List<SignedBeaconBlock>> batch,
+      final SafeFuture<Void> previousWrite) {
     if (context.checkStopApplyBlock()) {
-      statusLogger.reconstructHistoricalStatesServiceComplete();
-      stopped.complete(null);
-      return SafeFuture.COMPLETE;
+      return previousWrite.thenRun(
+          () -> {
+            statusLogger.reconstructHistoricalStatesServiceComplete();
+            stopped.complete(null);
+          });
     }
 
     if (shutdown.get()) {
-      stopped.complete(null);
-      return SafeFuture.COMPLETE;
+      return previousWrite.alwaysRun(() -> stopped.complete(null));
     }
 
-    return chainDataClient
-        .getBlockAtSlotExact(context.slot)
-        .thenComposeChecked(
-            maybeBlock -> {
-              if (maybeBlock.isEmpty()) {
-                return SafeFuture.COMPLETE;
-              }
+    // Read the next batch of blocks while this one is being applied
+    final UInt64 nextBatchSlot = getBatchEndSlot(context.slot, context.anchorSlot).increment();
+    final SafeFuture<List<SignedBeaconBlock>> nextBatch =
+        fetchBatch(nextBatchSlot, context.anchorSlot);
+    return batch
+        .thenCompose(blocks -> asyncRunner.runAsync(() -> applyBlocks(context, blocks)))
+        // Writes are started in order, but the next batch is applied without waiting for them
+        .thenCompose(
+            blocksAndStates ->
+                previousWrite.thenApply(__ -> write(blocksAndStates, context.anchorSlot)))
+        .thenCompose(
+            write -> {
+              context.slot = nextBatchSlot;
+              return applyNextBatch(context, nextBatch, write);
+            });
+  }
+
+  private SafeFuture<List<SignedBeaconBlock>> fetchBatch(
+      final UInt64 startSlot, final UInt64 anchorSlot) {
+    if (startSlot.isGreaterThanOrEqualTo(anchorSlot)) {
+      return SafeFuture.completedFuture(List.of());
+    }
+    return chainDataClient.getFinalizedBlocksInRange(
+        startSlot, getBatchEndSlot(startSlot, anchorSlot));
+  }
+
+  private UInt64 getBatchEndSlot(final UInt64 startSlot, final UInt64 anchorSlot) {
+    return startSlot.plus(slotsPerBatch - 1).min(anchorSlot.decrement());
+  }
 
-              final SignedBeaconBlock block = maybeBlock.get();
-              progressLogger.update(block, context.anchorSlot);
-              context.currentState = spec.replayValidatedBlock(context.currentState, block);
-              return storageUpdateChannel.onReconstructedFinalizedState(
-                  context.currentState, block.getRoot());
-            })
-        .thenRun(context::incrementSlot)
-        .thenCompose(__ -> applyNextBlock(context));
+  private List<SignedBlockAndState> applyBlocks(
+      final Context context, final List<SignedBeaconBlock> blocks) {
+    final List<SignedBlockAndState> blocksAndStates = new ArrayList<>(blocks.size());
+    for (SignedBeaconBlock block : blocks) {
+      context.currentState = spec.replayValidatedBlock(context.currentState, block);
+      blocksAndStates.add(new SignedBlockAndState(block, context.currentState));
+    }
+    return blocksAndStates;
+  }
+
+  private SafeFuture<Void> write(
+      final List<SignedBlockAndState> blocksAndStates, final UInt64 anchorSlot) {
+    if (blocksAndStates.isEmpty()) {
+      return SafeFuture.COMPLETE;
+    }
+    final SignedBeaconBlock lastBlock = blocksAndStates.get(blocksAndStates.size() - 1).getBlock();
+    return storageUpdateChannel
+        .onReconstructedFinalizedStates(blocksAndStates)
+        .thenRun(() -> progressLogger.update(lastBlock, blocksAndStates.size(), anchorSlot));
   }
 
   @Override
@@ -197,9 +263,5 @@ public class ReconstructHistoricalStatesService extends Service {
     private boolean checkStopApplyBlock() {
       return slot.isGreaterThanOrEqualTo(anchorSlot);
     }
-
-    private void incrementSlot() {
-      slot = slot.increment();
-    }
   }
 }
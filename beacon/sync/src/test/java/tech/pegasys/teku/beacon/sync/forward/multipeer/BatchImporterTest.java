@@ -40,9 +40,11 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.statetransition.blobs.BlobSidecarPool;
+import tech.pegasys.teku.statetransition.block.BlockBatchSignatureVerifier;
 import tech.pegasys.teku.statetransition.block.BlockImporter;
 
 class BatchImporterTest {
@@ -248,6 +250,69 @@ class BatchImporterTest {
     verifyNoMoreInteractions(blockImporter);
   }
 
+  @Test
+  void shouldImportBlocksWithVerifiedSignaturesWhenBatchVerificationSucceeds() {
+    final BlockBatchSignatureVerifier batchSignatureVerifier =
+        mock(BlockBatchSignatureVerifier.class);
+    final BatchImporter batchVerifyingImporter =
+        new BatchImporter(
+            blockImporter, blobSidecarPool, asyncRunner, Optional.of(batchSignatureVerifier));
+    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
+    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
+    final BeaconState state1 = dataStructureUtil.randomBeaconState();
+    final BeaconState state2 = dataStructureUtil.randomBeaconState();
+    final SafeFuture<BlockImportResult> importResult1 = new SafeFuture<>();
+    final SafeFuture<BlockImportResult> importResult2 = new SafeFuture<>();
+    when(batch.getBlocks()).thenReturn(List.of(block1, block2));
+    when(batchSignatureVerifier.verify(List.of(block1, block2)))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(List.of(state1, state2))));
+    when(blockImporter.importBlockWithVerifiedSignatures(block1, state1)).thenReturn(importResult1);
+    when(blockImporter.importBlockWithVerifiedSignatures(block2, state2)).thenReturn(importResult2);
+
+    final SafeFuture<BatchImportResult> result = batchVerifyingImporter.importBatch(batch);
+
+    // Should not be started on the calling thread
+    verifyNoInteractions(batchSignatureVerifier);
+    asyncRunner.executeQueuedActions();
+
+    ignoreFuture(verify(blockImporter).importBlockWithVerifiedSignatures(block1, state1));
+    verifyNoMoreInteractions(blockImporter);
+    importResult1.complete(BlockImportResult.successful(block1));
+    ignoreFuture(verify(blockImporter).importBlockWithVerifiedSignatures(block2, state2));
+    verifyNoMoreInteractions(blockImporter);
+    importResult2.complete(BlockImportResult.successful(block2));
+
+    assertThat(result).isCompletedWithValue(BatchImportResult.IMPORTED_ALL_BLOCKS);
+  }
+
+  @Test
+  void shouldVerifyEachBlockWhenBatchVerificationFails() {
+    final BlockBatchSignatureVerifier batchSignatureVerifier =
+        mock(BlockBatchSignatureVerifier.class);
+    final BatchImporter batchVerifyingImporter =
+        new BatchImporter(
+            blockImporter, blobSidecarPool, asyncRunner, Optional.of(batchSignatureVerifier));
+    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
+    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
+    final SafeFuture<BlockImportResult> importResult1 = new SafeFuture<>();
+    final SafeFuture<BlockImportResult> importResult2 = new SafeFuture<>();
+    when(batch.getBlocks()).thenReturn(List.of(block1, block2));
+    when(batchSignatureVerifier.verify(List.of(block1, block2)))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+    when(blockImporter.importBlock(block1)).thenReturn(importResult1);
+    when(blockImporter.importBlock(block2)).thenReturn(importResult2);
+
+    final SafeFuture<BatchImportResult> result = batchVerifyingImporter.importBatch(batch);
+    asyncRunner.executeQueuedActions();
+
+    blockImportedSuccessfully(block1, importResult1);
+    ignoreFuture(verify(blockImporter).importBlock(block2));
+    importResult2.complete(
+        BlockImportResult.failedStateTransition(new IllegalStateException("Bad signature")));
+
+    assertThat(result).isCompletedWithValue(BatchImportResult.IMPORT_FAILED);
+  }
+
   private void blobSidecarsImportedSuccessfully(
       final SignedBeaconBlock block, final List<BlobSidecar> blobSidecars) {
     verify(blobSidecarPool).onCompletedBlockAndBlobSidecars(block, blobSidecars);
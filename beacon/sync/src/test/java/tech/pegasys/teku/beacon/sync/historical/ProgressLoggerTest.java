@@ -14,6 +14,7 @@
 package tech.pegasys.teku.beacon.sync.historical;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -54,9 +55,10 @@ public class ProgressLoggerTest {
     final UInt64 currentSlot = UInt64.valueOf(3);
     final UInt64 anchorSlot = UInt64.valueOf(10);
     final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(currentSlot);
-    progressLogger.update(block, anchorSlot);
+    progressLogger.update(block, 1, anchorSlot);
 
-    verify(statusLogger, times(1)).reconstructedHistoricalBlocks(eq(currentSlot), eq(anchorSlot));
+    verify(statusLogger, times(1))
+        .reconstructedHistoricalBlocks(eq(currentSlot), eq(anchorSlot), anyDouble());
   }
 
   @Test
@@ -65,9 +67,10 @@ public class ProgressLoggerTest {
     final UInt64 currentSlot = UInt64.valueOf(3);
     final UInt64 anchorSlot = UInt64.valueOf(10);
     final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(currentSlot);
-    progressLogger.update(block, anchorSlot);
+    progressLogger.update(block, 1, anchorSlot);
 
-    verify(statusLogger, times(1)).reconstructedHistoricalBlocks(eq(currentSlot), eq(anchorSlot));
+    verify(statusLogger, times(1))
+        .reconstructedHistoricalBlocks(eq(currentSlot), eq(anchorSlot), anyDouble());
   }
 
   @Test
@@ -75,12 +78,24 @@ public class ProgressLoggerTest {
     final UInt64 anchorSlot = UInt64.valueOf(10);
     timeProvider.advanceTimeBy(Duration.ofMinutes(4));
     final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(UInt64.valueOf(3));
-    progressLogger.update(block, anchorSlot);
+    progressLogger.update(block, 1, anchorSlot);
 
     timeProvider.advanceTimeBy(Duration.ofSeconds(59));
     final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(UInt64.valueOf(4));
-    progressLogger.update(block2, anchorSlot);
+    progressLogger.update(block2, 1, anchorSlot);
 
-    verify(statusLogger, never()).reconstructedHistoricalBlocks(any(), any());
+    verify(statusLogger, never()).reconstructedHistoricalBlocks(any(), any(), anyDouble());
+  }
+
+  @Test
+  public void shouldLogThroughputSinceLastStatus() {
+    final UInt64 anchorSlot = UInt64.valueOf(1000);
+    timeProvider.advanceTimeBy(Duration.ofMinutes(2));
+    progressLogger.update(dataStructureUtil.randomSignedBeaconBlock(100), 100, anchorSlot);
+    timeProvider.advanceTimeBy(Duration.ofMinutes(3));
+    progressLogger.update(dataStructureUtil.randomSignedBeaconBlock(200), 50, anchorSlot);
+
+    verify(statusLogger)
+        .reconstructedHistoricalBlocks(UInt64.valueOf(200), anchorSlot, 150.0 / 300);
   }
 }
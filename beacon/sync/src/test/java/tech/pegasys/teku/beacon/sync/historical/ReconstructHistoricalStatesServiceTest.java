@@ -15,7 +15,7 @@ package tech.pegasys.teku.beacon.sync.historical;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -27,6 +27,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.RejectedExecutionException;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
@@ -34,13 +35,17 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.SyncAsyncRunner;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.infrastructure.logging.StatusLogger;
 import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.generator.ChainBuilder;
@@ -51,6 +56,7 @@ import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystemBuilder;
 import tech.pegasys.teku.storage.storageSystem.StorageSystem;
 
 public class ReconstructHistoricalStatesServiceTest {
+  private static final int SLOTS_PER_BATCH = 4;
   private final Spec spec = TestSpecFactory.createDefault();
   private final StorageUpdateChannel storageUpdateChannel = mock(StorageUpdateChannel.class);
   private final CombinedChainDataClient chainDataClient = mock(CombinedChainDataClient.class);
@@ -66,6 +72,8 @@ public class ReconstructHistoricalStatesServiceTest {
 
     when(storageUpdateChannel.onReconstructedFinalizedState(any(), any()))
         .thenReturn(SafeFuture.COMPLETE);
+    when(storageUpdateChannel.onReconstructedFinalizedStates(any()))
+        .thenReturn(SafeFuture.COMPLETE);
   }
 
   @Test
@@ -121,8 +129,39 @@ public class ReconstructHistoricalStatesServiceTest {
     final SafeFuture<?> res = service.start();
     assertThat(res).isCompleted();
     verify(chainDataClient, times(1)).getInitialAnchor();
-    verify(storageUpdateChannel, times(initialAnchor.getEpochStartSlot(spec).intValue()))
-        .onReconstructedFinalizedState(any(), any());
+    verify(storageUpdateChannel, times(1)).onReconstructedFinalizedState(any(), any());
+    assertThat(getReconstructedStates())
+        .hasSize(initialAnchor.getEpochStartSlot(spec).intValue() - 1);
+  }
+
+  @Test
+  void shouldReplayBlocksInBatches(@TempDir final Path tempDir) throws IOException {
+    when(chainDataClient.getLatestAvailableFinalizedState(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+    final Checkpoint initialAnchor = getInitialAnchor();
+    final UInt64 lastSlot = initialAnchor.getEpochStartSlot(spec).decrement();
+    setUpService(tempDir, initialAnchor);
+
+    final SafeFuture<?> res = service.start();
+    assertThat(res).isCompleted();
+    verify(chainDataClient).getFinalizedBlocksInRange(UInt64.valueOf(1), UInt64.valueOf(4));
+    verify(chainDataClient).getFinalizedBlocksInRange(UInt64.valueOf(5), UInt64.valueOf(7));
+    verify(storageUpdateChannel, times((lastSlot.intValue() + 3) / SLOTS_PER_BATCH))
+        .onReconstructedFinalizedStates(any());
+    final List<SignedBlockAndState> reconstructedStates = getReconstructedStates();
+    assertThat(reconstructedStates)
+        .extracting(SignedBlockAndState::getRoot)
+        .containsExactlyElementsOf(
+            chainBuilder
+                .streamBlocksAndStates(UInt64.ONE, lastSlot)
+                .map(SignedBlockAndState::getRoot)
+                .toList());
+    assertThat(reconstructedStates)
+        .allSatisfy(
+            blockAndState ->
+                assertThat(blockAndState.getState().hashTreeRoot())
+                    .isEqualTo(blockAndState.getBlock().getStateRoot()));
+    verify(statusLogger).reconstructHistoricalStatesServiceComplete();
   }
 
   @Test
@@ -138,8 +177,9 @@ public class ReconstructHistoricalStatesServiceTest {
     final SafeFuture<?> res = service.start();
     assertThat(res).isCompleted();
     verify(chainDataClient, times(1)).getInitialAnchor();
-    verify(storageUpdateChannel, times(initialAnchor.getEpochStartSlot(spec).minus(1).intValue()))
-        .onReconstructedFinalizedState(any(), any());
+    verify(storageUpdateChannel, times(1)).onReconstructedFinalizedState(any(), any());
+    assertThat(getReconstructedStates())
+        .hasSize(initialAnchor.getEpochStartSlot(spec).minus(2).intValue());
   }
 
   @Test
@@ -157,6 +197,22 @@ public class ReconstructHistoricalStatesServiceTest {
     verify(statusLogger, times(1)).reconstructHistoricalStatesServiceFailedProcess(any());
   }
 
+  @Test
+  void shouldLogFailWritingBatch(@TempDir final Path tempDir) throws IOException {
+    when(storageUpdateChannel.onReconstructedFinalizedStates(any()))
+        .thenReturn(SafeFuture.failedFuture(new IllegalStateException()));
+    when(chainDataClient.getLatestAvailableFinalizedState(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+    setUpService(tempDir, getInitialAnchor());
+
+    final SafeFuture<?> res = service.start();
+    assertThat(res).isCompleted();
+    // The next batch is applied while the first is written, but no more writes are started
+    verify(storageUpdateChannel, times(1)).onReconstructedFinalizedStates(any());
+    verify(statusLogger, times(1)).reconstructHistoricalStatesServiceFailedProcess(any());
+    verify(statusLogger, never()).reconstructHistoricalStatesServiceComplete();
+  }
+
   @Test
   void shouldHandleShutdown(@TempDir final Path tempDir) throws IOException {
     when(storageUpdateChannel.onReconstructedFinalizedState(any(), any()))
@@ -192,12 +248,14 @@ public class ReconstructHistoricalStatesServiceTest {
     final SafeFuture<?> res = service.start();
     assertThat(res).isCompleted();
     verify(chainDataClient, times(1)).getInitialAnchor();
-    chainBuilder
-        .streamBlocksAndStates(6, initialAnchor.getEpochStartSlot(spec).longValue() - 1)
-        .forEach(
-            signedBlockAndState ->
-                verify(storageUpdateChannel)
-                    .onReconstructedFinalizedState(any(), eq(signedBlockAndState.getRoot())));
+    verify(storageUpdateChannel, never()).onReconstructedFinalizedState(any(), any());
+    assertThat(getReconstructedStates())
+        .extracting(SignedBlockAndState::getRoot)
+        .containsExactlyElementsOf(
+            chainBuilder
+                .streamBlocksAndStates(6, initialAnchor.getEpochStartSlot(spec).longValue() - 1)
+                .map(SignedBlockAndState::getRoot)
+                .toList());
   }
 
   private Checkpoint getInitialAnchor() {
@@ -208,15 +266,27 @@ public class ReconstructHistoricalStatesServiceTest {
     createService(createGenesisStateResource(tempDir));
     when(chainDataClient.getInitialAnchor())
         .thenReturn(SafeFuture.completedFuture(Optional.of(initialAnchor)));
-    when(chainDataClient.getBlockAtSlotExact(any()))
+    when(chainDataClient.getFinalizedBlocksInRange(any(), any()))
         .thenAnswer(
             invocation -> {
-              final UInt64 slot = invocation.getArgument(0);
-              return SafeFuture.completedFuture(
-                  Optional.ofNullable(chainBuilder.getBlockAtSlot(slot)));
+              final UInt64 startSlot = invocation.getArgument(0);
+              final UInt64 endSlot = invocation.getArgument(1);
+              final List<SignedBeaconBlock> blocks =
+                  chainBuilder
+                      .streamBlocksAndStates(startSlot, endSlot)
+                      .map(SignedBlockAndState::getBlock)
+                      .toList();
+              return SafeFuture.completedFuture(blocks);
             });
   }
 
+  @SuppressWarnings("unchecked")
+  private List<SignedBlockAndState> getReconstructedStates() {
+    final ArgumentCaptor<List<SignedBlockAndState>> captor = ArgumentCaptor.forClass(List.class);
+    verify(storageUpdateChannel, atLeastOnce()).onReconstructedFinalizedStates(captor.capture());
+    return captor.getAllValues().stream().flatMap(List::stream).toList();
+  }
+
   private Optional<String> createGenesisStateResource(final Path tempDir) throws IOException {
     final BeaconState state = chainBuilder.getGenesis().getState();
     final File file =
@@ -231,9 +301,11 @@ public class ReconstructHistoricalStatesServiceTest {
             storageUpdateChannel,
             chainDataClient,
             spec,
+            SyncAsyncRunner.SYNC_RUNNER,
             StubTimeProvider.withTimeInSeconds(0),
             metricsSystem,
             genesisStateResource,
-            statusLogger);
+            statusLogger,
+            SLOTS_PER_BATCH);
   }
 }
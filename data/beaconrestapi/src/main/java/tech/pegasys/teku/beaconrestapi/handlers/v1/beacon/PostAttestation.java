@@ -18,6 +18,7 @@ import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUE
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_BEACON;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR_REQUIRED;
+import static tech.pegasys.teku.spec.schemas.ApiSchemas.createOperationsListSchema;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.List;
@@ -30,6 +31,7 @@ import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionCache;
@@ -46,6 +48,17 @@ public class PostAttestation extends RestApiEndpoint {
 
   public PostAttestation(
       final ValidatorDataProvider provider, final SchemaDefinitionCache schemaDefinitionCache) {
+    this(
+        provider,
+        createOperationsListSchema(
+            schemaDefinitionCache
+                .getSchemaDefinition(SpecMilestone.PHASE0)
+                .getAttestationSchema()));
+  }
+
+  private PostAttestation(
+      final ValidatorDataProvider provider,
+      final SszListSchema<Attestation, ?> attestationsSchema) {
     super(
         EndpointMetadata.post(ROUTE)
             .operationId("postAttestation")
@@ -56,10 +69,8 @@ public class PostAttestation extends RestApiEndpoint {
             .tags(TAG_BEACON, TAG_VALIDATOR_REQUIRED)
             .requestBodyType(
                 DeserializableTypeDefinition.listOf(
-                    schemaDefinitionCache
-                        .getSchemaDefinition(SpecMilestone.PHASE0)
-                        .getAttestationSchema()
-                        .getJsonTypeDefinition()))
+                    attestationsSchema.getElementSchema().getJsonTypeDefinition()),
+                ssz -> attestationsSchema.sszDeserialize(ssz).asList())
             .response(SC_OK, "Attestations are stored in pool and broadcast on appropriate subnet")
             .response(
                 SC_BAD_REQUEST,
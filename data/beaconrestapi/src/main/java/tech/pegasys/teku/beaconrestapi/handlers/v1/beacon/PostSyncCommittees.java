@@ -19,6 +19,7 @@ import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_BEACON;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR_REQUIRED;
 import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.HTTP_ERROR_RESPONSE_TYPE;
+import static tech.pegasys.teku.spec.schemas.ApiSchemas.createOperationsListSchema;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.List;
@@ -34,12 +35,16 @@ import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeMessage;
 import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeMessageSchema;
 import tech.pegasys.teku.validator.api.SubmitDataError;
 
 public class PostSyncCommittees extends RestApiEndpoint {
   public static final String ROUTE = "/eth/v1/beacon/pool/sync_committees";
+  private static final SszListSchema<SyncCommitteeMessage, ?> SYNC_COMMITTEE_MESSAGES_SCHEMA =
+      createOperationsListSchema(SyncCommitteeMessageSchema.INSTANCE);
+
   private final ValidatorDataProvider provider;
 
   public PostSyncCommittees(final DataProvider provider) {
@@ -59,7 +64,8 @@ public class PostSyncCommittees extends RestApiEndpoint {
             .tags(TAG_BEACON, TAG_VALIDATOR_REQUIRED)
             .requestBodyType(
                 DeserializableTypeDefinition.listOf(
-                    SyncCommitteeMessageSchema.INSTANCE.getJsonTypeDefinition()))
+                    SyncCommitteeMessageSchema.INSTANCE.getJsonTypeDefinition()),
+                ssz -> SYNC_COMMITTEE_MESSAGES_SCHEMA.sszDeserialize(ssz).asList())
             .response(
                 SC_OK,
                 "Sync committee signatures are stored in pool and broadcast on appropriate subnet")
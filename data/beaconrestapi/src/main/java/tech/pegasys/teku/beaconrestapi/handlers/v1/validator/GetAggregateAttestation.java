@@ -15,6 +15,7 @@ package tech.pegasys.teku.beaconrestapi.handlers.v1.validator;
 
 import static tech.pegasys.teku.beaconrestapi.BeaconRestApiTypes.ATTESTATION_DATA_ROOT_PARAMETER;
 import static tech.pegasys.teku.beaconrestapi.BeaconRestApiTypes.SLOT_PARAMETER;
+import static tech.pegasys.teku.ethereum.json.types.EthereumTypes.sszResponseType;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR_REQUIRED;
 
@@ -62,7 +63,10 @@ public class GetAggregateAttestation extends RestApiEndpoint {
             .response(
                 HttpStatusCodes.SC_OK,
                 "Request successful",
-                getResponseType(spec.getGenesisSpecConfig()))
+                getResponseType(spec.getGenesisSpecConfig()),
+                sszResponseType(
+                    (Attestation attestation) ->
+                        spec.atSlot(attestation.getData().getSlot()).getMilestone()))
             .withNotFoundResponse()
             .build());
     this.provider = provider;
@@ -16,6 +16,7 @@ package tech.pegasys.teku.beaconrestapi.handlers.v1.validator;
 import static tech.pegasys.teku.beaconrestapi.BeaconRestApiTypes.BEACON_BLOCK_ROOT_PARAMETER;
 import static tech.pegasys.teku.beaconrestapi.BeaconRestApiTypes.SLOT_PARAMETER;
 import static tech.pegasys.teku.beaconrestapi.BeaconRestApiTypes.SUBCOMMITTEE_INDEX_PARAMETER;
+import static tech.pegasys.teku.ethereum.json.types.EthereumTypes.sszResponseType;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.SLOT_QUERY_DESCRIPTION;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR;
@@ -64,7 +65,13 @@ public class GetSyncCommitteeContribution extends RestApiEndpoint {
             .queryParamRequired(SLOT_PARAMETER.withDescription(SLOT_QUERY_DESCRIPTION))
             .queryParamRequired(SUBCOMMITTEE_INDEX_PARAMETER)
             .queryParamRequired(BEACON_BLOCK_ROOT_PARAMETER)
-            .response(SC_OK, "Request successful", getResponseType(schemaDefinitionCache))
+            .response(
+                SC_OK,
+                "Request successful",
+                getResponseType(schemaDefinitionCache),
+                sszResponseType(
+                    (SyncCommitteeContribution contribution) ->
+                        schemaDefinitionCache.milestoneAtSlot(contribution.getSlot())))
             .withNotFoundResponse()
             .withChainDataResponses()
             .build());
@@ -18,6 +18,7 @@ import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUE
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR_REQUIRED;
+import static tech.pegasys.teku.spec.schemas.ApiSchemas.createOperationsListSchema;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.List;
@@ -29,6 +30,7 @@ import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
 import tech.pegasys.teku.validator.api.SubmitDataError;
@@ -44,6 +46,14 @@ public class PostAggregateAndProofs extends RestApiEndpoint {
 
   public PostAggregateAndProofs(
       final ValidatorDataProvider provider, final SchemaDefinitions schemaDefinitions) {
+    this(
+        provider,
+        createOperationsListSchema(schemaDefinitions.getSignedAggregateAndProofSchema()));
+  }
+
+  private PostAggregateAndProofs(
+      final ValidatorDataProvider provider,
+      final SszListSchema<SignedAggregateAndProof, ?> aggregateAndProofsSchema) {
     super(
         EndpointMetadata.post(ROUTE)
             .operationId("postAggregateAndProofs")
@@ -53,7 +63,8 @@ public class PostAggregateAndProofs extends RestApiEndpoint {
             .tags(TAG_VALIDATOR, TAG_VALIDATOR_REQUIRED)
             .requestBodyType(
                 DeserializableTypeDefinition.listOf(
-                    schemaDefinitions.getSignedAggregateAndProofSchema().getJsonTypeDefinition()))
+                    aggregateAndProofsSchema.getElementSchema().getJsonTypeDefinition()),
+                ssz -> aggregateAndProofsSchema.sszDeserialize(ssz).asList())
             .response(SC_OK, "Successfully published aggregate.")
             .build());
     this.provider = provider;
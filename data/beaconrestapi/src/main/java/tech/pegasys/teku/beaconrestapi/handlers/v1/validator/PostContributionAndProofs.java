@@ -16,6 +16,7 @@ package tech.pegasys.teku.beaconrestapi.handlers.v1.validator;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR_REQUIRED;
+import static tech.pegasys.teku.spec.schemas.ApiSchemas.createOperationsListSchema;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import tech.pegasys.teku.api.DataProvider;
@@ -26,6 +27,7 @@ import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SignedContributionAndProof;
 import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SignedContributionAndProofSchema;
@@ -43,6 +45,12 @@ public class PostContributionAndProofs extends RestApiEndpoint {
 
   public PostContributionAndProofs(
       final ValidatorDataProvider provider, final SchemaDefinitionCache schemaDefinitionCache) {
+    this(provider, createOperationsListSchema(getRequestType(schemaDefinitionCache)));
+  }
+
+  private PostContributionAndProofs(
+      final ValidatorDataProvider provider,
+      final SszListSchema<SignedContributionAndProof, ?> contributionAndProofsSchema) {
     super(
         EndpointMetadata.post(ROUTE)
             .operationId("postContributionAndProofs")
@@ -51,7 +59,9 @@ public class PostContributionAndProofs extends RestApiEndpoint {
                 "Verifies given sync committee contribution and proofs and publishes on appropriate gossipsub topics.")
             .tags(TAG_VALIDATOR, TAG_VALIDATOR_REQUIRED)
             .requestBodyType(
-                DeserializableTypeDefinition.listOf(getRequestType(schemaDefinitionCache)))
+                DeserializableTypeDefinition.listOf(
+                    contributionAndProofsSchema.getElementSchema().getJsonTypeDefinition()),
+                ssz -> contributionAndProofsSchema.sszDeserialize(ssz).asList())
             .response(SC_OK, "Successful response")
             .build());
     this.provider = provider;
@@ -63,13 +73,10 @@ public class PostContributionAndProofs extends RestApiEndpoint {
     request.respondAsync(future.thenApply(v -> AsyncApiResponse.respondWithCode(SC_OK)));
   }
 
-  private static DeserializableTypeDefinition<SignedContributionAndProof> getRequestType(
+  private static SignedContributionAndProofSchema getRequestType(
       final SchemaDefinitionCache schemaDefinitionCache) {
-    final SignedContributionAndProofSchema typeDefinition =
-        SchemaDefinitionsAltair.required(
-                schemaDefinitionCache.getSchemaDefinition(SpecMilestone.ALTAIR))
-            .getSignedContributionAndProofSchema();
-
-    return typeDefinition.getJsonTypeDefinition();
+    return SchemaDefinitionsAltair.required(
+            schemaDefinitionCache.getSchemaDefinition(SpecMilestone.ALTAIR))
+        .getSignedContributionAndProofSchema();
   }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.api.blobselector.BlobSidecarSelectorFactory;
+import tech.pegasys.teku.api.blockselector.BlockSelectorFactory;
+import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
+import tech.pegasys.teku.api.stateselector.StateSelectorFactory;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+/**
+ * Simulates dashboards repeatedly polling the validators endpoint against the same state, either
+ * for every validator with a given status or for a few thousand validators of their own.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class ChainDataProviderValidatorsBenchmark {
+  private static final int VALIDATOR_COUNT = 100_000;
+  private static final int REQUESTED_VALIDATOR_COUNT = 5_000;
+
+  private final Spec spec = TestSpecFactory.createMainnetCapella();
+  private final CombinedChainDataClient combinedChainDataClient =
+      mock(CombinedChainDataClient.class);
+  private final ChainDataProvider provider =
+      new ChainDataProvider(
+          spec,
+          mock(RecentChainData.class),
+          combinedChainDataClient,
+          mock(BlockSelectorFactory.class),
+          mock(StateSelectorFactory.class),
+          mock(BlobSidecarSelectorFactory.class),
+          mock(RewardCalculator.class));
+  private final Set<ValidatorStatus> activeStatuses =
+      Set.of(
+          ValidatorStatus.active_ongoing,
+          ValidatorStatus.active_exiting,
+          ValidatorStatus.active_slashed);
+  private BeaconState state;
+  private List<String> requestedValidators;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    when(combinedChainDataClient.isStoreAvailable()).thenReturn(true);
+    state = new DataStructureUtil(spec).randomBeaconState(VALIDATOR_COUNT);
+    requestedValidators =
+        IntStream.range(0, REQUESTED_VALIDATOR_COUNT)
+            .map(i -> i * (VALIDATOR_COUNT / REQUESTED_VALIDATOR_COUNT))
+            .mapToObj(Integer::toString)
+            .toList();
+  }
+
+  @Benchmark
+  public void getValidatorsByStatus(final Blackhole bh) {
+    bh.consume(provider.getFilteredValidatorList(state, List.of(), activeStatuses));
+  }
+
+  @Benchmark
+  public void getRequestedValidatorsByStatus(final Blackhole bh) {
+    bh.consume(provider.getFilteredValidatorList(state, requestedValidators, activeStatuses));
+  }
+
+  @Benchmark
+  public void createStatusIndex(final Blackhole bh) {
+    bh.consume(ValidatorStatusIndex.create(state, spec.getCurrentEpoch(state), FAR_FUTURE_EPOCH));
+  }
+}
@@ -14,7 +14,6 @@
 package tech.pegasys.teku.api;
 
 import static java.util.Collections.emptyList;
-import static tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse.getValidatorStatus;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
@@ -23,10 +22,10 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
 import org.apache.logging.log4j.LogManager;
@@ -54,6 +53,7 @@ import tech.pegasys.teku.api.stateselector.StateSelectorFactory;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
 import tech.pegasys.teku.infrastructure.ssz.Merkleizable;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -80,6 +80,8 @@ import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class ChainDataProvider {
   private static final Logger LOG = LogManager.getLogger();
+  // Enough for the head, justified and finalized states plus a few recently requested ones
+  private static final int VALIDATOR_STATUS_INDEX_CACHE_SIZE = 8;
   private final BlockSelectorFactory blockSelectorFactory;
   private final StateSelectorFactory stateSelectorFactory;
   private final BlobSidecarSelectorFactory blobSidecarSelectorFactory;
@@ -88,6 +90,8 @@ public class ChainDataProvider {
   private final SchemaObjectProvider schemaObjectProvider;
   private final RecentChainData recentChainData;
   private final RewardCalculator rewardCalculator;
+  private final Map<StateKey, ValidatorStatusIndex> validatorStatusIndices =
+      LimitedMap.createSynchronized(VALIDATOR_STATUS_INDEX_CACHE_SIZE);
 
   public ChainDataProvider(
       final Spec spec,
@@ -380,8 +384,7 @@ public class ChainDataProvider {
       final List<String> validators,
       final Set<ValidatorStatus> statusFilter) {
     final UInt64 epoch = spec.getCurrentEpoch(state);
-    return getValidatorSelector(state, validators)
-        .filter(getStatusPredicate(state, statusFilter))
+    return getValidatorSelector(state, validators, statusFilter)
         .mapToObj(index -> StateValidatorData.fromState(state, index, epoch, FAR_FUTURE_EPOCH))
         .flatMap(Optional::stream)
         .toList();
@@ -469,13 +472,27 @@ public class ChainDataProvider {
         .toList();
   }
 
-  private IntPredicate getStatusPredicate(
+  private IntStream getValidatorSelector(
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
+      final List<String> validators,
       final Set<ValidatorStatus> statusFilter) {
-    final UInt64 epoch = spec.getCurrentEpoch(state);
-    return statusFilter.isEmpty()
-        ? i -> true
-        : i -> statusFilter.contains(getValidatorStatus(state, i, epoch, FAR_FUTURE_EPOCH));
+    if (statusFilter.isEmpty()) {
+      return getValidatorSelector(state, validators);
+    }
+    final ValidatorStatusIndex statusIndex = getValidatorStatusIndex(state);
+    return validators.isEmpty()
+        ? statusIndex.streamValidatorIndices(statusFilter)
+        : getValidatorSelector(state, validators)
+            .filter(index -> statusIndex.hasStatus(index, statusFilter));
+  }
+
+  private ValidatorStatusIndex getValidatorStatusIndex(
+      final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state) {
+    // Hashing the latest block header is cheap, unlike the state root of a state loaded from disk
+    final StateKey key = new StateKey(state.getSlot(), state.getLatestBlockHeader().hashTreeRoot());
+    return validatorStatusIndices.computeIfAbsent(
+        key,
+        __ -> ValidatorStatusIndex.create(state, spec.getCurrentEpoch(state), FAR_FUTURE_EPOCH));
   }
 
   private IntStream getValidatorSelector(
@@ -489,6 +506,12 @@ public class ChainDataProvider {
                     validatorParameterToIndex(state, validatorParameter).stream().mapToInt(a -> a));
   }
 
+  /**
+   * Identifies a state without computing its root. States at the same slot with the same latest
+   * block header are the same state, as empty slots are processed deterministically.
+   */
+  private record StateKey(UInt64 slot, Bytes32 latestBlockHeaderRoot) {}
+
   public List<ProtoNodeData> getChainHeads() {
     return recentChainData.getChainHeads();
   }
@@ -0,0 +1,82 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api;
+
+import static tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse.getValidatorStatus;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.IntStream;
+import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * The status of every validator in a state, indexed both by validator index and by status so that
+ * requests filtering validators by status only visit the validators which match.
+ */
+final class ValidatorStatusIndex {
+  private static final ValidatorStatus[] STATUSES = ValidatorStatus.values();
+
+  private final byte[] statusByValidatorIndex;
+  private final int[][] validatorIndicesByStatus;
+
+  private ValidatorStatusIndex(
+      final byte[] statusByValidatorIndex, final int[][] validatorIndicesByStatus) {
+    this.statusByValidatorIndex = statusByValidatorIndex;
+    this.validatorIndicesByStatus = validatorIndicesByStatus;
+  }
+
+  static ValidatorStatusIndex create(
+      final BeaconState state, final UInt64 epoch, final UInt64 farFutureEpoch) {
+    final SszList<Validator> validators = state.getValidators();
+    final int validatorCount = validators.size();
+    final byte[] statusByValidatorIndex = new byte[validatorCount];
+    final int[] statusCounts = new int[STATUSES.length];
+    for (int i = 0; i < validatorCount; i++) {
+      final int status = getValidatorStatus(epoch, validators.get(i), farFutureEpoch).ordinal();
+      statusByValidatorIndex[i] = (byte) status;
+      statusCounts[status]++;
+    }
+
+    final int[][] validatorIndicesByStatus = new int[STATUSES.length][];
+    for (int status = 0; status < STATUSES.length; status++) {
+      validatorIndicesByStatus[status] = new int[statusCounts[status]];
+    }
+    final int[] positions = new int[STATUSES.length];
+    for (int i = 0; i < validatorCount; i++) {
+      final int status = statusByValidatorIndex[i];
+      validatorIndicesByStatus[status][positions[status]++] = i;
+    }
+    return new ValidatorStatusIndex(statusByValidatorIndex, validatorIndicesByStatus);
+  }
+
+  boolean hasStatus(final int validatorIndex, final Set<ValidatorStatus> statuses) {
+    return validatorIndex >= 0
+        && validatorIndex < statusByValidatorIndex.length
+        && statuses.contains(STATUSES[statusByValidatorIndex[validatorIndex]]);
+  }
+
+  /** Streams the indices of validators with any of the given statuses in ascending order. */
+  IntStream streamValidatorIndices(final Set<ValidatorStatus> statuses) {
+    if (statuses.size() == 1) {
+      return Arrays.stream(validatorIndicesByStatus[statuses.iterator().next().ordinal()]);
+    }
+    return statuses.stream()
+        .flatMapToInt(status -> Arrays.stream(validatorIndicesByStatus[status.ordinal()]))
+        .sorted();
+  }
+}
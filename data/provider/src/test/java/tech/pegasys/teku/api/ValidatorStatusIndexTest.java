@@ -0,0 +1,67 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse.getValidatorStatus;
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class ValidatorStatusIndexTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final BeaconState state = dataStructureUtil.randomBeaconState(64);
+  private final UInt64 epoch = spec.getCurrentEpoch(state);
+  private final ValidatorStatusIndex index =
+      ValidatorStatusIndex.create(state, epoch, FAR_FUTURE_EPOCH);
+
+  @Test
+  void streamValidatorIndices_shouldMatchScanningValidators() {
+    for (ValidatorStatus status : ValidatorStatus.values()) {
+      assertThat(index.streamValidatorIndices(Set.of(status)))
+          .containsExactlyElementsOf(scan(EnumSet.of(status)));
+    }
+  }
+
+  @Test
+  void streamValidatorIndices_shouldMergeMultipleStatusesInIndexOrder() {
+    final Set<ValidatorStatus> statuses = EnumSet.allOf(ValidatorStatus.class);
+    assertThat(index.streamValidatorIndices(statuses))
+        .containsExactlyElementsOf(IntStream.range(0, 64).boxed().toList());
+  }
+
+  @Test
+  void hasStatus_shouldBeFalseForUnknownValidator() {
+    final Set<ValidatorStatus> statuses = EnumSet.allOf(ValidatorStatus.class);
+    assertThat(index.hasStatus(63, statuses)).isTrue();
+    assertThat(index.hasStatus(64, statuses)).isFalse();
+  }
+
+  private Iterable<Integer> scan(final Set<ValidatorStatus> statuses) {
+    return IntStream.range(0, state.getValidators().size())
+        .filter(i -> statuses.contains(getValidatorStatus(state, i, epoch, FAR_FUTURE_EPOCH)))
+        .boxed()
+        .toList();
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/**
+ * Serves a full state to several concurrent clients the way the debug state endpoint does, writing
+ * SSZ or JSON through a bounded buffer to a slow connection.
+ *
+ * <p>The peak heap in use during each iteration is printed after it, and should stay close to the
+ * size of the state itself regardless of the number of threads.
+ */
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class BeaconStateResponseBenchmark {
+  // Matches the buffer used for REST API responses
+  private static final int RESPONSE_BUFFER_SIZE = 64 * 1024;
+  // Roughly the rate a client on a fast link reads at, so responses overlap as they would in
+  // production rather than completing one at a time
+  private static final int SOCKET_BUFFER_SIZE = 256 * 1024;
+  private static final long SOCKET_WRITE_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+  @Param({"400000"})
+  int validatorsCount;
+
+  @Param({"ssz", "json"})
+  String format;
+
+  private final Spec spec = TestSpecFactory.createMainnetCapella();
+  private BeaconState state;
+  private SerializableTypeDefinition<BeaconState> jsonType;
+
+  @Setup(Level.Trial)
+  @SuppressWarnings("unchecked")
+  public void init() {
+    state = new DataStructureUtil(spec).randomBeaconState(validatorsCount);
+    state.hashTreeRoot();
+    jsonType =
+        (SerializableTypeDefinition<BeaconState>)
+            state.getBeaconStateSchema().getJsonTypeDefinition();
+  }
+
+  @Setup(Level.Iteration)
+  public void resetPeakHeap() {
+    ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+  }
+
+  @TearDown(Level.Iteration)
+  public void reportPeakHeap() {
+    long peakBytes = 0;
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        peakBytes += pool.getPeakUsage().getUsed();
+      }
+    }
+    System.out.printf("%nPeak heap: %d MB%n", peakBytes >> 20);
+  }
+
+  @Benchmark
+  public long serveState() throws IOException {
+    final SlowConnection connection = new SlowConnection();
+    try (OutputStream out = new BufferedOutputStream(connection, RESPONSE_BUFFER_SIZE)) {
+      if (format.equals("ssz")) {
+        state.sszSerialize(out);
+      } else {
+        JsonUtil.serializeToBytes(state, jsonType, out);
+      }
+    }
+    return connection.bytesWritten;
+  }
+
+  private static class SlowConnection extends OutputStream {
+    private long bytesWritten;
+    private long unsentBytes;
+
+    @Override
+    public void write(final int b) {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+      bytesWritten += len;
+      unsentBytes += len;
+      while (unsentBytes >= SOCKET_BUFFER_SIZE) {
+        // Block like a socket write would until the client has read a buffer's worth
+        final long start = System.nanoTime();
+        while (System.nanoTime() - start < SOCKET_WRITE_NANOS) {
+          Thread.onSpinWait();
+        }
+        unsentBytes -= SOCKET_BUFFER_SIZE;
+      }
+    }
+  }
+}
@@ -39,6 +39,7 @@ import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.tree.ParallelTreeHasher;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -72,6 +73,9 @@ import tech.pegasys.teku.weaksubjectivity.WeakSubjectivityValidator;
 @Threads(1)
 @Fork(1)
 public class EpochTransitionBenchmark {
+  private static final ParallelTreeHasher SINGLE_THREADED_HASHER =
+      new ParallelTreeHasher(Integer.MAX_VALUE);
+
   Spec spec;
   WeakSubjectivityValidator wsValidator;
   RecentChainData recentChainData;
@@ -166,6 +170,32 @@ public class EpochTransitionBenchmark {
     }
   }
 
+  /**
+   * Epoch processing followed by hashing the resulting state on the calling thread only. Compare
+   * with {@link #epochTransitionParallelHashing(Blackhole)} for the epoch boundary state root
+   * latency.
+   */
+  @Benchmark
+  public void epochTransitionSingleThreadedHashing(Blackhole bh) {
+    try {
+      bh.consume(
+          SINGLE_THREADED_HASHER.hashTreeRoot(
+              epochProcessor.processEpoch(preEpochTransitionState).getBackingNode()));
+    } catch (EpochProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /** Epoch processing followed by hashing large dirty subtrees of the state in parallel. */
+  @Benchmark
+  public void epochTransitionParallelHashing(Blackhole bh) {
+    try {
+      bh.consume(epochProcessor.processEpoch(preEpochTransitionState).hashTreeRoot());
+    } catch (EpochProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   @Benchmark
   public void createValidatorStatuses(Blackhole bh) {
     final ValidatorStatuses statuses =
@@ -185,7 +215,7 @@ public class EpochTransitionBenchmark {
   }
 
   @Benchmark
-  public void applyDeltas(Blackhole bh) {
+  public void applyDeltasPerElement(Blackhole bh) {
     final SszMutableUInt64List balances = preEpochTransitionMutableState.getBalances();
     int validatorsSize = preEpochTransitionMutableState.getValidators().size();
     for (int i = 0; i < validatorsSize; i++) {
@@ -195,6 +225,21 @@ public class EpochTransitionBenchmark {
     }
   }
 
+  @Benchmark
+  public void applyDeltas(Blackhole bh) {
+    final SszMutableUInt64List balances = preEpochTransitionMutableState.getBalances();
+    final long[] balanceValues = balances.toLongArray();
+    for (int i = 0; i < balanceValues.length; i++) {
+      final RewardAndPenalty delta = attestationDeltas.getDelta(i);
+      balanceValues[i] =
+          UInt64.fromLongBits(balanceValues[i])
+              .plus(delta.getReward())
+              .minusMinZero(delta.getPenalty())
+              .longValue();
+    }
+    balances.updateAllElements(balanceValues);
+  }
+
   public static void main(String[] args) throws Exception {
     EpochTransitionBenchmark benchmark = new EpochTransitionBenchmark();
     benchmark.init();
@@ -0,0 +1,155 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSecretKey;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.PersistentPubKeyCache;
+
+/**
+ * Measures the startup cost of restoring every validator public key, and the index of every
+ * validator by key, with and without the {@link PersistentPubKeyCache}.
+ *
+ * <p>Each iteration starts from freshly deserialized compressed keys, as the node does after
+ * loading a state. The {@code cold} path decompresses and validates each key and builds the index
+ * map, while the {@code persisted} path maps the cache file and restores the keys from it.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class PersistentPubKeyCacheBenchmark {
+  private static final long VALIDATOR_REGISTRY_LIMIT = 1L << 40;
+
+  @Param({"1000000"})
+  int validatorsCount;
+
+  @Param({"cold", "persisted"})
+  String startup;
+
+  private List<Bytes48> pubkeys;
+  private Path tempDir;
+  private Path cacheFile;
+  private SszList<Validator> registry;
+
+  @Setup(Level.Trial)
+  public void init() throws IOException {
+    // Real keys are needed for decompression to succeed, and deriving them takes a while
+    pubkeys =
+        IntStream.range(0, validatorsCount)
+            .parallel()
+            .mapToObj(PersistentPubKeyCacheBenchmark::derivePublicKey)
+            .toList();
+    tempDir = Files.createTempDirectory("pubkey-cache");
+    cacheFile = tempDir.resolve("validator-pubkeys.dat");
+    PersistentPubKeyCache.load(cacheFile).update(createRegistry(), Bytes32.ZERO);
+  }
+
+  @Setup(Level.Iteration)
+  public void loadRegistry() {
+    registry = createRegistry();
+  }
+
+  @TearDown(Level.Trial)
+  public void cleanup() throws IOException {
+    Files.deleteIfExists(cacheFile);
+    Files.deleteIfExists(tempDir);
+  }
+
+  @Benchmark
+  public Object restorePublicKeys() {
+    return startup.equals("cold") ? restoreCold() : restorePersisted();
+  }
+
+  private Map<Bytes48, Integer> restoreCold() {
+    final Map<Bytes48, Integer> indices = new HashMap<>();
+    for (int i = 0; i < registry.size(); i++) {
+      final Validator validator = registry.get(i);
+      if (!validator.getPublicKey().isValid()) {
+        throw new IllegalStateException("Unexpected invalid key");
+      }
+      indices.put(validator.getPubkeyBytes(), i);
+    }
+    return indices;
+  }
+
+  private PersistentPubKeyCache restorePersisted() {
+    final PersistentPubKeyCache cache = PersistentPubKeyCache.load(cacheFile);
+    for (int i = 0; i < registry.size(); i++) {
+      final Bytes48 pubkeyBytes = registry.get(i).getPubkeyBytes();
+      if (!cache.getPublicKey(i, pubkeyBytes).orElseThrow().isValid()
+          || cache.getValidatorIndex(pubkeyBytes).orElseThrow() != i) {
+        throw new IllegalStateException("Unexpected cache miss");
+      }
+    }
+    return cache;
+  }
+
+  private static Bytes48 derivePublicKey(final int index) {
+    final BLSSecretKey secretKey =
+        BLSSecretKey.fromBytes(Bytes32.leftPad(Bytes.ofUnsignedInt(index + 1)));
+    return new BLSPublicKey(secretKey).toBytesCompressed();
+  }
+
+  private SszList<Validator> createRegistry() {
+    final SszListSchema<Validator, ?> schema =
+        SszListSchema.create(
+            Validator.SSZ_SCHEMA, VALIDATOR_REGISTRY_LIMIT, SszSchemaHints.sszSuperNode(8));
+    return schema.createFromElements(
+        pubkeys.stream()
+            .map(
+                pubkey ->
+                    new Validator(
+                        BLSPublicKey.fromBytesCompressed(pubkey),
+                        Bytes32.ZERO,
+                        UInt64.valueOf(32_000_000_000L),
+                        false,
+                        UInt64.ZERO,
+                        UInt64.ZERO,
+                        UInt64.MAX_VALUE,
+                        UInt64.MAX_VALUE))
+            .toList());
+  }
+}
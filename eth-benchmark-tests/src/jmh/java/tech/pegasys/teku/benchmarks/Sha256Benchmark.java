@@ -18,12 +18,24 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.bytes.MutableBytes;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import tech.pegasys.teku.infrastructure.crypto.Hash;
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil.ZeroBranchNode;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
 
 @State(Scope.Thread)
 public class Sha256Benchmark {
@@ -51,4 +63,59 @@ public class Sha256Benchmark {
     byte[] hash = Hash.sha256(dataArray).toArrayUnsafe();
     bh.consume(hash);
   }
+
+  /**
+   * A mainnet sized state which is deserialized before every invocation so that none of its tree
+   * node hashes are cached.
+   */
+  @State(Scope.Thread)
+  public static class MainnetState {
+
+    @Param({"400000"})
+    int validatorsCount;
+
+    private final Spec spec = TestSpecFactory.createMainnetCapella();
+    private Bytes serializedState;
+    BeaconState state;
+
+    @Setup(Level.Trial)
+    public void init() {
+      serializedState =
+          new DataStructureUtil(spec).randomBeaconState(validatorsCount, 100).sszSerialize();
+    }
+
+    @Setup(Level.Invocation)
+    public void loadState() {
+      final SchemaDefinitions schemaDefinitions = spec.getGenesisSchemaDefinitions();
+      state = schemaDefinitions.getBeaconStateSchema().sszDeserialize(serializedState);
+    }
+  }
+
+  /** Hashes all dirty nodes of each tree level in batches (the default). */
+  @Benchmark
+  @Fork(1)
+  @Warmup(iterations = 3)
+  @Measurement(iterations = 5)
+  public void beaconStateHashTreeRootBatched(MainnetState mainnetState, Blackhole bh) {
+    bh.consume(mainnetState.state.hashTreeRoot());
+  }
+
+  /** Hashes the state tree one branch node at a time as a baseline. */
+  @Benchmark
+  @Fork(1)
+  @Warmup(iterations = 3)
+  @Measurement(iterations = 5)
+  public void beaconStateHashTreeRootRecursive(MainnetState mainnetState, Blackhole bh) {
+    bh.consume(recursiveHashTreeRoot(mainnetState.state.getBackingNode()));
+  }
+
+  private static Bytes32 recursiveHashTreeRoot(final TreeNode node) {
+    if (node instanceof BranchNode branch && !(node instanceof ZeroBranchNode)) {
+      final Bytes32 leftRoot = recursiveHashTreeRoot(branch.left());
+      final Bytes32 rightRoot =
+          branch.left() == branch.right() ? leftRoot : recursiveHashTreeRoot(branch.right());
+      return Hash.sha256(leftRoot, rightRoot);
+    }
+    return node.hashTreeRoot();
+  }
 }
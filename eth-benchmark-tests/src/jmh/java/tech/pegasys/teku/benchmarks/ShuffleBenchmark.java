@@ -62,6 +62,21 @@ public class ShuffleBenchmark {
     bh.consume(indices);
   }
 
+  @State(Scope.Thread)
+  public static class LargeList {
+    @Param({"500000", "1048576"})
+    int indexCount;
+  }
+
+  @Benchmark
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 5)
+  public void shuffledLargeListBench(LargeList largeList, Blackhole bh) {
+    int[] indices = IntStream.range(0, largeList.indexCount).toArray();
+    miscHelpers.shuffleList(indices, seed);
+    bh.consume(indices);
+  }
+
   public static void main(String[] args) {
     ShuffleBenchmark benchmark = new ShuffleBenchmark();
 
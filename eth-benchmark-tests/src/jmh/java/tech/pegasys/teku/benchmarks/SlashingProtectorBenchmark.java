@@ -0,0 +1,128 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.async.DelayedExecutorAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.signatures.GroupCommitSlashingProtector;
+import tech.pegasys.teku.spec.signatures.LocalSlashingProtector;
+import tech.pegasys.teku.spec.signatures.SlashingProtector;
+
+/**
+ * Simulates the attestation burst of a validator client: every benchmark invocation requests an
+ * attestation signature for all keys at the next target epoch and waits for all of them to be
+ * approved. The {@code signatures} counter reports signatures/sec.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class SlashingProtectorBenchmark {
+  private static final Bytes32 GENESIS_VALIDATORS_ROOT = Bytes32.ZERO;
+
+  @Param({"1000", "10000", "50000"})
+  int validatorsCount;
+
+  @Param({"local", "group-commit"})
+  String implementation;
+
+  private final List<BLSPublicKey> validators = new ArrayList<>();
+  private Path slashingProtectionDir;
+  private SlashingProtector slashingProtector;
+  private long targetEpoch = 0;
+
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class SignatureCounter {
+    public long signatures;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      signatures = 0;
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void init() throws IOException {
+    for (int i = 0; i < validatorsCount; i++) {
+      validators.add(BLSPublicKey.fromBytesCompressed(Bytes48.leftPad(Bytes.ofUnsignedInt(i))));
+    }
+    slashingProtectionDir = Files.createTempDirectory("slashing-protection");
+    final SyncDataAccessor dataAccessor = SyncDataAccessor.create(slashingProtectionDir);
+    slashingProtector =
+        switch (implementation) {
+          case "local" -> new LocalSlashingProtector(dataAccessor, slashingProtectionDir);
+          case "group-commit" -> new GroupCommitSlashingProtector(
+              dataAccessor, slashingProtectionDir, DelayedExecutorAsyncRunner.create());
+          default -> throw new IllegalArgumentException(
+              "Unknown implementation " + implementation);
+        };
+  }
+
+  @TearDown(Level.Trial)
+  public void cleanup() throws IOException {
+    if (slashingProtector instanceof GroupCommitSlashingProtector groupCommitSlashingProtector) {
+      groupCommitSlashingProtector.close();
+    }
+    try (Stream<Path> files = Files.walk(slashingProtectionDir)) {
+      files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Benchmark
+  public List<Boolean> attestationBurst(final SignatureCounter counter) {
+    targetEpoch++;
+    final UInt64 source = UInt64.valueOf(targetEpoch - 1);
+    final UInt64 target = UInt64.valueOf(targetEpoch);
+    final List<SafeFuture<Boolean>> results = new ArrayList<>(validators.size());
+    for (BLSPublicKey validator : validators) {
+      results.add(
+          slashingProtector.maySignAttestation(validator, GENESIS_VALIDATORS_ROOT, source, target));
+    }
+    final List<Boolean> approved = SafeFuture.collectAll(results.stream()).join();
+    counter.signatures += approved.size();
+    return approved;
+  }
+}
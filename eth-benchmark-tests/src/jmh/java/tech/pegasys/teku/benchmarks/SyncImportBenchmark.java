@@ -0,0 +1,167 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.benchmarks.gen.BlockArchiveGenerator;
+import tech.pegasys.teku.benchmarks.gen.BlockIO;
+import tech.pegasys.teku.benchmarks.gen.KeyFileGenerator;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSSignatureVerifier;
+import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel;
+import tech.pegasys.teku.spec.logic.common.block.AbstractBlockProcessor;
+import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
+import tech.pegasys.teku.statetransition.BeaconChainUtil;
+import tech.pegasys.teku.statetransition.blobs.BlobSidecarManager;
+import tech.pegasys.teku.statetransition.block.BlockBatchSignatureVerifier;
+import tech.pegasys.teku.statetransition.block.BlockImportNotifications;
+import tech.pegasys.teku.statetransition.block.BlockImporter;
+import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
+import tech.pegasys.teku.statetransition.forkchoice.MergeTransitionBlockValidator;
+import tech.pegasys.teku.statetransition.forkchoice.StubForkChoiceNotifier;
+import tech.pegasys.teku.storage.client.MemoryOnlyRecentChainData;
+import tech.pegasys.teku.storage.client.RecentChainData;
+import tech.pegasys.teku.weaksubjectivity.WeakSubjectivityFactory;
+
+/**
+ * Measures forward sync import throughput over a block archive recorded by {@link
+ * BlockArchiveGenerator}, importing the blocks in sync sized batches either verifying each block's
+ * signatures as it's imported or verifying the signatures of each batch together first.
+ *
+ * <p>Each iteration imports the whole archive into a fresh chain and prints the blocks per second.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class SyncImportBenchmark {
+
+  @Param({"32768"})
+  int validatorsCount;
+
+  @Param({"50"})
+  int batchSize;
+
+  @Param({"true", "false"})
+  boolean batchSignatureVerification;
+
+  private Spec spec;
+  private List<BLSKeyPair> validatorKeys;
+  private final List<SignedBeaconBlock> blocks = new ArrayList<>();
+  private BeaconChainUtil localChain;
+  private BlockImporter blockImporter;
+  private BlockBatchSignatureVerifier batchSignatureVerifier;
+  private long iterationStartNanos;
+
+  @Setup(Level.Trial)
+  public void init() throws Exception {
+    spec = TestSpecFactory.createMainnetAltair();
+    AbstractBlockProcessor.depositSignatureVerifier = BLSSignatureVerifier.NO_OP;
+    validatorKeys = KeyFileGenerator.readValidatorKeys(validatorsCount);
+    final String blocksFile =
+        "/blocks/blocks_epoch_"
+            + spec.getSlotsPerEpoch(UInt64.ZERO)
+            + "_validators_"
+            + validatorsCount
+            + ".ssz.gz";
+    try (BlockIO.Reader reader = BlockIO.createResourceReader(spec, blocksFile)) {
+      reader.forEach(blocks::add);
+    }
+    System.out.println("Importing " + blocks.size() + " blocks from " + blocksFile);
+  }
+
+  @Setup(Level.Iteration)
+  public void createChain() {
+    final RecentChainData recentChainData = MemoryOnlyRecentChainData.create(spec);
+    final ForkChoice forkChoice =
+        new ForkChoice(
+            spec,
+            new InlineEventThread(),
+            recentChainData,
+            BlobSidecarManager.NOOP,
+            new StubForkChoiceNotifier(),
+            new MergeTransitionBlockValidator(spec, recentChainData, ExecutionLayerChannel.NOOP),
+            new StubMetricsSystem());
+    localChain = BeaconChainUtil.create(spec, recentChainData, validatorKeys, false);
+    localChain.initializeStorage();
+    blockImporter =
+        new BlockImporter(
+            spec,
+            mock(BlockImportNotifications.class),
+            recentChainData,
+            forkChoice,
+            WeakSubjectivityFactory.lenientValidator(),
+            ExecutionLayerChannel.NOOP);
+    batchSignatureVerifier = new BlockBatchSignatureVerifier(spec, recentChainData);
+    iterationStartNanos = System.nanoTime();
+  }
+
+  @TearDown(Level.Iteration)
+  public void reportThroughput() {
+    final double seconds = (System.nanoTime() - iterationStartNanos) / 1e9;
+    System.out.printf("%nImported %.1f blocks/sec%n", blocks.size() / seconds);
+  }
+
+  @Benchmark
+  public void importArchive() {
+    for (int from = 0; from < blocks.size(); from += batchSize) {
+      importBatch(blocks.subList(from, Math.min(blocks.size(), from + batchSize)));
+    }
+  }
+
+  private void importBatch(final List<SignedBeaconBlock> batch) {
+    localChain.setSlot(batch.get(batch.size() - 1).getSlot());
+    final Optional<List<BeaconState>> verifiedBlockSlotStates =
+        batchSignatureVerification ? batchSignatureVerifier.verify(batch).join() : Optional.empty();
+    for (int i = 0; i < batch.size(); i++) {
+      final SignedBeaconBlock block = batch.get(i);
+      final BlockImportResult result =
+          verifiedBlockSlotStates.isPresent()
+              ? blockImporter
+                  .importBlockWithVerifiedSignatures(block, verifiedBlockSlotStates.get().get(i))
+                  .join()
+              : blockImporter.importBlock(block).join();
+      if (!result.isSuccessful()) {
+        throw new IllegalStateException("Unable to import block: " + result);
+      }
+    }
+  }
+}
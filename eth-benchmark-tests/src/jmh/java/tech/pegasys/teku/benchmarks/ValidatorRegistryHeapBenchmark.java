@@ -0,0 +1,166 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.storage.store.StoreConfig;
+
+/**
+ * Compares the heap retained by the validator registry when stored packed in super nodes (as in
+ * <code>BeaconState.validators</code>) against a plain tree of nodes.
+ *
+ * <p>As many registry versions as {@link StoreConfig#DEFAULT_STATE_CACHE_SIZE} are kept alive.
+ * Each invocation derives a new version the way an epoch transition does (a fraction of validators
+ * updated, every validator read, root recalculated) and evicts the oldest one. The retained heap
+ * per version is printed after each iteration and the {@code gcPauseMillis} counter reports the GC
+ * time spent during the measurement.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class ValidatorRegistryHeapBenchmark {
+  private static final long VALIDATOR_REGISTRY_LIMIT = 1L << 40;
+
+  @Param({"400000"})
+  int validatorsCount;
+
+  @Param({"packed", "tree"})
+  String representation;
+
+  private final Deque<SszList<Validator>> retainedVersions = new ArrayDeque<>();
+  private int updateRound = 0;
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class GcCounters {
+    public long gcPauseMillis;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      gcPauseMillis = 0;
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void init() {
+    final SszListSchema<Validator, ?> schema =
+        SszListSchema.create(
+            Validator.SSZ_SCHEMA,
+            VALIDATOR_REGISTRY_LIMIT,
+            representation.equals("packed")
+                ? SszSchemaHints.sszSuperNode(8)
+                : SszSchemaHints.none());
+    final List<Validator> validators = new ArrayList<>(validatorsCount);
+    for (int i = 0; i < validatorsCount; i++) {
+      validators.add(
+          new Validator(
+              BLSPublicKey.fromBytesCompressed(Bytes48.leftPad(Bytes.ofUnsignedInt(i))),
+              Bytes32.leftPad(Bytes.ofUnsignedInt(i)),
+              UInt64.valueOf(32_000_000_000L),
+              false,
+              UInt64.ZERO,
+              UInt64.ZERO,
+              UInt64.MAX_VALUE,
+              UInt64.MAX_VALUE));
+    }
+    SszList<Validator> registry = schema.createFromElements(validators);
+    registry.hashTreeRoot();
+    retainedVersions.add(registry);
+    while (retainedVersions.size() < StoreConfig.DEFAULT_STATE_CACHE_SIZE) {
+      retainedVersions.add(createNextVersion(retainedVersions.getLast()));
+    }
+  }
+
+  @TearDown(Level.Iteration)
+  public void reportRetainedHeap() {
+    System.gc();
+    final Runtime runtime = Runtime.getRuntime();
+    final long usedBytes = runtime.totalMemory() - runtime.freeMemory();
+    System.out.printf(
+        "%nRetained heap: %d MB for %d registry versions (%d MB per version)%n",
+        usedBytes >> 20, retainedVersions.size(), (usedBytes / retainedVersions.size()) >> 20);
+  }
+
+  @Benchmark
+  public SszList<Validator> epochTransition(final GcCounters counters) {
+    final long gcTimeBefore = totalGcTimeMillis();
+    final SszList<Validator> nextVersion = createNextVersion(retainedVersions.getLast());
+    retainedVersions.add(nextVersion);
+    retainedVersions.removeFirst();
+    counters.gcPauseMillis += totalGcTimeMillis() - gcTimeBefore;
+    return nextVersion;
+  }
+
+  private SszList<Validator> createNextVersion(final SszList<Validator> registry) {
+    final SszMutableList<Validator> mutableRegistry = registry.createWritableCopy();
+    // Roughly the share of validators whose effective balance changes in an epoch
+    final int round = updateRound++;
+    for (int i = round % 64; i < mutableRegistry.size(); i += 64) {
+      final Validator validator = mutableRegistry.get(i);
+      mutableRegistry.set(
+          i, validator.withEffectiveBalance(UInt64.valueOf(31_000_000_000L + round)));
+    }
+    final SszList<Validator> nextVersion = mutableRegistry.commitChanges();
+    long activeBalance = 0;
+    for (Validator validator : nextVersion) {
+      activeBalance += validator.getEffectiveBalance().longValue();
+    }
+    if (activeBalance == 0) {
+      throw new IllegalStateException("Unexpected empty registry");
+    }
+    nextVersion.hashTreeRoot();
+    return nextVersion;
+  }
+
+  private static long totalGcTimeMillis() {
+    long total = 0;
+    for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+      total += Math.max(0, gcBean.getCollectionTime());
+    }
+    return total;
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.ssz;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.schemas.ApiSchemas;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsAltair;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/**
+ * Compares the CPU time and wire size of JSON and SSZ request bodies for the operations a
+ * validator client with 10k validators submits to its beacon node over one epoch, at roughly 1M
+ * active validators on mainnet: one attestation per validator, around 3% of them selected as
+ * aggregators and around 5 sync committee members signing every slot.
+ *
+ * <p>The {@code encodedBytes} counter reports the size of the encoded payload.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class SszOperationsEncodingBenchmark {
+  private static final int ATTESTATIONS_PER_EPOCH = 10_000;
+  private static final int AGGREGATES_PER_EPOCH = 330;
+  private static final int SYNC_COMMITTEE_MESSAGES_PER_EPOCH = 5 * 32;
+
+  @Param({"attestations", "aggregates", "sync_committee_messages"})
+  String operation;
+
+  private Payload<?> payload;
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class EncodedSize {
+    public long encodedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      encodedBytes = 0;
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void init() {
+    final Spec spec = TestSpecFactory.createMainnetAltair();
+    final DataStructureUtil dataStructureUtil = new DataStructureUtil(0, spec);
+    final SchemaDefinitionsAltair schemaDefinitions =
+        SchemaDefinitionsAltair.required(spec.getGenesisSchemaDefinitions());
+    payload =
+        switch (operation) {
+          case "attestations" -> new Payload<>(
+              schemaDefinitions.getAttestationSchema(),
+              ATTESTATIONS_PER_EPOCH,
+              dataStructureUtil::randomAttestation);
+          case "aggregates" -> new Payload<>(
+              schemaDefinitions.getSignedAggregateAndProofSchema(),
+              AGGREGATES_PER_EPOCH,
+              dataStructureUtil::randomSignedAggregateAndProof);
+          case "sync_committee_messages" -> new Payload<>(
+              schemaDefinitions.getSyncCommitteeMessageSchema(),
+              SYNC_COMMITTEE_MESSAGES_PER_EPOCH,
+              dataStructureUtil::randomSyncCommitteeMessage);
+          default -> throw new IllegalArgumentException("Unknown operation: " + operation);
+        };
+  }
+
+  @Benchmark
+  public Object serializeJson(final EncodedSize size) throws JsonProcessingException {
+    final byte[] json = payload.serializeJson();
+    size.encodedBytes += json.length;
+    return json;
+  }
+
+  @Benchmark
+  public Object serializeSsz(final EncodedSize size) {
+    final Bytes ssz = payload.serializeSsz();
+    size.encodedBytes += ssz.size();
+    return ssz;
+  }
+
+  @Benchmark
+  public Object deserializeJson() throws JsonProcessingException {
+    return payload.deserializeJson();
+  }
+
+  @Benchmark
+  public Object deserializeSsz() {
+    return payload.deserializeSsz();
+  }
+
+  private static class Payload<T extends SszData> {
+    private final SszListSchema<T, ? extends SszList<T>> listSchema;
+    private final DeserializableTypeDefinition<List<T>> jsonType;
+    private final List<T> operations;
+    private final String json;
+    private final Bytes ssz;
+
+    private Payload(
+        final SszSchema<T> operationSchema, final int count, final Supplier<T> operationSupplier) {
+      this.listSchema = ApiSchemas.createOperationsListSchema(operationSchema);
+      this.jsonType = DeserializableTypeDefinition.listOf(operationSchema.getJsonTypeDefinition());
+      this.operations = Stream.generate(operationSupplier).limit(count).toList();
+      try {
+        this.json = JsonUtil.serialize(operations, jsonType);
+      } catch (final JsonProcessingException e) {
+        throw new IllegalStateException(e);
+      }
+      this.ssz = serializeSsz();
+    }
+
+    private byte[] serializeJson() throws JsonProcessingException {
+      return JsonUtil.serialize(operations, jsonType).getBytes(UTF_8);
+    }
+
+    private Bytes serializeSsz() {
+      // Building the list is part of the cost, as the client holds the operations in a List
+      return listSchema.createFromElements(operations).sszSerialize();
+    }
+
+    private List<T> deserializeJson() throws JsonProcessingException {
+      return JsonUtil.parse(json, jsonType);
+    }
+
+    private List<T> deserializeSsz() {
+      return listSchema.sszDeserialize(ssz).asList();
+    }
+  }
+}
@@ -84,6 +84,8 @@ import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
 import tech.pegasys.teku.spec.datastructures.state.Fork;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.BeaconStateInvariants;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.PersistentPubKeyCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ShufflingCache;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
 import tech.pegasys.teku.spec.datastructures.util.AttestationProcessingResult;
 import tech.pegasys.teku.spec.datastructures.util.ForkAndSpecMilestone;
@@ -193,6 +195,26 @@ public class Spec {
     return atEpoch(UInt64.ZERO);
   }
 
+  /**
+   * Sets the persistent cache of validator public keys this spec consults when looking up the keys
+   * and indices of validators. Other specs in the same process are unaffected.
+   */
+  public void setPersistentPubKeyCache(final PersistentPubKeyCache persistentPubKeyCache) {
+    for (SpecVersion specVersion : specVersions.values()) {
+      specVersion.beaconStateAccessors().setPersistentPubKeyCache(persistentPubKeyCache);
+    }
+  }
+
+  /**
+   * Sets the cache of committee shuffles shared by the states of this spec, across all of its
+   * milestones. Without one, shuffles are only cached per state.
+   */
+  public void setShufflingCache(final ShufflingCache shufflingCache) {
+    for (SpecVersion specVersion : specVersions.values()) {
+      specVersion.miscHelpers().setShufflingCache(shufflingCache);
+    }
+  }
+
   public SpecConfig getGenesisSpecConfig() {
     return getGenesisSpec().getConfig();
   }
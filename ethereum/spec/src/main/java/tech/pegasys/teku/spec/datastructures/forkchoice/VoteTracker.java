@@ -70,6 +70,14 @@ public class VoteTracker {
     return nextEquivocating || currentEquivocating;
   }
 
+  /**
+   * Whether the next vote differs from the vote currently counted by fork choice, so applying fork
+   * choice score changes would move or remove this validator's weight.
+   */
+  public boolean hasPendingChange() {
+    return !currentRoot.equals(nextRoot) || currentEquivocating != nextEquivocating;
+  }
+
   public VoteTracker createNextEquivocating() {
     return new VoteTracker(currentRoot, nextRoot, nextEpoch, true, false);
   }
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.spec.datastructures.forkchoice;
 
+import it.unimi.dsi.fastutil.ints.IntCollection;
 import java.util.List;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
@@ -27,6 +28,17 @@ public interface VoteUpdater {
 
   void putVote(UInt64 validatorIndex, VoteTracker vote);
 
+  /**
+   * Returns the indices of validators whose vote may have changed since fork choice scores were
+   * last applied, see {@link VoteTracker#hasPendingChange()}.
+   *
+   * @return the validator indices, or empty if every validator up to {@link
+   *     #getHighestVotedValidatorIndex()} has to be checked
+   */
+  default Optional<IntCollection> getValidatorsWithPendingVotes() {
+    return Optional.empty();
+  }
+
   Bytes32 applyForkChoiceScoreChanges(
       UInt64 currentEpoch,
       Checkpoint finalizedCheckpoint,
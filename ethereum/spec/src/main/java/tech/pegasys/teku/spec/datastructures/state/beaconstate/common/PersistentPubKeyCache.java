@@ -0,0 +1,448 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import tech.pegasys.teku.bls.BLSConstants;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * A memory-mapped file holding the public keys of the validator registry, so that they don't all
+ * have to be decompressed and validated again each time the node starts.
+ *
+ * <p>Each validator has a record, in registry order, holding its compressed key and, if the key is
+ * valid, its uncompressed form, from which it can be restored without recovering the y coordinate
+ * or checking group membership. Restored points are still checked to be on the curve and to match
+ * the compressed key. Each record ends with a CRC32C checksum of its contents, which is verified
+ * for every record when the file is loaded, and only the records before the first one failing
+ * verification are used. Callers can therefore rely on a key missing from the cache not being
+ * held by any cached validator. The header holds the registry length and the root of the state
+ * the file was last updated from. The index used to look up validators by key is built from the
+ * mapped records the first time it's needed.
+ *
+ * <p>The registry only grows, by appending validators in deposit order, so the file is extended
+ * with the validators added since the last update. New records are written before the header
+ * which covers them, so an interrupted update leaves the file as it was. If the cached records
+ * don't match the registry, the whole file is rewritten to a separate file which then replaces
+ * it, so neither an interrupted rebuild nor readers of the current mapping see partially rewritten
+ * records.
+ */
+public class PersistentPubKeyCache {
+  private static final Logger LOG = LogManager.getLogger();
+
+  public static final PersistentPubKeyCache EMPTY = new PersistentPubKeyCache(Optional.empty());
+
+  private static final int MAGIC = 0x544b504b;
+  private static final int VERSION = 2;
+  private static final int REGISTRY_LENGTH_OFFSET = 8;
+  private static final int STATE_ROOT_OFFSET = 12;
+  static final int HEADER_SIZE = 64;
+
+  private static final int FLAGS_OFFSET = BLSConstants.BLS_PUBKEY_SIZE;
+  static final int UNCOMPRESSED_OFFSET = FLAGS_OFFSET + 1;
+  static final int CHECKSUM_OFFSET =
+      UNCOMPRESSED_OFFSET + BLSConstants.BLS_PUBKEY_UNCOMPRESSED_SIZE;
+  static final int RECORD_SIZE = CHECKSUM_OFFSET + Integer.BYTES;
+  private static final byte FLAG_VALID = 1;
+
+  // Keeps record offsets within an int and the file within a single mapping
+  private static final int MAX_REGISTRY_LENGTH = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+  private static final int UPDATE_BATCH_SIZE = 1 << 16;
+
+  private static final Snapshot EMPTY_SNAPSHOT =
+      new Snapshot(ByteBuffer.allocate(0), 0, Bytes32.ZERO, new int[1]);
+
+  private final Optional<Path> file;
+  private volatile Snapshot snapshot = EMPTY_SNAPSHOT;
+
+  private PersistentPubKeyCache(final Optional<Path> file) {
+    this.file = file;
+  }
+
+  /**
+   * Maps the cache stored in {@code file}. A missing or unreadable file results in an empty cache
+   * which will be written to {@code file} when updated.
+   */
+  public static PersistentPubKeyCache load(final Path file) {
+    final PersistentPubKeyCache cache = new PersistentPubKeyCache(Optional.of(file));
+    if (!Files.exists(file)) {
+      return cache;
+    }
+    try (FileChannel channel = FileChannel.open(file, READ)) {
+      final Optional<Snapshot> snapshot = readSnapshot(channel);
+      if (snapshot.isPresent()) {
+        cache.snapshot = snapshot.get();
+        LOG.debug(
+            "Loaded {} cached validator public keys from {}",
+            cache.snapshot.registryLength(),
+            file);
+      } else {
+        LOG.warn("Ignoring invalid validator public key cache {}", file);
+      }
+    } catch (final IOException e) {
+      LOG.warn("Ignoring unreadable validator public key cache {}", file, e);
+    }
+    return cache;
+  }
+
+  private static Optional<Snapshot> readSnapshot(final FileChannel channel) throws IOException {
+    final long fileSize = channel.size();
+    if (fileSize < HEADER_SIZE) {
+      return Optional.empty();
+    }
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    readFully(channel, header);
+    final int registryLength = header.getInt(REGISTRY_LENGTH_OFFSET);
+    if (header.getInt(0) != MAGIC
+        || header.getInt(Integer.BYTES) != VERSION
+        || registryLength < 0
+        || registryLength > MAX_REGISTRY_LENGTH
+        || fileSize < recordOffset(registryLength)) {
+      return Optional.empty();
+    }
+    final byte[] stateRoot = new byte[Bytes32.SIZE];
+    header.get(STATE_ROOT_OFFSET, stateRoot);
+    final ByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, recordOffset(registryLength));
+    final int verifiedLength = countVerifiedRecords(buffer, registryLength);
+    if (verifiedLength < registryLength) {
+      LOG.warn(
+          "Ignoring cached validator public keys from index {} which failed verification",
+          verifiedLength);
+      // The remaining records no longer match the state the header refers to
+      return Optional.of(new Snapshot(buffer, verifiedLength, Bytes32.ZERO, null));
+    }
+    return Optional.of(new Snapshot(buffer, registryLength, Bytes32.wrap(stateRoot), null));
+  }
+
+  private static int countVerifiedRecords(final ByteBuffer buffer, final int registryLength) {
+    final CRC32C checksum = new CRC32C();
+    for (int validatorIndex = 0; validatorIndex < registryLength; validatorIndex++) {
+      final int offset = recordOffset(validatorIndex);
+      checksum.reset();
+      checksum.update(buffer.slice(offset, CHECKSUM_OFFSET));
+      if (buffer.getInt(offset + CHECKSUM_OFFSET) != (int) checksum.getValue()) {
+        return validatorIndex;
+      }
+    }
+    return registryLength;
+  }
+
+  /** @return the number of validators with cached keys */
+  public int getRegistryLength() {
+    return snapshot.registryLength();
+  }
+
+  /**
+   * Returns the number of cached validators which are known to be the first validators of {@code
+   * validators}, or zero if the cache was built from a different registry. Keys which aren't in
+   * the cache can then only belong to validators after those.
+   */
+  public int getMatchingRegistryLength(final SszList<Validator> validators) {
+    return getMatchingRegistryLength(snapshot, validators);
+  }
+
+  private static int getMatchingRegistryLength(
+      final Snapshot current, final SszList<Validator> validators) {
+    final int length = Math.min(current.registryLength(), validators.size());
+    if (length == 0) {
+      return 0;
+    }
+    // Validators are only appended, so a registry with the same key at the last cached index
+    // was built from the same deposits
+    final int lastIndex = length - 1;
+    return compressedKeyMatches(
+            current.buffer(), recordOffset(lastIndex), validators.get(lastIndex).getPubkeyBytes())
+        ? length
+        : 0;
+  }
+
+  /** @return the root of the state the cache was last updated from */
+  public Bytes32 getStateRoot() {
+    return snapshot.stateRoot();
+  }
+
+  /**
+   * Returns the cached key of the validator at {@code validatorIndex} if it's cached as {@code
+   * pubkeyBytes} and was valid. A record whose uncompressed point doesn't match the compressed key,
+   * e.g. because the file was corrupted, is ignored so the caller falls back to decompressing it.
+   */
+  public Optional<BLSPublicKey> getPublicKey(final int validatorIndex, final Bytes48 pubkeyBytes) {
+    final Snapshot current = snapshot;
+    if (validatorIndex < 0 || validatorIndex >= current.registryLength()) {
+      return Optional.empty();
+    }
+    final int offset = recordOffset(validatorIndex);
+    final ByteBuffer buffer = current.buffer();
+    if (buffer.get(offset + FLAGS_OFFSET) != FLAG_VALID
+        || !compressedKeyMatches(buffer, offset, pubkeyBytes)) {
+      return Optional.empty();
+    }
+    final byte[] uncompressed = new byte[BLSConstants.BLS_PUBKEY_UNCOMPRESSED_SIZE];
+    buffer.get(offset + UNCOMPRESSED_OFFSET, uncompressed);
+    try {
+      return Optional.of(BLSPublicKey.fromValidatedBytes(pubkeyBytes, Bytes.wrap(uncompressed)));
+    } catch (final IllegalArgumentException e) {
+      LOG.debug("Ignoring invalid cached public key of validator {}", validatorIndex, e);
+      return Optional.empty();
+    }
+  }
+
+  /** Returns the index of the validator with the key {@code pubkeyBytes} if it's cached. */
+  public Optional<Integer> getValidatorIndex(final Bytes48 pubkeyBytes) {
+    final Snapshot current = getIndexedSnapshot();
+    final ByteBuffer buffer = current.buffer();
+    final int[] indexTable = current.indexTable();
+    final int mask = indexTable.length - 1;
+    for (int slot = pubkeyBytes.getInt(1) & mask; indexTable[slot] != 0; slot = (slot + 1) & mask) {
+      final int validatorIndex = indexTable[slot] - 1;
+      if (compressedKeyMatches(buffer, recordOffset(validatorIndex), pubkeyBytes)) {
+        return Optional.of(validatorIndex);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /** Appends the validators {@code state} has which aren't yet cached. */
+  public void update(final BeaconState state) {
+    update(state.getValidators(), state.hashTreeRoot());
+  }
+
+  /** Appends the validators in {@code validators} which aren't yet cached. */
+  public synchronized void update(final SszList<Validator> validators, final Bytes32 stateRoot) {
+    if (file.isEmpty()) {
+      return;
+    }
+    Snapshot current = snapshot;
+    final int registryLength = Math.min(validators.size(), MAX_REGISTRY_LENGTH);
+    if (registryLength <= current.registryLength()) {
+      return;
+    }
+    final boolean rebuild =
+        getMatchingRegistryLength(current, validators) < current.registryLength();
+    if (rebuild) {
+      LOG.warn("Validator public key cache doesn't match the registry, rebuilding it");
+      current = EMPTY_SNAPSHOT;
+    }
+
+    final Path target =
+        rebuild ? file.get().resolveSibling(file.get().getFileName() + ".tmp") : file.get();
+    try (FileChannel channel =
+        rebuild
+            ? FileChannel.open(target, CREATE, TRUNCATE_EXISTING, READ, WRITE)
+            : FileChannel.open(target, CREATE, READ, WRITE)) {
+      for (int batchStart = current.registryLength();
+          batchStart < registryLength;
+          batchStart += UPDATE_BATCH_SIZE) {
+        final int batchEnd = Math.min(registryLength, batchStart + UPDATE_BATCH_SIZE);
+        writeFully(
+            channel, createRecords(validators, batchStart, batchEnd), recordOffset(batchStart));
+      }
+      channel.force(false);
+      writeFully(channel, createHeader(registryLength, stateRoot), 0);
+      channel.force(false);
+      final ByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, recordOffset(registryLength));
+      if (rebuild) {
+        // The new mapping stays valid after the move, and current readers keep the old file
+        Files.move(target, file.get(), ATOMIC_MOVE, REPLACE_EXISTING);
+      }
+      snapshot =
+          new Snapshot(
+              buffer,
+              registryLength,
+              stateRoot,
+              current.indexTable() == null
+                  ? null
+                  : extendIndexTable(current, buffer, registryLength));
+    } catch (final IOException e) {
+      LOG.warn("Failed to update validator public key cache {}", file.get(), e);
+    }
+  }
+
+  private Snapshot getIndexedSnapshot() {
+    final Snapshot current = snapshot;
+    if (current.indexTable() != null) {
+      return current;
+    }
+    synchronized (this) {
+      if (snapshot.indexTable() == null) {
+        final Snapshot unindexed = snapshot;
+        snapshot =
+            new Snapshot(
+                unindexed.buffer(),
+                unindexed.registryLength(),
+                unindexed.stateRoot(),
+                createIndexTable(unindexed.buffer(), unindexed.registryLength()));
+      }
+      return snapshot;
+    }
+  }
+
+  private static int[] createIndexTable(final ByteBuffer buffer, final int registryLength) {
+    final int[] indexTable = new int[indexTableSize(registryLength)];
+    for (int validatorIndex = 0; validatorIndex < registryLength; validatorIndex++) {
+      addToIndexTable(indexTable, buffer, validatorIndex);
+    }
+    return indexTable;
+  }
+
+  private static int[] extendIndexTable(
+      final Snapshot previous, final ByteBuffer buffer, final int registryLength) {
+    if (indexTableSize(registryLength) != previous.indexTable().length) {
+      return createIndexTable(buffer, registryLength);
+    }
+    // Readers may still be probing the previous table, so add to a copy
+    final int[] indexTable = Arrays.copyOf(previous.indexTable(), previous.indexTable().length);
+    for (int validatorIndex = previous.registryLength();
+        validatorIndex < registryLength;
+        validatorIndex++) {
+      addToIndexTable(indexTable, buffer, validatorIndex);
+    }
+    return indexTable;
+  }
+
+  // Open addressing with linear probing, keeping the table at most half full. The bytes after the
+  // flags byte of a compressed key are part of the x coordinate, so are already well distributed.
+  private static void addToIndexTable(
+      final int[] indexTable, final ByteBuffer buffer, final int validatorIndex) {
+    final int mask = indexTable.length - 1;
+    int slot = buffer.getInt(recordOffset(validatorIndex) + 1) & mask;
+    while (indexTable[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    indexTable[slot] = validatorIndex + 1;
+  }
+
+  private static int indexTableSize(final int registryLength) {
+    return Integer.highestOneBit(Math.max(2, registryLength * 2) - 1) << 1;
+  }
+
+  private static ByteBuffer createRecords(
+      final SszList<Validator> validators, final int fromIndex, final int toIndex) {
+    final byte[] records = new byte[(toIndex - fromIndex) * RECORD_SIZE];
+    // Decompressing and validating keys dominates, so do it in parallel
+    IntStream.range(fromIndex, toIndex)
+        .parallel()
+        .forEach(
+            index ->
+                writeRecord(
+                    validators.get(index).getPublicKey(),
+                    records,
+                    (index - fromIndex) * RECORD_SIZE));
+    return ByteBuffer.wrap(records);
+  }
+
+  private static void writeRecord(
+      final BLSPublicKey publicKey, final byte[] records, final int offset) {
+    writeKeys(publicKey, records, offset);
+    final CRC32C checksum = new CRC32C();
+    checksum.update(records, offset, CHECKSUM_OFFSET);
+    ByteBuffer.wrap(records).putInt(offset + CHECKSUM_OFFSET, (int) checksum.getValue());
+  }
+
+  private static void writeKeys(
+      final BLSPublicKey publicKey, final byte[] records, final int offset) {
+    System.arraycopy(
+        publicKey.toBytesCompressed().toArrayUnsafe(),
+        0,
+        records,
+        offset,
+        BLSConstants.BLS_PUBKEY_SIZE);
+    if (isValid(publicKey)) {
+      records[offset + FLAGS_OFFSET] = FLAG_VALID;
+      System.arraycopy(
+          publicKey.toBytesUncompressed().toArrayUnsafe(),
+          0,
+          records,
+          offset + UNCOMPRESSED_OFFSET,
+          BLSConstants.BLS_PUBKEY_UNCOMPRESSED_SIZE);
+    }
+  }
+
+  private static boolean isValid(final BLSPublicKey publicKey) {
+    try {
+      return publicKey.isValid();
+    } catch (final IllegalArgumentException e) {
+      // Not a point on the curve
+      return false;
+    }
+  }
+
+  private static boolean compressedKeyMatches(
+      final ByteBuffer buffer, final int offset, final Bytes48 pubkeyBytes) {
+    for (int i = 0; i < BLSConstants.BLS_PUBKEY_SIZE; i++) {
+      if (buffer.get(offset + i) != pubkeyBytes.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static ByteBuffer createHeader(final int registryLength, final Bytes32 stateRoot) {
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    header.putInt(0, MAGIC);
+    header.putInt(Integer.BYTES, VERSION);
+    header.putInt(REGISTRY_LENGTH_OFFSET, registryLength);
+    header.put(STATE_ROOT_OFFSET, stateRoot.toArrayUnsafe());
+    return header;
+  }
+
+  private static int recordOffset(final int validatorIndex) {
+    return HEADER_SIZE + validatorIndex * RECORD_SIZE;
+  }
+
+  private static void readFully(final FileChannel channel, final ByteBuffer buffer)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, buffer.position()) < 0) {
+        throw new IOException("Unexpected end of file");
+      }
+    }
+  }
+
+  private static void writeFully(
+      final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+    final long start = position - buffer.position();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer, start + buffer.position());
+    }
+  }
+
+  /** The mapped records and, once built, the table of validator indices ordered by key hash */
+  private record Snapshot(
+      ByteBuffer buffer, int registryLength, Bytes32 stateRoot, int[] indexTable) {}
+}
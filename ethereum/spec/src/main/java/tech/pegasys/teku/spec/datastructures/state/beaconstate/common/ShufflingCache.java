@@ -0,0 +1,166 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+/**
+ * Cache of committee shuffles shared by every {@link
+ * tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState} of a {@link
+ * tech.pegasys.teku.spec.Spec}.
+ *
+ * <p>{@link TransitionCaches} belong to a single state and its copies, so sibling states on
+ * different forks and states regenerated from the database would otherwise each recompute the same
+ * shuffle. Entries are keyed by the seed, which already commits to the epoch, the number of shuffle
+ * rounds, and the active validator indices being shuffled. The least recently used entries are
+ * evicted once the cached index lists exceed the memory budget.
+ */
+public class ShufflingCache {
+
+  public static final long DEFAULT_MAX_SIZE_BYTES = 64L * 1024 * 1024;
+
+  private final Map<ShufflingKey, IntList> shuffles = new LinkedHashMap<>(16, 0.75f, true);
+  private final long maxSizeBytes;
+  private long sizeBytes;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public ShufflingCache(final MetricsSystem metricsSystem, final long maxSizeBytes) {
+    checkArgument(maxSizeBytes >= 0, "Max size must not be negative");
+    this.maxSizeBytes = maxSizeBytes;
+    hitCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "shuffling_cache_hits",
+            "Number of committee shuffles served from the shared shuffling cache");
+    missCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "shuffling_cache_misses",
+            "Number of committee shuffles computed because they were not in the shared shuffling cache");
+    metricsSystem.createGauge(
+        TekuMetricCategory.BEACON,
+        "shuffling_cache_size_bytes",
+        "Estimated memory used by the shared shuffling cache",
+        this::getSizeBytes);
+  }
+
+  /**
+   * Returns the cached shuffle of {@code activeValidatorIndices} for {@code seed}, computing and
+   * caching it when not present. The shuffle is computed outside the lock so concurrent requests
+   * for different shuffles don't block each other.
+   *
+   * @param seed the shuffling seed
+   * @param shuffleRoundCount the number of rounds the shuffle uses
+   * @param activeValidatorIndices the immutable list of indices being shuffled
+   * @param shuffle computes the shuffle on a cache miss
+   * @return the shuffled indices
+   */
+  public IntList get(
+      final Bytes32 seed,
+      final int shuffleRoundCount,
+      final IntList activeValidatorIndices,
+      final Supplier<IntList> shuffle) {
+    final ShufflingKey key = new ShufflingKey(seed, shuffleRoundCount, activeValidatorIndices);
+    synchronized (this) {
+      final IntList cached = shuffles.get(key);
+      if (cached != null) {
+        hitCounter.inc();
+        return cached;
+      }
+    }
+    missCounter.inc();
+    final IntList shuffled = shuffle.get();
+    synchronized (this) {
+      if (shuffles.putIfAbsent(key, shuffled) == null) {
+        sizeBytes += key.getSizeBytes();
+        evictIfRequired();
+      }
+    }
+    return shuffled;
+  }
+
+  private void evictIfRequired() {
+    final Iterator<ShufflingKey> keys = shuffles.keySet().iterator();
+    while (sizeBytes > maxSizeBytes && keys.hasNext()) {
+      sizeBytes -= keys.next().getSizeBytes();
+      keys.remove();
+    }
+  }
+
+  public synchronized int size() {
+    return shuffles.size();
+  }
+
+  public synchronized long getSizeBytes() {
+    return sizeBytes;
+  }
+
+  public synchronized void clear() {
+    shuffles.clear();
+    sizeBytes = 0;
+  }
+
+  private static class ShufflingKey {
+    private final Bytes32 seed;
+    private final int shuffleRoundCount;
+    private final IntList activeValidatorIndices;
+    private final int hashCode;
+
+    private ShufflingKey(
+        final Bytes32 seed, final int shuffleRoundCount, final IntList activeValidatorIndices) {
+      this.seed = seed;
+      this.shuffleRoundCount = shuffleRoundCount;
+      this.activeValidatorIndices = activeValidatorIndices;
+      // Hash the indices once rather than on every lookup
+      this.hashCode =
+          31 * (31 * seed.hashCode() + shuffleRoundCount) + activeValidatorIndices.hashCode();
+    }
+
+    /** Both the retained indices and the shuffled copy of them use 4 bytes per index */
+    private long getSizeBytes() {
+      return 2L * Integer.BYTES * activeValidatorIndices.size();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ShufflingKey that)) {
+        return false;
+      }
+      return hashCode == that.hashCode
+          && shuffleRoundCount == that.shuffleRoundCount
+          && seed.equals(that.seed)
+          && activeValidatorIndices.equals(that.activeValidatorIndices);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -17,6 +17,7 @@ import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.collections.TekuPair;
@@ -27,6 +28,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ProgressiveTotalBalancesUpdates;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorRecords;
 
 /** The container class for all transition caches. */
 public class TransitionCaches {
@@ -53,7 +55,13 @@ public class TransitionCaches {
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
-          ProgressiveTotalBalancesUpdates.NOOP) {
+          ProgressiveTotalBalancesUpdates.NOOP,
+          new AtomicReference<>(ValidatorRecords.EMPTY)) {
+
+        @Override
+        public void setValidatorRecords(final ValidatorRecords validatorRecords) {
+          // Nothing is cached
+        }
 
         @Override
         public TransitionCaches copy() {
@@ -86,6 +94,7 @@ public class TransitionCaches {
 
   private volatile Optional<TotalBalances> latestTotalBalances = Optional.empty();
   private volatile ProgressiveTotalBalancesUpdates progressiveTotalBalances;
+  private final AtomicReference<ValidatorRecords> validatorRecords;
 
   private TransitionCaches() {
     activeValidators = LRUCache.create(MAX_ACTIVE_VALIDATORS_CACHE);
@@ -100,6 +109,7 @@ public class TransitionCaches {
     syncCommitteeCache = LRUCache.create(MAX_SYNC_COMMITTEE_CACHE);
     baseRewardPerIncrement = LRUCache.create(MAX_BASE_REWARD_PER_INCREMENT_CACHE);
     progressiveTotalBalances = ProgressiveTotalBalancesUpdates.NOOP;
+    validatorRecords = new AtomicReference<>(ValidatorRecords.EMPTY);
   }
 
   private TransitionCaches(
@@ -114,7 +124,8 @@ public class TransitionCaches {
       Cache<UInt64, List<UInt64>> effectiveBalances,
       Cache<UInt64, Map<UInt64, SyncSubcommitteeAssignments>> syncCommitteeCache,
       Cache<UInt64, UInt64> baseRewardPerIncrement,
-      ProgressiveTotalBalancesUpdates progressiveTotalBalances) {
+      ProgressiveTotalBalancesUpdates progressiveTotalBalances,
+      AtomicReference<ValidatorRecords> validatorRecords) {
     this.activeValidators = activeValidators;
     this.beaconProposerIndex = beaconProposerIndex;
     this.beaconCommittee = beaconCommittee;
@@ -127,6 +138,7 @@ public class TransitionCaches {
     this.syncCommitteeCache = syncCommitteeCache;
     this.baseRewardPerIncrement = baseRewardPerIncrement;
     this.progressiveTotalBalances = progressiveTotalBalances;
+    this.validatorRecords = validatorRecords;
   }
 
   public void setLatestTotalBalances(TotalBalances totalBalances) {
@@ -146,6 +158,26 @@ public class TransitionCaches {
     this.progressiveTotalBalances = progressiveTotalBalances;
   }
 
+  /**
+   * Records of the validator fields used to create validator statuses. The records are immutable
+   * and are updated incrementally from the validators which changed.
+   *
+   * <p>A single slot holds the records for this instance and every copy made from it, so setting
+   * new records replaces them for all states derived from the same state rather than each state
+   * retaining its own arrays. This bounds the memory to one set of records (about 33 bytes per
+   * validator, so ~33MB with 1M validators) per lineage of copied states, plus a second set
+   * transiently while records are updated, regardless of how many states or epochs are retained.
+   * Records for one state are still valid input for any other state as they are diffed against the
+   * validators tree they were read from.
+   */
+  public ValidatorRecords getValidatorRecords() {
+    return validatorRecords.get();
+  }
+
+  public void setValidatorRecords(final ValidatorRecords validatorRecords) {
+    this.validatorRecords.set(validatorRecords);
+  }
+
   /** (epoch) -> (active validators) cache */
   public Cache<UInt64, IntList> getActiveValidators() {
     return activeValidators;
@@ -228,6 +260,7 @@ public class TransitionCaches {
         effectiveBalances.copy(),
         syncCommitteeCache.copy(),
         baseRewardPerIncrement.copy(),
-        progressiveTotalBalances.copy());
+        progressiveTotalBalances.copy(),
+        validatorRecords);
   }
 }
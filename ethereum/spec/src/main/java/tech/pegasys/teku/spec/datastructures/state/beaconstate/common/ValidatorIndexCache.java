@@ -16,6 +16,7 @@ package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.tuweni.bytes.Bytes48;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
@@ -45,6 +46,17 @@ public class ValidatorIndexCache {
 
   public Optional<Integer> getValidatorIndex(
       final BeaconState state, final BLSPublicKey publicKey) {
+    return getValidatorIndex(state, publicKey, PersistentPubKeyCache.EMPTY);
+  }
+
+  /**
+   * Looks up the index of {@code publicKey}, consulting {@code persistentPubKeyCache} before
+   * scanning the validators of {@code state} which aren't cached yet.
+   */
+  public Optional<Integer> getValidatorIndex(
+      final BeaconState state,
+      final BLSPublicKey publicKey,
+      final PersistentPubKeyCache persistentPubKeyCache) {
     // Store lastIndex here in case we need to scan keys from the state.
     // This ensures we're adding from a point that we're confident the cache is at
     // when we scan for more keys through the state later.
@@ -55,7 +67,26 @@ public class ValidatorIndexCache {
       return validatorIndex.filter(index -> index < state.getValidators().size());
     }
 
-    return findIndexFromState(state.getValidators(), publicKey, lastIndexSnapshot);
+    final SszList<Validator> validators = state.getValidators();
+    final Bytes48 pubkeyBytes = publicKey.toBytesCompressed();
+    final Optional<Integer> persistedIndex =
+        persistentPubKeyCache
+            .getValidatorIndex(pubkeyBytes)
+            .filter(
+                index ->
+                    index < validators.size()
+                        && validators.get(index).getPubkeyBytes().equals(pubkeyBytes));
+    if (persistedIndex.isPresent()) {
+      validatorIndices.invalidateWithNewValue(publicKey, persistedIndex.get());
+      return persistedIndex;
+    }
+
+    // Validators are only ever appended to the registry, so keys that aren't in the persistent
+    // cache can only be found after the verified validators it holds for this registry
+    return findIndexFromState(
+        validators,
+        publicKey,
+        Math.max(lastIndexSnapshot, persistentPubKeyCache.getMatchingRegistryLength(validators)));
   }
 
   private Optional<Integer> findIndexFromState(
@@ -36,11 +36,13 @@ import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.PersistentPubKeyCache;
 
 public abstract class BeaconStateAccessors {
   protected final SpecConfig config;
   protected final Predicates predicates;
   protected final MiscHelpers miscHelpers;
+  private volatile PersistentPubKeyCache persistentPubKeyCache = PersistentPubKeyCache.EMPTY;
 
   protected BeaconStateAccessors(
       final SpecConfig config, final Predicates predicates, final MiscHelpers miscHelpers) {
@@ -49,6 +51,14 @@ public abstract class BeaconStateAccessors {
     this.miscHelpers = miscHelpers;
   }
 
+  public PersistentPubKeyCache getPersistentPubKeyCache() {
+    return persistentPubKeyCache;
+  }
+
+  public void setPersistentPubKeyCache(final PersistentPubKeyCache persistentPubKeyCache) {
+    this.persistentPubKeyCache = persistentPubKeyCache;
+  }
+
   public UInt64 getCurrentEpoch(BeaconState state) {
     return miscHelpers.computeEpochAtSlot(state.getSlot());
   }
@@ -84,7 +94,12 @@ public abstract class BeaconStateAccessors {
             .get(
                 validatorIndex,
                 i -> {
-                  BLSPublicKey pubKey = state.getValidators().get(i.intValue()).getPublicKey();
+                  final Validator validator = state.getValidators().get(i.intValue());
+                  // prefer the persisted key which is already decompressed and validated
+                  final BLSPublicKey pubKey =
+                      persistentPubKeyCache
+                          .getPublicKey(i.intValue(), validator.getPubkeyBytes())
+                          .orElseGet(validator::getPublicKey);
 
                   // eagerly pre-cache pubKey => validatorIndex mapping
                   BeaconStateCache.getTransitionCaches(state)
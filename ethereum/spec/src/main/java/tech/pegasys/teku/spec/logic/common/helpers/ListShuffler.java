@@ -0,0 +1,156 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.helpers;
+
+import static tech.pegasys.teku.infrastructure.crypto.Hash.getSha256Instance;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.crypto.Sha256;
+
+/**
+ * Shuffles a whole list in place with the swap-or-not shuffle, producing the same permutation as
+ * applying {@code compute_shuffled_index} to every index.
+ *
+ * <p>Each round first hashes all the source blocks it reads into a single bit buffer, then applies
+ * the swaps directly to the {@code int[]}. The swaps within a round pair up disjoint positions, so
+ * for large lists both the hashing and the swaps are split into segments which run on the common
+ * ForkJoin pool, with each round completing before the next one starts.
+ */
+final class ListShuffler {
+
+  static final int PARALLEL_THRESHOLD = 1 << 16;
+
+  private static final VarHandle LONG_LITTLE_ENDIAN =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle INT_LITTLE_ENDIAN =
+      MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+  // Each source hash provides one bit for each of 256 consecutive positions
+  private static final int POSITIONS_PER_BLOCK_SHIFT = 8;
+  private static final int SOURCE_INPUT_SIZE = Bytes32.SIZE + 1 + Integer.BYTES;
+  private static final int BLOCKS_PER_SEGMENT = 64;
+  private static final int SWAPS_PER_SEGMENT = 1 << 14;
+
+  private ListShuffler() {}
+
+  static void shuffle(final int[] input, final Bytes32 seed, final int shuffleRoundCount) {
+    final int listSize = input.length;
+    if (listSize == 0) {
+      return;
+    }
+    final boolean parallel = listSize >= PARALLEL_THRESHOLD;
+    final Sha256 sha256 = getSha256Instance();
+    final byte[] sourceInput = createSourceInput(seed);
+    final byte[] pivotHash = new byte[Bytes32.SIZE];
+    final byte[] sourceBits =
+        new byte[(((listSize - 1) >>> POSITIONS_PER_BLOCK_SHIFT) + 1) * Bytes32.SIZE];
+
+    for (int round = shuffleRoundCount - 1; round >= 0; round--) {
+      sourceInput[Bytes32.SIZE] = (byte) round;
+      // The pivot is hashed from the seed and round only
+      sha256.digest(sourceInput, 0, Bytes32.SIZE + 1, pivotHash, 0);
+      final long pivotValue = (long) LONG_LITTLE_ENDIAN.get(pivotHash, 0);
+      final int pivot = (int) Long.remainderUnsigned(pivotValue, listSize);
+      final int mirror1 = (pivot + 2) / 2;
+      final int mirror2 = (pivot + listSize) / 2;
+
+      // Positions up to the pivot read their own bit, positions after it read the bit of the
+      // position they may be swapped with
+      hashSourceBlocks(sourceInput, mirror1, pivot, sourceBits, parallel);
+      hashSourceBlocks(
+          sourceInput, pivot + listSize - mirror2, listSize - 1, sourceBits, parallel);
+
+      if (parallel) {
+        final int segmentCount = (mirror2 - mirror1) / SWAPS_PER_SEGMENT + 1;
+        IntStream.range(0, segmentCount)
+            .parallel()
+            .forEach(
+                segment -> {
+                  final int from = mirror1 + segment * SWAPS_PER_SEGMENT;
+                  final int to = Math.min(mirror2, from + SWAPS_PER_SEGMENT - 1);
+                  swap(input, sourceBits, pivot, from, to);
+                });
+      } else {
+        swap(input, sourceBits, pivot, mirror1, mirror2);
+      }
+    }
+  }
+
+  private static byte[] createSourceInput(final Bytes32 seed) {
+    final byte[] sourceInput = new byte[SOURCE_INPUT_SIZE];
+    System.arraycopy(seed.toArrayUnsafe(), 0, sourceInput, 0, Bytes32.SIZE);
+    return sourceInput;
+  }
+
+  private static void swap(
+      final int[] input,
+      final byte[] sourceBits,
+      final int pivot,
+      final int fromIndex,
+      final int toIndex) {
+    final int listSize = input.length;
+    for (int i = fromIndex; i <= toIndex; i++) {
+      final int flip = i <= pivot ? pivot - i : pivot + listSize - i;
+      final int position = Math.max(i, flip);
+      if (((sourceBits[position >>> 3] >> (position & 0x07)) & 1) != 0) {
+        final int tmp = input[i];
+        input[i] = input[flip];
+        input[flip] = tmp;
+      }
+    }
+  }
+
+  private static void hashSourceBlocks(
+      final byte[] roundInput,
+      final int fromPosition,
+      final int toPosition,
+      final byte[] sourceBits,
+      final boolean parallel) {
+    if (fromPosition > toPosition) {
+      return;
+    }
+    final int fromBlock = fromPosition >>> POSITIONS_PER_BLOCK_SHIFT;
+    final int toBlock = toPosition >>> POSITIONS_PER_BLOCK_SHIFT;
+    if (!parallel) {
+      hashSourceBlocks(getSha256Instance(), roundInput, fromBlock, toBlock, sourceBits);
+      return;
+    }
+    final int segmentCount = (toBlock - fromBlock) / BLOCKS_PER_SEGMENT + 1;
+    IntStream.range(0, segmentCount)
+        .parallel()
+        .forEach(
+            segment -> {
+              final int from = fromBlock + segment * BLOCKS_PER_SEGMENT;
+              final int to = Math.min(toBlock, from + BLOCKS_PER_SEGMENT - 1);
+              // Each worker needs its own digest and input buffer
+              hashSourceBlocks(getSha256Instance(), roundInput.clone(), from, to, sourceBits);
+            });
+  }
+
+  private static void hashSourceBlocks(
+      final Sha256 sha256,
+      final byte[] sourceInput,
+      final int fromBlock,
+      final int toBlock,
+      final byte[] sourceBits) {
+    for (int block = fromBlock; block <= toBlock; block++) {
+      INT_LITTLE_ENDIAN.set(sourceInput, Bytes32.SIZE + 1, block);
+      sha256.digest(sourceInput, 0, SOURCE_INPUT_SIZE, sourceBits, block * Bytes32.SIZE);
+    }
+  }
+}
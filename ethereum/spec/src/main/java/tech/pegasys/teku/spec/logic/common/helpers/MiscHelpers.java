@@ -43,6 +43,7 @@ import tech.pegasys.teku.spec.datastructures.state.ForkData;
 import tech.pegasys.teku.spec.datastructures.state.SigningData;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ShufflingCache;
 import tech.pegasys.teku.spec.logic.versions.deneb.helpers.MiscHelpersDeneb;
 import tech.pegasys.teku.spec.logic.versions.deneb.types.VersionedHash;
 
@@ -52,13 +53,16 @@ public class MiscHelpers {
   public static final UInt64 MAX_RANDOM_BYTE = UInt64.valueOf(255);
 
   protected final SpecConfig specConfig;
-
-  private static final byte[] EMPTY_HASH = Bytes.EMPTY.toArrayUnsafe();
+  private volatile Optional<ShufflingCache> shufflingCache = Optional.empty();
 
   public MiscHelpers(final SpecConfig specConfig) {
     this.specConfig = specConfig;
   }
 
+  public void setShufflingCache(final ShufflingCache shufflingCache) {
+    this.shufflingCache = Optional.of(shufflingCache);
+  }
+
   public int computeShuffledIndex(int index, int indexCount, Bytes32 seed) {
     checkArgument(index < indexCount, "CommitteeUtil.computeShuffledIndex1");
 
@@ -186,10 +190,22 @@ public class MiscHelpers {
     }
     return BeaconStateCache.getTransitionCaches(state)
         .getCommitteeShuffle()
-        .get(seed, s -> shuffleList(indices, s))
+        .get(seed, s -> getOrComputeShuffle(indices, s))
         .subList(fromIndex, toIndex);
   }
 
+  private IntList getOrComputeShuffle(final IntList indices, final Bytes32 seed) {
+    return shufflingCache
+        .map(
+            cache ->
+                cache.get(
+                    seed,
+                    specConfig.getShuffleRoundCount(),
+                    indices,
+                    () -> shuffleList(indices, seed)))
+        .orElseGet(() -> shuffleList(indices, seed));
+  }
+
   public List<UInt64> computeSubscribedSubnets(final UInt256 nodeId, final UInt64 epoch) {
     return IntStream.range(0, specConfig.getNetworkingConfig().getSubnetsPerNode())
         .mapToObj(index -> computeSubscribedSubnet(nodeId, epoch, index))
@@ -252,50 +268,7 @@ public class MiscHelpers {
   }
 
   public void shuffleList(int[] input, Bytes32 seed) {
-
-    int listSize = input.length;
-    if (listSize == 0) {
-      return;
-    }
-
-    final Sha256 sha256 = getSha256Instance();
-
-    for (int round = specConfig.getShuffleRoundCount() - 1; round >= 0; round--) {
-
-      final Bytes roundAsByte = Bytes.of((byte) round);
-
-      // This needs to be unsigned modulo.
-      final Bytes hash = sha256.wrappedDigest(seed, roundAsByte);
-      int pivot = bytesToUInt64(hash.slice(0, 8)).mod(listSize).intValue();
-
-      byte[] hashBytes = EMPTY_HASH;
-      int mirror1 = (pivot + 2) / 2;
-      int mirror2 = (pivot + listSize) / 2;
-      for (int i = mirror1; i <= mirror2; i++) {
-        int flip, bitIndex;
-        if (i <= pivot) {
-          flip = pivot - i;
-          bitIndex = i & 0xff;
-          if (bitIndex == 0 || i == mirror1) {
-            hashBytes = sha256.digest(seed, roundAsByte, uintTo4Bytes(i / 256));
-          }
-        } else {
-          flip = pivot + listSize - i;
-          bitIndex = flip & 0xff;
-          if (bitIndex == 0xff || i == pivot + 1) {
-            hashBytes = sha256.digest(seed, roundAsByte, uintTo4Bytes(flip / 256));
-          }
-        }
-
-        int theByte = hashBytes[bitIndex / 8];
-        int theBit = (theByte >> (bitIndex & 0x07)) & 1;
-        if (theBit != 0) {
-          int tmp = input[i];
-          input[i] = input[flip];
-          input[flip] = tmp;
-        }
-      }
-    }
+    ListShuffler.shuffle(input, seed, specConfig.getShuffleRoundCount());
   }
 
   public Bytes computeSigningRoot(Merkleizable object, Bytes32 domain) {
@@ -25,7 +25,6 @@ import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
-import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockHeader;
@@ -283,6 +282,8 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
   protected void applyDeltas(
       final MutableBeaconState state, final RewardAndPenaltyDeltas attestationDeltas) {
     final SszMutableUInt64List balances = state.getBalances();
+    // Most balances change, so update them as a flat array and rebuild the tree leaves once
+    final long[] balanceValues = balances.toLongArray();
     // To optimize performance, calculate validator size once outside of the loop
     int validatorsCount = state.getValidators().size();
     for (int i = 0; i < validatorsCount; i++) {
@@ -290,10 +291,12 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
       if (delta.isZero()) {
         continue;
       }
-      final UInt64 newBalance =
-          balances.getElement(i).plus(delta.getReward()).minusMinZero(delta.getPenalty());
-      balances.setElement(i, newBalance);
+      // Balances are bounded by the total supply, far below the signed overflow limit
+      final long rewarded = Math.addExact(balanceValues[i], delta.getReward().longValue());
+      final long penalty = delta.getPenalty().longValue();
+      balanceValues[i] = Long.compareUnsigned(rewarded, penalty) > 0 ? rewarded - penalty : 0;
     }
+    balances.updateAllElements(balanceValues);
   }
 
   /** Processes validator registry updates */
@@ -429,29 +432,27 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
       final MutableBeaconState state, final List<ValidatorStatus> statuses) {
     // Update effective balances with hysteresis
     final SszMutableList<Validator> validators = state.getValidators();
-    final SszUInt64List balances = state.getBalances();
-    final UInt64 hysteresisUpwardMultiplier = specConfig.getHysteresisUpwardMultiplier();
-    final UInt64 hysteresisDownwardMultiplier = specConfig.getHysteresisDownwardMultiplier();
-    final UInt64 maxEffectiveBalance = specConfig.getMaxEffectiveBalance();
-    final UInt64 hysteresisQuotient = specConfig.getHysteresisQuotient();
-    final UInt64 effectiveBalanceIncrement = specConfig.getEffectiveBalanceIncrement();
+    final long[] balances = state.getBalances().toLongArray();
+    final long maxEffectiveBalance = specConfig.getMaxEffectiveBalance().longValue();
+    final long effectiveBalanceIncrement = specConfig.getEffectiveBalanceIncrement().longValue();
+    final UInt64 hysteresisIncrement =
+        specConfig.getEffectiveBalanceIncrement().dividedBy(specConfig.getHysteresisQuotient());
+    final long downwardThreshold =
+        hysteresisIncrement.times(specConfig.getHysteresisDownwardMultiplier()).longValue();
+    final long upwardThreshold =
+        hysteresisIncrement.times(specConfig.getHysteresisUpwardMultiplier()).longValue();
     for (int index = 0; index < validators.size(); index++) {
       final ValidatorStatus status = statuses.get(index);
-      final UInt64 balance = balances.getElement(index);
-
-      final UInt64 hysteresisIncrement = effectiveBalanceIncrement.dividedBy(hysteresisQuotient);
-      final UInt64 currentEffectiveBalance = status.getCurrentEpochEffectiveBalance();
-      if (shouldDecreaseEffectiveBalance(
-              balance, hysteresisIncrement, currentEffectiveBalance, hysteresisDownwardMultiplier)
+      final long balance = balances[index];
+      final long currentEffectiveBalance = status.getCurrentEpochEffectiveBalance().longValue();
+      if (shouldDecreaseEffectiveBalance(balance, downwardThreshold, currentEffectiveBalance)
           || shouldIncreaseEffectiveBalance(
-              balance,
-              hysteresisIncrement,
-              currentEffectiveBalance,
-              hysteresisUpwardMultiplier,
-              maxEffectiveBalance)) {
+              balance, upwardThreshold, currentEffectiveBalance, maxEffectiveBalance)) {
         final Validator validator = validators.get(index);
+        final long roundedBalance =
+            balance - Long.remainderUnsigned(balance, effectiveBalanceIncrement);
         final UInt64 newEffectiveBalance =
-            balance.minus(balance.mod(effectiveBalanceIncrement)).min(maxEffectiveBalance);
+            UInt64.fromLongBits(Math.min(roundedBalance, maxEffectiveBalance));
         BeaconStateCache.getTransitionCaches(state)
             .getProgressiveTotalBalances()
             .onEffectiveBalanceChange(status, newEffectiveBalance);
@@ -461,25 +462,21 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
   }
 
   private boolean shouldIncreaseEffectiveBalance(
-      final UInt64 balance,
-      final UInt64 hysteresisIncrement,
-      final UInt64 currentEffectiveBalance,
-      final UInt64 hysteresisUpwardMultiplier,
-      final UInt64 maxEffectiveBalance) {
-    final UInt64 upwardThreshold = hysteresisIncrement.times(hysteresisUpwardMultiplier);
+      final long balance,
+      final long upwardThreshold,
+      final long currentEffectiveBalance,
+      final long maxEffectiveBalance) {
     // This condition doesn't match the spec but is an optimisation to avoid creating a new
     // validator with the same effective balance when it's already at the maximum.
-    return !currentEffectiveBalance.equals(maxEffectiveBalance)
-        && currentEffectiveBalance.plus(upwardThreshold).isLessThan(balance);
+    final long upwardLimit = Math.addExact(currentEffectiveBalance, upwardThreshold);
+    return currentEffectiveBalance != maxEffectiveBalance
+        && Long.compareUnsigned(upwardLimit, balance) < 0;
   }
 
   private boolean shouldDecreaseEffectiveBalance(
-      final UInt64 balance,
-      final UInt64 hysteresisIncrement,
-      final UInt64 currentEffectiveBalance,
-      final UInt64 hysteresisDownwardMultiplier) {
-    final UInt64 downwardThreshold = hysteresisIncrement.times(hysteresisDownwardMultiplier);
-    return balance.plus(downwardThreshold).isLessThan(currentEffectiveBalance);
+      final long balance, final long downwardThreshold, final long currentEffectiveBalance) {
+    final long downwardLimit = Math.addExact(balance, downwardThreshold);
+    return Long.compareUnsigned(downwardLimit, currentEffectiveBalance) < 0;
   }
 
   @Override
@@ -16,8 +16,8 @@ package tech.pegasys.teku.spec.logic.common.statetransition.epoch.status;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.MAX_VALUE;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes32;
-import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
@@ -57,13 +57,11 @@ public abstract class AbstractValidatorStatusFactory implements ValidatorStatusF
 
   @Override
   public ValidatorStatuses createValidatorStatuses(final BeaconState state) {
-    final SszList<Validator> validators = state.getValidators();
-
     final UInt64 currentEpoch = beaconStateAccessors.getCurrentEpoch(state);
     final UInt64 previousEpoch = beaconStateAccessors.getPreviousEpoch(state);
 
     final List<ValidatorStatus> statuses =
-        createInitialValidatorStatuses(validators, currentEpoch, previousEpoch);
+        createInitialValidatorStatuses(state, currentEpoch, previousEpoch);
 
     processParticipation(statuses, state, previousEpoch, currentEpoch);
 
@@ -82,31 +80,61 @@ public abstract class AbstractValidatorStatusFactory implements ValidatorStatusF
   }
 
   private List<ValidatorStatus> createInitialValidatorStatuses(
-      final SszList<Validator> validators, final UInt64 currentEpoch, final UInt64 previousEpoch) {
-    // Note: parallel() here is being used with great care. The iteration of the list is done by a
-    // single thread and then the conversion of individual Validator to ValidatorStatus is done by
-    // worker pools. Thus, each Validator instance is still only accessed by a single thread at a
-    // time. By the time we get the list back we're back to single threaded mode.
-    return validators.stream()
+      final BeaconState state, final UInt64 currentEpoch, final UInt64 previousEpoch) {
+    // Only the validators changed since the records were last updated are read from the state
+    final TransitionCaches transitionCaches = BeaconStateCache.getTransitionCaches(state);
+    final ValidatorRecords records =
+        transitionCaches.getValidatorRecords().updatedFor(state.getValidators());
+    transitionCaches.setValidatorRecords(records);
+    final UInt64 nextEpoch = currentEpoch.plus(1);
+    // The records are immutable so can safely be read from multiple threads
+    return IntStream.range(0, records.size())
         .parallel()
-        .map(validator -> createValidatorStatus(validator, previousEpoch, currentEpoch))
+        .mapToObj(
+            index ->
+                createValidatorStatus(
+                    records.isSlashed(index),
+                    records.getEffectiveBalance(index),
+                    records.getActivationEpoch(index),
+                    records.getExitEpoch(index),
+                    records.getWithdrawableEpoch(index),
+                    previousEpoch,
+                    currentEpoch,
+                    nextEpoch))
         .toList();
   }
 
   @Override
   public ValidatorStatus createValidatorStatus(
       final Validator validator, final UInt64 previousEpoch, final UInt64 currentEpoch) {
-    final UInt64 activationEpoch = validator.getActivationEpoch();
-    final UInt64 exitEpoch = validator.getExitEpoch();
-    final UInt64 withdrawableEpoch = validator.getWithdrawableEpoch();
-    return new ValidatorStatus(
+    return createValidatorStatus(
         validator.isSlashed(),
-        withdrawableEpoch.isLessThanOrEqualTo(currentEpoch),
         validator.getEffectiveBalance(),
+        validator.getActivationEpoch(),
+        validator.getExitEpoch(),
+        validator.getWithdrawableEpoch(),
+        previousEpoch,
+        currentEpoch,
+        currentEpoch.plus(1));
+  }
+
+  private ValidatorStatus createValidatorStatus(
+      final boolean slashed,
+      final UInt64 effectiveBalance,
+      final UInt64 activationEpoch,
+      final UInt64 exitEpoch,
+      final UInt64 withdrawableEpoch,
+      final UInt64 previousEpoch,
+      final UInt64 currentEpoch,
+      final UInt64 nextEpoch) {
+    return new ValidatorStatus(
+        slashed,
+        withdrawableEpoch.isLessThanOrEqualTo(currentEpoch),
+        effectiveBalance,
         withdrawableEpoch,
         predicates.isActiveValidator(activationEpoch, exitEpoch, currentEpoch),
         predicates.isActiveValidator(activationEpoch, exitEpoch, previousEpoch),
-        predicates.isActiveValidator(activationEpoch, exitEpoch, currentEpoch.plus(1)));
+        predicates.isActiveValidator(activationEpoch, exitEpoch, nextEpoch));
   }
 
   protected TotalBalances createTotalBalances(final List<ValidatorStatus> statuses) {
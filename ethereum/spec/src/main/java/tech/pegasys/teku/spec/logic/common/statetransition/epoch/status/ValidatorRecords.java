@@ -0,0 +1,175 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch.status;
+
+import java.util.Arrays;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+
+/**
+ * Immutable copy of the validator fields required to create {@link ValidatorStatus} instances,
+ * along with the validators tree they were read from.
+ *
+ * <p>Blocks only modify a handful of validators (deposits, slashings and exits) and epoch
+ * processing only modifies the validators with registry or effective balance changes. All other
+ * subtrees of the validators list are shared by reference between successive states, so updating
+ * the records for a later state only needs to walk the subtrees which differ and re-read the
+ * validators within them rather than every validator in the registry.
+ *
+ * <p>Each instance holds about 33 bytes per validator. {@code TransitionCaches} keeps a single
+ * instance for a state and all the states copied from it, so older records are released as soon as
+ * they are replaced rather than being retained by every state of earlier epochs.
+ */
+public class ValidatorRecords {
+
+  public static final ValidatorRecords EMPTY =
+      new ValidatorRecords(
+          null, new boolean[0], new long[0], new long[0], new long[0], new long[0]);
+
+  private final TreeNode validatorsTree;
+  private final boolean[] slashed;
+  private final long[] effectiveBalances;
+  private final long[] activationEpochs;
+  private final long[] exitEpochs;
+  private final long[] withdrawableEpochs;
+
+  private ValidatorRecords(
+      final TreeNode validatorsTree,
+      final boolean[] slashed,
+      final long[] effectiveBalances,
+      final long[] activationEpochs,
+      final long[] exitEpochs,
+      final long[] withdrawableEpochs) {
+    this.validatorsTree = validatorsTree;
+    this.slashed = slashed;
+    this.effectiveBalances = effectiveBalances;
+    this.activationEpochs = activationEpochs;
+    this.exitEpochs = exitEpochs;
+    this.withdrawableEpochs = withdrawableEpochs;
+  }
+
+  public static ValidatorRecords create(final SszList<Validator> validators) {
+    return EMPTY.updatedFor(validators);
+  }
+
+  /**
+   * Returns records matching the supplied validators, reusing the values of any validators whose
+   * subtree is shared with the validators these records were created from.
+   *
+   * @param validators the validators list to create records for
+   * @return the updated records or this instance if the validators are unchanged
+   */
+  public ValidatorRecords updatedFor(final SszList<Validator> validators) {
+    final TreeNode newValidatorsTree = validators.getBackingNode();
+    if (newValidatorsTree == validatorsTree) {
+      return this;
+    }
+    final int newSize = validators.size();
+    final ValidatorRecords updated =
+        new ValidatorRecords(
+            newValidatorsTree,
+            Arrays.copyOf(slashed, newSize),
+            Arrays.copyOf(effectiveBalances, newSize),
+            Arrays.copyOf(activationEpochs, newSize),
+            Arrays.copyOf(exitEpochs, newSize),
+            Arrays.copyOf(withdrawableEpochs, newSize));
+    if (validatorsTree == null || newSize < size()) {
+      updated.readValidators(validators, 0, newSize);
+    } else {
+      // The element nodes sit at the bottom of the vector subtree (the left child of the list root)
+      final int depth =
+          GIndexUtil.gIdxGetDepth(validators.getSchema().getChildGeneralizedIndex(0)) - 1;
+      updated.readChangedValidators(
+          validators,
+          validatorsTree.get(GIndexUtil.LEFT_CHILD_G_INDEX),
+          newValidatorsTree.get(GIndexUtil.LEFT_CHILD_G_INDEX),
+          depth,
+          0,
+          size());
+      // Validators beyond the previous size are only present in the new tree
+      updated.readValidators(validators, size(), newSize);
+    }
+    return updated;
+  }
+
+  private void readChangedValidators(
+      final SszList<Validator> validators,
+      final TreeNode oldNode,
+      final TreeNode newNode,
+      final int depth,
+      final long firstIndex,
+      final int limit) {
+    if (oldNode == newNode || firstIndex >= limit) {
+      return;
+    }
+    if (depth > 0
+        && oldNode instanceof BranchNode oldBranch
+        && newNode instanceof BranchNode newBranch) {
+      final long halfWidth = 1L << (depth - 1);
+      readChangedValidators(
+          validators, oldBranch.left(), newBranch.left(), depth - 1, firstIndex, limit);
+      readChangedValidators(
+          validators,
+          oldBranch.right(),
+          newBranch.right(),
+          depth - 1,
+          firstIndex + halfWidth,
+          limit);
+      return;
+    }
+    // Either a single validator or a packed node covering several validators has changed
+    final long lastIndex = Math.min(limit, firstIndex + (1L << depth));
+    readValidators(validators, (int) firstIndex, (int) lastIndex);
+  }
+
+  private void readValidators(
+      final SszList<Validator> validators, final int fromIndex, final int toIndex) {
+    for (int i = fromIndex; i < toIndex; i++) {
+      final Validator validator = validators.get(i);
+      slashed[i] = validator.isSlashed();
+      effectiveBalances[i] = validator.getEffectiveBalance().longValue();
+      activationEpochs[i] = validator.getActivationEpoch().longValue();
+      exitEpochs[i] = validator.getExitEpoch().longValue();
+      withdrawableEpochs[i] = validator.getWithdrawableEpoch().longValue();
+    }
+  }
+
+  public int size() {
+    return slashed.length;
+  }
+
+  public boolean isSlashed(final int index) {
+    return slashed[index];
+  }
+
+  public UInt64 getEffectiveBalance(final int index) {
+    return UInt64.fromLongBits(effectiveBalances[index]);
+  }
+
+  public UInt64 getActivationEpoch(final int index) {
+    return UInt64.fromLongBits(activationEpochs[index]);
+  }
+
+  public UInt64 getExitEpoch(final int index) {
+    return UInt64.fromLongBits(exitEpochs[index]);
+  }
+
+  public UInt64 getWithdrawableEpoch(final int index) {
+    return UInt64.fromLongBits(withdrawableEpochs[index]);
+  }
+}
@@ -54,7 +54,7 @@ public class ValidatorsUtil {
   public Optional<Integer> getValidatorIndex(BeaconState state, BLSPublicKey publicKey) {
     return BeaconStateCache.getTransitionCaches(state)
         .getValidatorIndexCache()
-        .getValidatorIndex(state, publicKey);
+        .getValidatorIndex(state, publicKey, beaconStateAccessors.getPersistentPubKeyCache());
   }
 
   /**
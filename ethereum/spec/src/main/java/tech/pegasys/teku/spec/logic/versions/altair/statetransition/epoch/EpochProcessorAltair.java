@@ -153,8 +153,12 @@ public class EpochProcessorAltair extends AbstractEpochProcessor {
     }
     final MutableBeaconStateAltair state = MutableBeaconStateAltair.required(baseState);
     final SszMutableUInt64List inactivityScores = state.getInactivityScores();
+    final long[] scores = inactivityScores.toLongArray();
     final List<ValidatorStatus> statuses = validatorStatuses.getStatuses();
     final boolean isInInactivityLeak = beaconStateAccessors.isInactivityLeak(state);
+    final long inactivityScoreBias = specConfigAltair.getInactivityScoreBias().longValue();
+    final long inactivityScoreRecoveryRate =
+        specConfigAltair.getInactivityScoreRecoveryRate().longValue();
     for (int i = 0; i < statuses.size(); i++) {
       final ValidatorStatus validatorStatus = statuses.get(i);
       if (!validatorStatus.isEligibleValidator()) {
@@ -162,21 +166,24 @@ public class EpochProcessorAltair extends AbstractEpochProcessor {
       }
 
       // Increase inactivity score of inactive validators
-      final UInt64 currentScore = inactivityScores.getElement(i);
-      UInt64 newScore;
+      long newScore = scores[i];
       if (validatorStatus.isNotSlashed() && validatorStatus.isPreviousEpochTargetAttester()) {
-        newScore = currentScore.minusMinZero(1);
+        newScore = minusMinZero(newScore, 1);
       } else {
-        newScore = currentScore.plus(specConfigAltair.getInactivityScoreBias());
+        newScore = Math.addExact(newScore, inactivityScoreBias);
       }
       // Decrease the score of all validators for forgiveness when not during a leak
       if (!isInInactivityLeak) {
-        newScore = newScore.minusMinZero(specConfigAltair.getInactivityScoreRecoveryRate());
-      }
-      if (!currentScore.equals(newScore)) {
-        inactivityScores.setElement(i, newScore);
+        newScore = minusMinZero(newScore, inactivityScoreRecoveryRate);
       }
+      scores[i] = newScore;
     }
+    // Only the leaves with changed scores are rebuilt
+    inactivityScores.updateAllElements(scores);
+  }
+
+  private static long minusMinZero(final long value, final long subtrahend) {
+    return Long.compareUnsigned(value, subtrahend) > 0 ? value - subtrahend : 0;
   }
 
   @Override
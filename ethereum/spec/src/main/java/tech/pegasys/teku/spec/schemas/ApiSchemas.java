@@ -13,6 +13,10 @@
 
 package tech.pegasys.teku.spec.schemas;
 
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.spec.datastructures.builder.SignedValidatorRegistrationSchema;
 import tech.pegasys.teku.spec.datastructures.builder.SignedValidatorRegistrationsSchema;
 import tech.pegasys.teku.spec.datastructures.builder.ValidatorRegistrationSchema;
@@ -30,4 +34,15 @@ public class ApiSchemas {
   public static final SignedValidatorRegistrationsSchema SIGNED_VALIDATOR_REGISTRATIONS_SCHEMA =
       new SignedValidatorRegistrationsSchema(
           SIGNED_VALIDATOR_REGISTRATION_SCHEMA, MAX_VALIDATOR_REGISTRATIONS_SIZE);
+
+  /**
+   * Creates the schema of a list of validator operations, such as attestations or sync committee
+   * messages, submitted to or produced by the beacon node API as SSZ. Like validator registrations,
+   * the list is bounded by the validator registry limit.
+   */
+  public static <T extends SszData>
+      SszListSchema<T, ? extends SszList<T>> createOperationsListSchema(
+          final SszSchema<T> elementSchema) {
+    return SszListSchema.create(elementSchema, MAX_VALIDATOR_REGISTRATIONS_SIZE);
+  }
 }
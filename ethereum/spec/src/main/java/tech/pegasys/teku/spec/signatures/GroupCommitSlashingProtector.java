@@ -0,0 +1,425 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.signatures;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.CRC32C;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * A {@link SlashingProtector} intended for validator clients running a large number of keys.
+ *
+ * <p>Unlike {@link LocalSlashingProtector}, which holds a single monitor and fsyncs the signing
+ * record file of each validator before every signature, this implementation locks per validator
+ * and appends updated records to a shared journal. Updates arriving within a short commit window
+ * are written and synced together, so a burst of attestation signatures costs a single fsync. The
+ * returned future only completes once the batch containing the update is durable. Each journal
+ * entry holds the validator's public key, the length of its encoded record, a CRC32C checksum of
+ * both and the record, and the record itself.
+ *
+ * <p>The journal is periodically compacted into the standard per-validator {@code .yml} signing
+ * record files, keeping them compatible with {@link LocalSlashingProtector} and with slashing
+ * protection import/export. Any journal entries left over from an unclean shutdown are replayed
+ * on startup, stopping at the first entry which is incomplete or fails its checksum. Records which
+ * need to be read from their files before the next compaction, such as when exporting the slashing
+ * protection data of a deleted key, must first be flushed with {@link
+ * #flushSigningRecords(Collection)}.
+ */
+public class GroupCommitSlashingProtector implements SlashingProtector, AutoCloseable {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final String JOURNAL_FILE_NAME = "slashing-protection.journal";
+  public static final Duration DEFAULT_COMMIT_WINDOW = Duration.ofMillis(2);
+  public static final int DEFAULT_COMPACTION_THRESHOLD = 10_000;
+
+  private static final int PUBLIC_KEY_LENGTH = 48;
+  private static final int CHECKSUM_OFFSET = PUBLIC_KEY_LENGTH + Integer.BYTES;
+  private static final int ENTRY_HEADER_LENGTH = CHECKSUM_OFFSET + Integer.BYTES;
+
+  private final ConcurrentMap<BLSPublicKey, ValidatorEntry> validators =
+      new ConcurrentHashMap<>();
+
+  private final SyncDataAccessor dataAccessor;
+  private final Path slashingProtectionBaseDir;
+  private final Path journalPath;
+  private final Duration commitWindow;
+  private final int compactionThreshold;
+  private final AsyncRunner asyncRunner;
+
+  private final Object pendingLock = new Object();
+  private List<PendingUpdate> pendingUpdates = new ArrayList<>();
+
+  // Only accessed while holding the lock on this protector (or from the constructor)
+  private final Set<BLSPublicKey> uncompactedValidators = new HashSet<>();
+  private final FileChannel journal;
+  private int journalEntryCount = 0;
+  private boolean journalUnusable = false;
+
+  public GroupCommitSlashingProtector(
+      final SyncDataAccessor dataAccessor,
+      final Path slashingProtectionBaseDir,
+      final AsyncRunner asyncRunner)
+      throws IOException {
+    this(
+        dataAccessor,
+        slashingProtectionBaseDir,
+        asyncRunner,
+        DEFAULT_COMMIT_WINDOW,
+        DEFAULT_COMPACTION_THRESHOLD);
+  }
+
+  public GroupCommitSlashingProtector(
+      final SyncDataAccessor dataAccessor,
+      final Path slashingProtectionBaseDir,
+      final AsyncRunner asyncRunner,
+      final Duration commitWindow,
+      final int compactionThreshold)
+      throws IOException {
+    this.dataAccessor = dataAccessor;
+    this.slashingProtectionBaseDir = slashingProtectionBaseDir;
+    this.journalPath = slashingProtectionBaseDir.resolve(JOURNAL_FILE_NAME);
+    this.asyncRunner = asyncRunner;
+    this.commitWindow = commitWindow;
+    this.compactionThreshold = compactionThreshold;
+    Files.createDirectories(slashingProtectionBaseDir);
+    replayJournal();
+    this.journal =
+        FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+  }
+
+  @Override
+  public SafeFuture<Boolean> maySignBlock(
+      final BLSPublicKey validator, final Bytes32 genesisValidatorsRoot, final UInt64 slot) {
+    final ValidatorEntry entry = getEntry(validator);
+    synchronized (entry) {
+      try {
+        final ValidatorSigningRecord signingRecord =
+            entry.loadOrCreate(validator, genesisValidatorsRoot);
+        return handleResult(
+            validator, entry, signingRecord.maySignBlock(genesisValidatorsRoot, slot));
+      } catch (final IOException e) {
+        return SafeFuture.failedFuture(e);
+      }
+    }
+  }
+
+  @Override
+  public SafeFuture<Boolean> maySignAttestation(
+      final BLSPublicKey validator,
+      final Bytes32 genesisValidatorsRoot,
+      final UInt64 sourceEpoch,
+      final UInt64 targetEpoch) {
+    final ValidatorEntry entry = getEntry(validator);
+    synchronized (entry) {
+      try {
+        final ValidatorSigningRecord signingRecord =
+            entry.loadOrCreate(validator, genesisValidatorsRoot);
+        return handleResult(
+            validator,
+            entry,
+            signingRecord.maySignAttestation(genesisValidatorsRoot, sourceEpoch, targetEpoch));
+      } catch (final IOException e) {
+        return SafeFuture.failedFuture(e);
+      }
+    }
+  }
+
+  @Override
+  public Optional<ValidatorSigningRecord> getSigningRecord(final BLSPublicKey validator)
+      throws IOException {
+    final ValidatorEntry entry = getEntry(validator);
+    synchronized (entry) {
+      return entry.load(validator);
+    }
+  }
+
+  @Override
+  public void flushSigningRecords(final Collection<BLSPublicKey> publicKeys) throws IOException {
+    for (BLSPublicKey validator : publicKeys) {
+      // Records which were never loaded can't have been updated since they were last written
+      final ValidatorEntry entry = validators.get(validator);
+      if (entry != null) {
+        writeSigningRecordFile(validator, entry);
+      }
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    try {
+      // Commit updates still waiting for their commit window rather than failing them
+      commitPendingUpdates();
+      compact();
+      journal.close();
+      // Leave only the standard signing record files behind for slashing protection commands
+      Files.deleteIfExists(journalPath);
+    } catch (final IOException e) {
+      LOG.error("Failed to compact slashing protection journal on shutdown", e);
+    }
+  }
+
+  private ValidatorEntry getEntry(final BLSPublicKey validator) {
+    return validators.computeIfAbsent(validator, __ -> new ValidatorEntry());
+  }
+
+  /**
+   * Must be called while holding the lock for {@code entry}. The in-memory record is updated
+   * immediately so later requests for the same validator are checked against it, but the result
+   * only resolves once the update has been made durable.
+   */
+  private SafeFuture<Boolean> handleResult(
+      final BLSPublicKey validator,
+      final ValidatorEntry entry,
+      final Optional<ValidatorSigningRecord> newRecord) {
+    if (newRecord.isEmpty()) {
+      return SafeFuture.completedFuture(false);
+    }
+    entry.record = newRecord.get();
+    final PendingUpdate update = new PendingUpdate(validator, newRecord.get());
+    final boolean scheduleCommit;
+    synchronized (pendingLock) {
+      scheduleCommit = pendingUpdates.isEmpty();
+      pendingUpdates.add(update);
+    }
+    if (scheduleCommit) {
+      asyncRunner
+          .runAfterDelay(this::commitPendingUpdates, commitWindow)
+          .finish(this::failPendingUpdates);
+    }
+    return update.result.thenApply(__ -> true);
+  }
+
+  private List<PendingUpdate> takePendingUpdates() {
+    synchronized (pendingLock) {
+      final List<PendingUpdate> batch = pendingUpdates;
+      pendingUpdates = new ArrayList<>();
+      return batch;
+    }
+  }
+
+  private void failPendingUpdates(final Throwable error) {
+    LOG.error("Failed to schedule slashing protection journal commit", error);
+    takePendingUpdates().forEach(update -> update.result.completeExceptionally(error));
+  }
+
+  private synchronized void commitPendingUpdates() {
+    final List<PendingUpdate> batch = takePendingUpdates();
+    if (batch.isEmpty()) {
+      return;
+    }
+    try {
+      appendToJournal(batch);
+      batch.forEach(update -> update.result.complete(null));
+    } catch (final Throwable t) {
+      LOG.error("Failed to write slashing protection journal", t);
+      batch.forEach(update -> update.result.completeExceptionally(t));
+      return;
+    }
+
+    if (journalEntryCount >= compactionThreshold) {
+      try {
+        compact();
+      } catch (final IOException e) {
+        // The journal is still intact so no protection is lost, compaction will be retried
+        LOG.warn("Failed to compact slashing protection journal", e);
+      }
+    }
+  }
+
+  private void appendToJournal(final List<PendingUpdate> batch) throws IOException {
+    if (journalUnusable) {
+      // Entries appended after a partial one would be ignored on replay, so start a new journal
+      compact();
+    }
+    final List<Bytes> encodedRecords = new ArrayList<>(batch.size());
+    int totalSize = 0;
+    for (PendingUpdate update : batch) {
+      final Bytes encodedRecord = update.record.toBytes();
+      encodedRecords.add(encodedRecord);
+      totalSize += ENTRY_HEADER_LENGTH + encodedRecord.size();
+    }
+    final ByteBuffer buffer = ByteBuffer.allocate(totalSize);
+    final CRC32C checksum = new CRC32C();
+    for (int i = 0; i < batch.size(); i++) {
+      final Bytes encodedRecord = encodedRecords.get(i);
+      final int entryStart = buffer.position();
+      buffer.put(batch.get(i).validator.toBytesCompressed().toArrayUnsafe());
+      buffer.putInt(encodedRecord.size());
+      checksum.reset();
+      checksum.update(buffer.array(), entryStart, CHECKSUM_OFFSET);
+      checksum.update(encodedRecord.toArrayUnsafe());
+      buffer.putInt((int) checksum.getValue());
+      buffer.put(encodedRecord.toArrayUnsafe());
+    }
+    buffer.flip();
+    final long startPosition = journal.position();
+    try {
+      while (buffer.hasRemaining()) {
+        journal.write(buffer);
+      }
+      journal.force(false);
+    } catch (final IOException e) {
+      // Remove any partially written entries, replay would otherwise stop before later entries
+      try {
+        journal.truncate(startPosition);
+        journal.position(startPosition);
+      } catch (final IOException truncateError) {
+        e.addSuppressed(truncateError);
+        journalUnusable = true;
+      }
+      throw e;
+    }
+    journalEntryCount += batch.size();
+    batch.forEach(update -> uncompactedValidators.add(update.validator));
+  }
+
+  /**
+   * Writes the current record of every validator updated since the last compaction to its signing
+   * record file and then truncates the journal.
+   *
+   * <p>The in-memory record may be ahead of what has been journaled. Persisting it early is safe as
+   * it can only cause signing to be refused, never allowed.
+   */
+  @VisibleForTesting
+  synchronized void compact() throws IOException {
+    for (BLSPublicKey validator : uncompactedValidators) {
+      writeSigningRecordFile(validator, getEntry(validator));
+    }
+    uncompactedValidators.clear();
+    journal.truncate(0);
+    journal.position(0);
+    journal.force(true);
+    journalEntryCount = 0;
+    journalUnusable = false;
+  }
+
+  /**
+   * Writes the current record of a validator to its signing record file. The lock for the validator
+   * is held while writing so that a flush and a compaction can't replace a newer record with an
+   * older one.
+   */
+  private void writeSigningRecordFile(final BLSPublicKey validator, final ValidatorEntry entry)
+      throws IOException {
+    synchronized (entry) {
+      if (entry.record != null) {
+        dataAccessor.syncedWrite(validatorRecordPath(validator), entry.record.toBytes());
+      }
+    }
+  }
+
+  private void replayJournal() throws IOException {
+    final Optional<Bytes> maybeJournalData = dataAccessor.read(journalPath);
+    if (maybeJournalData.isEmpty() || maybeJournalData.get().isEmpty()) {
+      return;
+    }
+    final Bytes journalData = maybeJournalData.get();
+    final Map<BLSPublicKey, ValidatorSigningRecord> latestRecords = new HashMap<>();
+    final CRC32C checksum = new CRC32C();
+    int offset = 0;
+    while (offset + ENTRY_HEADER_LENGTH <= journalData.size()) {
+      final int recordLength = journalData.slice(offset + PUBLIC_KEY_LENGTH, Integer.BYTES).toInt();
+      final int recordStart = offset + ENTRY_HEADER_LENGTH;
+      if (recordLength < 0 || recordLength > journalData.size() - recordStart) {
+        // Torn write from an unclean shutdown, the signature for it was never released
+        break;
+      }
+      checksum.reset();
+      checksum.update(journalData.slice(offset, CHECKSUM_OFFSET).toArrayUnsafe());
+      checksum.update(journalData.slice(recordStart, recordLength).toArrayUnsafe());
+      if (journalData.slice(offset + CHECKSUM_OFFSET, Integer.BYTES).toInt()
+          != (int) checksum.getValue()) {
+        LOG.warn(
+            "Ignoring slashing protection journal entries from offset {} which failed verification",
+            offset);
+        break;
+      }
+      latestRecords.put(
+          BLSPublicKey.fromBytesCompressed(
+              Bytes48.wrap(journalData.slice(offset, PUBLIC_KEY_LENGTH))),
+          ValidatorSigningRecord.fromBytes(journalData.slice(recordStart, recordLength)));
+      offset = recordStart + recordLength;
+    }
+    LOG.info(
+        "Replaying {} slashing protection record updates from journal", latestRecords.size());
+    for (Map.Entry<BLSPublicKey, ValidatorSigningRecord> latest : latestRecords.entrySet()) {
+      getEntry(latest.getKey()).record = latest.getValue();
+      dataAccessor.syncedWrite(validatorRecordPath(latest.getKey()), latest.getValue().toBytes());
+    }
+    Files.delete(journalPath);
+  }
+
+  private Path validatorRecordPath(final BLSPublicKey validator) {
+    return slashingProtectionBaseDir.resolve(
+        validator.toBytesCompressed().toUnprefixedHexString() + ".yml");
+  }
+
+  private class ValidatorEntry {
+    private ValidatorSigningRecord record;
+
+    private Optional<ValidatorSigningRecord> load(final BLSPublicKey validator)
+        throws IOException {
+      if (record == null) {
+        record =
+            dataAccessor
+                .read(validatorRecordPath(validator))
+                .map(ValidatorSigningRecord::fromBytes)
+                .orElse(null);
+      }
+      return Optional.ofNullable(record);
+    }
+
+    private ValidatorSigningRecord loadOrCreate(
+        final BLSPublicKey validator, final Bytes32 genesisValidatorsRoot) throws IOException {
+      return load(validator).orElseGet(() -> new ValidatorSigningRecord(genesisValidatorsRoot));
+    }
+  }
+
+  private static class PendingUpdate {
+    private final BLSPublicKey validator;
+    private final ValidatorSigningRecord record;
+    private final SafeFuture<Void> result = new SafeFuture<>();
+
+    private PendingUpdate(final BLSPublicKey validator, final ValidatorSigningRecord record) {
+      this.validator = validator;
+      this.record = record;
+    }
+  }
+}
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.spec.signatures;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
@@ -33,4 +34,10 @@ public interface SlashingProtector {
 
   Optional<ValidatorSigningRecord> getSigningRecord(final BLSPublicKey validator)
       throws IOException;
+
+  /**
+   * Ensures the signing record files of the given validators include every signature approved so
+   * far, so they can be read directly, e.g. to export slashing protection data.
+   */
+  default void flushSigningRecords(final Collection<BLSPublicKey> validators) throws IOException {}
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes48;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class PersistentPubKeyCacheTest {
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createDefault());
+  private final BeaconState state = dataStructureUtil.randomBeaconState(32);
+
+  @TempDir Path tempDir;
+
+  @Test
+  void load_shouldBeEmptyWhenFileDoesNotExist() {
+    final PersistentPubKeyCache cache = PersistentPubKeyCache.load(tempDir.resolve("pubkeys"));
+
+    assertThat(cache.getRegistryLength()).isZero();
+    assertThat(cache.getValidatorIndex(getPubkeyBytes(0))).isEmpty();
+    assertThat(cache.getPublicKey(0, getPubkeyBytes(0))).isEmpty();
+  }
+
+  @Test
+  void load_shouldIgnoreInvalidFile() throws IOException {
+    final Path file = tempDir.resolve("pubkeys");
+    Files.write(file, Bytes.random(PersistentPubKeyCache.HEADER_SIZE * 2).toArrayUnsafe());
+
+    final PersistentPubKeyCache cache = PersistentPubKeyCache.load(file);
+    assertThat(cache.getRegistryLength()).isZero();
+
+    // And is replaced on the next update
+    cache.update(state);
+    assertThat(PersistentPubKeyCache.load(file).getRegistryLength())
+        .isEqualTo(state.getValidators().size());
+  }
+
+  @Test
+  void update_shouldPersistKeysAndIndices() {
+    final Path file = tempDir.resolve("pubkeys");
+    PersistentPubKeyCache.load(file).update(state);
+
+    final PersistentPubKeyCache cache = PersistentPubKeyCache.load(file);
+    assertThat(cache.getRegistryLength()).isEqualTo(state.getValidators().size());
+    assertThat(cache.getStateRoot()).isEqualTo(state.hashTreeRoot());
+    for (int i = 0; i < state.getValidators().size(); i++) {
+      final BLSPublicKey publicKey = cache.getPublicKey(i, getPubkeyBytes(i)).orElseThrow();
+      assertThat(publicKey).isEqualTo(state.getValidators().get(i).getPublicKey());
+      assertThat(publicKey.isValid()).isTrue();
+      assertThat(cache.getValidatorIndex(getPubkeyBytes(i))).contains(i);
+    }
+    assertThat(cache.getValidatorIndex(dataStructureUtil.randomPublicKeyBytes())).isEmpty();
+  }
+
+  @Test
+  void getPublicKey_shouldNotReturnKeyWhenCompressedKeyDiffers() {
+    final Path file = tempDir.resolve("pubkeys");
+    final PersistentPubKeyCache cache = PersistentPubKeyCache.load(file);
+    cache.update(state);
+
+    assertThat(cache.getPublicKey(0, getPubkeyBytes(1))).isEmpty();
+    assertThat(cache.getPublicKey(state.getValidators().size(), getPubkeyBytes(0))).isEmpty();
+  }
+
+  @Test
+  void getPublicKey_shouldNotReturnKeyWhenUncompressedKeyIsCorrupted() throws IOException {
+    final Path file = tempDir.resolve("pubkeys");
+    PersistentPubKeyCache.load(file).update(state);
+    final int corruptedIndex = 1;
+    final int uncompressedOffset =
+        PersistentPubKeyCache.HEADER_SIZE
+            + corruptedIndex * PersistentPubKeyCache.RECORD_SIZE
+            + PersistentPubKeyCache.UNCOMPRESSED_OFFSET;
+    final byte[] data = Files.readAllBytes(file);
+    data[uncompressedOffset + 20] ^= 1;
+    Files.write(file, data);
+
+    final PersistentPubKeyCache cache = PersistentPubKeyCache.load(file);
+    assertThat(cache.getPublicKey(corruptedIndex, getPubkeyBytes(corruptedIndex))).isEmpty();
+    assertThat(cache.getPublicKey(0, getPubkeyBytes(0)))
+        .contains(state.getValidators().get(0).getPublicKey());
+  }
+
+  @Test
+  void load_shouldOnlyUseRecordsBeforeFirstRecordFailingVerification() throws IOException {
+    final Path file = tempDir.resolve("pubkeys");
+    PersistentPubKeyCache.load(file).update(state);
+    final int corruptedIndex = 5;
+    final int recordOffset =
+        PersistentPubKeyCache.HEADER_SIZE + corruptedIndex * PersistentPubKeyCache.RECORD_SIZE;
+    final byte[] data = Files.readAllBytes(file);
+    // Corrupt the compressed key, so the record could otherwise hide the validator from lookups
+    data[recordOffset + 10] ^= 1;
+    Files.write(file, data);
+
+    final PersistentPubKeyCache cache = PersistentPubKeyCache.load(file);
+    assertThat(cache.getRegistryLength()).isEqualTo(corruptedIndex);
+    assertThat(cache.getValidatorIndex(getPubkeyBytes(corruptedIndex - 1)))
+        .contains(corruptedIndex - 1);
+    assertThat(cache.getValidatorIndex(getPubkeyBytes(corruptedIndex + 1))).isEmpty();
+
+    // And the remaining records are rewritten on the next update
+    cache.update(state);
+    final PersistentPubKeyCache reloaded = PersistentPubKeyCache.load(file);
+    assertThat(reloaded.getRegistryLength()).isEqualTo(state.getValidators().size());
+    assertThat(reloaded.getValidatorIndex(getPubkeyBytes(corruptedIndex)))
+        .contains(corruptedIndex);
+  }
+
+  @Test
+  void getMatchingRegistryLength_shouldBeZeroForDifferentRegistry() {
+    final PersistentPubKeyCache cache = PersistentPubKeyCache.load(tempDir.resolve("pubkeys"));
+    cache.update(state);
+
+    assertThat(cache.getMatchingRegistryLength(state.getValidators()))
+        .isEqualTo(state.getValidators().size());
+    final BeaconState otherState = dataStructureUtil.randomBeaconState(8);
+    assertThat(cache.getMatchingRegistryLength(otherState.getValidators())).isZero();
+  }
+
+  @Test
+  void update_shouldAppendNewValidators() {
+    final Path file = tempDir.resolve("pubkeys");
+    final PersistentPubKeyCache cache = PersistentPubKeyCache.load(file);
+    cache.update(state);
+    // Build the index before the update so it's extended rather than rebuilt
+    assertThat(cache.getValidatorIndex(getPubkeyBytes(0))).contains(0);
+
+    final Validator newValidator = dataStructureUtil.randomValidator();
+    final BeaconState updatedState =
+        state.updated(mutable -> mutable.getValidators().append(newValidator));
+    final int newIndex = state.getValidators().size();
+    cache.update(updatedState);
+
+    assertThat(cache.getRegistryLength()).isEqualTo(newIndex + 1);
+    assertThat(cache.getValidatorIndex(newValidator.getPubkeyBytes())).contains(newIndex);
+    assertThat(cache.getValidatorIndex(getPubkeyBytes(0))).contains(0);
+    assertThat(
+            PersistentPubKeyCache.load(file)
+                .getPublicKey(newIndex, newValidator.getPubkeyBytes()))
+        .contains(newValidator.getPublicKey());
+  }
+
+  @Test
+  void update_shouldRebuildWhenRegistryDoesNotMatch() {
+    final Path file = tempDir.resolve("pubkeys");
+    final PersistentPubKeyCache cache = PersistentPubKeyCache.load(file);
+    cache.update(dataStructureUtil.randomBeaconState(8));
+
+    cache.update(state);
+
+    final PersistentPubKeyCache reloaded = PersistentPubKeyCache.load(file);
+    assertThat(reloaded.getRegistryLength()).isEqualTo(state.getValidators().size());
+    assertThat(reloaded.getValidatorIndex(getPubkeyBytes(3))).contains(3);
+    assertThat(tempDir.resolve("pubkeys.tmp")).doesNotExist();
+  }
+
+  @Test
+  void update_shouldDoNothingForEmptyCache() {
+    final SszList<Validator> validators = state.getValidators();
+    PersistentPubKeyCache.EMPTY.update(validators, state.hashTreeRoot());
+
+    assertThat(PersistentPubKeyCache.EMPTY.getRegistryLength()).isZero();
+  }
+
+  private Bytes48 getPubkeyBytes(final int index) {
+    return state.getValidators().get(index).getPubkeyBytes();
+  }
+}
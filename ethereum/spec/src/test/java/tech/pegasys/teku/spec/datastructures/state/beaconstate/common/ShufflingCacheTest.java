@@ -0,0 +1,106 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+class ShufflingCacheTest {
+  private static final Bytes32 SEED_1 = Bytes32.fromHexString("0x01");
+  private static final Bytes32 SEED_2 = Bytes32.fromHexString("0x02");
+  private static final int ROUNDS = 90;
+  private static final IntList INDICES = IntList.of(0, 1, 2, 3);
+  private static final IntList SHUFFLED = IntList.of(2, 0, 3, 1);
+
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final AtomicInteger shuffleCount = new AtomicInteger();
+  private final Supplier<IntList> shuffle =
+      () -> {
+        shuffleCount.incrementAndGet();
+        return SHUFFLED;
+      };
+
+  @Test
+  void get_shouldOnlyComputeShuffleOnce() {
+    final ShufflingCache cache = new ShufflingCache(metricsSystem, 1024);
+
+    assertThat(cache.get(SEED_1, ROUNDS, INDICES, shuffle)).isEqualTo(SHUFFLED);
+    assertThat(cache.get(SEED_1, ROUNDS, IntList.of(0, 1, 2, 3), shuffle)).isEqualTo(SHUFFLED);
+
+    assertThat(shuffleCount).hasValue(1);
+    assertThat(getCounterValue("shuffling_cache_misses")).isEqualTo(1);
+    assertThat(getCounterValue("shuffling_cache_hits")).isEqualTo(1);
+    assertThat(cache.getSizeBytes()).isEqualTo(2L * Integer.BYTES * INDICES.size());
+    assertThat(
+            metricsSystem
+                .getGauge(TekuMetricCategory.BEACON, "shuffling_cache_size_bytes")
+                .getValue())
+        .isEqualTo(cache.getSizeBytes());
+  }
+
+  @Test
+  void get_shouldDistinguishSeedsRoundCountsAndActiveValidators() {
+    final ShufflingCache cache = new ShufflingCache(metricsSystem, 1024);
+
+    cache.get(SEED_1, ROUNDS, INDICES, shuffle);
+    cache.get(SEED_2, ROUNDS, INDICES, shuffle);
+    cache.get(SEED_1, 10, INDICES, shuffle);
+    cache.get(SEED_1, ROUNDS, IntList.of(0, 1, 2), shuffle);
+
+    assertThat(shuffleCount).hasValue(4);
+    assertThat(cache.size()).isEqualTo(4);
+  }
+
+  @Test
+  void get_shouldEvictLeastRecentlyUsedEntriesWhenOverBudget() {
+    // Room for two entries of four indices
+    final ShufflingCache cache = new ShufflingCache(metricsSystem, 64);
+    final IntList otherIndices = IntList.of(4, 5, 6, 7);
+
+    cache.get(SEED_1, ROUNDS, INDICES, shuffle);
+    cache.get(SEED_2, ROUNDS, INDICES, shuffle);
+    // Access the first entry so the second is least recently used
+    cache.get(SEED_1, ROUNDS, INDICES, shuffle);
+    cache.get(SEED_1, ROUNDS, otherIndices, shuffle);
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getSizeBytes()).isEqualTo(64);
+    cache.get(SEED_1, ROUNDS, INDICES, shuffle);
+    assertThat(shuffleCount).hasValue(3);
+    cache.get(SEED_2, ROUNDS, INDICES, shuffle);
+    assertThat(shuffleCount).hasValue(4);
+  }
+
+  @Test
+  void clear_shouldRemoveAllEntries() {
+    final ShufflingCache cache = new ShufflingCache(metricsSystem, 1024);
+    cache.get(SEED_1, ROUNDS, INDICES, shuffle);
+
+    cache.clear();
+
+    assertThat(cache.size()).isZero();
+    assertThat(cache.getSizeBytes()).isZero();
+  }
+
+  private long getCounterValue(final String name) {
+    return metricsSystem.getCounter(TekuMetricCategory.BEACON, name).getValue();
+  }
+}
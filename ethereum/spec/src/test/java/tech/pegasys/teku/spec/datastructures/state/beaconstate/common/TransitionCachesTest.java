@@ -0,0 +1,69 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorRecords;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class TransitionCachesTest {
+
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final BeaconState state = dataStructureUtil.randomBeaconState(16);
+
+  @Test
+  void copy_shouldShareValidatorRecordsWithOriginal() {
+    final TransitionCaches caches = TransitionCaches.createNewEmpty();
+    final TransitionCaches copy = caches.copy();
+    final ValidatorRecords records = ValidatorRecords.create(state.getValidators());
+
+    copy.setValidatorRecords(records);
+
+    assertThat(caches.getValidatorRecords()).isSameAs(records);
+    assertThat(copy.copy().getValidatorRecords()).isSameAs(records);
+  }
+
+  @Test
+  void setValidatorRecords_shouldReplaceRecordsForAllStatesInLineage() {
+    final BeaconState nextEpochState =
+        state.updated(
+            mutable -> mutable.setSlot(mutable.getSlot().plus(spec.getSlotsPerEpoch(UInt64.ZERO))));
+    final TransitionCaches caches = BeaconStateCache.getTransitionCaches(state);
+    final TransitionCaches nextEpochCaches = BeaconStateCache.getTransitionCaches(nextEpochState);
+    caches.setValidatorRecords(ValidatorRecords.create(state.getValidators()));
+
+    final ValidatorRecords nextEpochRecords =
+        ValidatorRecords.create(nextEpochState.getValidators());
+    nextEpochCaches.setValidatorRecords(nextEpochRecords);
+
+    // Only one set of records is retained, however many epochs of states are held
+    assertThat(caches.getValidatorRecords()).isSameAs(nextEpochRecords);
+    assertThat(nextEpochCaches.getValidatorRecords()).isSameAs(nextEpochRecords);
+  }
+
+  @Test
+  void setValidatorRecords_shouldNotStoreRecordsInNoOpInstance() {
+    TransitionCaches.getNoOp().setValidatorRecords(ValidatorRecords.create(state.getValidators()));
+
+    assertThat(TransitionCaches.getNoOp().getValidatorRecords()).isSameAs(ValidatorRecords.EMPTY);
+  }
+}
@@ -21,8 +21,10 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Path;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -84,6 +86,21 @@ public class ValidatorIndexCacheTest {
     assertThat(validatorIndexCache.getValidatorIndices().size()).isEqualTo(11);
   }
 
+  @Test
+  public void shouldScanValidatorsHeldByPersistentCacheOfDifferentRegistry(
+      @TempDir final Path tempDir) {
+    final PersistentPubKeyCache persistentPubKeyCache =
+        PersistentPubKeyCache.load(tempDir.resolve("pubkeys"));
+    persistentPubKeyCache.update(dataStructureUtil.randomBeaconState(state.getValidators().size()));
+    final ValidatorIndexCache validatorIndexCache = new ValidatorIndexCache();
+    final BLSPublicKey foundKey =
+        BLSPublicKey.fromBytesCompressed(state.getValidators().get(10).getPubkeyBytes());
+
+    final Optional<Integer> index =
+        validatorIndexCache.getValidatorIndex(state, foundKey, persistentPubKeyCache);
+    assertThat(index).contains(10);
+  }
+
   @Test
   public void shouldFilterItemsBeyondStateIndex() {
     final ValidatorIndexCache validatorIndexCache = new ValidatorIndexCache();
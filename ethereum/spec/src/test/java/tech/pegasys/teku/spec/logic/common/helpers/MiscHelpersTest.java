@@ -99,6 +99,23 @@ class MiscHelpersTest {
         .containsExactlyElementsOf(Arrays.stream(indices).boxed().collect(Collectors.toList()));
   }
 
+  @Test
+  void shuffleList_shouldMatchShuffledIndexWhenShuffledInParallel() {
+    final SpecConfig specConfig = mock(SpecConfig.class);
+    final MiscHelpers miscHelpers = new MiscHelpers(specConfig);
+
+    when(specConfig.getShuffleRoundCount()).thenReturn(10);
+    final Bytes32 seed = Bytes32.fromHexString("0x1234");
+    final int indexCount = ListShuffler.PARALLEL_THRESHOLD + 1234;
+    final int[] indices = IntStream.range(0, indexCount).toArray();
+
+    miscHelpers.shuffleList(indices, seed);
+
+    for (int i = 0; i < indexCount; i += 97) {
+      assertThat(indices[i]).isEqualTo(miscHelpers.computeShuffledIndex(i, indexCount, seed));
+    }
+  }
+
   @ParameterizedTest(name = "n={0}")
   @MethodSource("getNValues")
   void isSlotAtNthEpochBoundary_withSkippedBlock(final int n) {
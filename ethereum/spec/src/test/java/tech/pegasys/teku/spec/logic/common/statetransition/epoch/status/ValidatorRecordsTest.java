@@ -0,0 +1,99 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch.status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class ValidatorRecordsTest {
+
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final BeaconState state = dataStructureUtil.randomBeaconState(100);
+
+  @Test
+  void create_shouldReadAllValidators() {
+    assertMatches(ValidatorRecords.create(state.getValidators()), state.getValidators());
+  }
+
+  @Test
+  void updatedFor_shouldReturnSameInstanceWhenValidatorsUnchanged() {
+    final ValidatorRecords records = ValidatorRecords.create(state.getValidators());
+    final BeaconState updatedState = state.updated(mutable -> mutable.setSlot(UInt64.ONE));
+
+    assertThat(records.updatedFor(updatedState.getValidators())).isSameAs(records);
+  }
+
+  @Test
+  void updatedFor_shouldPickUpModifiedAndAppendedValidators() {
+    final ValidatorRecords records = ValidatorRecords.create(state.getValidators());
+    final BeaconState updatedState =
+        state.updated(
+            mutable -> {
+              mutable
+                  .getValidators()
+                  .update(3, validator -> validator.withSlashed(!validator.isSlashed()));
+              mutable
+                  .getValidators()
+                  .update(57, validator -> validator.withExitEpoch(UInt64.valueOf(12)));
+              mutable
+                  .getValidators()
+                  .update(99, validator -> validator.withEffectiveBalance(UInt64.ZERO));
+              mutable.getValidators().append(dataStructureUtil.randomValidator());
+              mutable.getValidators().append(dataStructureUtil.randomValidator());
+            });
+
+    final ValidatorRecords updatedRecords = records.updatedFor(updatedState.getValidators());
+
+    assertMatches(updatedRecords, updatedState.getValidators());
+    // The original records are unchanged
+    assertMatches(records, state.getValidators());
+  }
+
+  @Test
+  void updatedFor_shouldHandleValidatorsWithoutSharedNodes() {
+    final ValidatorRecords records = ValidatorRecords.create(state.getValidators());
+    final BeaconState otherState = dataStructureUtil.randomBeaconState(120);
+
+    assertMatches(records.updatedFor(otherState.getValidators()), otherState.getValidators());
+  }
+
+  @Test
+  void updatedFor_shouldHandleFewerValidators() {
+    final ValidatorRecords records = ValidatorRecords.create(state.getValidators());
+    final BeaconState otherState = dataStructureUtil.randomBeaconState(10);
+
+    assertMatches(records.updatedFor(otherState.getValidators()), otherState.getValidators());
+  }
+
+  private void assertMatches(final ValidatorRecords records, final SszList<Validator> validators) {
+    assertThat(records.size()).isEqualTo(validators.size());
+    for (int i = 0; i < validators.size(); i++) {
+      final Validator validator = validators.get(i);
+      assertThat(records.isSlashed(i)).isEqualTo(validator.isSlashed());
+      assertThat(records.getEffectiveBalance(i)).isEqualTo(validator.getEffectiveBalance());
+      assertThat(records.getActivationEpoch(i)).isEqualTo(validator.getActivationEpoch());
+      assertThat(records.getExitEpoch(i)).isEqualTo(validator.getExitEpoch());
+      assertThat(records.getWithdrawableEpoch(i)).isEqualTo(validator.getWithdrawableEpoch());
+    }
+  }
+}
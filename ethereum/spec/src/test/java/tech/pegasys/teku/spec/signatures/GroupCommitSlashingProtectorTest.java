@@ -0,0 +1,229 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.signatures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.ethereum.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.async.DelayedExecutorAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class GroupCommitSlashingProtectorTest {
+  private static final Bytes32 GENESIS_VALIDATORS_ROOT = Bytes32.fromHexString("0x561234");
+
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createDefault());
+  private final BLSPublicKey validator = dataStructureUtil.randomPublicKey();
+
+  private final List<GroupCommitSlashingProtector> protectors = new ArrayList<>();
+
+  @TempDir Path baseDir;
+
+  @AfterEach
+  void tearDown() {
+    protectors.forEach(GroupCommitSlashingProtector::close);
+  }
+
+  @Test
+  void maySignBlock_shouldOnlyAllowIncreasingSlots() throws Exception {
+    final GroupCommitSlashingProtector protector = createProtector(10_000);
+
+    assertThat(protector.maySignBlock(validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3)))
+        .succeedsWithin(Duration.ofSeconds(5))
+        .isEqualTo(true);
+    assertThat(protector.maySignBlock(validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3)))
+        .isCompletedWithValue(false);
+    assertThat(protector.maySignBlock(validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(2)))
+        .isCompletedWithValue(false);
+    assertThat(protector.maySignBlock(validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(4)))
+        .succeedsWithin(Duration.ofSeconds(5))
+        .isEqualTo(true);
+  }
+
+  @Test
+  void maySignAttestation_shouldRejectSurroundingAndDoubleVotes() throws Exception {
+    final GroupCommitSlashingProtector protector = createProtector(10_000);
+
+    assertThat(
+            protector.maySignAttestation(
+                validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(4), UInt64.valueOf(6)))
+        .succeedsWithin(Duration.ofSeconds(5))
+        .isEqualTo(true);
+    assertThat(
+            protector.maySignAttestation(
+                validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(4), UInt64.valueOf(6)))
+        .isCompletedWithValue(false);
+    assertThat(
+            protector.maySignAttestation(
+                validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(3), UInt64.valueOf(7)))
+        .isCompletedWithValue(false);
+  }
+
+  @Test
+  void shouldReplayJournalAfterRestart() throws Exception {
+    final GroupCommitSlashingProtector protector = createProtector(10_000);
+    assertThat(protector.maySignBlock(validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(10)))
+        .succeedsWithin(Duration.ofSeconds(5))
+        .isEqualTo(true);
+
+    // Simulate an unclean shutdown by opening a second instance without closing the first
+    final GroupCommitSlashingProtector restarted = createProtector(10_000);
+    assertThat(restarted.getSigningRecord(validator))
+        .contains(
+            new ValidatorSigningRecord(
+                GENESIS_VALIDATORS_ROOT,
+                UInt64.valueOf(10),
+                ValidatorSigningRecord.NEVER_SIGNED,
+                ValidatorSigningRecord.NEVER_SIGNED));
+    assertThat(restarted.maySignBlock(validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(10)))
+        .isCompletedWithValue(false);
+  }
+
+  @Test
+  void shouldStopReplayAtFirstEntryFailingChecksum() throws Exception {
+    final BLSPublicKey otherValidator = dataStructureUtil.randomPublicKey();
+    final GroupCommitSlashingProtector protector = createProtector(10_000);
+    assertThat(protector.maySignBlock(validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(10)))
+        .succeedsWithin(Duration.ofSeconds(5))
+        .isEqualTo(true);
+    assertThat(protector.maySignBlock(otherValidator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(10)))
+        .succeedsWithin(Duration.ofSeconds(5))
+        .isEqualTo(true);
+
+    // Corrupt the record of the last entry
+    final Path journalPath = baseDir.resolve(GroupCommitSlashingProtector.JOURNAL_FILE_NAME);
+    final byte[] journalData = Files.readAllBytes(journalPath);
+    journalData[journalData.length - 2] ^= 1;
+    Files.write(journalPath, journalData);
+
+    final GroupCommitSlashingProtector restarted = createProtector(10_000);
+    assertThat(restarted.getSigningRecord(validator))
+        .contains(
+            new ValidatorSigningRecord(
+                GENESIS_VALIDATORS_ROOT,
+                UInt64.valueOf(10),
+                ValidatorSigningRecord.NEVER_SIGNED,
+                ValidatorSigningRecord.NEVER_SIGNED));
+    assertThat(restarted.getSigningRecord(otherValidator)).isEmpty();
+  }
+
+  @Test
+  void shouldCompactJournalIntoSigningRecordFiles() throws Exception {
+    final GroupCommitSlashingProtector protector = createProtector(1);
+    assertThat(
+            protector.maySignAttestation(
+                validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(4), UInt64.valueOf(6)))
+        .succeedsWithin(Duration.ofSeconds(5))
+        .isEqualTo(true);
+    protectors.remove(protector);
+    protector.close();
+
+    assertThat(baseDir.resolve(GroupCommitSlashingProtector.JOURNAL_FILE_NAME)).doesNotExist();
+    final LocalSlashingProtector localSlashingProtector =
+        new LocalSlashingProtector(SyncDataAccessor.create(baseDir), baseDir);
+    assertThat(localSlashingProtector.getSigningRecord(validator))
+        .contains(
+            new ValidatorSigningRecord(
+                GENESIS_VALIDATORS_ROOT, UInt64.ZERO, UInt64.valueOf(4), UInt64.valueOf(6)));
+  }
+
+  @Test
+  void flushSigningRecords_shouldWriteRecordsNotYetCompacted() throws Exception {
+    final GroupCommitSlashingProtector protector = createProtector(10_000);
+    assertThat(
+            protector.maySignAttestation(
+                validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(4), UInt64.valueOf(6)))
+        .succeedsWithin(Duration.ofSeconds(5))
+        .isEqualTo(true);
+
+    protector.flushSigningRecords(List.of(validator));
+
+    final LocalSlashingProtector localSlashingProtector =
+        new LocalSlashingProtector(SyncDataAccessor.create(baseDir), baseDir);
+    assertThat(localSlashingProtector.getSigningRecord(validator))
+        .contains(
+            new ValidatorSigningRecord(
+                GENESIS_VALIDATORS_ROOT, UInt64.ZERO, UInt64.valueOf(4), UInt64.valueOf(6)));
+  }
+
+  @Test
+  void shouldLoadExistingSigningRecordFiles() throws Exception {
+    final LocalSlashingProtector localSlashingProtector =
+        new LocalSlashingProtector(SyncDataAccessor.create(baseDir), baseDir);
+    assertThat(
+            localSlashingProtector.maySignBlock(
+                validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(5)))
+        .isCompletedWithValue(true);
+
+    final GroupCommitSlashingProtector protector = createProtector(10_000);
+    assertThat(protector.maySignBlock(validator, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(5)))
+        .isCompletedWithValue(false);
+  }
+
+  @Test
+  void shouldCommitConcurrentUpdatesForManyValidators() throws Exception {
+    final GroupCommitSlashingProtector protector = createProtector(50);
+    final List<BLSPublicKey> validators = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      validators.add(dataStructureUtil.randomPublicKey());
+    }
+
+    final List<SafeFuture<Boolean>> results =
+        validators.parallelStream()
+            .map(
+                key ->
+                    protector.maySignAttestation(
+                        key, GENESIS_VALIDATORS_ROOT, UInt64.valueOf(1), UInt64.valueOf(2)))
+            .toList();
+
+    assertThat(SafeFuture.collectAll(results.stream()))
+        .succeedsWithin(Duration.ofSeconds(10))
+        .satisfies(values -> assertThat(values).containsOnly(true));
+    for (BLSPublicKey key : validators) {
+      assertThat(
+              protector
+                  .getSigningRecord(key)
+                  .map(ValidatorSigningRecord::getAttestationTargetEpoch))
+          .isEqualTo(Optional.of(UInt64.valueOf(2)));
+    }
+  }
+
+  private GroupCommitSlashingProtector createProtector(final int compactionThreshold)
+      throws Exception {
+    final GroupCommitSlashingProtector protector =
+        new GroupCommitSlashingProtector(
+            SyncDataAccessor.create(baseDir),
+            baseDir,
+            DelayedExecutorAsyncRunner.create(),
+            Duration.ofMillis(1),
+            compactionThreshold);
+    protectors.add(protector);
+    return protector;
+  }
+}
@@ -14,7 +14,14 @@
 package tech.pegasys.teku.statetransition.validation.signatures;
 
 import com.google.common.collect.Streams;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -24,6 +31,7 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
@@ -38,6 +46,8 @@ import tech.pegasys.teku.bls.BLSTestUtil;
 import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.MetricTrackingExecutorFactory;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.time.SystemTimeProvider;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 
 @Fork(1)
 @State(Scope.Thread)
@@ -64,6 +74,7 @@ public class AggregatingSignatureVerificationServiceBenchmark {
           metricsSystem,
           asyncRunnerFactory,
           asyncRunnerFactory.create("completion", 10),
+          new SystemTimeProvider(),
           2,
           15_000,
           250,
@@ -71,9 +82,43 @@ public class AggregatingSignatureVerificationServiceBenchmark {
 
   private final int signaturesToVerify = 10_000;
 
+  private final Map<SignatureVerificationPriority, AsyncBLSSignatureVerifier> verifiers =
+      new EnumMap<>(SignatureVerificationPriority.class);
+  private final Map<SignatureVerificationPriority, Queue<Long>> latencies =
+      new EnumMap<>(SignatureVerificationPriority.class);
+
   @Setup
   public void setup() {
     service.start().join();
+    for (SignatureVerificationPriority priority : SignatureVerificationPriority.values()) {
+      verifiers.put(priority, service.withPriority(priority, Duration.ofSeconds(12)));
+      latencies.put(priority, new ConcurrentLinkedQueue<>());
+    }
+  }
+
+  @TearDown(Level.Iteration)
+  public void reportLatencies() {
+    latencies.forEach(
+        (priority, priorityLatencies) -> {
+          if (priorityLatencies.isEmpty()) {
+            return;
+          }
+          final List<Long> sorted = new ArrayList<>(priorityLatencies);
+          Collections.sort(sorted);
+          System.out.printf(
+              "%n%s: count=%d p50=%.1fms p99=%.1fms max=%.1fms",
+              priority,
+              sorted.size(),
+              percentileMillis(sorted, 0.5),
+              percentileMillis(sorted, 0.99),
+              percentileMillis(sorted, 1));
+          priorityLatencies.clear();
+        });
+  }
+
+  private static double percentileMillis(final List<Long> sorted, final double percentile) {
+    final int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+    return sorted.get(Math.max(0, index)) / 1_000_000.0;
   }
 
   @TearDown
@@ -95,4 +140,34 @@ public class AggregatingSignatureVerificationServiceBenchmark {
     }
     bh.consume(SafeFuture.allOf(results).join());
   }
+
+  /**
+   * Floods the service with unaggregated attestations while aggregates and block work arrive, and
+   * reports the latency of each priority at the end of each iteration.
+   */
+  @SuppressWarnings("unchecked")
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void verifyMixedLoad(Blackhole bh) {
+    final SafeFuture<Boolean>[] results = new SafeFuture[signaturesToVerify];
+    for (int i = 0; i < signaturesToVerify; i++) {
+      int idx = i % sigCnt;
+      // 80% unaggregated, 15% aggregates, 5% block work
+      final SignatureVerificationPriority priority =
+          i % 20 == 0
+              ? SignatureVerificationPriority.BLOCK
+              : i % 20 < 4
+                  ? SignatureVerificationPriority.AGGREGATE
+                  : SignatureVerificationPriority.UNAGGREGATED;
+      final Queue<Long> priorityLatencies = latencies.get(priority);
+      final long start = System.nanoTime();
+      results[i] =
+          verifiers
+              .get(priority)
+              .verify(keyPairs.get(idx).getPublicKey(), messages.get(idx), signatures.get(idx))
+              .thenPeek(__ -> priorityLatencies.add(System.nanoTime() - start));
+    }
+    bh.consume(SafeFuture.allOf(results).join());
+  }
 }
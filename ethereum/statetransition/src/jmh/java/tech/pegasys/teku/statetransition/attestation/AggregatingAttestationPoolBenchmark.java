@@ -0,0 +1,113 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.attestation;
+
+import static tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool.DEFAULT_MAXIMUM_ATTESTATION_COUNT;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/**
+ * Floods the pool with unaggregated attestations from 1M validators across many gossip threads,
+ * while aggregators concurrently create aggregates for the latest slot.
+ */
+@Fork(1)
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class AggregatingAttestationPoolBenchmark {
+  private static final int VALIDATOR_COUNT = 1_000_000;
+  private static final int COMMITTEES_PER_SLOT = 64;
+
+  private final Spec spec = TestSpecFactory.createMainnetDeneb();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final AttestationSchema attestationSchema =
+      spec.getGenesisSchemaDefinitions().getAttestationSchema();
+  private final int committeeSize =
+      VALIDATOR_COUNT / spec.getGenesisSpecConfig().getSlotsPerEpoch() / COMMITTEES_PER_SLOT;
+  private final int attestationsPerSlot = committeeSize * COMMITTEES_PER_SLOT;
+  // Signatures aren't verified, so all attestations can share one
+  private final BLSSignature signature = dataStructureUtil.randomSignature();
+  private final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+  private final Checkpoint source = dataStructureUtil.randomCheckpoint();
+
+  private final AggregatingAttestationPool pool =
+      new AggregatingAttestationPool(
+          spec, new NoOpMetricsSystem(), DEFAULT_MAXIMUM_ATTESTATION_COUNT);
+  private final AtomicLong nextAttestation = new AtomicLong();
+
+  @Benchmark
+  @Group("flood")
+  @GroupThreads(15)
+  public void add() {
+    final long attestationIndex = nextAttestation.getAndIncrement();
+    final int position = (int) (attestationIndex % attestationsPerSlot);
+    final AttestationData data =
+        createAttestationData(attestationIndex / attestationsPerSlot, position / committeeSize);
+    pool.add(
+        ValidatableAttestation.from(
+            spec,
+            attestationSchema.create(
+                attestationSchema
+                    .getAggregationBitsSchema()
+                    .ofBits(committeeSize, position % committeeSize),
+                data,
+                signature)));
+  }
+
+  @Benchmark
+  @Group("flood")
+  @GroupThreads(1)
+  public void createAggregate(final Blackhole bh) {
+    final long slot = nextAttestation.get() / attestationsPerSlot;
+    final int committeeIndex = ThreadLocalRandom.current().nextInt(COMMITTEES_PER_SLOT);
+    bh.consume(pool.createAggregateFor(createAttestationData(slot, committeeIndex).hashTreeRoot()));
+  }
+
+  private AttestationData createAttestationData(final long slot, final int committeeIndex) {
+    final UInt64 attestationSlot = UInt64.valueOf(slot);
+    return new AttestationData(
+        attestationSlot,
+        UInt64.valueOf(committeeIndex),
+        blockRoot,
+        source,
+        new Checkpoint(spec.computeEpochAtSlot(attestationSlot), blockRoot));
+  }
+}
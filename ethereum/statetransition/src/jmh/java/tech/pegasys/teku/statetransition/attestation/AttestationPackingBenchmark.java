@@ -0,0 +1,215 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.attestation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/**
+ * Selects the attestations for a block from a full pool, comparing max-coverage packing with taking
+ * the largest aggregates of the most recent groups.
+ *
+ * <p>A pool recorded from mainnet can be used by setting {@value #STATE_FILE_PROPERTY} to the SSZ
+ * of the state at the block slot and {@value #ATTESTATIONS_FILE_PROPERTY} to the SSZ of the pool's
+ * attestations as a list. Otherwise a synthetic pool is generated, with mostly unaggregated
+ * attestations and a few overlapping aggregates for each committee of the last epoch.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class AttestationPackingBenchmark {
+  static final String STATE_FILE_PROPERTY = "teku.benchmark.attestationPool.state";
+  static final String ATTESTATIONS_FILE_PROPERTY = "teku.benchmark.attestationPool.attestations";
+
+  private static final int VALIDATOR_COUNT = 16_384;
+  private static final UInt64 STATE_SLOT = UInt64.valueOf(80);
+  private static final int AGGREGATES_PER_COMMITTEE = 16;
+
+  @Param({"50", "1000"})
+  long timeBudgetMillis;
+
+  private final Spec spec = TestSpecFactory.createMainnetDeneb();
+  private final AttestationSchema attestationSchema =
+      spec.getGenesisSchemaDefinitions().getAttestationSchema();
+  private final int maxAttestations = spec.getGenesisSpecConfig().getMaxAttestations();
+
+  private BeaconState state;
+  private List<MatchingDataAttestationGroup> groups;
+  private MaxCoverageAttestationPacker packer;
+
+  @Setup
+  public void setup() throws IOException {
+    final String stateFile = System.getProperty(STATE_FILE_PROPERTY);
+    final String attestationsFile = System.getProperty(ATTESTATIONS_FILE_PROPERTY);
+    final List<Attestation> attestations;
+    if (stateFile != null && attestationsFile != null) {
+      state = spec.deserializeBeaconState(Bytes.wrap(Files.readAllBytes(Path.of(stateFile))));
+      final SszList<Attestation> recordedAttestations =
+          SszListSchema.create(attestationSchema, 1L << 24)
+              .sszDeserialize(Bytes.wrap(Files.readAllBytes(Path.of(attestationsFile))));
+      attestations = recordedAttestations.asList();
+    } else {
+      state = createSyntheticState();
+      attestations = createSyntheticAttestations();
+    }
+
+    final Map<Bytes32, MatchingDataAttestationGroup> groupsByDataRoot = new LinkedHashMap<>();
+    attestations.forEach(
+        attestation ->
+            groupsByDataRoot
+                .computeIfAbsent(
+                    attestation.getData().hashTreeRoot(),
+                    __ -> new MatchingDataAttestationGroup(spec, attestation.getData()))
+                .add(ValidatableAttestation.from(spec, attestation)));
+    // Match the order and validity checks of the pool
+    groups =
+        groupsByDataRoot.values().stream()
+            .filter(group -> group.getAttestationData().getSlot().isLessThan(state.getSlot()))
+            .filter(group -> spec.validateAttestation(state, group.getAttestationData()).isEmpty())
+            .sorted(
+                Comparator.comparing(
+                        (MatchingDataAttestationGroup group) ->
+                            group.getAttestationData().getSlot())
+                    .reversed())
+            .toList();
+    packer =
+        new MaxCoverageAttestationPacker(
+            spec, System::nanoTime, Duration.ofMillis(timeBudgetMillis));
+  }
+
+  @Benchmark
+  public void maxCoverage(final Blackhole bh) {
+    bh.consume(packer.pack(state, groups.iterator(), maxAttestations, maxAttestations));
+  }
+
+  @Benchmark
+  public void largestAggregatesFirst(final Blackhole bh) {
+    bh.consume(
+        groups.stream()
+            .flatMap(MatchingDataAttestationGroup::stream)
+            .limit(maxAttestations)
+            .map(ValidatableAttestation::getAttestation)
+            .toList());
+  }
+
+  private BeaconState createSyntheticState() {
+    final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+    return dataStructureUtil
+        .randomBeaconState(VALIDATOR_COUNT)
+        .updated(
+            mutable -> {
+              mutable.setSlot(STATE_SLOT);
+              for (int i = 0; i < VALIDATOR_COUNT; i++) {
+                mutable
+                    .getValidators()
+                    .set(i, mutable.getValidators().get(i).withActivationEpoch(UInt64.ZERO));
+              }
+            });
+  }
+
+  private List<Attestation> createSyntheticAttestations() {
+    final Random random = new Random(1);
+    // Signatures aren't verified, so all attestations can share one
+    final BLSSignature signature = new DataStructureUtil(spec).randomSignature();
+    final UInt64 currentEpoch = spec.getCurrentEpoch(state);
+    final int slotsPerEpoch = spec.getGenesisSpecConfig().getSlotsPerEpoch();
+    return IntStream.range(1, slotsPerEpoch + 1)
+        .mapToObj(slotsAgo -> STATE_SLOT.minus(slotsAgo))
+        .flatMap(
+            slot -> {
+              final UInt64 epoch = spec.computeEpochAtSlot(slot);
+              final Checkpoint source =
+                  epoch.equals(currentEpoch)
+                      ? state.getCurrentJustifiedCheckpoint()
+                      : state.getPreviousJustifiedCheckpoint();
+              final Checkpoint target = new Checkpoint(epoch, spec.getBlockRoot(state, epoch));
+              return IntStream.range(0, spec.getCommitteeCountPerSlot(state, epoch).intValue())
+                  .mapToObj(
+                      committeeIndex ->
+                          new AttestationData(
+                              slot,
+                              UInt64.valueOf(committeeIndex),
+                              spec.getBlockRootAtSlot(state, slot),
+                              source,
+                              target));
+            })
+        .flatMap(
+            data -> {
+              final int committeeSize =
+                  spec.getBeaconCommittee(state, data.getSlot(), data.getIndex()).size();
+              // Most of the committee attests individually, then aggregators each cover about half
+              final Stream<int[]> unaggregated =
+                  IntStream.range(0, committeeSize)
+                      .filter(__ -> random.nextInt(10) != 0)
+                      .mapToObj(position -> new int[] {position});
+              final Stream<int[]> aggregates =
+                  Stream.generate(
+                          () ->
+                              IntStream.range(0, committeeSize)
+                                  .filter(__ -> random.nextBoolean())
+                                  .toArray())
+                      .limit(AGGREGATES_PER_COMMITTEE);
+              return Stream.concat(unaggregated, aggregates)
+                  .map(
+                      positions ->
+                          attestationSchema.create(
+                              attestationSchema
+                                  .getAggregationBitsSchema()
+                                  .ofBits(committeeSize, positions),
+                              data,
+                              signature));
+            })
+        .toList();
+  }
+}
@@ -14,20 +14,27 @@
 package tech.pegasys.teku.statetransition.attestation;
 
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import tech.pegasys.teku.ethereum.events.SlotEventsChannel;
 import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
@@ -46,6 +53,16 @@ import tech.pegasys.teku.spec.logic.common.statetransition.attestation.Attestati
  * or as an aggregate to publish as part of the naive attestation aggregation algorithm. In both
  * cases the returned attestations are aggregated to maximise the number of validators that can be
  * included.
+ *
+ * <p>From Altair, attestations for a block are chosen by {@link MaxCoverageAttestationPacker} to
+ * maximise the reward for the participation flags they set rather than the number of validators.
+ *
+ * <p>The pool is indexed by slot and attestation data root in concurrent maps, and each {@link
+ * MatchingDataAttestationGroup} synchronizes its own updates, so attestations for different data
+ * are added in parallel. Readers take no locks: block production and aggregation work from the
+ * snapshot each group keeps for readers, so they don't stop ingestion while aggregating. Dropping
+ * whole slots takes the write side of a lock which adding holds the read side of, so an
+ * attestation is never added to a group as it is dropped.
  */
 public class AggregatingAttestationPool implements SlotEventsChannel {
   /**
@@ -71,43 +88,83 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
   public static final int DEFAULT_MAXIMUM_ATTESTATION_COUNT = 40_000;
 
   private final Map<Bytes, MatchingDataAttestationGroup> attestationGroupByDataHash =
-      new HashMap<>();
-  private final NavigableMap<UInt64, Set<Bytes>> dataHashBySlot = new TreeMap<>();
+      new ConcurrentHashMap<>();
+  private final NavigableMap<UInt64, Set<Bytes>> dataHashBySlot = new ConcurrentSkipListMap<>();
+  private final ReadWriteLock pruneLock = new ReentrantReadWriteLock();
 
   private final Spec spec;
+  private final MaxCoverageAttestationPacker attestationPacker;
   private final AtomicInteger size = new AtomicInteger(0);
   private final SettableGauge sizeGauge;
+  private final LabelledMetric<OperationTimer> operationTimer;
+  private final Counter lockContentionCounter;
   private final int maximumAttestationCount;
 
   public AggregatingAttestationPool(
       final Spec spec, final MetricsSystem metricsSystem, final int maximumAttestationCount) {
     this.spec = spec;
+    this.attestationPacker = new MaxCoverageAttestationPacker(spec);
     this.sizeGauge =
         SettableGauge.create(
             metricsSystem,
             TekuMetricCategory.BEACON,
             "attestation_pool_size",
             "The number of attestations available to be included in proposed blocks");
+    this.operationTimer =
+        metricsSystem.createLabelledTimer(
+            TekuMetricCategory.BEACON,
+            "attestation_pool_operation_duration",
+            "Time taken by attestation pool operations",
+            "operation");
+    this.lockContentionCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "attestation_pool_lock_contention_count",
+            "Number of times an attestation pool operation waited for the pool lock");
     this.maximumAttestationCount = maximumAttestationCount;
   }
 
-  public synchronized void add(final ValidatableAttestation attestation) {
-    final AttestationData attestationData = attestation.getAttestation().getData();
-    final boolean add = getOrCreateAttestationGroup(attestationData).add(attestation);
-    if (add) {
-      updateSize(1);
+  public void add(final ValidatableAttestation attestation) {
+    final OperationTimer.TimingContext timingContext = operationTimer.labels("add").startTimer();
+    try {
+      final AttestationData attestationData = attestation.getAttestation().getData();
+      lock(pruneLock.readLock());
+      try {
+        // Update the size under the lock so a prune can't remove the group before it is counted
+        if (getOrCreateAttestationGroup(attestationData).add(attestation)) {
+          updateSize(1);
+        }
+      } finally {
+        pruneLock.readLock().unlock();
+      }
+      if (size.get() > maximumAttestationCount) {
+        lock(pruneLock.writeLock());
+        try {
+          // Always keep the latest slot attestations so we don't discard everything
+          while (dataHashBySlot.size() > 1 && size.get() > maximumAttestationCount) {
+            final UInt64 firstSlotToKeep = dataHashBySlot.firstKey().plus(1);
+            removeAttestationsPriorToSlot(firstSlotToKeep);
+          }
+        } finally {
+          pruneLock.writeLock().unlock();
+        }
+      }
+    } finally {
+      timingContext.stopTimer();
     }
-    // Always keep the latest slot attestations so we don't discard everything
-    while (dataHashBySlot.size() > 1 && size.get() > maximumAttestationCount) {
-      final UInt64 firstSlotToKeep = dataHashBySlot.firstKey().plus(1);
-      removeAttestationsPriorToSlot(firstSlotToKeep);
+  }
+
+  private void lock(final Lock lock) {
+    if (!lock.tryLock()) {
+      lockContentionCounter.inc();
+      lock.lock();
     }
   }
 
   private MatchingDataAttestationGroup getOrCreateAttestationGroup(
       final AttestationData attestationData) {
     dataHashBySlot
-        .computeIfAbsent(attestationData.getSlot(), slot -> new HashSet<>())
+        .computeIfAbsent(attestationData.getSlot(), slot -> ConcurrentHashMap.newKeySet())
         .add(attestationData.hashTreeRoot());
     return attestationGroupByDataHash.computeIfAbsent(
         attestationData.hashTreeRoot(),
@@ -115,12 +172,17 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
   }
 
   @Override
-  public synchronized void onSlot(final UInt64 slot) {
+  public void onSlot(final UInt64 slot) {
     if (slot.compareTo(ATTESTATION_RETENTION_SLOTS) <= 0) {
       return;
     }
     final UInt64 firstValidAttestationSlot = slot.minus(ATTESTATION_RETENTION_SLOTS);
-    removeAttestationsPriorToSlot(firstValidAttestationSlot);
+    lock(pruneLock.writeLock());
+    try {
+      removeAttestationsPriorToSlot(firstValidAttestationSlot);
+    } finally {
+      pruneLock.writeLock().unlock();
+    }
   }
 
   private void removeAttestationsPriorToSlot(final UInt64 firstValidAttestationSlot) {
@@ -130,16 +192,22 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
         .flatMap(Set::stream)
         .forEach(
             key -> {
-              final int removed = attestationGroupByDataHash.get(key).size();
-              attestationGroupByDataHash.remove(key);
-              updateSize(-removed);
+              final MatchingDataAttestationGroup removed = attestationGroupByDataHash.remove(key);
+              if (removed != null) {
+                updateSize(-removed.size());
+              }
             });
     dataHashesToRemove.clear();
   }
 
-  public synchronized void onAttestationsIncludedInBlock(
+  public void onAttestationsIncludedInBlock(
       final UInt64 slot, final Iterable<Attestation> attestations) {
-    attestations.forEach(attestation -> onAttestationIncludedInBlock(slot, attestation));
+    lock(pruneLock.readLock());
+    try {
+      attestations.forEach(attestation -> onAttestationIncludedInBlock(slot, attestation));
+    } finally {
+      pruneLock.readLock().unlock();
+    }
   }
 
   private void onAttestationIncludedInBlock(final UInt64 slot, final Attestation attestation) {
@@ -154,11 +222,24 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
     sizeGauge.set(currentSize);
   }
 
-  public synchronized int getSize() {
+  public int getSize() {
     return size.get();
   }
 
-  public synchronized SszList<Attestation> getAttestationsForBlock(
+  public SszList<Attestation> getAttestationsForBlock(
+      final BeaconState stateAtBlockSlot,
+      final AttestationForkChecker forkChecker,
+      final AttestationWorthinessChecker worthinessChecker) {
+    final OperationTimer.TimingContext timingContext =
+        operationTimer.labels("get_attestations_for_block").startTimer();
+    try {
+      return selectAttestationsForBlock(stateAtBlockSlot, forkChecker, worthinessChecker);
+    } finally {
+      timingContext.stopTimer();
+    }
+  }
+
+  private SszList<Attestation> selectAttestationsForBlock(
       final BeaconState stateAtBlockSlot,
       final AttestationForkChecker forkChecker,
       final AttestationWorthinessChecker worthinessChecker) {
@@ -171,19 +252,21 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
             .getBeaconBlockBodySchema()
             .getAttestationsSchema();
 
+    if (attestationPacker.isSupported(stateAtBlockSlot)) {
+      final Iterator<MatchingDataAttestationGroup> groups =
+          streamIncludableGroups(stateAtBlockSlot, forkChecker, worthinessChecker).iterator();
+      return attestationPacker
+          .pack(
+              stateAtBlockSlot,
+              groups,
+              Math.toIntExact(attestationsSchema.getMaxLength()),
+              previousEpochLimit)
+          .stream()
+          .collect(attestationsSchema.collector());
+    }
+
     final AtomicInteger prevEpochCount = new AtomicInteger(0);
-    return dataHashBySlot
-        // We can immediately skip any attestations from the block slot or later
-        .headMap(stateAtBlockSlot.getSlot(), false)
-        .descendingMap()
-        .values()
-        .stream()
-        .flatMap(Collection::stream)
-        .map(attestationGroupByDataHash::get)
-        .filter(Objects::nonNull)
-        .filter(group -> isValid(stateAtBlockSlot, group.getAttestationData()))
-        .filter(forkChecker::areAttestationsFromCorrectFork)
-        .filter(group -> worthinessChecker.areAttestationsWorthy(group.getAttestationData()))
+    return streamIncludableGroups(stateAtBlockSlot, forkChecker, worthinessChecker)
         .flatMap(MatchingDataAttestationGroup::stream)
         .limit(attestationsSchema.getMaxLength())
         .map(ValidatableAttestation::getAttestation)
@@ -198,7 +281,25 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
         .collect(attestationsSchema.collector());
   }
 
-  public synchronized List<Attestation> getAttestations(
+  private Stream<MatchingDataAttestationGroup> streamIncludableGroups(
+      final BeaconState stateAtBlockSlot,
+      final AttestationForkChecker forkChecker,
+      final AttestationWorthinessChecker worthinessChecker) {
+    return dataHashBySlot
+        // We can immediately skip any attestations from the block slot or later
+        .headMap(stateAtBlockSlot.getSlot(), false)
+        .descendingMap()
+        .values()
+        .stream()
+        .flatMap(Collection::stream)
+        .map(attestationGroupByDataHash::get)
+        .filter(Objects::nonNull)
+        .filter(group -> isValid(stateAtBlockSlot, group.getAttestationData()))
+        .filter(forkChecker::areAttestationsFromCorrectFork)
+        .filter(group -> worthinessChecker.areAttestationsWorthy(group.getAttestationData()));
+  }
+
+  public List<Attestation> getAttestations(
       final Optional<UInt64> maybeSlot, final Optional<UInt64> maybeCommitteeIndex) {
     final Predicate<Map.Entry<UInt64, Set<Bytes>>> filterForSlot =
         (entry) -> maybeSlot.map(slot -> entry.getKey().equals(slot)).orElse(true);
@@ -226,13 +327,19 @@ public class AggregatingAttestationPool implements SlotEventsChannel {
     return spec.validateAttestation(stateAtBlockSlot, attestationData).isEmpty();
   }
 
-  public synchronized Optional<ValidatableAttestation> createAggregateFor(
+  public Optional<ValidatableAttestation> createAggregateFor(
       final Bytes32 attestationHashTreeRoot) {
-    return Optional.ofNullable(attestationGroupByDataHash.get(attestationHashTreeRoot))
-        .flatMap(attestations -> attestations.stream().findFirst());
+    final OperationTimer.TimingContext timingContext =
+        operationTimer.labels("create_aggregate").startTimer();
+    try {
+      return Optional.ofNullable(attestationGroupByDataHash.get(attestationHashTreeRoot))
+          .flatMap(attestations -> attestations.stream().findFirst());
+    } finally {
+      timingContext.stopTimer();
+    }
   }
 
-  public synchronized void onReorg(final UInt64 commonAncestorSlot) {
+  public void onReorg(final UInt64 commonAncestorSlot) {
     attestationGroupByDataHash.values().forEach(group -> group.onReorg(commonAncestorSlot));
   }
 }
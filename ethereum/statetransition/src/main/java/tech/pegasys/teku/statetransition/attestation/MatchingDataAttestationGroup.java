@@ -17,6 +17,7 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
@@ -40,6 +41,10 @@ import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
  * Aggregation starts with the attestation that already includes the most validators then continues
  * adding attestations in order of the number of validators they contain.
  *
+ * <p>Updates are synchronized on the group. Iteration works from a snapshot of the attestations
+ * and included validators, which is taken on first use after the group changes and then shared by
+ * readers until the next change, so aggregation never blocks attestations being added.
+ *
  * <p>Note that the resulting aggregate will be invalid if attestations with different
  * AttestationData are added.
  */
@@ -49,7 +54,7 @@ class MatchingDataAttestationGroup implements Iterable<ValidatableAttestation> {
       new TreeMap<>(Comparator.reverseOrder()); // Most validators first
 
   private final Spec spec;
-  private Optional<Bytes32> committeeShufflingSeed = Optional.empty();
+  private volatile Optional<Bytes32> committeeShufflingSeed = Optional.empty();
   private final AttestationData attestationData;
 
   /**
@@ -69,6 +74,9 @@ class MatchingDataAttestationGroup implements Iterable<ValidatableAttestation> {
   /** Precalculated combined list of included validators across all blocks. */
   private SszBitlist includedValidators;
 
+  /** Contents of the group as seen by readers, or null if it has changed since last read. */
+  private volatile Snapshot snapshot;
+
   public MatchingDataAttestationGroup(final Spec spec, final AttestationData attestationData) {
     this.spec = spec;
     this.attestationData = attestationData;
@@ -93,7 +101,7 @@ class MatchingDataAttestationGroup implements Iterable<ValidatableAttestation> {
    * @param attestation the attestation to add
    * @return True if the attestation was added, false otherwise
    */
-  public boolean add(final ValidatableAttestation attestation) {
+  public synchronized boolean add(final ValidatableAttestation attestation) {
     if (includedValidators.isSuperSetOf(attestation.getAttestation().getAggregationBits())) {
       // All attestation bits have already been included on chain
       return false;
@@ -101,11 +109,16 @@ class MatchingDataAttestationGroup implements Iterable<ValidatableAttestation> {
     if (committeeShufflingSeed.isEmpty()) {
       committeeShufflingSeed = attestation.getCommitteeShufflingSeed();
     }
-    return attestationsByValidatorCount
-        .computeIfAbsent(
-            attestation.getAttestation().getAggregationBits().getBitCount(),
-            count -> new HashSet<>())
-        .add(attestation);
+    final boolean added =
+        attestationsByValidatorCount
+            .computeIfAbsent(
+                attestation.getAttestation().getAggregationBits().getBitCount(),
+                count -> new HashSet<>())
+            .add(attestation);
+    if (added) {
+      snapshot = null;
+    }
+    return added;
   }
 
   /**
@@ -120,23 +133,55 @@ class MatchingDataAttestationGroup implements Iterable<ValidatableAttestation> {
    */
   @Override
   public Iterator<ValidatableAttestation> iterator() {
-    return new AggregatingIterator();
+    return new AggregatingIterator(getSnapshot());
   }
 
   public Stream<ValidatableAttestation> stream() {
     return StreamSupport.stream(spliterator(), false);
   }
 
+  /**
+   * Streams the attestations added to this group as they were received, without aggregating them,
+   * skipping any whose validators have all been included on chain.
+   *
+   * @return the attestations in this group, most validators first
+   */
+  public Stream<ValidatableAttestation> streamUnaggregated() {
+    final Snapshot current = getSnapshot();
+    return current.attestations().stream()
+        .filter(
+            candidate ->
+                !current
+                    .includedValidators()
+                    .isSuperSetOf(candidate.getAttestation().getAggregationBits()));
+  }
+
+  private Snapshot getSnapshot() {
+    final Snapshot current = snapshot;
+    if (current != null) {
+      return current;
+    }
+    synchronized (this) {
+      if (snapshot == null) {
+        snapshot =
+            new Snapshot(
+                attestationsByValidatorCount.values().stream().flatMap(Set::stream).toList(),
+                includedValidators);
+      }
+      return snapshot;
+    }
+  }
+
   /**
    * Returns true if there are no attestations in this group.
    *
    * @return true if this group is empty.
    */
-  public boolean isEmpty() {
+  public synchronized boolean isEmpty() {
     return attestationsByValidatorCount.isEmpty();
   }
 
-  public int size() {
+  public synchronized int size() {
     return attestationsByValidatorCount.values().stream().map(Set::size).reduce(0, Integer::sum);
   }
 
@@ -148,7 +193,8 @@ class MatchingDataAttestationGroup implements Iterable<ValidatableAttestation> {
    *
    * @param attestation the attestation to logically remove from the pool.
    */
-  public int onAttestationIncludedInBlock(final UInt64 slot, final Attestation attestation) {
+  public synchronized int onAttestationIncludedInBlock(
+      final UInt64 slot, final Attestation attestation) {
     // Record validators in attestation as seen in this slot
     // Important to do even if the attestation is redundant so we handle re-orgs correctly
     includedValidatorsBySlot.merge(slot, attestation.getAggregationBits(), SszBitlist::or);
@@ -158,6 +204,7 @@ class MatchingDataAttestationGroup implements Iterable<ValidatableAttestation> {
       return 0;
     }
     includedValidators = includedValidators.or(attestation.getAggregationBits());
+    snapshot = null;
 
     final Collection<Set<ValidatableAttestation>> attestationSets =
         attestationsByValidatorCount.values();
@@ -179,7 +226,7 @@ class MatchingDataAttestationGroup implements Iterable<ValidatableAttestation> {
     return numRemoved;
   }
 
-  public void onReorg(final UInt64 commonAncestorSlot) {
+  public synchronized void onReorg(final UInt64 commonAncestorSlot) {
     final NavigableMap<UInt64, SszBitlist> removedSlots =
         includedValidatorsBySlot.tailMap(commonAncestorSlot, false);
     if (removedSlots.isEmpty()) {
@@ -192,14 +239,24 @@ class MatchingDataAttestationGroup implements Iterable<ValidatableAttestation> {
     includedValidators =
         includedValidatorsBySlot.values().stream()
             .reduce(createEmptyAggregationBits(), SszBitlist::or);
+    snapshot = null;
   }
 
   public boolean matchesCommitteeShufflingSeed(final Set<Bytes32> validSeeds) {
     return committeeShufflingSeed.map(validSeeds::contains).orElse(false);
   }
 
+  private record Snapshot(
+      List<ValidatableAttestation> attestations, SszBitlist includedValidators) {}
+
   private class AggregatingIterator implements Iterator<ValidatableAttestation> {
-    private SszBitlist includedValidators = MatchingDataAttestationGroup.this.includedValidators;
+    private final List<ValidatableAttestation> attestations;
+    private SszBitlist includedValidators;
+
+    private AggregatingIterator(final Snapshot snapshot) {
+      this.attestations = snapshot.attestations();
+      this.includedValidators = snapshot.includedValidators();
+    }
 
     @Override
     public boolean hasNext() {
@@ -224,8 +281,7 @@ class MatchingDataAttestationGroup implements Iterable<ValidatableAttestation> {
     }
 
     public Stream<ValidatableAttestation> streamRemainingAttestations() {
-      return attestationsByValidatorCount.values().stream()
-          .flatMap(Set::stream)
+      return attestations.stream()
           .filter(
               candidate ->
                   !includedValidators.isSuperSetOf(
@@ -0,0 +1,338 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.attestation;
+
+import static tech.pegasys.teku.spec.logic.versions.altair.helpers.MiscHelpersAltair.PARTICIPATION_FLAG_WEIGHTS;
+
+import it.unimi.dsi.fastutil.ints.Int2ByteMap;
+import it.unimi.dsi.fastutil.ints.Int2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.LongSupplier;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
+import tech.pegasys.teku.spec.logic.versions.altair.helpers.BeaconStateAccessorsAltair;
+
+/**
+ * Selects the attestations to include in a block so as to maximise the reward they earn.
+ *
+ * <p>Each attestation in the pool is a candidate, weighed by the reward for the participation flags
+ * it would newly set given the flags already recorded in the pre-state and those set by the
+ * candidates selected before it. Picking candidates is then a weighted max-coverage problem, which
+ * is solved with the lazy greedy algorithm: candidates are kept in order of their last computed
+ * gain and only the one at the front is recomputed, as gains can only fall as more candidates are
+ * selected. A candidate whose validators are disjoint from an aggregate already selected from the
+ * same group is merged into it rather than taking another place in the block.
+ *
+ * <p>Aggregates are planned from aggregation bits alone, so signatures are only aggregated once
+ * selection is complete. Scoring is limited to a time budget. Once it is spent,
+ * the remaining candidates are taken in order of their last computed gain, and any groups which
+ * weren't scored fill the remaining space in the order they are provided.
+ *
+ * <p>Participation flags only exist from Altair, so earlier states aren't supported.
+ */
+class MaxCoverageAttestationPacker {
+  static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(50);
+
+  // Total weight of the flags in each combination of participation flags
+  private static final long[] FLAG_WEIGHTS = new long[1 << PARTICIPATION_FLAG_WEIGHTS.size()];
+
+  static {
+    for (int flags = 0; flags < FLAG_WEIGHTS.length; flags++) {
+      for (int flagIndex = 0; flagIndex < PARTICIPATION_FLAG_WEIGHTS.size(); flagIndex++) {
+        if ((flags & (1 << flagIndex)) != 0) {
+          FLAG_WEIGHTS[flags] += PARTICIPATION_FLAG_WEIGHTS.get(flagIndex).longValue();
+        }
+      }
+    }
+  }
+
+  private final Spec spec;
+  private final LongSupplier nanoTimeSupplier;
+  private final long timeBudgetNanos;
+
+  MaxCoverageAttestationPacker(final Spec spec) {
+    this(spec, System::nanoTime, DEFAULT_TIME_BUDGET);
+  }
+
+  MaxCoverageAttestationPacker(
+      final Spec spec, final LongSupplier nanoTimeSupplier, final Duration timeBudget) {
+    this.spec = spec;
+    this.nanoTimeSupplier = nanoTimeSupplier;
+    this.timeBudgetNanos = timeBudget.toNanos();
+  }
+
+  boolean isSupported(final BeaconState state) {
+    return state.toVersionAltair().isPresent()
+        && spec.atSlot(state.getSlot()).beaconStateAccessors()
+            instanceof BeaconStateAccessorsAltair;
+  }
+
+  /**
+   * Selects attestations for a block produced on top of {@code state}.
+   *
+   * @param state the state at the block slot, which must be supported
+   * @param groups the groups to select from, which must be valid for inclusion, most preferred
+   *     first
+   * @param maxAttestations the maximum number of attestations to select
+   * @param previousEpochLimit the maximum number of previous epoch attestations to select
+   * @return the selected attestations
+   */
+  List<Attestation> pack(
+      final BeaconState state,
+      final Iterator<MatchingDataAttestationGroup> groups,
+      final int maxAttestations,
+      final int previousEpochLimit) {
+    final long deadline = nanoTimeSupplier.getAsLong() + timeBudgetNanos;
+    final Packing packing = new Packing(state, maxAttestations, previousEpochLimit);
+    final PriorityQueue<Candidate> candidates =
+        new PriorityQueue<>(
+            Comparator.comparingLong((Candidate candidate) -> candidate.gain).reversed());
+    while (groups.hasNext() && nanoTimeSupplier.getAsLong() < deadline) {
+      candidates.addAll(packing.createCandidates(groups.next()));
+    }
+
+    while (!candidates.isEmpty()) {
+      final Candidate candidate = candidates.poll();
+      if (packing.isFull() && !packing.hasSelectionFrom(candidate.group)) {
+        // Can only be used by merging into an aggregate already selected from its group
+        continue;
+      }
+      final long gain = packing.computeGain(candidate);
+      if (gain == 0) {
+        continue;
+      }
+      if (!candidates.isEmpty()
+          && gain < candidates.peek().gain
+          && nanoTimeSupplier.getAsLong() < deadline) {
+        candidate.gain = gain;
+        candidates.add(candidate);
+        continue;
+      }
+      packing.select(candidate);
+    }
+
+    // Fill any remaining space from groups there wasn't time to score
+    while (groups.hasNext() && !packing.isFull()) {
+      packing.selectUnscored(groups.next());
+    }
+    return packing.getSelectedAttestations();
+  }
+
+  private class Packing {
+    private final BeaconState state;
+    private final BeaconStateAccessorsAltair beaconStateAccessors;
+    private final UInt64 currentEpoch;
+    private final SszList<SszByte> previousEpochParticipation;
+    private final SszList<SszByte> currentEpochParticipation;
+    private final int maxAttestations;
+    private final int previousEpochLimit;
+
+    // Participation flags in the pre-state combined with those set by selected candidates
+    private final Int2ByteMap previousEpochFlags = new Int2ByteOpenHashMap();
+    private final Int2ByteMap currentEpochFlags = new Int2ByteOpenHashMap();
+    private final Int2LongMap baseRewards = new Int2LongOpenHashMap();
+
+    private final List<AggregateAttestationBuilder> selectedAggregates = new ArrayList<>();
+    private final Map<MatchingDataAttestationGroup, List<AggregateAttestationBuilder>>
+        selectedAggregatesByGroup = new HashMap<>();
+    private final List<Attestation> unscoredAttestations = new ArrayList<>();
+    private int previousEpochCount;
+
+    private Packing(
+        final BeaconState state, final int maxAttestations, final int previousEpochLimit) {
+      final BeaconStateAltair altairState = state.toVersionAltair().orElseThrow();
+      this.state = state;
+      this.beaconStateAccessors =
+          (BeaconStateAccessorsAltair) spec.atSlot(state.getSlot()).beaconStateAccessors();
+      this.currentEpoch = spec.getCurrentEpoch(state);
+      this.previousEpochParticipation = altairState.getPreviousEpochParticipation();
+      this.currentEpochParticipation = altairState.getCurrentEpochParticipation();
+      this.maxAttestations = maxAttestations;
+      this.previousEpochLimit = previousEpochLimit;
+    }
+
+    private List<Candidate> createCandidates(final MatchingDataAttestationGroup group) {
+      final AttestationData data = group.getAttestationData();
+      final List<Integer> flagIndices =
+          beaconStateAccessors.getAttestationParticipationFlagIndices(
+              state, data, state.getSlot().minus(data.getSlot()));
+      if (flagIndices.isEmpty()) {
+        return List.of();
+      }
+      final int flags =
+          flagIndices.stream().mapToInt(flagIndex -> 1 << flagIndex).reduce(0, (a, b) -> a | b);
+      final IntList committee =
+          beaconStateAccessors.getBeaconCommittee(state, data.getSlot(), data.getIndex());
+      final boolean forCurrentEpoch = data.getTarget().getEpoch().equals(currentEpoch);
+      final List<Candidate> candidates = new ArrayList<>();
+      group
+          .streamUnaggregated()
+          .forEach(
+              attestation -> {
+                final int[] validatorIndices =
+                    attestation
+                        .getAttestation()
+                        .getAggregationBits()
+                        .streamAllSetBits()
+                        .map(committee::getInt)
+                        .toArray();
+                final Candidate candidate =
+                    new Candidate(group, attestation, validatorIndices, flags, forCurrentEpoch);
+                candidate.gain = computeGain(candidate);
+                if (candidate.gain > 0) {
+                  candidates.add(candidate);
+                }
+              });
+      return candidates;
+    }
+
+    private long computeGain(final Candidate candidate) {
+      long gain = 0;
+      for (int validatorIndex : candidate.validatorIndices) {
+        final int newFlags =
+            candidate.flags & ~getParticipationFlags(validatorIndex, candidate.forCurrentEpoch);
+        if (newFlags != 0) {
+          gain += getBaseReward(validatorIndex) * FLAG_WEIGHTS[newFlags];
+        }
+      }
+      return gain;
+    }
+
+    private byte getParticipationFlags(final int validatorIndex, final boolean forCurrentEpoch) {
+      final Int2ByteMap flags = forCurrentEpoch ? currentEpochFlags : previousEpochFlags;
+      if (flags.containsKey(validatorIndex)) {
+        return flags.get(validatorIndex);
+      }
+      final SszList<SszByte> participation =
+          forCurrentEpoch ? currentEpochParticipation : previousEpochParticipation;
+      final byte stateFlags = participation.get(validatorIndex).get();
+      flags.put(validatorIndex, stateFlags);
+      return stateFlags;
+    }
+
+    private long getBaseReward(final int validatorIndex) {
+      if (baseRewards.containsKey(validatorIndex)) {
+        return baseRewards.get(validatorIndex);
+      }
+      final long baseReward = beaconStateAccessors.getBaseReward(state, validatorIndex).longValue();
+      baseRewards.put(validatorIndex, baseReward);
+      return baseReward;
+    }
+
+    private boolean isFull() {
+      return selectedAggregates.size() + unscoredAttestations.size() >= maxAttestations;
+    }
+
+    private boolean hasSelectionFrom(final MatchingDataAttestationGroup group) {
+      return selectedAggregatesByGroup.containsKey(group);
+    }
+
+    private void select(final Candidate candidate) {
+      final List<AggregateAttestationBuilder> groupAggregates =
+          selectedAggregatesByGroup.getOrDefault(candidate.group, List.of());
+      for (AggregateAttestationBuilder aggregate : groupAggregates) {
+        if (aggregate.canAggregate(candidate.attestation)) {
+          aggregate.aggregate(candidate.attestation);
+          markIncluded(candidate);
+          return;
+        }
+      }
+      if (isFull() || !tryReservePreviousEpochPlace(candidate.group)) {
+        return;
+      }
+      final AggregateAttestationBuilder aggregate =
+          new AggregateAttestationBuilder(spec, candidate.group.getAttestationData());
+      aggregate.aggregate(candidate.attestation);
+      selectedAggregates.add(aggregate);
+      selectedAggregatesByGroup
+          .computeIfAbsent(candidate.group, __ -> new ArrayList<>())
+          .add(aggregate);
+      markIncluded(candidate);
+    }
+
+    private void markIncluded(final Candidate candidate) {
+      final Int2ByteMap flags = candidate.forCurrentEpoch ? currentEpochFlags : previousEpochFlags;
+      for (int validatorIndex : candidate.validatorIndices) {
+        final byte existingFlags =
+            getParticipationFlags(validatorIndex, candidate.forCurrentEpoch);
+        flags.put(validatorIndex, (byte) (existingFlags | candidate.flags));
+      }
+    }
+
+    private boolean tryReservePreviousEpochPlace(final MatchingDataAttestationGroup group) {
+      if (!spec.computeEpochAtSlot(group.getAttestationData().getSlot())
+          .isLessThan(currentEpoch)) {
+        return true;
+      }
+      if (previousEpochCount >= previousEpochLimit) {
+        return false;
+      }
+      previousEpochCount++;
+      return true;
+    }
+
+    private void selectUnscored(final MatchingDataAttestationGroup group) {
+      final Iterator<ValidatableAttestation> aggregates = group.iterator();
+      while (aggregates.hasNext() && !isFull() && tryReservePreviousEpochPlace(group)) {
+        unscoredAttestations.add(aggregates.next().getAttestation());
+      }
+    }
+
+    private List<Attestation> getSelectedAttestations() {
+      final List<Attestation> attestations = new ArrayList<>(unscoredAttestations);
+      selectedAggregates.forEach(
+          aggregate -> attestations.add(aggregate.buildAggregate().getAttestation()));
+      return attestations;
+    }
+  }
+
+  private static class Candidate {
+    private final MatchingDataAttestationGroup group;
+    private final ValidatableAttestation attestation;
+    private final int[] validatorIndices;
+    private final int flags;
+    private final boolean forCurrentEpoch;
+    private long gain;
+
+    private Candidate(
+        final MatchingDataAttestationGroup group,
+        final ValidatableAttestation attestation,
+        final int[] validatorIndices,
+        final int flags,
+        final boolean forCurrentEpoch) {
+      this.group = group;
+      this.attestation = attestation;
+      this.validatorIndices = validatorIndices;
+      this.flags = flags;
+      this.forCurrentEpoch = forCurrentEpoch;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.block;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.cache.IndexedAttestationCache;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator.BatchSignatureVerifier;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.EpochProcessingException;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.SlotProcessingException;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTransitionException;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+/**
+ * Verifies the signatures of a chain of blocks together, rather than paying the fixed cost of a
+ * batch verification, including the final pairing, for every block.
+ *
+ * <p>The blocks are processed off the store, starting from the state of the first block's parent,
+ * with their signatures only collected. If they are all valid, the states the blocks were
+ * processed from are returned so each block can be imported without verifying its signatures
+ * again. Otherwise nothing is returned and the blocks should be imported one at a time, which
+ * verifies each block separately and so identifies the one that failed.
+ */
+public class BlockBatchSignatureVerifier {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Spec spec;
+  private final RecentChainData recentChainData;
+
+  public BlockBatchSignatureVerifier(final Spec spec, final RecentChainData recentChainData) {
+    this.spec = spec;
+    this.recentChainData = recentChainData;
+  }
+
+  /**
+   * Verify the signatures of {@code blocks}, which must each be the child of the previous block.
+   *
+   * @param blocks the blocks to verify, in order
+   * @return the state of each block's parent with empty slots processed up to the block's slot, or
+   *     empty if the blocks couldn't all be processed or any signature is invalid
+   */
+  public SafeFuture<Optional<List<BeaconState>>> verify(final List<SignedBeaconBlock> blocks) {
+    if (blocks.isEmpty()) {
+      return SafeFuture.completedFuture(Optional.of(List.of()));
+    }
+    final SignedBeaconBlock firstBlock = blocks.get(0);
+    return recentChainData
+        .retrieveStateAtSlot(new SlotAndBlockRoot(firstBlock.getSlot(), firstBlock.getParentRoot()))
+        .thenApply(
+            firstBlockSlotState ->
+                firstBlockSlotState.flatMap(state -> processAndVerify(blocks, state)));
+  }
+
+  private Optional<List<BeaconState>> processAndVerify(
+      final List<SignedBeaconBlock> blocks, final BeaconState firstBlockSlotState) {
+    final BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier();
+    final List<BeaconState> blockSlotStates = new ArrayList<>(blocks.size());
+    BeaconState blockSlotState = firstBlockSlotState;
+    try {
+      for (int i = 0; i < blocks.size(); i++) {
+        final SignedBeaconBlock block = blocks.get(i);
+        if (i > 0 && !block.getParentRoot().equals(blocks.get(i - 1).getRoot())) {
+          LOG.debug("Not verifying signatures together for blocks which don't form a chain");
+          return Optional.empty();
+        }
+        blockSlotStates.add(blockSlotState);
+        // The execution payload is left to be validated when the block is imported
+        final BeaconState postState =
+            spec.getBlockProcessor(block.getSlot())
+                .processAndValidateBlock(
+                    block,
+                    blockSlotState,
+                    IndexedAttestationCache.NOOP,
+                    signatureVerifier,
+                    Optional.empty());
+        if (i + 1 < blocks.size()) {
+          blockSlotState = spec.processSlots(postState, blocks.get(i + 1).getSlot());
+        }
+      }
+    } catch (final StateTransitionException
+        | SlotProcessingException
+        | EpochProcessingException
+        | IllegalArgumentException e) {
+      LOG.debug("Failed to process blocks for batch signature verification", e);
+      return Optional.empty();
+    }
+    if (!signatureVerifier.batchVerify()) {
+      LOG.debug(
+          "Batch signature verification failed for blocks {} to {}",
+          blocks.get(0).toLogString(),
+          blocks.get(blocks.size() - 1).toLogString());
+      return Optional.empty();
+    }
+    return Optional.of(blockSlotStates);
+  }
+}
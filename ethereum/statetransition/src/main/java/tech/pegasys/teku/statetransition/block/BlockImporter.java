@@ -35,6 +35,7 @@ import tech.pegasys.teku.spec.datastructures.operations.ProposerSlashing;
 import tech.pegasys.teku.spec.datastructures.operations.SignedBlsToExecutionChange;
 import tech.pegasys.teku.spec.datastructures.operations.SignedVoluntaryExit;
 import tech.pegasys.teku.spec.datastructures.state.CheckpointState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
@@ -88,6 +89,23 @@ public class BlockImporter {
   public SafeFuture<BlockImportResult> importBlock(
       final SignedBeaconBlock block,
       final Optional<BlockImportPerformance> blockImportPerformance) {
+    return importBlock(block, blockImportPerformance, Optional.empty());
+  }
+
+  /**
+   * Import a block whose signatures have already been verified against {@code blockSlotState},
+   * the state of its parent with empty slots processed up to the block's slot.
+   */
+  @CheckReturnValue
+  public SafeFuture<BlockImportResult> importBlockWithVerifiedSignatures(
+      final SignedBeaconBlock block, final BeaconState blockSlotState) {
+    return importBlock(block, Optional.empty(), Optional.of(blockSlotState));
+  }
+
+  private SafeFuture<BlockImportResult> importBlock(
+      final SignedBeaconBlock block,
+      final Optional<BlockImportPerformance> blockImportPerformance,
+      final Optional<BeaconState> verifiedBlockSlotState) {
 
     final Optional<Boolean> knownOptimistic = recentChainData.isBlockOptimistic(block.getRoot());
     if (knownOptimistic.isPresent()) {
@@ -103,7 +121,12 @@ public class BlockImporter {
     }
 
     return validateWeakSubjectivityPeriod()
-        .thenCompose(__ -> forkChoice.onBlock(block, blockImportPerformance, executionLayer))
+        .thenCompose(
+            __ ->
+                verifiedBlockSlotState.isPresent()
+                    ? forkChoice.onBlockWithVerifiedSignatures(
+                        block, verifiedBlockSlotState.get(), executionLayer)
+                    : forkChoice.onBlock(block, blockImportPerformance, executionLayer))
         .thenApply(
             result -> {
               if (!result.isSuccessful()) {
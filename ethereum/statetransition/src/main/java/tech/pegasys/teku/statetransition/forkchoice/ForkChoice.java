@@ -29,6 +29,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.infrastructure.async.ExceptionThrowingRunnable;
 import tech.pegasys.teku.infrastructure.async.ExceptionThrowingSupplier;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -60,6 +61,7 @@ import tech.pegasys.teku.spec.datastructures.util.AttestationProcessingResult.St
 import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel;
 import tech.pegasys.teku.spec.executionlayer.ForkChoiceState;
 import tech.pegasys.teku.spec.executionlayer.PayloadStatus;
+import tech.pegasys.teku.spec.logic.common.block.BlockProcessor;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTransitionException;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult.FailureReason;
@@ -206,7 +208,19 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
         .thenPeek(__ -> blockImportPerformance.ifPresent(BlockImportPerformance::preStateRetrieved))
         .thenCompose(
             blockSlotState ->
-                onBlock(block, blockSlotState, blockImportPerformance, executionLayer));
+                onBlock(block, blockSlotState, blockImportPerformance, executionLayer, false));
+  }
+
+  /**
+   * Import a block to the store without verifying its signatures, which must already have been
+   * verified against the supplied blockSlotState. The state must already have empty slots
+   * processed to the same slot as the block.
+   */
+  public SafeFuture<BlockImportResult> onBlockWithVerifiedSignatures(
+      final SignedBeaconBlock block,
+      final BeaconState blockSlotState,
+      final ExecutionLayerChannel executionLayer) {
+    return onBlock(block, Optional.of(blockSlotState), Optional.empty(), executionLayer, true);
   }
 
   public SafeFuture<AttestationProcessingResult> onAttestation(
@@ -383,7 +397,8 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
       final SignedBeaconBlock block,
       final Optional<BeaconState> blockSlotState,
       final Optional<BlockImportPerformance> blockImportPerformance,
-      final ExecutionLayerChannel executionLayer) {
+      final ExecutionLayerChannel executionLayer,
+      final boolean signaturesVerified) {
     if (blockSlotState.isEmpty()) {
       return SafeFuture.completedFuture(BlockImportResult.FAILED_UNKNOWN_PARENT);
     }
@@ -414,11 +429,18 @@ public class ForkChoice implements ForkChoiceUpdatedResultSubscriber {
 
     blobSidecarsAvailabilityChecker.initiateDataAvailabilityCheck();
 
+    final BlockProcessor blockProcessor = spec.getBlockProcessor(block.getSlot());
     final BeaconState postState;
     try {
       postState =
-          spec.getBlockProcessor(block.getSlot())
-              .processAndValidateBlock(
+          signaturesVerified
+              ? blockProcessor.processAndValidateBlock(
+                  block,
+                  blockSlotState.get(),
+                  indexedAttestationCache,
+                  BLSSignatureVerifier.NO_OP,
+                  Optional.of(payloadExecutor))
+              : blockProcessor.processAndValidateBlock(
                   block,
                   blockSlotState.get(),
                   indexedAttestationCache,
@@ -17,16 +17,17 @@ import static java.util.Collections.singletonList;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -36,30 +37,51 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
+import tech.pegasys.teku.service.serviceutils.ServiceDeadlineExceededException;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 
+/**
+ * Verifies signatures from many callers in batches on a small pool of threads.
+ *
+ * <p>Tasks are queued in priority lanes (see {@link SignatureTaskQueue}) and may carry a deadline
+ * after which they are dropped rather than verified. Each thread takes its share of the queued
+ * tasks, capped so that a batch takes roughly {@link #TARGET_BATCH_DURATION} to verify based on
+ * recently observed verification times. Batches stay small while the queue is shallow, keeping
+ * latency low, and grow towards {@code maxBatchSize} as it backs up.
+ */
 public class AggregatingSignatureVerificationService extends SignatureVerificationService {
   private static final Logger LOG = LogManager.getLogger();
 
   static final int DEFAULT_MIN_BATCH_SIZE_TO_SPLIT = 25;
+  static final Duration TARGET_BATCH_DURATION = Duration.ofMillis(50);
+  static final int MIN_ADAPTIVE_BATCH_SIZE = 8;
+  // Weight given to the latest batch when updating the average task verification time
+  private static final double TASK_DURATION_SMOOTHING = 0.2;
 
   private final AsyncRunner completionRunner;
+  private final TimeProvider timeProvider;
   private final int numThreads;
   private final int maxBatchSize;
   private final int minBatchSizeToSplit;
   private final boolean strictThreadLimitEnabled;
 
-  @VisibleForTesting final BlockingQueue<SignatureTask> batchSignatureTasks;
+  @VisibleForTesting final SignatureTaskQueue batchSignatureTasks;
   private final AsyncRunner asyncRunner;
   private final Counter batchCounter;
   private final Counter taskCounter;
+  private final LabelledMetric<Counter> droppedTaskCounter;
   private final MetricsHistogram batchSizeHistogram;
+  // Zero until the first batch has been verified
+  private volatile double averageTaskDurationNanos = 0;
 
   @VisibleForTesting
   AggregatingSignatureVerificationService(
       final MetricsSystem metricsSystem,
       final AsyncRunnerFactory asyncRunnerFactory,
       final AsyncRunner completionRunner,
+      final TimeProvider timeProvider,
       final int numThreads,
       final int queueCapacity,
       final int maxBatchSize,
@@ -68,9 +90,10 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     this.numThreads = Math.min(numThreads, Runtime.getRuntime().availableProcessors());
     this.asyncRunner = asyncRunnerFactory.create(this.getClass().getSimpleName(), this.numThreads);
     this.completionRunner = completionRunner;
+    this.timeProvider = timeProvider;
     this.maxBatchSize = maxBatchSize;
 
-    this.batchSignatureTasks = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSignatureTasks = new SignatureTaskQueue(queueCapacity);
     this.minBatchSizeToSplit = minBatchSizeToSplit;
     this.strictThreadLimitEnabled = strictThreadLimitEnabled;
     metricsSystem.createGauge(
@@ -88,6 +111,13 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
             TekuMetricCategory.EXECUTOR,
             "signature_verifications_task_count",
             "Reports the number of individual verification tasks processed");
+    droppedTaskCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.EXECUTOR,
+            "signature_verifications_dropped_task_count",
+            "Reports the number of verification tasks dropped without being verified",
+            "priority",
+            "reason");
     batchSizeHistogram =
         MetricsHistogram.create(
             TekuMetricCategory.EXECUTOR,
@@ -102,6 +132,7 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
       final MetricsSystem metricsSystem,
       final AsyncRunnerFactory asyncRunnerFactory,
       final AsyncRunner completionRunner,
+      final TimeProvider timeProvider,
       final int maxThreads,
       final int queueCapacity,
       final int maxBatchSize,
@@ -110,6 +141,7 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
         metricsSystem,
         asyncRunnerFactory,
         completionRunner,
+        timeProvider,
         maxThreads,
         queueCapacity,
         maxBatchSize,
@@ -136,6 +168,28 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     return SafeFuture.COMPLETE;
   }
 
+  @Override
+  public AsyncBLSSignatureVerifier withPriority(
+      final SignatureVerificationPriority priority, final Duration maxQueueDelay) {
+    final long maxQueueDelayMillis = maxQueueDelay.toMillis();
+    return new AsyncBLSSignatureVerifier() {
+      @Override
+      public SafeFuture<Boolean> verify(
+          final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
+        return verify(singletonList(publicKeys), singletonList(message), singletonList(signature));
+      }
+
+      @Override
+      public SafeFuture<Boolean> verify(
+          final List<List<BLSPublicKey>> publicKeys,
+          final List<Bytes> messages,
+          final List<BLSSignature> signatures) {
+        final long deadline = timeProvider.getTimeInMillis().longValue() + maxQueueDelayMillis;
+        return submit(priority, deadline, publicKeys, messages, signatures);
+      }
+    };
+  }
+
   @Override
   public SafeFuture<Boolean> verify(
       final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
@@ -147,15 +201,35 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
       final List<List<BLSPublicKey>> publicKeys,
       final List<Bytes> messages,
       final List<BLSSignature> signatures) {
+    return submit(
+        SignatureVerificationPriority.BLOCK, Long.MAX_VALUE, publicKeys, messages, signatures);
+  }
+
+  private SafeFuture<Boolean> submit(
+      final SignatureVerificationPriority priority,
+      final long deadlineMillis,
+      final List<List<BLSPublicKey>> publicKeys,
+      final List<Bytes> messages,
+      final List<BLSSignature> signatures) {
     assertIsRunning("verify");
     final SignatureTask task =
-        new SignatureTask(completionRunner, publicKeys, messages, signatures);
-    if (!batchSignatureTasks.offer(task)) {
-      // Queue is full
-      final Throwable error =
-          new ServiceCapacityExceededException("Failed to process signature, queue is full.");
-      task.result.completeExceptionally(error);
-    }
+        new SignatureTask(
+            completionRunner, priority, deadlineMillis, publicKeys, messages, signatures);
+    batchSignatureTasks
+        .offer(task)
+        .ifPresent(
+            droppedTask -> {
+              // Queue is full
+              droppedTaskCounter.labels(priorityLabel(droppedTask), "queue_full").inc();
+              final Throwable error =
+                  new ServiceCapacityExceededException(
+                      "Failed to process signature, queue is full.");
+              if (droppedTask == task) {
+                task.result.completeExceptionally(error);
+              } else {
+                droppedTask.completeExceptionallyAsync(error);
+              }
+            });
     return task.result;
   }
 
@@ -163,25 +237,62 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     while (isRunning()) {
       final List<SignatureTask> tasks = waitForBatch();
       if (!tasks.isEmpty()) {
+        final long startTime = System.nanoTime();
         batchVerifySignatures(tasks);
+        recordBatchDuration(System.nanoTime() - startTime, tasks.size());
       }
     }
   }
 
-  private List<SignatureTask> waitForBatch() {
-    final List<SignatureTask> tasks = new ArrayList<>();
+  @VisibleForTesting
+  List<SignatureTask> waitForBatch() {
+    final List<SignatureTask> expiredTasks = new ArrayList<>();
     try {
-      int batchSize = maxBatchSize;
-      final SignatureTask firstTask = batchSignatureTasks.poll(30, TimeUnit.SECONDS);
-      if (firstTask != null) {
-        tasks.add(firstTask);
-        batchSize -= 1;
-      }
-      batchSignatureTasks.drainTo(tasks, batchSize);
+      return batchSignatureTasks.pollBatch(
+          30,
+          TimeUnit.SECONDS,
+          this::getBatchSize,
+          () -> timeProvider.getTimeInMillis().longValue(),
+          expiredTasks);
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
+      return List.of();
+    } finally {
+      for (SignatureTask task : expiredTasks) {
+        droppedTaskCounter.labels(priorityLabel(task), "expired").inc();
+        task.completeExceptionallyAsync(
+            new ServiceDeadlineExceededException(
+                "Signature was not verified before its deadline."));
+      }
+    }
+  }
+
+  /**
+   * Returns this thread's share of the queued tasks, limited to the number of tasks expected to be
+   * verified within {@link #TARGET_BATCH_DURATION} so that higher priority tasks arriving while the
+   * batch is verified don't wait long for a thread.
+   */
+  @VisibleForTesting
+  int getBatchSize(final int queueSize) {
+    final int share = Math.max(1, (queueSize + numThreads - 1) / numThreads);
+    final double taskDurationNanos = averageTaskDurationNanos;
+    if (taskDurationNanos == 0) {
+      return Math.min(share, maxBatchSize);
     }
-    return tasks;
+    final long latencyLimit = (long) (TARGET_BATCH_DURATION.toNanos() / taskDurationNanos);
+    final long limit = Math.max(MIN_ADAPTIVE_BATCH_SIZE, Math.min(maxBatchSize, latencyLimit));
+    return (int) Math.min(share, limit);
+  }
+
+  @VisibleForTesting
+  void recordBatchDuration(final long durationNanos, final int taskCount) {
+    final double taskDurationNanos = (double) durationNanos / taskCount;
+    final double previous = averageTaskDurationNanos;
+    // Races between threads may lose an update, which only slows adaptation slightly
+    averageTaskDurationNanos =
+        previous == 0
+            ? taskDurationNanos
+            : previous + TASK_DURATION_SMOOTHING * (taskDurationNanos - previous);
   }
 
   @VisibleForTesting
@@ -236,27 +347,47 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     return batchSignatureTasks.size();
   }
 
+  private static String priorityLabel(final SignatureTask task) {
+    return task.priority.name().toLowerCase(Locale.ROOT);
+  }
+
   @VisibleForTesting
   static class SignatureTask {
     final SafeFuture<Boolean> result = new SafeFuture<>();
     private final AsyncRunner asyncRunner;
+    final SignatureVerificationPriority priority;
+    private final long deadlineMillis;
     final List<List<BLSPublicKey>> publicKeys;
     final List<Bytes> messages;
     final List<BLSSignature> signatures;
 
     private SignatureTask(
         final AsyncRunner asyncRunner,
+        final SignatureVerificationPriority priority,
+        final long deadlineMillis,
         final List<List<BLSPublicKey>> publicKeys,
         final List<Bytes> messages,
         final List<BLSSignature> signatures) {
       this.asyncRunner = asyncRunner;
+      this.priority = priority;
+      this.deadlineMillis = deadlineMillis;
       this.publicKeys = publicKeys;
       this.messages = messages;
       this.signatures = signatures;
     }
 
+    boolean isExpired(final long currentTimeMillis) {
+      return currentTimeMillis > deadlineMillis;
+    }
+
     public void completeAsync(final boolean isValid) {
       asyncRunner.runAsync(() -> result.complete(isValid)).finish(result::completeExceptionally);
     }
+
+    void completeExceptionallyAsync(final Throwable error) {
+      asyncRunner
+          .runAsync(() -> result.completeExceptionally(error))
+          .finish(result::completeExceptionally);
+    }
   }
 }
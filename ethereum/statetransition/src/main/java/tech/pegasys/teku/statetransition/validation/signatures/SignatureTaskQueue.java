@@ -0,0 +1,164 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation.signatures;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongSupplier;
+import tech.pegasys.teku.statetransition.validation.signatures.AggregatingSignatureVerificationService.SignatureTask;
+
+/**
+ * A bounded queue of signature tasks with one lane per {@link SignatureVerificationPriority}.
+ *
+ * <p>Batches are filled from the highest priority lane first. When the queue is full, a new task
+ * displaces the oldest task from a lower priority lane if there is one, so a flood of low priority
+ * work can't lock out higher priority work.
+ */
+class SignatureTaskQueue {
+  private static final SignatureVerificationPriority[] PRIORITIES =
+      SignatureVerificationPriority.values();
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final List<ArrayDeque<SignatureTask>> lanes = new ArrayList<>(PRIORITIES.length);
+  private final int capacity;
+  private int size;
+
+  SignatureTaskQueue(final int capacity) {
+    this.capacity = capacity;
+    for (int i = 0; i < PRIORITIES.length; i++) {
+      lanes.add(new ArrayDeque<>());
+    }
+  }
+
+  /**
+   * Adds a task to the queue.
+   *
+   * @return the task which didn't fit in the queue, either a lower priority task which was
+   *     displaced or the new task itself, or empty if nothing was dropped
+   */
+  Optional<SignatureTask> offer(final SignatureTask task) {
+    lock.lock();
+    try {
+      Optional<SignatureTask> displaced = Optional.empty();
+      if (size >= capacity) {
+        displaced = pollLowestPriorityBelow(task.priority);
+        if (displaced.isEmpty()) {
+          return Optional.of(task);
+        }
+        size--;
+      }
+      lanes.get(task.priority.ordinal()).addLast(task);
+      size++;
+      notEmpty.signal();
+      return displaced;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Optional<SignatureTask> pollLowestPriorityBelow(
+      final SignatureVerificationPriority priority) {
+    for (int lane = PRIORITIES.length - 1; lane > priority.ordinal(); lane--) {
+      final SignatureTask task = lanes.get(lane).pollFirst();
+      if (task != null) {
+        return Optional.of(task);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Waits up to the timeout for tasks to become available, then takes a batch of them in priority
+   * order. Tasks whose deadline has passed are moved to {@code expiredTasks} instead and don't
+   * count towards the batch size.
+   *
+   * @param batchSizeForQueueSize determines the maximum batch size from the number of queued tasks
+   * @param timeProvider the current time in millis, used to identify expired tasks
+   * @param expiredTasks collects tasks which expired before they could be verified
+   * @return the batch, which is empty if no tasks became available before the timeout
+   */
+  List<SignatureTask> pollBatch(
+      final long timeout,
+      final TimeUnit unit,
+      final IntUnaryOperator batchSizeForQueueSize,
+      final LongSupplier timeProvider,
+      final Collection<SignatureTask> expiredTasks)
+      throws InterruptedException {
+    final List<SignatureTask> batch = new ArrayList<>();
+    lock.lockInterruptibly();
+    try {
+      long remainingNanos = unit.toNanos(timeout);
+      while (size == 0) {
+        if (remainingNanos <= 0) {
+          return batch;
+        }
+        remainingNanos = notEmpty.awaitNanos(remainingNanos);
+      }
+      final int batchSize = batchSizeForQueueSize.applyAsInt(size);
+      final long currentTimeMillis = timeProvider.getAsLong();
+      for (int lane = 0; lane < PRIORITIES.length && batch.size() < batchSize; lane++) {
+        final ArrayDeque<SignatureTask> tasks = lanes.get(lane);
+        while (!tasks.isEmpty() && batch.size() < batchSize) {
+          final SignatureTask task = tasks.pollFirst();
+          size--;
+          if (task.isExpired(currentTimeMillis)) {
+            expiredTasks.add(task);
+          } else {
+            batch.add(task);
+          }
+        }
+      }
+      if (size > 0) {
+        // Let another thread pick up the remaining work
+        notEmpty.signal();
+      }
+      return batch;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Removes all queued tasks in priority order. */
+  int drainTo(final Collection<? super SignatureTask> target) {
+    lock.lock();
+    try {
+      final int drained = size;
+      for (ArrayDeque<SignatureTask> tasks : lanes) {
+        target.addAll(tasks);
+        tasks.clear();
+      }
+      size = 0;
+      return drained;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  int size() {
+    lock.lock();
+    try {
+      return size;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
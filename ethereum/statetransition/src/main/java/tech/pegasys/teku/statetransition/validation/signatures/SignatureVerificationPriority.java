@@ -0,0 +1,24 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation.signatures;
+
+/** The lanes of the signature verification queue, from highest to lowest priority. */
+public enum SignatureVerificationPriority {
+  /** Work which block import or sync is waiting on, and callers which don't specify a lane. */
+  BLOCK,
+  /** Aggregate attestations and sync committee contributions. */
+  AGGREGATE,
+  /** Unaggregated subnet attestations and sync committee messages. */
+  UNAGGREGATED
+}
@@ -13,8 +13,21 @@
 
 package tech.pegasys.teku.statetransition.validation.signatures;
 
+import java.time.Duration;
 import tech.pegasys.teku.service.serviceutils.Service;
 import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 
 public abstract class SignatureVerificationService extends Service
-    implements AsyncBLSSignatureVerifier {}
+    implements AsyncBLSSignatureVerifier {
+
+  /**
+   * Returns a verifier which submits signatures in the given priority lane. Signatures still
+   * waiting to be verified after {@code maxQueueDelay} are dropped rather than verified late.
+   *
+   * <p>Services which don't prioritise their work return themselves.
+   */
+  public AsyncBLSSignatureVerifier withPriority(
+      final SignatureVerificationPriority priority, final Duration maxQueueDelay) {
+    return this;
+  }
+}
@@ -26,6 +26,11 @@ import static tech.pegasys.teku.statetransition.attestation.AggregatorUtil.aggre
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -520,6 +525,58 @@ class AggregatingAttestationPoolTest {
     assertThat(aggregatingPool.getSize()).isEqualTo(1);
   }
 
+  @Test
+  void add_shouldNotLoseAttestationsAddedConcurrently() throws Exception {
+    final List<AttestationData> attestationData =
+        IntStream.range(0, 5)
+            .mapToObj(__ -> dataStructureUtil.randomAttestationData(ZERO))
+            .toList();
+    final int threadCount = 4;
+    // Each thread adds a distinct set of validators to every group
+    final List<List<ValidatableAttestation>> attestationsByThread =
+        IntStream.range(0, threadCount)
+            .mapToObj(
+                thread ->
+                    attestationData.stream()
+                        .flatMap(
+                            data ->
+                                IntStream.range(thread * 5, thread * 5 + 5)
+                                    .mapToObj(
+                                        validator ->
+                                            ValidatableAttestation.from(
+                                                spec, createAttestation(data, validator))))
+                        .toList())
+            .toList();
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      final CountDownLatch start = new CountDownLatch(1);
+      final List<Future<?>> futures = new ArrayList<>();
+      attestationsByThread.forEach(
+          attestations ->
+              futures.add(
+                  executor.submit(
+                      () -> {
+                        start.await();
+                        attestations.forEach(aggregatingPool::add);
+                        return null;
+                      })));
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(aggregatingPool.getSize()).isEqualTo(100);
+    assertThat(aggregatingPool.getAttestations(Optional.empty(), Optional.empty()))
+        .hasSize(5)
+        .allSatisfy(
+            attestation ->
+                assertThat(attestation.getAggregationBits().getBitCount()).isEqualTo(20));
+  }
+
   @Test
   void getAttestationsForBlock_inAltairShouldNotIncludeWorthlessAttestations() {
     final AttestationData attestationData1 = dataStructureUtil.randomAttestationData(ZERO);
@@ -16,6 +16,7 @@ package tech.pegasys.teku.statetransition.attestation;
 import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.teku.statetransition.attestation.AggregatorUtil.aggregateAttestations;
 
+import java.util.Iterator;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -294,6 +295,22 @@ class MatchingDataAttestationGroupTest {
     assertThat(group.size()).isEqualTo(1);
   }
 
+  @Test
+  public void iterator_shouldNotSeeAttestationsAddedDuringIteration() {
+    final ValidatableAttestation attestation1 = addAttestation(1);
+    final Iterator<ValidatableAttestation> iterator = group.iterator();
+    final ValidatableAttestation attestation2 = addAttestation(2);
+
+    assertThat(iterator.next()).isEqualTo(attestation1);
+    assertThat(iterator.hasNext()).isFalse();
+    assertThat(group.stream())
+        .containsExactly(
+            ValidatableAttestation.from(
+                spec,
+                aggregateAttestations(
+                    attestation1.getAttestation(), attestation2.getAttestation())));
+  }
+
   private ValidatableAttestation addAttestation(final int... validators) {
     final ValidatableAttestation attestation = createAttestation(validators);
     final boolean added = group.add(attestation);
@@ -0,0 +1,177 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.attestation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class MaxCoverageAttestationPackerTest {
+  private static final UInt64 STATE_SLOT = UInt64.valueOf(10);
+  private static final UInt64 ATTESTATION_SLOT = UInt64.valueOf(9);
+  private static final byte ALL_FLAGS = 0b111;
+
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final AttestationSchema attestationSchema =
+      spec.getGenesisSchemaDefinitions().getAttestationSchema();
+  private final MaxCoverageAttestationPacker packer = new MaxCoverageAttestationPacker(spec);
+
+  private BeaconState state = createState();
+  private final IntList committee = spec.getBeaconCommittee(state, ATTESTATION_SLOT, UInt64.ZERO);
+  private final MatchingDataAttestationGroup group =
+      new MatchingDataAttestationGroup(spec, createAttestationData(UInt64.ZERO));
+
+  @Test
+  void isSupported_shouldNotSupportPhase0States() {
+    final Spec phase0Spec = TestSpecFactory.createMinimalPhase0();
+    final BeaconState phase0State = new DataStructureUtil(phase0Spec).randomBeaconState();
+
+    assertThat(new MaxCoverageAttestationPacker(phase0Spec).isSupported(phase0State)).isFalse();
+    assertThat(packer.isSupported(state)).isTrue();
+  }
+
+  @Test
+  void pack_shouldPreferAttestationsRewardingValidatorsWithoutFlags() {
+    setParticipationFlags(0, 1);
+    addAttestation(group, 0, 1, 2);
+    final ValidatableAttestation attestation = addAttestation(group, 2, 3);
+
+    assertThat(pack(1)).containsExactly(attestation.getAttestation());
+  }
+
+  @Test
+  void pack_shouldMergeDisjointAttestationsFromTheSameGroup() {
+    addAttestation(group, 0, 1, 2);
+    addAttestation(group, 2, 3);
+    addAttestation(group, 3);
+
+    final List<Attestation> result = pack(1);
+
+    assertThat(result).hasSize(1);
+    assertThat(result.get(0).getAggregationBits()).isEqualTo(createBits(0, 1, 2, 3));
+  }
+
+  @Test
+  void pack_shouldSkipAttestationsWhichAddNoRewards() {
+    setParticipationFlags(0, 1);
+    addAttestation(group, 0, 1);
+
+    assertThat(pack(1)).isEmpty();
+  }
+
+  @Test
+  void pack_shouldSelectFromGroupsAcrossCommittees() {
+    final MatchingDataAttestationGroup otherGroup =
+        new MatchingDataAttestationGroup(spec, createAttestationData(UInt64.ONE));
+    setParticipationFlags(0, 1, 2);
+    addAttestation(group, 0, 1, 2, 3);
+    final ValidatableAttestation attestation = addAttestation(otherGroup, 0, 1);
+
+    assertThat(packer.pack(state, List.of(group, otherGroup).iterator(), 1, 1))
+        .containsExactly(attestation.getAttestation());
+  }
+
+  @Test
+  void pack_shouldTakeGroupsInProvidedOrderWhenTimeBudgetIsSpent() {
+    final MaxCoverageAttestationPacker packerWithoutBudget =
+        new MaxCoverageAttestationPacker(spec, () -> 0, Duration.ZERO);
+    setParticipationFlags(0, 1);
+    final ValidatableAttestation attestation = addAttestation(group, 0, 1);
+
+    assertThat(packerWithoutBudget.pack(state, List.of(group).iterator(), 1, 1))
+        .containsExactly(attestation.getAttestation());
+  }
+
+  private List<Attestation> pack(final int maxAttestations) {
+    return packer.pack(state, List.of(group).iterator(), maxAttestations, maxAttestations);
+  }
+
+  private BeaconState createState() {
+    return dataStructureUtil
+        .stateBuilderAltair(64, 10)
+        .slot(STATE_SLOT)
+        .build()
+        .updatedAltair(
+            mutable -> {
+              final SszMutableList<Validator> validators = mutable.getValidators();
+              for (int i = 0; i < validators.size(); i++) {
+                validators.set(i, validators.get(i).withActivationEpoch(UInt64.ZERO));
+                mutable.getPreviousEpochParticipation().set(i, SszByte.ZERO);
+                mutable.getCurrentEpochParticipation().set(i, SszByte.ZERO);
+              }
+            });
+  }
+
+  private void setParticipationFlags(final int... committeePositions) {
+    state =
+        state
+            .toVersionAltair()
+            .orElseThrow()
+            .updatedAltair(
+                mutable -> {
+                  for (int position : committeePositions) {
+                    mutable
+                        .getCurrentEpochParticipation()
+                        .set(committee.getInt(position), SszByte.of(ALL_FLAGS));
+                  }
+                });
+  }
+
+  private AttestationData createAttestationData(final UInt64 committeeIndex) {
+    final UInt64 epoch = spec.computeEpochAtSlot(ATTESTATION_SLOT);
+    return new AttestationData(
+        ATTESTATION_SLOT,
+        committeeIndex,
+        spec.getBlockRootAtSlot(state, ATTESTATION_SLOT),
+        state.getCurrentJustifiedCheckpoint(),
+        new Checkpoint(epoch, spec.getBlockRoot(state, epoch)));
+  }
+
+  private ValidatableAttestation addAttestation(
+      final MatchingDataAttestationGroup attestationGroup, final int... committeePositions) {
+    final ValidatableAttestation attestation =
+        ValidatableAttestation.from(
+            spec,
+            attestationSchema.create(
+                createBits(committeePositions),
+                attestationGroup.getAttestationData(),
+                dataStructureUtil.randomSignature()));
+    assertThat(attestationGroup.add(attestation)).isTrue();
+    return attestation;
+  }
+
+  private SszBitlist createBits(final int... committeePositions) {
+    return attestationSchema
+        .getAggregationBitsSchema()
+        .ofBits(committee.size(), committeePositions);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.block;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.generator.ChainBuilder;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystemBuilder;
+import tech.pegasys.teku.storage.storageSystem.StorageSystem;
+
+class BlockBatchSignatureVerifierTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StorageSystem storageSystem = InMemoryStorageSystemBuilder.buildDefault(spec);
+  private final ChainBuilder chainBuilder = storageSystem.chainBuilder();
+
+  private final BlockBatchSignatureVerifier verifier =
+      new BlockBatchSignatureVerifier(spec, storageSystem.recentChainData());
+
+  @BeforeEach
+  void setUp() {
+    storageSystem.chainUpdater().initializeGenesis();
+  }
+
+  @Test
+  void verify_shouldReturnBlockSlotStatesWhenAllSignaturesAreValid() {
+    storageSystem.chainUpdater().advanceChain(2);
+    final List<SignedBeaconBlock> blocks = getBlocks(chainBuilder.generateBlocksUpToSlot(6));
+
+    final Optional<List<BeaconState>> result = safeJoin(verifier.verify(blocks));
+
+    assertThat(result).isPresent();
+    assertThat(result.get()).hasSize(blocks.size());
+    for (int i = 0; i < blocks.size(); i++) {
+      final SignedBeaconBlock block = blocks.get(i);
+      final BeaconState blockSlotState = result.get().get(i);
+      assertThat(blockSlotState.getSlot()).isEqualTo(block.getSlot());
+      assertThat(blockSlotState.getLatestBlockHeader().hashTreeRoot())
+          .isEqualTo(block.getParentRoot());
+    }
+  }
+
+  @Test
+  void verify_shouldReturnEmptyWhenAnySignatureIsInvalid() {
+    final List<SignedBeaconBlock> blocks =
+        new ArrayList<>(getBlocks(chainBuilder.generateBlocksUpToSlot(4)));
+    final SignedBeaconBlock block = blocks.get(2);
+    blocks.set(
+        2, SignedBeaconBlock.create(spec, block.getMessage(), dataStructureUtil.randomSignature()));
+
+    assertThat(safeJoin(verifier.verify(blocks))).isEmpty();
+  }
+
+  @Test
+  void verify_shouldReturnEmptyWhenBlocksDoNotFormAChain() {
+    final List<SignedBeaconBlock> blocks =
+        new ArrayList<>(getBlocks(chainBuilder.generateBlocksUpToSlot(4)));
+    blocks.remove(1);
+
+    assertThat(safeJoin(verifier.verify(blocks))).isEmpty();
+  }
+
+  @Test
+  void verify_shouldReturnEmptyWhenParentStateIsUnknown() {
+    chainBuilder.generateBlocksUpToSlot(2);
+    // The parent of the first block was never imported
+    final List<SignedBeaconBlock> blocks = getBlocks(chainBuilder.generateBlocksUpToSlot(4));
+
+    assertThat(safeJoin(verifier.verify(blocks))).isEmpty();
+  }
+
+  private List<SignedBeaconBlock> getBlocks(final List<SignedBlockAndState> blocksAndStates) {
+    return blocksAndStates.stream().map(SignedBlockAndState::getBlock).toList();
+  }
+}
@@ -40,7 +40,10 @@ import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.Waiter;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
+import tech.pegasys.teku.service.serviceutils.ServiceDeadlineExceededException;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 import tech.pegasys.teku.statetransition.validation.signatures.AggregatingSignatureVerificationService.SignatureTask;
 
 public class AggregatingSignatureVerificationServiceTest {
@@ -53,12 +56,15 @@ public class AggregatingSignatureVerificationServiceTest {
   private final boolean strictThreadLimitEnabled = true;
   private final StubAsyncRunner completionRunner = new StubAsyncRunner();
 
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+
   private final StubAsyncRunnerFactory asyncRunnerFactory = new StubAsyncRunnerFactory();
   private AggregatingSignatureVerificationService service =
       new AggregatingSignatureVerificationService(
           new StubMetricsSystem(),
           asyncRunnerFactory,
           completionRunner,
+          timeProvider,
           numThreads,
           queueCapacity,
           batchSize,
@@ -248,6 +254,7 @@ public class AggregatingSignatureVerificationServiceTest {
             metrics,
             realRunnerFactory,
             realRunnerFactory.create("completion", 1),
+            timeProvider,
             1,
             queueCapacity,
             batchSize,
@@ -333,6 +340,123 @@ public class AggregatingSignatureVerificationServiceTest {
     assertThat(split.get(0).size()).isEqualTo(1);
   }
 
+  @Test
+  public void verify_withFullQueue_shouldDisplaceLowerPriorityTask() {
+    startService();
+    final AsyncBLSSignatureVerifier unaggregatedVerifier =
+        service.withPriority(SignatureVerificationPriority.UNAGGREGATED, Duration.ofSeconds(12));
+    final List<SafeFuture<Boolean>> unaggregatedFutures = new ArrayList<>();
+    for (int i = 0; i < queueCapacity; i++) {
+      unaggregatedFutures.add(executeVerify(unaggregatedVerifier, 0, i, true));
+    }
+
+    final SafeFuture<Boolean> future = executeValidVerify(0, 0);
+    completionRunner.executeQueuedActions();
+
+    assertThat(future).isNotDone();
+    assertThatThrownBy(unaggregatedFutures.get(0)::get)
+        .hasCauseInstanceOf(ServiceCapacityExceededException.class);
+    unaggregatedFutures.subList(1, queueCapacity).forEach(f -> assertThat(f).isNotDone());
+  }
+
+  @SuppressWarnings("FutureReturnValueIgnored")
+  @Test
+  public void pollBatch_shouldTakeHigherPriorityTasksFirst() throws Exception {
+    startService();
+    executeVerify(
+        service.withPriority(SignatureVerificationPriority.UNAGGREGATED, Duration.ofSeconds(12)),
+        0,
+        0,
+        true);
+    executeVerify(
+        service.withPriority(SignatureVerificationPriority.AGGREGATE, Duration.ofSeconds(12)),
+        0,
+        1,
+        true);
+    executeValidVerify(0, 2);
+
+    final List<SignatureTask> expiredTasks = new ArrayList<>();
+    final List<SignatureTask> batch =
+        service.batchSignatureTasks.pollBatch(
+            0, TimeUnit.MILLISECONDS, __ -> 2, this::getTimeInMillis, expiredTasks);
+
+    assertThat(batch)
+        .extracting(task -> task.priority)
+        .containsExactly(
+            SignatureVerificationPriority.BLOCK, SignatureVerificationPriority.AGGREGATE);
+    assertThat(expiredTasks).isEmpty();
+    assertThat(service.batchSignatureTasks.size()).isEqualTo(1);
+  }
+
+  @SuppressWarnings("FutureReturnValueIgnored")
+  @Test
+  public void pollBatch_shouldSkipTasksPastTheirDeadline() throws Exception {
+    startService();
+    executeVerify(
+        service.withPriority(SignatureVerificationPriority.UNAGGREGATED, Duration.ofSeconds(12)),
+        0,
+        0,
+        true);
+    timeProvider.advanceTimeBySeconds(6);
+    executeVerify(
+        service.withPriority(SignatureVerificationPriority.UNAGGREGATED, Duration.ofSeconds(12)),
+        0,
+        1,
+        true);
+    timeProvider.advanceTimeBySeconds(7);
+
+    final List<SignatureTask> expiredTasks = new ArrayList<>();
+    final List<SignatureTask> batch =
+        service.batchSignatureTasks.pollBatch(
+            0, TimeUnit.MILLISECONDS, __ -> 1, this::getTimeInMillis, expiredTasks);
+
+    assertThat(expiredTasks).hasSize(1);
+    assertThat(batch).hasSize(1);
+    assertThat(batch.get(0).messages).containsExactly(Bytes.of(1));
+  }
+
+  @Test
+  public void waitForBatch_shouldFailExpiredTasksWithDeadlineExceeded() {
+    startService();
+    final SafeFuture<Boolean> future =
+        executeVerify(
+            service.withPriority(
+                SignatureVerificationPriority.UNAGGREGATED, Duration.ofSeconds(12)),
+            0,
+            0,
+            true);
+    timeProvider.advanceTimeBySeconds(13);
+
+    assertThat(service.waitForBatch()).isEmpty();
+    completionRunner.executeQueuedActions();
+
+    assertThatThrownBy(future::get).hasCauseInstanceOf(ServiceDeadlineExceededException.class);
+  }
+
+  @Test
+  public void getBatchSize_shouldShareQueuedTasksBetweenThreads() {
+    assertThat(service.getBatchSize(1)).isEqualTo(1);
+    assertThat(service.getBatchSize(queueCapacity)).isEqualTo(batchSize);
+  }
+
+  @Test
+  public void getBatchSize_shouldLimitBatchesWhenVerificationIsSlow() {
+    // 10ms per task
+    service.recordBatchDuration(TimeUnit.SECONDS.toNanos(1), 100);
+    assertThat(service.getBatchSize(queueCapacity))
+        .isEqualTo(AggregatingSignatureVerificationService.MIN_ADAPTIVE_BATCH_SIZE);
+
+    // Recovers gradually as verification speeds up
+    for (int i = 0; i < 50; i++) {
+      service.recordBatchDuration(TimeUnit.MILLISECONDS.toNanos(1), 100);
+    }
+    assertThat(service.getBatchSize(queueCapacity)).isEqualTo(batchSize);
+  }
+
+  private long getTimeInMillis() {
+    return timeProvider.getTimeInMillis().longValue();
+  }
+
   private void startService() {
     try {
       service.start().get(500, TimeUnit.MILLISECONDS);
@@ -366,11 +490,19 @@ public class AggregatingSignatureVerificationServiceTest {
 
   private SafeFuture<Boolean> executeVerify(
       final int keypairIndex, final int data, final boolean useValidSignature) {
+    return executeVerify(service, keypairIndex, data, useValidSignature);
+  }
+
+  private SafeFuture<Boolean> executeVerify(
+      final AsyncBLSSignatureVerifier verifier,
+      final int keypairIndex,
+      final int data,
+      final boolean useValidSignature) {
     final BLSKeyPair keypair = keys.get(keypairIndex);
     final Bytes message = Bytes.of(data);
     final BLSSignature signature =
         useValidSignature ? BLS.sign(keypair.getSecretKey(), message) : BLSSignature.empty();
-    return service.verify(keypair.getPublicKey(), message, signature);
+    return verifier.verify(keypair.getPublicKey(), message, signature);
   }
 
   private SafeFuture<Boolean> executeListVerify(
@@ -0,0 +1,52 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.async;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates virtual threads when running on a JVM which supports them.
+ *
+ * <p>The project is compiled for Java 17, so the virtual thread builder API is looked up
+ * reflectively. This is only done when creating a thread factory, not for each thread.
+ */
+public class VirtualThreads {
+
+  private VirtualThreads() {}
+
+  public static boolean isSupported() {
+    return createThreadFactory("probe-").isPresent();
+  }
+
+  /**
+   * Creates a factory for virtual threads named {@code namePrefix} followed by a counter.
+   *
+   * @param namePrefix the prefix of the thread names
+   * @return the thread factory or empty if virtual threads are not supported by the JVM
+   */
+  public static Optional<ThreadFactory> createThreadFactory(final String namePrefix) {
+    try {
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      final Method name = builderClass.getMethod("name", String.class, long.class);
+      final Method factory = builderClass.getMethod("factory");
+      return Optional.of((ThreadFactory) factory.invoke(name.invoke(builder, namePrefix, 0L)));
+    } catch (final ReflectiveOperationException | RuntimeException e) {
+      // Not available before Java 21, or requires preview features to be enabled
+      return Optional.empty();
+    }
+  }
+}
@@ -87,6 +87,36 @@ public final class BLSPublicKey {
     return ret;
   }
 
+  /**
+   * Create a PublicKey which has already been validated from its compressed and uncompressed
+   * forms, as returned by {@link #toBytesCompressed()} and {@link #toBytesUncompressed()}. The
+   * uncompressed bytes are checked to be a point on the curve which compresses to {@code
+   * bytesCompressed}, so they can only be the point {@code bytesCompressed} decompresses to. The
+   * group membership check is skipped, so the caller must only pass keys which were valid when
+   * serialized.
+   *
+   * @param bytesCompressed 48 bytes of the compressed public key
+   * @param bytesUncompressed 96 bytes of the same public key in uncompressed form
+   * @return a valid public key
+   * @throws IllegalArgumentException If the uncompressed bytes are not a point on the curve or
+   *     don't match the compressed bytes
+   */
+  public static BLSPublicKey fromValidatedBytes(
+      final Bytes48 bytesCompressed, final Bytes bytesUncompressed)
+      throws IllegalArgumentException {
+    checkArgument(
+        bytesUncompressed.size() == BLSConstants.BLS_PUBKEY_UNCOMPRESSED_SIZE,
+        "Expected " + BLSConstants.BLS_PUBKEY_UNCOMPRESSED_SIZE + " bytes but received %s.",
+        bytesUncompressed.size());
+    final PublicKey publicKey =
+        BLS.getBlsImpl().publicKeyFromValidatedUncompressed(bytesUncompressed);
+    checkArgument(
+        publicKey.toBytesCompressed().equals(bytesCompressed),
+        "Uncompressed public key does not match compressed public key %s",
+        bytesCompressed);
+    return new BLSPublicKey(() -> publicKey, () -> bytesCompressed);
+  }
+
   // Sometimes we are dealing with random, invalid pubkey points, e.g. when testing.
   // Let's only interpret the raw data into a point when necessary to do so.
   // And vice versa while aggregating we are dealing with points only so let's
@@ -136,6 +166,10 @@ public final class BLSPublicKey {
     return bytesCompressed.get();
   }
 
+  public Bytes toBytesUncompressed() {
+    return publicKey.get().toBytesUncompressed();
+  }
+
   PublicKey getPublicKey() {
     return publicKey.get();
   }
@@ -69,6 +69,17 @@ public interface BLS12381 {
    */
   PublicKey publicKeyFromCompressed(Bytes48 compressedPublicKeyBytes) throws BlsException;
 
+  /**
+   * Create a PublicKey from the uncompressed bytes of a key which has already been validated, for
+   * example one read back from a local cache. The group membership check is skipped.
+   *
+   * @param uncompressedPublicKeyBytes 96 bytes to read the public key from
+   * @return a public key which is treated as valid
+   * @throws BlsException If the supplied bytes are not a point on the curve
+   */
+  PublicKey publicKeyFromValidatedUncompressed(Bytes uncompressedPublicKeyBytes)
+      throws BlsException;
+
   /**
    * Decode a signature from its <em>compressed</em> form serialized representation.
    *
@@ -83,6 +83,11 @@ public class BlstBLS12381 implements BLS12381 {
     return BlstPublicKey.fromBytes(compressedPublicKeyBytes);
   }
 
+  @Override
+  public BlstPublicKey publicKeyFromValidatedUncompressed(Bytes uncompressedPublicKeyBytes) {
+    return BlstPublicKey.fromValidatedUncompressedBytes(uncompressedPublicKeyBytes);
+  }
+
   @Override
   public BlstSignature signatureFromCompressed(Bytes compressedSignatureBytes) {
     return BlstSignature.fromBytes(compressedSignatureBytes);
@@ -19,6 +19,7 @@ import com.google.common.base.Suppliers;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes48;
 import supranational.blst.P1;
 import supranational.blst.P1_Affine;
@@ -44,6 +45,15 @@ class BlstPublicKey implements PublicKey {
     }
   }
 
+  static BlstPublicKey fromValidatedUncompressedBytes(Bytes uncompressed) {
+    try {
+      P1_Affine ecPoint = new P1_Affine(uncompressed.toArrayUnsafe());
+      return new BlstPublicKey(ecPoint, Suppliers.memoize(ecPoint::is_inf), () -> true);
+    } catch (Exception e) {
+      throw new BlsException("Deserialization of public key bytes failed: " + uncompressed, e);
+    }
+  }
+
   static BlstPublicKey fromPublicKey(PublicKey publicKey) {
     if (publicKey instanceof BlstPublicKey) {
       return (BlstPublicKey) publicKey;
@@ -71,11 +81,20 @@ class BlstPublicKey implements PublicKey {
   }
 
   final P1_Affine ecPoint;
-  private final Supplier<Boolean> isInfinity = Suppliers.memoize(this::checkForInfinity);
-  private final Supplier<Boolean> isInGroup = Suppliers.memoize(this::checkGroupMembership);
+  private final Supplier<Boolean> isInfinity;
+  private final Supplier<Boolean> isInGroup;
 
   public BlstPublicKey(P1_Affine ecPoint) {
     this.ecPoint = ecPoint;
+    this.isInfinity = Suppliers.memoize(ecPoint::is_inf);
+    this.isInGroup = Suppliers.memoize(ecPoint::in_group);
+  }
+
+  private BlstPublicKey(
+      P1_Affine ecPoint, Supplier<Boolean> isInfinity, Supplier<Boolean> isInGroup) {
+    this.ecPoint = ecPoint;
+    this.isInfinity = isInfinity;
+    this.isInGroup = isInGroup;
   }
 
   @Override
@@ -90,14 +109,6 @@ class BlstPublicKey implements PublicKey {
     return isInGroup.get();
   }
 
-  private boolean checkGroupMembership() {
-    return ecPoint.in_group();
-  }
-
-  private boolean checkForInfinity() {
-    return ecPoint.is_inf();
-  }
-
   @Override
   public boolean isValid() {
     return !isInfinity.get() && isInGroup.get();
@@ -112,6 +123,11 @@ class BlstPublicKey implements PublicKey {
     return Bytes48.wrap(ecPoint.compress());
   }
 
+  @Override
+  public Bytes toBytesUncompressed() {
+    return Bytes.wrap(ecPoint.serialize());
+  }
+
   @Override
   public int hashCode() {
     return toBytesCompressed().hashCode();
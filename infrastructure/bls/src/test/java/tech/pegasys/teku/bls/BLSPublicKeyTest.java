@@ -54,6 +54,55 @@ abstract class BLSPublicKeyTest {
         .isInstanceOf(IllegalArgumentException.class);
   }
 
+  @Test
+  void fromValidatedBytes_shouldRestoreKeyFromUncompressedBytes() {
+    final BLSKeyPair keyPair = BLSTestUtil.randomKeyPair(1);
+    final BLSPublicKey publicKey = keyPair.getPublicKey();
+    final Bytes message = Bytes.fromHexString("0x1234");
+
+    final BLSPublicKey restored =
+        BLSPublicKey.fromValidatedBytes(
+            publicKey.toBytesCompressed(), publicKey.toBytesUncompressed());
+
+    assertThat(restored).isEqualTo(publicKey);
+    assertThat(restored.isValid()).isTrue();
+    assertThat(restored.toBytesUncompressed()).isEqualTo(publicKey.toBytesUncompressed());
+    assertThat(BLS.verify(restored, message, BLS.sign(keyPair.getSecretKey(), message))).isTrue();
+  }
+
+  @Test
+  void fromValidatedBytes_shouldRejectWrongLength() {
+    final BLSPublicKey publicKey = BLSTestUtil.randomPublicKey(1);
+    assertThatThrownBy(
+            () ->
+                BLSPublicKey.fromValidatedBytes(
+                    publicKey.toBytesCompressed(), publicKey.toBytesCompressed()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void fromValidatedBytes_shouldRejectUncompressedBytesOfDifferentKey() {
+    final BLSPublicKey publicKey = BLSTestUtil.randomPublicKey(1);
+    final BLSPublicKey otherPublicKey = BLSTestUtil.randomPublicKey(2);
+    assertThatThrownBy(
+            () ->
+                BLSPublicKey.fromValidatedBytes(
+                    publicKey.toBytesCompressed(), otherPublicKey.toBytesUncompressed()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void fromValidatedBytes_shouldRejectCorruptedUncompressedBytes() {
+    final BLSPublicKey publicKey = BLSTestUtil.randomPublicKey(1);
+    final byte[] corrupted = publicKey.toBytesUncompressed().toArray();
+    corrupted[corrupted.length - 1] ^= 1;
+    assertThatThrownBy(
+            () ->
+                BLSPublicKey.fromValidatedBytes(
+                    publicKey.toBytesCompressed(), Bytes.wrap(corrupted)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   void succeedsWhenEqualsReturnsTrueForTheSameEmptyPublicKey() {
     BLSPublicKey publicKey = BLSPublicKey.empty();
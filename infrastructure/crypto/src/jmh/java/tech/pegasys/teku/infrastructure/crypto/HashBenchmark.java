@@ -17,15 +17,21 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
 @State(Scope.Benchmark)
 public class HashBenchmark {
+  private static final int PAIRS_COUNT = 1024;
 
   private final Bytes data1 = Bytes32.random();
   private final Bytes data2 = Bytes32.random();
+  private final byte[] pairs = Bytes.random(PAIRS_COUNT * BatchSha256.INPUT_SIZE).toArrayUnsafe();
+  private final byte[] digests = new byte[PAIRS_COUNT * BatchSha256.OUTPUT_SIZE];
+  private final BatchSha256 messageDigestBatchSha256 = new MessageDigestBatchSha256();
+  private final BatchSha256 javaBatchSha256 = new JavaBatchSha256();
 
   @Benchmark
   @Fork(2)
@@ -38,4 +44,33 @@ public class HashBenchmark {
   public void measureSha256_multiarg(Blackhole blackhole) {
     blackhole.consume(Hash.sha256(data1, data2));
   }
+
+  @Benchmark
+  @Fork(2)
+  @OperationsPerInvocation(PAIRS_COUNT)
+  public void measureSha256_pairsOneByOne(Blackhole blackhole) {
+    final Sha256 sha256 = Hash.getSha256Instance();
+    for (int i = 0; i < PAIRS_COUNT; i++) {
+      blackhole.consume(
+          sha256.digest(
+              Bytes.wrap(pairs, i * BatchSha256.INPUT_SIZE, 32),
+              Bytes.wrap(pairs, i * BatchSha256.INPUT_SIZE + 32, 32)));
+    }
+  }
+
+  @Benchmark
+  @Fork(2)
+  @OperationsPerInvocation(PAIRS_COUNT)
+  public void measureSha256_pairsBatchedMessageDigest(Blackhole blackhole) {
+    messageDigestBatchSha256.digestPairs(pairs, 0, digests, 0, PAIRS_COUNT);
+    blackhole.consume(digests);
+  }
+
+  @Benchmark
+  @Fork(2)
+  @OperationsPerInvocation(PAIRS_COUNT)
+  public void measureSha256_pairsBatchedJava(Blackhole blackhole) {
+    javaBatchSha256.digestPairs(pairs, 0, digests, 0, PAIRS_COUNT);
+    blackhole.consume(digests);
+  }
 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.crypto;
+
+/**
+ * Hashes many independent 64 byte inputs (two concatenated 32 byte chunks) in a single call. This
+ * is the shape of every hash computed while merkleizing an SSZ tree, so implementations are free
+ * to process several inputs at once rather than one message digest round trip per node.
+ *
+ * <p>Instances are not thread safe and are expected to be reused by a single thread.
+ */
+public interface BatchSha256 {
+
+  int INPUT_SIZE = 64;
+  int OUTPUT_SIZE = 32;
+
+  /**
+   * Hashes {@code count} consecutive 64 byte inputs starting at {@code inputOffset} and writes the
+   * {@code count} resulting 32 byte digests consecutively starting at {@code outputOffset}.
+   */
+  void digestPairs(byte[] input, int inputOffset, byte[] output, int outputOffset, int count);
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.crypto;
+
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class BatchSha256Factory {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final Supplier<BatchSha256> BATCH_SHA_256_SUPPLIER = selectImplementation();
+
+  public static BatchSha256 create() {
+    return BATCH_SHA_256_SUPPLIER.get();
+  }
+
+  /**
+   * Prefers an available {@link BatchSha256Provider} registered on the classpath (e.g. a native
+   * implementation). Otherwise uses the JDK message digest when it is backed by the SUN provider,
+   * which HotSpot intrinsifies, and falls back to the pure Java implementation when SHA-256 is
+   * provided by BouncyCastle.
+   *
+   * @return supplier of new batch hasher instances.
+   */
+  private static Supplier<BatchSha256> selectImplementation() {
+    try {
+      for (BatchSha256Provider provider : ServiceLoader.load(BatchSha256Provider.class)) {
+        if (provider.isAvailable()) {
+          LOG.debug("Using {} batch SHA-256 implementation", provider.getName());
+          return provider::create;
+        }
+      }
+    } catch (final Throwable t) {
+      LOG.warn(
+          "Failed to load batch SHA-256 providers, falling back to built-in implementation", t);
+    }
+    return MessageDigestFactory.isSha256ProvidedByJdk()
+        ? MessageDigestBatchSha256::new
+        : JavaBatchSha256::new;
+  }
+}
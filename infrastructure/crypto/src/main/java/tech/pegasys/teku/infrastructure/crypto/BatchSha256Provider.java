@@ -0,0 +1,29 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.crypto;
+
+/**
+ * Service provider for an alternative {@link BatchSha256} implementation, e.g. one backed by a
+ * native multi-lane SHA-256 library. Providers are discovered with {@link java.util.ServiceLoader}
+ * so that they can be shipped separately from this module.
+ */
+public interface BatchSha256Provider {
+
+  String getName();
+
+  /** Returns false if the implementation can't be used on this platform. */
+  boolean isAvailable();
+
+  BatchSha256 create();
+}
@@ -22,6 +22,9 @@ public class Hash {
   private static final ThreadLocal<MessageDigest> SHA256_MESSAGE_DIGEST_THREAD_LOCAL =
       ThreadLocal.withInitial(MessageDigestFactory::createSha256);
 
+  private static final ThreadLocal<BatchSha256> BATCH_SHA256_THREAD_LOCAL =
+      ThreadLocal.withInitial(BatchSha256Factory::create);
+
   private static final ThreadLocal<MessageDigest> KECCAK_256_MESSAGE_DIGEST_THREAD_LOCAL =
       ThreadLocal.withInitial(MessageDigestFactory::createKeccak256);
 
@@ -65,6 +68,7 @@ public class Hash {
    * @return Sha256
    */
   public static Sha256 getSha256Instance() {
-    return new Sha256(SHA256_MESSAGE_DIGEST_THREAD_LOCAL.get());
+    return new Sha256(
+        SHA256_MESSAGE_DIGEST_THREAD_LOCAL.get(), BATCH_SHA256_THREAD_LOCAL.get());
   }
 }
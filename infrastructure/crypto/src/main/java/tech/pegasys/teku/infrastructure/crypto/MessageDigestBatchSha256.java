@@ -0,0 +1,51 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.crypto;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+
+/**
+ * Hashes each input with a reused {@link MessageDigest}, writing digests directly into the output
+ * buffer. The JDK SHA-256 implementation is intrinsified by HotSpot so this is the fastest option
+ * when the SUN provider is available.
+ */
+public class MessageDigestBatchSha256 implements BatchSha256 {
+  private final MessageDigest messageDigest;
+
+  public MessageDigestBatchSha256() {
+    this(MessageDigestFactory.createSha256());
+  }
+
+  MessageDigestBatchSha256(final MessageDigest messageDigest) {
+    this.messageDigest = messageDigest;
+  }
+
+  @Override
+  public void digestPairs(
+      final byte[] input,
+      final int inputOffset,
+      final byte[] output,
+      final int outputOffset,
+      final int count) {
+    try {
+      for (int i = 0; i < count; i++) {
+        messageDigest.update(input, inputOffset + i * INPUT_SIZE, INPUT_SIZE);
+        messageDigest.digest(output, outputOffset + i * OUTPUT_SIZE, OUTPUT_SIZE);
+      }
+    } catch (final DigestException e) {
+      throw new IllegalArgumentException("Output buffer too small", e);
+    }
+  }
+}
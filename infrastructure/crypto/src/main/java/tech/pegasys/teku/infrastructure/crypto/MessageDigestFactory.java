@@ -47,6 +47,10 @@ public class MessageDigestFactory {
     }
   }
 
+  static boolean isSha256ProvidedByJdk() {
+    return !(SHA_256_SECURITY_PROVIDER instanceof BouncyCastleProvider);
+  }
+
   /**
    * We want to use a known security provider. The SUN provider shipped as part of openjdk based
    * JREs is faster than BouncyCastle but may not be available on all JREs (eg IBM's or if the name
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.infrastructure.crypto;
 
+import java.security.DigestException;
 import java.security.MessageDigest;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
@@ -23,9 +24,11 @@ import org.apache.tuweni.bytes.Bytes32;
 
 public class Sha256 {
   private final MessageDigest messageDigest;
+  private final BatchSha256 batchSha256;
 
-  Sha256(final MessageDigest messageDigest) {
+  Sha256(final MessageDigest messageDigest, final BatchSha256 batchSha256) {
     this.messageDigest = messageDigest;
+    this.batchSha256 = batchSha256;
   }
 
   public byte[] digest(final Bytes a, final Bytes b) {
@@ -41,6 +44,38 @@ public class Sha256 {
     return messageDigest.digest();
   }
 
+  /**
+   * Hashes {@code length} bytes of {@code input}, writing the 32 byte digest into {@code output}
+   * without allocating.
+   */
+  public void digest(
+      final byte[] input,
+      final int inputOffset,
+      final int length,
+      final byte[] output,
+      final int outputOffset) {
+    messageDigest.update(input, inputOffset, length);
+    try {
+      messageDigest.digest(output, outputOffset, Bytes32.SIZE);
+    } catch (final DigestException e) {
+      throw new IllegalArgumentException("Output buffer too small", e);
+    }
+  }
+
+  /**
+   * Hashes {@code count} consecutive 64 byte inputs in one call
+   *
+   * @see BatchSha256#digestPairs(byte[], int, byte[], int, int)
+   */
+  public void digestPairs(
+      final byte[] input,
+      final int inputOffset,
+      final byte[] output,
+      final int outputOffset,
+      final int count) {
+    batchSha256.digestPairs(input, inputOffset, output, outputOffset, count);
+  }
+
   public Bytes32 wrappedDigest(final Bytes a, final Bytes b) {
     return Bytes32.wrap(digest(a, b));
   }
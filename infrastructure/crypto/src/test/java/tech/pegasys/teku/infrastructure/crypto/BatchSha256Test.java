@@ -0,0 +1,60 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class BatchSha256Test {
+
+  static Stream<Arguments> implementations() {
+    return Stream.of(
+        Arguments.of(new MessageDigestBatchSha256()), Arguments.of(new JavaBatchSha256()));
+  }
+
+  @ParameterizedTest
+  @MethodSource("implementations")
+  void shouldHashZeroChunks(final BatchSha256 batchSha256) {
+    final byte[] output = new byte[32];
+    batchSha256.digestPairs(new byte[64], 0, output, 0, 1);
+
+    assertThat(Bytes32.wrap(output))
+        .isEqualTo(
+            Bytes32.fromHexString(
+                "0xf5a5fd42d16a20302798ef6ed309979b43003d2320d9f0e8ea9831a92759fb4b"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("implementations")
+  void shouldMatchSingleHashesAtOffsets(final BatchSha256 batchSha256) {
+    final int count = 17;
+    final byte[] input = new byte[3 + count * 64];
+    new Random(42).nextBytes(input);
+    final byte[] output = new byte[5 + count * 32];
+
+    batchSha256.digestPairs(input, 3, output, 5, count);
+
+    for (int i = 0; i < count; i++) {
+      assertThat(Bytes32.wrap(output, 5 + i * 32))
+          .isEqualTo(Hash.sha256(Bytes.wrap(input, 3 + i * 64, 64)));
+    }
+  }
+}
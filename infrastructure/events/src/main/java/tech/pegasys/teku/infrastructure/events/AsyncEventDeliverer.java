@@ -22,40 +22,61 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.events.EventQueueConfig.OverflowPolicy;
 
 public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
   private static final Logger LOG = LogManager.getLogger();
-  private static final int QUEUE_CAPACITY = 500;
+  private static final Object[] NO_ARGS = new Object[0];
 
-  private final Map<T, BlockingQueue<Runnable>> eventQueuesBySubscriber =
+  private final Map<T, SubscriberQueue> eventQueuesBySubscriber =
       synchronizedMap(new IdentityHashMap<>());
   private final List<QueueReader> queueReaders = new CopyOnWriteArrayList<>();
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final ExecutorService executor;
+  private final EventQueueMetrics queueMetrics;
 
   public AsyncEventDeliverer(
       final ExecutorService executor,
       final ChannelExceptionHandler exceptionHandler,
       final MetricsSystem metricsSystem) {
+    this(executor, exceptionHandler, metricsSystem, new EventQueueMetrics(metricsSystem));
+  }
+
+  AsyncEventDeliverer(
+      final ExecutorService executor,
+      final ChannelExceptionHandler exceptionHandler,
+      final MetricsSystem metricsSystem,
+      final EventQueueMetrics queueMetrics) {
     super(exceptionHandler, metricsSystem);
     this.executor = executor;
+    this.queueMetrics = queueMetrics;
   }
 
   @Override
-  void subscribe(final T subscriber, final int numberOfThreads) {
-    final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+  void subscribe(
+      final String channelName,
+      final T subscriber,
+      final int numberOfThreads,
+      final EventQueueConfig queueConfig) {
+    final SubscriberQueue queue =
+        new SubscriberQueue(channelName, subscriber.getClass().getSimpleName(), queueConfig);
     eventQueuesBySubscriber.put(subscriber, queue);
-    super.subscribe(subscriber, numberOfThreads);
+    super.subscribe(channelName, subscriber, numberOfThreads, queueConfig);
     for (int i = 0; i < numberOfThreads; i++) {
-      final QueueReader reader = new QueueReader(queue);
+      final QueueReader reader = new QueueReader(queue.queue);
       queueReaders.add(reader);
       executor.execute(reader);
     }
@@ -63,7 +84,12 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
 
   @Override
   protected void deliverTo(final T subscriber, final Method method, final Object[] args) {
-    enqueueDelivery(subscriber, method, () -> super.deliverTo(subscriber, method, args));
+    final SubscriberQueue queue = getQueue(subscriber);
+    if (queue.overflowPolicy == OverflowPolicy.COALESCE) {
+      queue.enqueueCoalescing(subscriber, method, args);
+    } else {
+      queue.enqueue(method, () -> deliverDirectly(subscriber, method, args));
+    }
   }
 
   @Override
@@ -73,25 +99,27 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
       final Object[] args,
       final AsyncRunner responseRunner) {
     final SafeFuture<X> result = new SafeFuture<>();
-    enqueueDelivery(
-        subscriber,
-        method,
-        () ->
-            super.<X>deliverToWithResponse(subscriber, method, args, responseRunner)
-                .propagateToAsync(result, responseRunner));
+    final boolean enqueued =
+        getQueue(subscriber)
+            .enqueue(
+                method,
+                () ->
+                    super.<X>deliverToWithResponse(subscriber, method, args, responseRunner)
+                        .propagateToAsync(result, responseRunner));
+    if (!enqueued) {
+      result.completeExceptionally(
+          new RejectedExecutionException(
+              "Event " + method.getName() + " was not accepted by subscriber queue"));
+    }
     return result;
   }
 
-  private void enqueueDelivery(final T subscriber, final Method method, final Runnable action) {
-    final BlockingQueue<Runnable> queue = checkNotNull(eventQueuesBySubscriber.get(subscriber));
-    while (!stopped.get()) {
-      try {
-        queue.put(action);
-        return;
-      } catch (final InterruptedException e) {
-        LOG.debug("Interrupted while trying to publish event {}", method::getName);
-      }
-    }
+  private void deliverDirectly(final T subscriber, final Method method, final Object[] args) {
+    super.deliverTo(subscriber, method, args);
+  }
+
+  private SubscriberQueue getQueue(final T subscriber) {
+    return checkNotNull(eventQueuesBySubscriber.get(subscriber));
   }
 
   @Override
@@ -101,6 +129,104 @@ public class AsyncEventDeliverer<T> extends DirectEventDeliverer<T> {
     return SafeFuture.allOf(queueReaders.stream().map(reader -> reader.readerStopped));
   }
 
+  private class SubscriberQueue {
+    private final BlockingQueue<Runnable> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final Map<Method, CoalescingDelivery> pendingDeliveries = new ConcurrentHashMap<>();
+    private final OperationTimer enqueueWaitTimer;
+    private final Counter droppedEventCounter;
+    private final Counter coalescedEventCounter;
+
+    private SubscriberQueue(
+        final String channelName, final String subscriberName, final EventQueueConfig config) {
+      this.queue = new ArrayBlockingQueue<>(config.getCapacity());
+      this.overflowPolicy = config.getOverflowPolicy();
+      this.enqueueWaitTimer = queueMetrics.enqueueWaitTimer(channelName, subscriberName);
+      this.droppedEventCounter = queueMetrics.droppedEventCounter(channelName, subscriberName);
+      this.coalescedEventCounter = queueMetrics.coalescedEventCounter(channelName, subscriberName);
+      queueMetrics.trackQueueDepth(queue, channelName, subscriberName);
+    }
+
+    /** Returns false if the event was discarded because the queue is full or stopped. */
+    private boolean enqueue(final Method method, final Runnable action) {
+      if (stopped.get()) {
+        return false;
+      }
+      if (queue.offer(action)) {
+        return true;
+      }
+      if (overflowPolicy == OverflowPolicy.DROP) {
+        droppedEventCounter.inc();
+        LOG.debug("Dropped event {} as subscriber queue is full", method::getName);
+        return false;
+      }
+      final OperationTimer.TimingContext timingContext = enqueueWaitTimer.startTimer();
+      try {
+        while (!stopped.get()) {
+          try {
+            queue.put(action);
+            return true;
+          } catch (final InterruptedException e) {
+            LOG.debug("Interrupted while trying to publish event {}", method::getName);
+          }
+        }
+        return false;
+      } finally {
+        timingContext.stopTimer();
+      }
+    }
+
+    private void enqueueCoalescing(final T subscriber, final Method method, final Object[] args) {
+      final Object[] eventArgs = args != null ? args : NO_ARGS;
+      final CoalescingDelivery pendingDelivery = pendingDeliveries.get(method);
+      if (pendingDelivery != null && pendingDelivery.replaceArgs(eventArgs)) {
+        coalescedEventCounter.inc();
+        return;
+      }
+      final CoalescingDelivery delivery = new CoalescingDelivery(subscriber, method, eventArgs);
+      pendingDeliveries.put(method, delivery);
+      if (!enqueue(method, delivery)) {
+        pendingDeliveries.remove(method, delivery);
+      }
+    }
+
+    /**
+     * A queued void event whose arguments may be replaced by later calls to the same method until
+     * it is taken from the queue.
+     */
+    private class CoalescingDelivery implements Runnable {
+      private final T subscriber;
+      private final Method method;
+      private final AtomicReference<Object[]> pendingArgs;
+
+      private CoalescingDelivery(final T subscriber, final Method method, final Object[] args) {
+        this.subscriber = subscriber;
+        this.method = method;
+        this.pendingArgs = new AtomicReference<>(args);
+      }
+
+      private boolean replaceArgs(final Object[] args) {
+        while (true) {
+          final Object[] currentArgs = pendingArgs.get();
+          if (currentArgs == null) {
+            // Already being delivered
+            return false;
+          }
+          if (pendingArgs.compareAndSet(currentArgs, args)) {
+            return true;
+          }
+        }
+      }
+
+      @Override
+      public void run() {
+        pendingDeliveries.remove(method, this);
+        final Object[] args = pendingArgs.getAndSet(null);
+        deliverDirectly(subscriber, method, args == NO_ARGS ? null : args);
+      }
+    }
+  }
+
   class QueueReader implements Runnable {
     private final SafeFuture<Void> readerStopped = new SafeFuture<>();
     private final BlockingQueue<Runnable> queue;
@@ -15,18 +15,30 @@ package tech.pegasys.teku.infrastructure.events;
 
 import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.EVENTBUS;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 
 class DirectEventDeliverer<T> extends EventDeliverer<T> {
+  private static final MethodType INVOKER_TYPE =
+      MethodType.methodType(Object.class, Object.class, Object[].class);
+
   private final ChannelExceptionHandler exceptionHandler;
   private final LabelledMetric<Counter> consumedEventCounter;
   private final LabelledMetric<Counter> failedEventCounter;
+  private final LabelledMetric<OperationTimer> handlerTimer;
+  private final Map<Method, MethodHandle> invokers = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Map<Method, HandlerMetrics>> handlerMetricsBySubscriberType =
+      new ConcurrentHashMap<>();
 
   DirectEventDeliverer(
       final ChannelExceptionHandler exceptionHandler, final MetricsSystem metricsSystem) {
@@ -46,6 +58,13 @@ class DirectEventDeliverer<T> extends EventDeliverer<T> {
             "Number of events which failed to be processed",
             "channel",
             "subscriber");
+    handlerTimer =
+        metricsSystem.createLabelledTimer(
+            EVENTBUS,
+            "event_handler_time",
+            "Time taken by subscribers to process events",
+            "channel",
+            "subscriber");
   }
 
   @Override
@@ -70,23 +89,66 @@ class DirectEventDeliverer<T> extends EventDeliverer<T> {
   @SuppressWarnings("unchecked")
   private <X> SafeFuture<X> executeMethod(
       final T subscriber, final Method method, final Object[] args) {
+    final HandlerMetrics metrics = getHandlerMetrics(subscriber, method);
+    final OperationTimer.TimingContext timingContext = metrics.handlerTimer().startTimer();
     try {
-      return (SafeFuture<X>) method.invoke(subscriber, args);
-    } catch (IllegalAccessException e) {
-      incrementCounter(failedEventCounter, subscriber, method);
+      final Object result = (Object) getInvoker(method).invokeExact((Object) subscriber, args);
+      return (SafeFuture<X>) result;
+    } catch (final Throwable e) {
+      metrics.failedEventCounter().inc();
       return SafeFuture.failedFuture(e);
-    } catch (InvocationTargetException e) {
-      incrementCounter(failedEventCounter, subscriber, method);
-      return SafeFuture.failedFuture(e.getTargetException());
     } finally {
-      incrementCounter(consumedEventCounter, subscriber, method);
+      timingContext.stopTimer();
+      metrics.consumedEventCounter().inc();
     }
   }
 
-  private void incrementCounter(
-      final LabelledMetric<Counter> counter, final T subscriber, final Method method) {
-    counter
-        .labels(method.getDeclaringClass().getSimpleName(), subscriber.getClass().getSimpleName())
-        .inc();
+  /**
+   * Returns a method handle which calls {@code method} on the subscriber passed as its first
+   * argument, spreading the argument array over the method's parameters. Handles are created once
+   * per method so each event avoids the reflective dispatch of {@link Method#invoke(Object,
+   * Object...)}.
+   */
+  private MethodHandle getInvoker(final Method method) throws IllegalAccessException {
+    final MethodHandle cachedInvoker = invokers.get(method);
+    if (cachedInvoker != null) {
+      return cachedInvoker;
+    }
+    // Access is checked as if the method were called directly from this class
+    final MethodHandle invoker =
+        MethodHandles.lookup()
+            .unreflect(method)
+            .asSpreader(Object[].class, method.getParameterCount())
+            .asType(INVOKER_TYPE);
+    invokers.put(method, invoker);
+    return invoker;
   }
+
+  /**
+   * Returns the metrics for events delivered by {@code method} to subscribers of the same type as
+   * {@code subscriber}. Labelled children are resolved once so delivering an event doesn't look up
+   * each metric by its labels.
+   */
+  private HandlerMetrics getHandlerMetrics(final T subscriber, final Method method) {
+    final Map<Method, HandlerMetrics> metricsByMethod =
+        handlerMetricsBySubscriberType.computeIfAbsent(
+            subscriber.getClass(), __ -> new ConcurrentHashMap<>());
+    final HandlerMetrics cachedMetrics = metricsByMethod.get(method);
+    if (cachedMetrics != null) {
+      return cachedMetrics;
+    }
+    return metricsByMethod.computeIfAbsent(
+        method,
+        __ -> {
+          final String channel = method.getDeclaringClass().getSimpleName();
+          final String subscriberName = subscriber.getClass().getSimpleName();
+          return new HandlerMetrics(
+              consumedEventCounter.labels(channel, subscriberName),
+              failedEventCounter.labels(channel, subscriberName),
+              handlerTimer.labels(channel, subscriberName));
+        });
+  }
+
+  private record HandlerMetrics(
+      Counter consumedEventCounter, Counter failedEventCounter, OperationTimer handlerTimer) {}
 }
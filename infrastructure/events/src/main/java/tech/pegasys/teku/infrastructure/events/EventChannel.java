@@ -61,7 +61,8 @@ class EventChannel<T> {
   static <T> EventChannel<T> createAsync(
       final Class<T> channelInterface,
       final ChannelExceptionHandler exceptionHandler,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final EventQueueMetrics queueMetrics) {
     return createAsync(
         channelInterface,
         Executors.newCachedThreadPool(
@@ -70,7 +71,8 @@ class EventChannel<T> {
                 .setNameFormat(channelInterface.getSimpleName() + "-%d")
                 .build()),
         exceptionHandler,
-        metricsSystem);
+        metricsSystem,
+        queueMetrics);
   }
 
   static <T> EventChannel<T> createAsync(
@@ -81,16 +83,19 @@ class EventChannel<T> {
         channelInterface,
         executor,
         LoggingChannelExceptionHandler.LOGGING_EXCEPTION_HANDLER,
-        metricsSystem);
+        metricsSystem,
+        new EventQueueMetrics(metricsSystem));
   }
 
   static <T> EventChannel<T> createAsync(
       final Class<T> channelInterface,
       final ExecutorService executor,
       final ChannelExceptionHandler exceptionHandler,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final EventQueueMetrics queueMetrics) {
     return create(
-        channelInterface, new AsyncEventDeliverer<>(executor, exceptionHandler, metricsSystem));
+        channelInterface,
+        new AsyncEventDeliverer<>(executor, exceptionHandler, metricsSystem, queueMetrics));
   }
 
   private static <T> EventChannel<T> create(
@@ -144,7 +149,7 @@ class EventChannel<T> {
   }
 
   void subscribe(final T listener) {
-    subscribeMultithreaded(listener, 1);
+    subscribeMultithreaded(listener, 1, EventQueueConfig.DEFAULT);
   }
 
   /**
@@ -158,13 +163,16 @@ class EventChannel<T> {
    *
    * @param listener the listener to notify of events
    * @param requestedParallelism the number of threads to use to process events
+   * @param queueConfig the size and overflow policy of the listener's event queue
    */
-  void subscribeMultithreaded(final T listener, final int requestedParallelism) {
+  void subscribeMultithreaded(
+      final T listener, final int requestedParallelism, final EventQueueConfig queueConfig) {
     checkArgument(requestedParallelism > 0, "Number of threads must be at least 1");
     if (!hasSubscriber.compareAndSet(false, true) && !allowMultipleSubscribers) {
       throw new IllegalStateException("Only one subscriber is supported by this event channel");
     }
-    invoker.subscribe(listener, requestedParallelism);
+    invoker.subscribe(
+        channelInterface.getSimpleName(), listener, requestedParallelism, queueConfig);
   }
 
   public SafeFuture<Void> stop() {
@@ -28,9 +28,7 @@ public class EventChannels {
 
   public EventChannels(
       final ChannelExceptionHandler exceptionHandler, final MetricsSystem metricsSystem) {
-    this(
-        channelInterface ->
-            EventChannel.createAsync(channelInterface, exceptionHandler, metricsSystem));
+    this(createAsyncChannelFactory(exceptionHandler, metricsSystem));
   }
 
   public static EventChannels createSyncChannels(
@@ -43,6 +41,13 @@ public class EventChannels {
     this.eventChannelFactory = eventChannelFactory;
   }
 
+  private static Function<Class<?>, EventChannel<?>> createAsyncChannelFactory(
+      final ChannelExceptionHandler exceptionHandler, final MetricsSystem metricsSystem) {
+    final EventQueueMetrics queueMetrics = new EventQueueMetrics(metricsSystem);
+    return channelInterface ->
+        EventChannel.createAsync(channelInterface, exceptionHandler, metricsSystem, queueMetrics);
+  }
+
   /**
    * Creates a publisher to send events to an event channel. Unless this instance was created with
    * {@link #createSyncChannels(ChannelExceptionHandler, MetricsSystem)} calls will return
@@ -84,6 +89,19 @@ public class EventChannels {
     return subscribeMultithreaded(channelInterface, subscriber, 1);
   }
 
+  /**
+   * Adds a subscriber to this channel whose pending events are held in a queue with the given
+   * capacity and overflow policy. Synchronous channels ignore the queue configuration.
+   *
+   * @param channelInterface the channel to subscribe to
+   * @param subscriber the subscriber to notify of events
+   * @param queueConfig the size and overflow policy of the subscriber's event queue
+   */
+  public <T extends ChannelInterface> EventChannels subscribe(
+      final Class<T> channelInterface, final T subscriber, final EventQueueConfig queueConfig) {
+    return subscribeMultithreaded(channelInterface, subscriber, 1, queueConfig);
+  }
+
   /**
    * Adds a subscriber to this channel where events are handled by multiple threads concurrently.
    *
@@ -99,7 +117,27 @@ public class EventChannels {
    */
   public <T extends ChannelInterface> EventChannels subscribeMultithreaded(
       final Class<T> channelInterface, final T subscriber, final int requestedParallelism) {
-    getChannel(channelInterface).subscribeMultithreaded(subscriber, requestedParallelism);
+    return subscribeMultithreaded(
+        channelInterface, subscriber, requestedParallelism, EventQueueConfig.DEFAULT);
+  }
+
+  /**
+   * Adds a subscriber to this channel where events are handled by multiple threads concurrently,
+   * pulling from a single queue with the given capacity and overflow policy.
+   *
+   * @param channelInterface the channel to subscribe to
+   * @param subscriber the subscriber to notify of events
+   * @param requestedParallelism the number of threads to use to process events
+   * @param queueConfig the size and overflow policy of the subscriber's event queue
+   * @see #subscribeMultithreaded(Class, ChannelInterface, int)
+   */
+  public <T extends ChannelInterface> EventChannels subscribeMultithreaded(
+      final Class<T> channelInterface,
+      final T subscriber,
+      final int requestedParallelism,
+      final EventQueueConfig queueConfig) {
+    getChannel(channelInterface)
+        .subscribeMultithreaded(subscriber, requestedParallelism, queueConfig);
     return this;
   }
 
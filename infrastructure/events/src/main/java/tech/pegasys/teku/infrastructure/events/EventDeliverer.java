@@ -37,7 +37,11 @@ abstract class EventDeliverer<T> {
             "channel");
   }
 
-  void subscribe(final T subscriber, final int numberOfThreads) {
+  void subscribe(
+      final String channelName,
+      final T subscriber,
+      final int numberOfThreads,
+      final EventQueueConfig queueConfig) {
     subscribers.subscribe(subscriber);
   }
 
@@ -0,0 +1,105 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+
+/**
+ * Configures the queue of pending events held for each subscriber of an async event channel and
+ * what happens when a subscriber falls far enough behind to fill it.
+ *
+ * <p>Synchronous channels deliver events on the publisher thread and ignore this configuration.
+ */
+public class EventQueueConfig {
+  public static final int DEFAULT_CAPACITY = 500;
+  public static final EventQueueConfig DEFAULT = block(DEFAULT_CAPACITY);
+
+  public enum OverflowPolicy {
+    /**
+     * The publisher waits until there is space in the queue. This is the default, and must be kept
+     * by subscribers which need every event, such as those of {@code BlockImportChannel} and {@code
+     * ChainHeadChannel}.
+     */
+    BLOCK,
+    /**
+     * The event is discarded. Futures returned for discarded events complete exceptionally with a
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    DROP,
+    /**
+     * While an event is still waiting in the queue, later calls to the same void method replace its
+     * arguments instead of queuing another event, so the subscriber only sees the latest value. The
+     * replaced event keeps its original position in the queue. Methods which return a future are
+     * never coalesced, and the publisher waits if the queue is full.
+     */
+    COALESCE
+  }
+
+  private final int capacity;
+  private final OverflowPolicy overflowPolicy;
+
+  private EventQueueConfig(final int capacity, final OverflowPolicy overflowPolicy) {
+    checkArgument(capacity > 0, "Queue capacity must be at least 1");
+    this.capacity = capacity;
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  public static EventQueueConfig block(final int capacity) {
+    return new EventQueueConfig(capacity, OverflowPolicy.BLOCK);
+  }
+
+  public static EventQueueConfig drop(final int capacity) {
+    return new EventQueueConfig(capacity, OverflowPolicy.DROP);
+  }
+
+  public static EventQueueConfig coalesce(final int capacity) {
+    return new EventQueueConfig(capacity, OverflowPolicy.COALESCE);
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final EventQueueConfig that = (EventQueueConfig) o;
+    return capacity == that.capacity && overflowPolicy == that.overflowPolicy;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(capacity, overflowPolicy);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("capacity", capacity)
+        .add("overflowPolicy", overflowPolicy)
+        .toString();
+  }
+}
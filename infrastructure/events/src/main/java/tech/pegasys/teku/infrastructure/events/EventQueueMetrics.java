@@ -0,0 +1,102 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.events;
+
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.EVENTBUS;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+/**
+ * Metrics for the subscriber queues of async event channels, labelled by channel and subscriber.
+ *
+ * <p>A single instance must be shared by all channels using the same {@link MetricsSystem} as the
+ * queue depth gauge can only be registered once.
+ */
+class EventQueueMetrics {
+  private final LabelledGauge queueDepthGauge;
+  private final Map<List<String>, Collection<Collection<?>>> queuesByLabels =
+      new ConcurrentHashMap<>();
+  private final LabelledMetric<OperationTimer> enqueueWaitTimer;
+  private final LabelledMetric<Counter> droppedEventCounter;
+  private final LabelledMetric<Counter> coalescedEventCounter;
+
+  EventQueueMetrics(final MetricsSystem metricsSystem) {
+    queueDepthGauge =
+        metricsSystem.createLabelledGauge(
+            EVENTBUS,
+            "event_queue_depth",
+            "Number of events waiting to be processed by a subscriber",
+            "channel",
+            "subscriber");
+    enqueueWaitTimer =
+        metricsSystem.createLabelledTimer(
+            EVENTBUS,
+            "event_enqueue_wait_time",
+            "Time publishers spent waiting for space in a subscriber's full event queue",
+            "channel",
+            "subscriber");
+    droppedEventCounter =
+        metricsSystem.createLabelledCounter(
+            EVENTBUS,
+            "event_dropped_count",
+            "Number of events discarded because a subscriber's event queue was full",
+            "channel",
+            "subscriber");
+    coalescedEventCounter =
+        metricsSystem.createLabelledCounter(
+            EVENTBUS,
+            "event_coalesced_count",
+            "Number of events which replaced an event still waiting in a subscriber's queue",
+            "channel",
+            "subscriber");
+  }
+
+  /**
+   * Adds {@code queue} to the depth reported for the channel and subscriber. Subscribers of the
+   * same type share a label so their queue depths are summed.
+   */
+  void trackQueueDepth(final Collection<?> queue, final String channel, final String subscriber) {
+    queuesByLabels
+        .computeIfAbsent(
+            List.of(channel, subscriber),
+            __ -> {
+              final Collection<Collection<?>> queues = new CopyOnWriteArrayList<>();
+              queueDepthGauge.labels(
+                  () -> queues.stream().mapToInt(Collection::size).sum(), channel, subscriber);
+              return queues;
+            })
+        .add(queue);
+  }
+
+  OperationTimer enqueueWaitTimer(final String channel, final String subscriber) {
+    return enqueueWaitTimer.labels(channel, subscriber);
+  }
+
+  Counter droppedEventCounter(final String channel, final String subscriber) {
+    return droppedEventCounter.labels(channel, subscriber);
+  }
+
+  Counter coalescedEventCounter(final String channel, final String subscriber) {
+    return coalescedEventCounter.labels(channel, subscriber);
+  }
+}
@@ -24,12 +24,15 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import org.hyperledger.besu.metrics.ObservableMetricsSystem;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -38,6 +41,7 @@ import org.mockito.InOrder;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.events.AsyncEventDeliverer.QueueReader;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 
 class EventChannelTest {
   private final MetricsSystem metricsSystem = new NoOpMetricsSystem();
@@ -223,7 +227,7 @@ class EventChannelTest {
             throw new RuntimeException(e);
           }
         };
-    channel.subscribeMultithreaded(subscriber, 2); // Two subscribing threads
+    channel.subscribeMultithreaded(subscriber, 2, EventQueueConfig.DEFAULT); // Two threads
 
     final CountDownLatch started1 = new CountDownLatch(1);
     final CountDownLatch await1 = new CountDownLatch(1);
@@ -346,6 +350,96 @@ class EventChannelTest {
     assertThat(stopFuture).isCompleted();
   }
 
+  @Test
+  @SuppressWarnings("rawtypes")
+  void shouldDropEventsWhenQueueIsFullWithDropPolicy() throws Exception {
+    final ExecutorService executor = mock(ExecutorService.class);
+    final ObservableMetricsSystem observableMetricsSystem = createObservableMetricsSystem();
+    final EventChannel<EventWithArgument> channel =
+        EventChannel.createAsync(EventWithArgument.class, executor, observableMetricsSystem);
+    final EventWithArgument subscriber = mock(EventWithArgument.class);
+    channel.subscribeMultithreaded(subscriber, 1, EventQueueConfig.drop(2));
+
+    channel.getPublisher(Optional.empty()).method1("Event1");
+    channel.getPublisher(Optional.empty()).method2("Event2");
+    // Queue is full so this event is dropped rather than blocking the publisher
+    channel.getPublisher(Optional.empty()).method1("Event3");
+
+    final ArgumentCaptor<QueueReader> consumerCaptor = ArgumentCaptor.forClass(QueueReader.class);
+    verify(executor).execute(consumerCaptor.capture());
+    consumerCaptor.getValue().deliverNextEvent();
+    consumerCaptor.getValue().deliverNextEvent();
+
+    final InOrder inOrder = inOrder(subscriber);
+    inOrder.verify(subscriber).method1("Event1");
+    inOrder.verify(subscriber).method2("Event2");
+    inOrder.verifyNoMoreInteractions();
+    assertThat(getEventBusMetricTotal(observableMetricsSystem, "event_dropped_count"))
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldFailFutureWhenEventIsDropped() {
+    final ExecutorService executor = mock(ExecutorService.class);
+    final EventChannel<WithFuture> channel =
+        EventChannel.createAsync(WithFuture.class, executor, metricsSystem);
+    channel.subscribeMultithreaded(SafeFuture::new, 1, EventQueueConfig.drop(1));
+
+    final SafeFuture<String> result1 =
+        channel.getPublisher(Optional.of(asyncRunner)).getFutureString();
+    final SafeFuture<String> result2 =
+        channel.getPublisher(Optional.of(asyncRunner)).getFutureString();
+
+    assertThat(result1).isNotDone();
+    assertThat(result2).isCompletedExceptionally();
+  }
+
+  @Test
+  @SuppressWarnings("rawtypes")
+  void shouldReplacePendingEventArgumentsWithCoalescePolicy() throws Exception {
+    final ExecutorService executor = mock(ExecutorService.class);
+    final ObservableMetricsSystem observableMetricsSystem = createObservableMetricsSystem();
+    final EventChannel<EventWithArgument> channel =
+        EventChannel.createAsync(EventWithArgument.class, executor, observableMetricsSystem);
+    final EventWithArgument subscriber = mock(EventWithArgument.class);
+    channel.subscribeMultithreaded(subscriber, 1, EventQueueConfig.coalesce(10));
+
+    channel.getPublisher(Optional.empty()).method1("Event1");
+    channel.getPublisher(Optional.empty()).method2("Event2");
+    channel.getPublisher(Optional.empty()).method1("Event3");
+
+    final ArgumentCaptor<QueueReader> consumerCaptor = ArgumentCaptor.forClass(QueueReader.class);
+    verify(executor).execute(consumerCaptor.capture());
+    consumerCaptor.getValue().deliverNextEvent();
+    consumerCaptor.getValue().deliverNextEvent();
+
+    // The latest arguments are delivered in the position of the first pending event
+    final InOrder inOrder = inOrder(subscriber);
+    inOrder.verify(subscriber).method1("Event3");
+    inOrder.verify(subscriber).method2("Event2");
+    inOrder.verifyNoMoreInteractions();
+    assertThat(getEventBusMetricTotal(observableMetricsSystem, "event_coalesced_count"))
+        .isEqualTo(1);
+
+    // Once delivered, later events are queued again
+    channel.getPublisher(Optional.empty()).method1("Event4");
+    consumerCaptor.getValue().deliverNextEvent();
+    verify(subscriber).method1("Event4");
+  }
+
+  private ObservableMetricsSystem createObservableMetricsSystem() {
+    return new PrometheusMetricsSystem(Set.of(TekuMetricCategory.EVENTBUS), true);
+  }
+
+  private double getEventBusMetricTotal(
+      final ObservableMetricsSystem observableMetricsSystem, final String metricName) {
+    return observableMetricsSystem
+        .streamObservations(TekuMetricCategory.EVENTBUS)
+        .filter(observation -> observation.getMetricName().equals(metricName))
+        .mapToDouble(observation -> (Double) observation.getValue())
+        .sum();
+  }
+
   private void waitForCountDownLatchComplete(final CountDownLatch started1)
       throws InterruptedException {
     assertThat(started1.await(5, TimeUnit.SECONDS)).isTrue();
@@ -242,11 +242,12 @@ public class StatusLogger {
   }
 
   public void reconstructedHistoricalBlocks(
-      final UInt64 numberRecorded, final UInt64 totalToRecord) {
+      final UInt64 numberRecorded, final UInt64 totalToRecord, final double blocksPerSecond) {
     log.info(
-        "ReconstructHistoricalStatesService recorded {} of {} historical blocks",
+        "ReconstructHistoricalStatesService recorded {} of {} historical blocks ({} blocks/sec)",
         numberRecorded,
-        totalToRecord);
+        totalToRecord,
+        String.format("%.2f", blocksPerSecond));
   }
 
   public void fatalErrorInitialisingStorage(Throwable err) {
@@ -23,8 +23,11 @@ import io.javalin.http.Context;
 import io.javalin.http.Header;
 import io.javalin.http.sse.SseClient;
 import io.javalin.http.sse.SseHandler;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -37,6 +40,13 @@ import tech.pegasys.teku.infrastructure.http.HttpErrorResponse;
 
 public class JavalinRestApiRequest implements RestApiRequest {
   private static final Logger LOG = LogManager.getLogger();
+
+  /**
+   * Responses are serialized straight to the connection through a buffer of this size, so memory
+   * per request doesn't grow with the response, e.g. when sending a full state. Writes block while
+   * the client isn't reading, and fail once it disconnects, which stops the serialization.
+   */
+  static final int RESPONSE_BUFFER_SIZE = 64 * 1024;
   private final Context context;
   private final EndpointMetadata metadata;
   private final Map<String, String> pathParamMap;
@@ -75,6 +85,9 @@ public class JavalinRestApiRequest implements RestApiRequest {
                       } catch (JsonProcessingException e) {
                         LOG.trace("Failed to generate API response", e);
                         context.status(SC_INTERNAL_SERVER_ERROR);
+                      } catch (UncheckedIOException e) {
+                        // The response has already started so the client has most likely gone
+                        LOG.debug("Failed to write API response", e);
                       }
                       return Bytes.EMPTY.toArrayUnsafe();
                     })
@@ -120,7 +133,13 @@ public class JavalinRestApiRequest implements RestApiRequest {
             statusCode, Optional.ofNullable(context.header(HEADER_ACCEPT)), response);
     context.contentType(responseMetadata.getContentType());
     responseMetadata.getAdditionalHeaders().forEach(context::header);
-    metadata.serialize(statusCode, responseMetadata.getContentType(), response, out);
+    try (final OutputStream bufferedOut = new BufferedOutputStream(out, RESPONSE_BUFFER_SIZE)) {
+      metadata.serialize(statusCode, responseMetadata.getContentType(), response, bufferedOut);
+    } catch (final JsonProcessingException e) {
+      throw e;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   /** This is only used when intending to return status code without a response body */
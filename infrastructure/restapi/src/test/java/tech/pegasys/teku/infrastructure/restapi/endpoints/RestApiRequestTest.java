@@ -15,8 +15,13 @@ package tech.pegasys.teku.infrastructure.restapi.endpoints;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCEPT;
@@ -28,6 +33,7 @@ import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.STRING_TYPE;
 import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.UINT8_TYPE;
 
 import io.javalin.http.Context;
+import jakarta.servlet.ServletOutputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -38,6 +44,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import tech.pegasys.teku.infrastructure.http.ContentTypes;
 import tech.pegasys.teku.infrastructure.restapi.CustomResponseTypeDefinition;
+import tech.pegasys.teku.infrastructure.restapi.openapi.response.OctetStreamResponseContentTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.openapi.response.ResponseContentTypeDefinition;
 
 public class RestApiRequestTest {
@@ -207,6 +214,38 @@ public class RestApiRequestTest {
     assertThat(request.getQueryParameterList(INT_PARAM)).isEqualTo(List.of(1, 2, 3));
   }
 
+  @Test
+  void shouldBufferWritesToResponseOutputStream() throws Exception {
+    final ServletOutputStream out = mock(ServletOutputStream.class);
+    when(context.outputStream()).thenReturn(out);
+    when(context.header(eq(HEADER_ACCEPT))).thenReturn(ContentTypes.OCTET_STREAM);
+    final EndpointMetadata metadata =
+        EndpointMetadata.get("/foo")
+            .operationId("foo")
+            .description("foobar")
+            .summary("Foo Summary")
+            .response(
+                SC_OK,
+                "Good",
+                BYTES32_TYPE,
+                new OctetStreamResponseContentTypeDefinition<Bytes32>(
+                    (data, stream) -> {
+                      for (int i = 0; i < JavalinRestApiRequest.RESPONSE_BUFFER_SIZE * 3; i++) {
+                        stream.write(data.get(i % Bytes32.SIZE));
+                      }
+                    },
+                    __ -> Map.of()))
+            .build();
+    final JavalinRestApiRequest request = new JavalinRestApiRequest(context, metadata);
+
+    request.respondOk(Bytes32.ZERO);
+
+    verify(out, never()).write(anyInt());
+    verify(out, atLeastOnce())
+        .write(any(byte[].class), eq(0), eq(JavalinRestApiRequest.RESPONSE_BUFFER_SIZE));
+    verify(out).close();
+  }
+
   @Test
   void shouldGetQueryParameterListWhenEmpty() {
     when(context.queryParamMap()).thenReturn(Map.of());
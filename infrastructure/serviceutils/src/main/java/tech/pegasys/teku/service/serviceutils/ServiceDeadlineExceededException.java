@@ -0,0 +1,25 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.service.serviceutils;
+
+/**
+ * Represents a request that was accepted by a service but dropped because it could not be
+ * processed before its deadline. Unlike {@link ServiceCapacityExceededException} this is an
+ * expected outcome when the service is busy and the result would no longer be useful.
+ */
+public class ServiceDeadlineExceededException extends RuntimeException {
+  public ServiceDeadlineExceededException(final String message) {
+    super(message);
+  }
+}
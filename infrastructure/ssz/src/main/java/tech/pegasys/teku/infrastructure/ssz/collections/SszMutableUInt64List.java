@@ -19,6 +19,15 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 public interface SszMutableUInt64List
     extends SszMutablePrimitiveList<UInt64, SszUInt64>, SszUInt64List {
 
+  /**
+   * Replaces all elements with the values of the array at once. Only the tree leaves with changed
+   * values are rebuilt, so this is much cheaper than updating the elements one by one when most of
+   * the list changes.
+   *
+   * @param newValues new element values, must have the same length as the list
+   */
+  void updateAllElements(long[] newValues);
+
   @Override
   SszUInt64List commitChanges();
 }
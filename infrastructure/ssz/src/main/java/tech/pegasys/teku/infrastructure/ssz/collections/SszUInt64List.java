@@ -18,6 +18,18 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public interface SszUInt64List extends SszPrimitiveList<UInt64, SszUInt64> {
 
+  /**
+   * Returns all elements as a flat array which is cheap to iterate and update in tight loops. Use
+   * {@link SszMutableUInt64List#updateAllElements(long[])} to write an updated array back.
+   */
+  default long[] toLongArray() {
+    final long[] values = new long[size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = getElement(i).longValue();
+    }
+    return values;
+  }
+
   @Override
   SszMutableUInt64List createWritableCopy();
 }
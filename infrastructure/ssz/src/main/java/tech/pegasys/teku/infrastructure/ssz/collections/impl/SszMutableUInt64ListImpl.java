@@ -33,6 +33,18 @@ public class SszMutableUInt64ListImpl extends SszMutablePrimitiveListImpl<UInt64
     return (SszUInt64List) super.commitChanges();
   }
 
+  @Override
+  public long[] toLongArray() {
+    return ((SszUInt64ListImpl) commitChanges()).toLongArray();
+  }
+
+  @Override
+  public void updateAllElements(final long[] newValues) {
+    final SszUInt64ListImpl currentList = (SszUInt64ListImpl) commitChanges();
+    setBackingImmutableData(
+        new SszUInt64ListImpl(getSchema(), currentList.updatedBackingNode(newValues)));
+  }
+
   @Override
   protected SszUInt64ListImpl createImmutableSszComposite(
       TreeNode backingNode, IntCache<SszUInt64> childrenCache) {
@@ -13,17 +13,33 @@
 
 package tech.pegasys.teku.infrastructure.ssz.collections.impl;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.cache.IntCache;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszUInt64ListSchema;
+import tech.pegasys.teku.infrastructure.ssz.tree.LeafNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUpdates;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public class SszUInt64ListImpl extends SszPrimitiveListImpl<UInt64, SszUInt64>
     implements SszUInt64List {
+  private static final VarHandle LONG_LITTLE_ENDIAN =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
 
   public SszUInt64ListImpl(SszUInt64ListSchema<?> schema, TreeNode backingNode) {
     super(schema, backingNode);
@@ -38,4 +54,55 @@ public class SszUInt64ListImpl extends SszPrimitiveListImpl<UInt64, SszUInt64>
   public SszMutableUInt64List createWritableCopy() {
     return new SszMutableUInt64ListImpl(this);
   }
+
+  @Override
+  public long[] toLongArray() {
+    final long[] values = new long[size()];
+    if (values.length == 0) {
+      return values;
+    }
+    final int[] chunkStart = {0};
+    TreeUtil.iterateLeavesData(
+        getBackingNode(),
+        getSchema().getChildGeneralizedIndex(0),
+        getSchema().getChildGeneralizedIndex((values.length - 1) / elementsPerChunk),
+        data -> {
+          final int count = Math.min(elementsPerChunk, values.length - chunkStart[0]);
+          for (int i = 0; i < count && (i + 1) * Long.BYTES <= data.size(); i++) {
+            values[chunkStart[0] + i] = data.getLong(i * Long.BYTES, ByteOrder.LITTLE_ENDIAN);
+          }
+          chunkStart[0] += elementsPerChunk;
+        });
+    return values;
+  }
+
+  /** Creates the backing tree of this list with all elements replaced by the new values */
+  TreeNode updatedBackingNode(final long[] newValues) {
+    final long[] currentValues = toLongArray();
+    checkArgument(
+        newValues.length == currentValues.length,
+        "Expected %s values but got %s",
+        currentValues.length,
+        newValues.length);
+    final LongList gIndices = new LongArrayList();
+    final List<TreeNode> newNodes = new ArrayList<>();
+    for (int from = 0; from < newValues.length; from += elementsPerChunk) {
+      final int to = Math.min(from + elementsPerChunk, newValues.length);
+      if (!Arrays.equals(currentValues, from, to, newValues, from, to)) {
+        gIndices.add(getSchema().getChildGeneralizedIndex(from / elementsPerChunk));
+        newNodes.add(createPackedLeaf(newValues, from, to));
+      }
+    }
+    return newNodes.isEmpty()
+        ? getBackingNode()
+        : getBackingNode().updated(new TreeUpdates(gIndices, newNodes));
+  }
+
+  private static LeafNode createPackedLeaf(final long[] values, final int from, final int to) {
+    final byte[] data = new byte[(to - from) * Long.BYTES];
+    for (int i = from; i < to; i++) {
+      LONG_LITTLE_ENDIAN.set(data, (i - from) * Long.BYTES, values[i]);
+    }
+    return LeafNode.create(Bytes.wrap(data));
+  }
 }
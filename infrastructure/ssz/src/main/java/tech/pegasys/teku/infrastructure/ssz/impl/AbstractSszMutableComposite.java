@@ -143,7 +143,12 @@ public abstract class AbstractSszMutableComposite<
   @Override
   @SuppressWarnings("unchecked")
   public void clear() {
-    backingImmutableData = (AbstractSszComposite<SszChildT>) getSchema().getDefault();
+    setBackingImmutableData((AbstractSszComposite<SszChildT>) getSchema().getDefault());
+  }
+
+  /** Replaces the backing immutable data and discards all the changes made so far */
+  protected void setBackingImmutableData(AbstractSszComposite<SszChildT> newBackingImmutableData) {
+    backingImmutableData = newBackingImmutableData;
     childrenChanges.clear();
     sizeCache = backingImmutableData.size();
     invalidate();
@@ -18,9 +18,13 @@ import java.util.stream.Collectors;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
+import tech.pegasys.teku.infrastructure.ssz.cache.ArrayIntCache;
 import tech.pegasys.teku.infrastructure.ssz.cache.IntCache;
+import tech.pegasys.teku.infrastructure.ssz.cache.SoftRefIntCache;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchemas;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints.SszSuperNodeHint;
+import tech.pegasys.teku.infrastructure.ssz.schema.impl.AbstractSszCollectionSchema;
 import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 
@@ -51,6 +55,22 @@ public class SszListImpl<SszElementT extends SszData> extends AbstractSszCollect
     return (SszListSchema<SszElementT, ?>) super.getSchema();
   }
 
+  /**
+   * Elements packed into {@link tech.pegasys.teku.infrastructure.ssz.tree.SszSuperNode}s (e.g.
+   * <code>BeaconState.validators</code>) are cheap to recreate from the packed bytes while their
+   * materialized views take several times more heap than the packed data. The views of such lists
+   * are therefore only softly cached so that the GC may reclaim them for states retained in caches.
+   */
+  @Override
+  protected IntCache<SszElementT> createCache() {
+    return isPackedInSuperNodes() ? new SoftRefIntCache<>(ArrayIntCache::new) : super.createCache();
+  }
+
+  private boolean isPackedInSuperNodes() {
+    return getSchema() instanceof AbstractSszCollectionSchema<?, ?> collectionSchema
+        && collectionSchema.getHints().getHint(SszSuperNodeHint.class).isPresent();
+  }
+
   @Override
   protected int sizeImpl() {
     return SszPrimitiveSchemas.UINT64_SCHEMA.createFromBackingNode(getSizeNode()).get().intValue();
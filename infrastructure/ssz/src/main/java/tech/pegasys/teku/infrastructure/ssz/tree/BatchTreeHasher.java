@@ -0,0 +1,157 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.MutableBytes;
+import tech.pegasys.teku.infrastructure.crypto.Sha256;
+
+/**
+ * Calculates the hash of a {@link SimpleBranchNode} and all of its descendants which don't have a
+ * cached hash yet level by level, bottom up, so that the hashes of each level are computed with
+ * batched {@link Sha256#digestPairs(byte[], int, byte[], int, int)} calls instead of one call per
+ * node.
+ *
+ * <p>Other node types (leaves, super nodes, lazy branches) are treated as already hashed and are
+ * asked for their root directly.
+ *
+ * <p>Subtrees with only a few dirty nodes, such as the path to a single updated leaf, are hashed
+ * node by node instead, as batching them would save less than it costs to collect the nodes and
+ * allocate the buffers.
+ */
+final class BatchTreeHasher {
+
+  /** The most dirty nodes a subtree may have to be hashed node by node rather than batched */
+  static final int MAX_UNBATCHED_DIRTY_NODES = 16;
+
+  private static final int NOT_DIRTY = -1;
+  private static final int MAX_BATCH_SIZE = 1024;
+
+  private final Sha256 sha256;
+  private final int maxDirtyNodes;
+  private final Map<SimpleBranchNode, Integer> heights = new IdentityHashMap<>();
+  private final List<List<SimpleBranchNode>> levels = new ArrayList<>();
+
+  private BatchTreeHasher(final Sha256 sha256, final int maxDirtyNodes) {
+    this.sha256 = sha256;
+    this.maxDirtyNodes = maxDirtyNodes;
+  }
+
+  /**
+   * Hashes the node and its dirty descendants, caching the hash of each of them, unless the
+   * subtree has more than {@code maxDirtyNodes} dirty nodes.
+   *
+   * @return true if the subtree was hashed, false if it has too many dirty nodes and is unchanged
+   */
+  static boolean tryHashTreeRoot(
+      final SimpleBranchNode root, final Sha256 sha256, final int maxDirtyNodes) {
+    final int maxUnbatchedDirtyNodes = Math.min(MAX_UNBATCHED_DIRTY_NODES, maxDirtyNodes);
+    if (countDirtyNodes(root, maxUnbatchedDirtyNodes + 1) <= maxUnbatchedDirtyNodes) {
+      hashUnbatched(root, sha256);
+      return true;
+    }
+    final BatchTreeHasher hasher = new BatchTreeHasher(sha256, maxDirtyNodes);
+    hasher.collectDirtyNodes(root);
+    if (hasher.heights.size() > maxDirtyNodes) {
+      return false;
+    }
+    hasher.hashLevels();
+    return true;
+  }
+
+  /** Counts the uncached branch nodes of the subtree, stopping early once limit is reached. */
+  private static int countDirtyNodes(final TreeNode node, final int limit) {
+    if (!(node instanceof SimpleBranchNode branch) || branch.getCachedHash() != null) {
+      return 0;
+    }
+    int count = 1;
+    if (count < limit) {
+      count += countDirtyNodes(branch.left(), limit - count);
+    }
+    if (count < limit && branch.left() != branch.right()) {
+      count += countDirtyNodes(branch.right(), limit - count);
+    }
+    return count;
+  }
+
+  private static Bytes32 hashUnbatched(final TreeNode node, final Sha256 sha256) {
+    if (!(node instanceof SimpleBranchNode branch) || branch.getCachedHash() != null) {
+      return node.hashTreeRoot(sha256);
+    }
+    final Bytes32 leftRoot = hashUnbatched(branch.left(), sha256);
+    final Bytes32 rightRoot =
+        branch.left() == branch.right() ? leftRoot : hashUnbatched(branch.right(), sha256);
+    final Bytes32 hash = Bytes32.wrap(sha256.digest(leftRoot, rightRoot));
+    branch.setCachedHash(hash);
+    return hash;
+  }
+
+  /**
+   * Adds the node and its dirty descendants to {@link #levels} according to their height above
+   * the highest clean nodes. Stops collecting once more than {@link #maxDirtyNodes} are found.
+   *
+   * @return the height of the node or {@link #NOT_DIRTY} if the node needs no hashing.
+   */
+  private int collectDirtyNodes(final TreeNode node) {
+    if (!(node instanceof SimpleBranchNode branch)
+        || branch.getCachedHash() != null
+        || heights.size() > maxDirtyNodes) {
+      return NOT_DIRTY;
+    }
+    final Integer knownHeight = heights.get(branch);
+    if (knownHeight != null) {
+      return knownHeight;
+    }
+    final TreeNode left = branch.left();
+    final TreeNode right = branch.right();
+    final int leftHeight = collectDirtyNodes(left);
+    final int rightHeight = left == right ? leftHeight : collectDirtyNodes(right);
+    final int height = Math.max(leftHeight, rightHeight) + 1;
+    if (levels.size() == height) {
+      levels.add(new ArrayList<>());
+    }
+    levels.get(height).add(branch);
+    heights.put(branch, height);
+    return height;
+  }
+
+  private void hashLevels() {
+    final int batchSize =
+        Math.min(MAX_BATCH_SIZE, levels.stream().mapToInt(List::size).max().orElse(0));
+    final byte[] input = new byte[batchSize * 64];
+    final byte[] output = new byte[batchSize * 32];
+    final MutableBytes inputBytes = MutableBytes.wrap(input);
+    for (List<SimpleBranchNode> level : levels) {
+      for (int start = 0; start < level.size(); start += batchSize) {
+        final int count = Math.min(batchSize, level.size() - start);
+        for (int i = 0; i < count; i++) {
+          final SimpleBranchNode node = level.get(start + i);
+          node.left().hashTreeRoot(sha256).copyTo(inputBytes, i * 64);
+          node.right().hashTreeRoot(sha256).copyTo(inputBytes, i * 64 + 32);
+        }
+        sha256.digestPairs(input, 0, output, 0, count);
+        for (int i = 0; i < count; i++) {
+          level
+              .get(start + i)
+              .setCachedHash(Bytes32.wrap(Arrays.copyOfRange(output, i * 32, i * 32 + 32)));
+        }
+      }
+    }
+  }
+}
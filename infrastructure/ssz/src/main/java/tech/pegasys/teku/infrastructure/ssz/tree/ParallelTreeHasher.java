@@ -0,0 +1,151 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
+import tech.pegasys.teku.infrastructure.crypto.Sha256;
+
+/**
+ * Spreads hashing of large dirty subtrees (e.g. the validators and balances of a state after epoch
+ * processing) across the common {@link ForkJoinPool}.
+ *
+ * <p>A subtree with more uncached branch nodes than the configured threshold is split into its
+ * left and right children which are hashed in parallel. Subtrees below the threshold are hashed on
+ * the current thread with {@link BatchTreeHasher}. The resulting hashes are the same whichever
+ * path is taken.
+ */
+public final class ParallelTreeHasher {
+
+  /** Roughly the number of branch nodes of a list with 64K uncached elements */
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+  static final ParallelTreeHasher DEFAULT = new ParallelTreeHasher(DEFAULT_PARALLEL_THRESHOLD);
+
+  private final int parallelThreshold;
+
+  /**
+   * @param parallelThreshold the minimum number of uncached branch nodes a subtree must have to be
+   *     hashed in parallel. Use {@link Integer#MAX_VALUE} to always hash on the calling thread.
+   */
+  public ParallelTreeHasher(final int parallelThreshold) {
+    checkArgument(parallelThreshold > 0, "Parallel hashing threshold must be positive");
+    this.parallelThreshold = parallelThreshold;
+  }
+
+  /** Calculates the hash tree root of the node, caching the hash of each of its dirty branches. */
+  public Bytes32 hashTreeRoot(final TreeNode node) {
+    if (node instanceof SimpleBranchNode branch && branch.getCachedHash() == null) {
+      return hashTreeRoot(branch, Hash.getSha256Instance());
+    }
+    return node.hashTreeRoot();
+  }
+
+  Bytes32 hashTreeRoot(final SimpleBranchNode root, final Sha256 sha256) {
+    if (BatchTreeHasher.tryHashTreeRoot(root, sha256, parallelThreshold)) {
+      return root.getCachedHash();
+    }
+    final Map<SimpleBranchNode, HashTask> splitTasks = new IdentityHashMap<>();
+    planSplits(root, splitTasks);
+    final HashTask task = splitTasks.get(root);
+    if (ForkJoinTask.inForkJoinPool()) {
+      task.invoke();
+    } else {
+      ForkJoinPool.commonPool().invoke(task);
+    }
+    return root.getCachedHash();
+  }
+
+  /**
+   * Counts the dirty nodes of the subtree in a single pass. Each node with more dirty nodes than
+   * the threshold gets a task which hashes its dirty children in parallel, either by splitting
+   * them further or batch hashing them if they are below the threshold.
+   *
+   * @return the number of dirty nodes in the subtree
+   */
+  private int planSplits(final TreeNode node, final Map<SimpleBranchNode, HashTask> splitTasks) {
+    if (!(node instanceof SimpleBranchNode branch) || branch.getCachedHash() != null) {
+      return 0;
+    }
+    final TreeNode left = branch.left();
+    final TreeNode right = branch.right();
+    final int leftCount = planSplits(left, splitTasks);
+    final int rightCount = left == right ? 0 : planSplits(right, splitTasks);
+    final long count = 1L + leftCount + rightCount;
+    if (count <= parallelThreshold) {
+      return (int) count;
+    }
+    final List<HashTask> subtasks = new ArrayList<>(2);
+    addSubtask(left, leftCount, splitTasks, subtasks);
+    if (left != right) {
+      addSubtask(right, rightCount, splitTasks, subtasks);
+    }
+    splitTasks.put(branch, new HashTask(branch, subtasks));
+    return (int) Math.min(count, Integer.MAX_VALUE);
+  }
+
+  private void addSubtask(
+      final TreeNode child,
+      final int dirtyCount,
+      final Map<SimpleBranchNode, HashTask> splitTasks,
+      final List<HashTask> subtasks) {
+    if (dirtyCount == 0) {
+      return;
+    }
+    final SimpleBranchNode childBranch = (SimpleBranchNode) child;
+    subtasks.add(
+        dirtyCount > parallelThreshold
+            ? splitTasks.get(childBranch)
+            : new HashTask(childBranch, Collections.emptyList()));
+  }
+
+  private static class HashTask extends RecursiveAction {
+    private final SimpleBranchNode node;
+    private final List<HashTask> subtasks;
+
+    /**
+     * @param node the node to hash
+     * @param subtasks the tasks hashing the dirty children in parallel, or empty to batch hash the
+     *     whole subtree on the current thread
+     */
+    private HashTask(final SimpleBranchNode node, final List<HashTask> subtasks) {
+      this.node = node;
+      this.subtasks = subtasks;
+    }
+
+    @Override
+    protected void compute() {
+      // Sha256 instances are bound to the thread, so always get the one for the worker thread
+      final Sha256 sha256 = Hash.getSha256Instance();
+      if (subtasks.isEmpty()) {
+        BatchTreeHasher.tryHashTreeRoot(node, sha256, Integer.MAX_VALUE);
+        return;
+      }
+      invokeAll(subtasks);
+      node.setCachedHash(
+          Bytes32.wrap(
+              sha256.digest(node.left().hashTreeRoot(sha256), node.right().hashTreeRoot(sha256))));
+    }
+  }
+}
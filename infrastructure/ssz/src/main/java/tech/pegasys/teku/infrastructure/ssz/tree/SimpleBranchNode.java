@@ -70,12 +70,20 @@ class SimpleBranchNode implements BranchNode, TreeNode {
   public Bytes32 hashTreeRoot(final Sha256 sha256) {
     Bytes32 cachedHash = this.cachedHash;
     if (cachedHash == null) {
-      cachedHash = BranchNode.super.hashTreeRoot(sha256);
-      this.cachedHash = cachedHash;
+      // Hashes all dirty descendants and caches the result in each of them
+      cachedHash = ParallelTreeHasher.DEFAULT.hashTreeRoot(this, sha256);
     }
     return cachedHash;
   }
 
+  Bytes32 getCachedHash() {
+    return cachedHash;
+  }
+
+  void setCachedHash(final Bytes32 cachedHash) {
+    this.cachedHash = cachedHash;
+  }
+
   @Override
   @SuppressWarnings("ReferenceComparison")
   public String toString() {
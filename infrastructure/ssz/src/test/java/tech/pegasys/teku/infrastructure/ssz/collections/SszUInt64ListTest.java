@@ -0,0 +1,99 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.LongStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszUInt64ListSchema;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class SszUInt64ListTest {
+
+  private final SszUInt64ListSchema<SszUInt64List> schema = SszUInt64ListSchema.create(1024);
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 3, 4, 5, 17, 1000})
+  void toLongArray_shouldReturnAllElements(final int size) {
+    final SszUInt64List list = createList(size);
+
+    assertThat(list.toLongArray())
+        .containsExactly(LongStream.range(0, size).map(i -> i * 3).toArray());
+    assertThat(list.createWritableCopy().toLongArray()).isEqualTo(list.toLongArray());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 3, 4, 5, 17, 1000})
+  void updateAllElements_shouldMatchUpdatingElementsOneByOne(final int size) {
+    final SszUInt64List list = createList(size);
+    final long[] newValues = list.toLongArray();
+    for (int i = 0; i < size; i += 3) {
+      newValues[i] = -i;
+    }
+
+    final SszMutableUInt64List expected = list.createWritableCopy();
+    for (int i = 0; i < size; i++) {
+      expected.setElement(i, UInt64.fromLongBits(newValues[i]));
+    }
+    final SszMutableUInt64List bulkUpdated = list.createWritableCopy();
+    bulkUpdated.updateAllElements(newValues);
+    final SszUInt64List result = bulkUpdated.commitChanges();
+
+    assertThat(result.toLongArray()).containsExactly(newValues);
+    assertThat(result.hashTreeRoot()).isEqualTo(expected.commitChanges().hashTreeRoot());
+    assertThat(result.sszSerialize()).isEqualTo(expected.commitChanges().sszSerialize());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 5, 1000})
+  void updateAllElements_shouldKeepTreeWhenNothingChanged(final int size) {
+    final SszUInt64List list = createList(size);
+    final SszMutableUInt64List mutableList = list.createWritableCopy();
+
+    mutableList.updateAllElements(list.toLongArray());
+
+    assertThat(mutableList.commitChanges().getBackingNode()).isSameAs(list.getBackingNode());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 5})
+  void updateAllElements_shouldRejectDifferentLength(final int size) {
+    final SszMutableUInt64List mutableList = createList(size).createWritableCopy();
+
+    assertThatThrownBy(() -> mutableList.updateAllElements(new long[size + 1]))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {5, 17})
+  void updateAllElements_shouldIncludePendingChanges(final int size) {
+    final SszMutableUInt64List mutableList = createList(size).createWritableCopy();
+    mutableList.setElement(1, UInt64.valueOf(999));
+
+    final long[] values = mutableList.toLongArray();
+    assertThat(values[1]).isEqualTo(999);
+    values[2] = 1234;
+    mutableList.updateAllElements(values);
+
+    assertThat(mutableList.getElement(1)).isEqualTo(UInt64.valueOf(999));
+    assertThat(mutableList.getElement(2)).isEqualTo(UInt64.valueOf(1234));
+  }
+
+  private SszUInt64List createList(final int size) {
+    return schema.of(LongStream.range(0, size).mapToObj(i -> UInt64.valueOf(i * 3)).toList());
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
+
+public class BatchTreeHasherTest {
+
+  @Test
+  void shouldMatchRecursiveHashOfFreshTree() {
+    final TreeNode tree = createTree(0, 1000);
+
+    assertThat(tree.hashTreeRoot()).isEqualTo(recursiveHashTreeRoot(tree));
+    assertAllBranchesCached(tree);
+  }
+
+  @Test
+  void shouldOnlyRehashUpdatedPath() {
+    final TreeNode tree = createTree(0, 1000);
+    tree.hashTreeRoot();
+
+    final long gIndex = GIndexUtil.gIdxChildGIndex(GIndexUtil.SELF_G_INDEX, 517, 10);
+    final TreeNode updated = tree.updated(gIndex, TreeTest.newTestLeaf(99_999));
+
+    assertThat(updated.hashTreeRoot()).isEqualTo(recursiveHashTreeRoot(updated));
+    assertThat(updated.hashTreeRoot()).isNotEqualTo(tree.hashTreeRoot());
+  }
+
+  @Test
+  void shouldRehashSeveralUpdatedPaths() {
+    TreeNode tree = createTree(0, 1000);
+    tree.hashTreeRoot();
+
+    // Enough dirty nodes to be hashed in batches
+    for (int i = 0; i < 1000; i += 100) {
+      tree =
+          tree.updated(
+              GIndexUtil.gIdxChildGIndex(GIndexUtil.SELF_G_INDEX, i, 10),
+              TreeTest.newTestLeaf(i * 31L));
+    }
+
+    assertThat(tree.hashTreeRoot()).isEqualTo(recursiveHashTreeRoot(tree));
+    assertAllBranchesCached(tree);
+  }
+
+  @Test
+  void tryHashTreeRoot_shouldNotHashSubtreeWithTooManyDirtyNodes() {
+    final SimpleBranchNode tree = (SimpleBranchNode) createTree(0, 1000);
+
+    assertThat(BatchTreeHasher.tryHashTreeRoot(tree, Hash.getSha256Instance(), 100)).isFalse();
+    assertThat(tree.getCachedHash()).isNull();
+
+    assertThat(BatchTreeHasher.tryHashTreeRoot(tree, Hash.getSha256Instance(), 1023)).isTrue();
+    assertThat(tree.getCachedHash()).isEqualTo(recursiveHashTreeRoot(tree));
+  }
+
+  @Test
+  void shouldHashSharedAndMixedNodes() {
+    final TreeNode shared = createTree(100, 5);
+    final TreeNode tree =
+        BranchNode.create(
+            BranchNode.create(shared, shared),
+            BranchNode.create(
+                LazyBranchNode.createWithUnknownHash(
+                    recursiveHashTreeRoot(shared),
+                    TreeUtil.ZERO_TREES[3].hashTreeRoot(),
+                    () -> shared,
+                    () -> TreeUtil.ZERO_TREES[3]),
+                TreeUtil.ZERO_TREES[4]));
+
+    assertThat(tree.hashTreeRoot()).isEqualTo(recursiveHashTreeRoot(tree));
+  }
+
+  private static TreeNode createTree(final int firstLeaf, final int leafCount) {
+    final List<LeafNode> leaves =
+        IntStream.range(firstLeaf, firstLeaf + leafCount)
+            .mapToObj(TreeTest::newTestLeaf)
+            .collect(Collectors.toList());
+    return TreeUtil.createTree(leaves, 10);
+  }
+
+  private static Bytes32 recursiveHashTreeRoot(final TreeNode node) {
+    if (node instanceof BranchNode branch) {
+      return Hash.sha256(
+          recursiveHashTreeRoot(branch.left()), recursiveHashTreeRoot(branch.right()));
+    }
+    return node.hashTreeRoot();
+  }
+
+  private static void assertAllBranchesCached(final TreeNode tree) {
+    tree.iterateAll(
+        node -> {
+          if (node instanceof SimpleBranchNode branch) {
+            assertThat(branch.getCachedHash()).isNotNull();
+          }
+        });
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
+
+public class ParallelTreeHasherTest {
+
+  @Test
+  void shouldProduceSameRootAsSingleThreadedHashing() {
+    final List<LeafNode> leaves =
+        IntStream.range(0, 5000).mapToObj(TreeTest::newTestLeaf).collect(Collectors.toList());
+
+    final Bytes32 singleThreadedRoot =
+        new ParallelTreeHasher(Integer.MAX_VALUE).hashTreeRoot(TreeUtil.createTree(leaves, 13));
+
+    final TreeNode tree = TreeUtil.createTree(leaves, 13);
+    assertThat(new ParallelTreeHasher(16).hashTreeRoot(tree)).isEqualTo(singleThreadedRoot);
+    assertThat(singleThreadedRoot).isEqualTo(recursiveHashTreeRoot(tree));
+  }
+
+  @Test
+  void shouldHashWhenEverySubtreeIsSplit() {
+    final TreeNode tree =
+        TreeUtil.createTree(
+            IntStream.range(0, 300).mapToObj(TreeTest::newTestLeaf).collect(Collectors.toList()),
+            9);
+
+    assertThat(new ParallelTreeHasher(1).hashTreeRoot(tree)).isEqualTo(recursiveHashTreeRoot(tree));
+  }
+
+  @Test
+  void shouldRehashUpdatedTreeInParallel() {
+    final ParallelTreeHasher hasher = new ParallelTreeHasher(4);
+    TreeNode tree =
+        TreeUtil.createTree(
+            IntStream.range(0, 1000).mapToObj(TreeTest::newTestLeaf).collect(Collectors.toList()),
+            10);
+    hasher.hashTreeRoot(tree);
+
+    for (int i = 0; i < 1000; i += 7) {
+      tree =
+          tree.updated(
+              GIndexUtil.gIdxChildGIndex(GIndexUtil.SELF_G_INDEX, i, 10),
+              TreeTest.newTestLeaf(i * 31L));
+    }
+
+    assertThat(hasher.hashTreeRoot(tree)).isEqualTo(recursiveHashTreeRoot(tree));
+  }
+
+  @Test
+  void shouldRejectNonPositiveThreshold() {
+    assertThatThrownBy(() -> new ParallelTreeHasher(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static Bytes32 recursiveHashTreeRoot(final TreeNode node) {
+    if (node instanceof BranchNode branch) {
+      return Hash.sha256(
+          recursiveHashTreeRoot(branch.left()), recursiveHashTreeRoot(branch.right()));
+    }
+    return node.hashTreeRoot();
+  }
+}
@@ -30,7 +30,10 @@ import tech.pegasys.teku.infrastructure.events.EventChannels;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipDecodingExecutor;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.encoding.MessageIdCachingGossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.encoding.PipelinedGossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.forks.GossipForkManager;
 import tech.pegasys.teku.networking.eth2.gossip.forks.GossipForkSubscriptions;
 import tech.pegasys.teku.networking.eth2.gossip.forks.versions.GossipForkSubscriptionsAltair;
@@ -160,7 +163,7 @@ public class Eth2P2PNetworkBuilder {
     rpcMethods.addAll(eth2RpcMethods);
     peerHandlers.add(eth2PeerManager);
 
-    final GossipEncoding gossipEncoding = config.getGossipEncoding();
+    final GossipEncoding gossipEncoding = createGossipEncoding();
     // Build core network and inject eth2 handlers
     final DiscoveryNetwork<?> network = buildNetwork(gossipEncoding, syncCommitteeSubnetService);
 
@@ -377,6 +380,21 @@ public class Eth2P2PNetworkBuilder {
     return DiscoveryNetworkBuilder.create();
   }
 
+  private GossipEncoding createGossipEncoding() {
+    final GossipEncoding gossipEncoding =
+        new MessageIdCachingGossipEncoding(config.getGossipEncoding(), metricsSystem);
+    if (config.getGossipDecodingMaxThreads() == 0) {
+      return gossipEncoding;
+    }
+    return new PipelinedGossipEncoding(
+        gossipEncoding,
+        new GossipDecodingExecutor(
+            asyncRunner,
+            metricsSystem,
+            config.getGossipDecodingMaxThreads(),
+            config.getGossipDecodingTopicQueueCapacity()));
+  }
+
   protected LibP2PNetworkBuilder createLibP2PNetworkBuilder() {
     return LibP2PNetworkBuilder.create();
   }
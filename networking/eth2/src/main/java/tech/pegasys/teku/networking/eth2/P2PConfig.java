@@ -37,6 +37,8 @@ public class P2PConfig {
   public static final int DEFAULT_BATCH_VERIFY_QUEUE_CAPACITY = 15_000;
   public static final int DEFAULT_BATCH_VERIFY_MAX_BATCH_SIZE = 250;
   public static final boolean DEFAULT_BATCH_VERIFY_STRICT_THREAD_LIMIT_ENABLED = false;
+  public static final int DEFAULT_GOSSIP_DECODING_MAX_THREADS = 2;
+  public static final int DEFAULT_GOSSIP_DECODING_TOPIC_QUEUE_CAPACITY = 1_000;
   public static final boolean DEFAULT_BLS_TO_EXECUTION_CHANGES_SUBNET_ENABLED = true;
 
   private final Spec spec;
@@ -54,6 +56,8 @@ public class P2PConfig {
   private final int batchVerifyQueueCapacity;
   private final int batchVerifyMaxBatchSize;
   private final boolean batchVerifyStrictThreadLimitEnabled;
+  private final int gossipDecodingMaxThreads;
+  private final int gossipDecodingTopicQueueCapacity;
   private final boolean blsToExecutionChangesSubnetEnabled;
 
   private P2PConfig(
@@ -70,6 +74,8 @@ public class P2PConfig {
       final int batchVerifyQueueCapacity,
       final int batchVerifyMaxBatchSize,
       final boolean batchVerifyStrictThreadLimitEnabled,
+      final int gossipDecodingMaxThreads,
+      final int gossipDecodingTopicQueueCapacity,
       final boolean blsToExecutionChangesSubnetEnabled) {
     this.spec = spec;
     this.networkConfig = networkConfig;
@@ -84,6 +90,8 @@ public class P2PConfig {
     this.batchVerifyQueueCapacity = batchVerifyQueueCapacity;
     this.batchVerifyMaxBatchSize = batchVerifyMaxBatchSize;
     this.batchVerifyStrictThreadLimitEnabled = batchVerifyStrictThreadLimitEnabled;
+    this.gossipDecodingMaxThreads = gossipDecodingMaxThreads;
+    this.gossipDecodingTopicQueueCapacity = gossipDecodingTopicQueueCapacity;
     this.blsToExecutionChangesSubnetEnabled = blsToExecutionChangesSubnetEnabled;
     this.networkingSpecConfig = spec.getNetworkingConfig();
   }
@@ -144,6 +152,14 @@ public class P2PConfig {
     return batchVerifyStrictThreadLimitEnabled;
   }
 
+  public int getGossipDecodingMaxThreads() {
+    return gossipDecodingMaxThreads;
+  }
+
+  public int getGossipDecodingTopicQueueCapacity() {
+    return gossipDecodingTopicQueueCapacity;
+  }
+
   public boolean isBlsToExecutionChangesSubnetEnabled() {
     return blsToExecutionChangesSubnetEnabled;
   }
@@ -168,6 +184,8 @@ public class P2PConfig {
     private int batchVerifyMaxBatchSize = DEFAULT_BATCH_VERIFY_MAX_BATCH_SIZE;
     private boolean batchVerifyStrictThreadLimitEnabled =
         DEFAULT_BATCH_VERIFY_STRICT_THREAD_LIMIT_ENABLED;
+    private int gossipDecodingMaxThreads = DEFAULT_GOSSIP_DECODING_MAX_THREADS;
+    private int gossipDecodingTopicQueueCapacity = DEFAULT_GOSSIP_DECODING_TOPIC_QUEUE_CAPACITY;
     private boolean blsToExecutionChangesSubnetEnabled =
         DEFAULT_BLS_TO_EXECUTION_CHANGES_SUBNET_ENABLED;
 
@@ -205,6 +223,8 @@ public class P2PConfig {
           batchVerifyQueueCapacity,
           batchVerifyMaxBatchSize,
           batchVerifyStrictThreadLimitEnabled,
+          gossipDecodingMaxThreads,
+          gossipDecodingTopicQueueCapacity,
           blsToExecutionChangesSubnetEnabled);
     }
 
@@ -303,6 +323,25 @@ public class P2PConfig {
       return this;
     }
 
+    public Builder gossipDecodingMaxThreads(final int gossipDecodingMaxThreads) {
+      if (gossipDecodingMaxThreads < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid gossipDecodingMaxThreads: %d", gossipDecodingMaxThreads));
+      }
+      this.gossipDecodingMaxThreads = gossipDecodingMaxThreads;
+      return this;
+    }
+
+    public Builder gossipDecodingTopicQueueCapacity(final int gossipDecodingTopicQueueCapacity) {
+      if (gossipDecodingTopicQueueCapacity < 1) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid gossipDecodingTopicQueueCapacity: %d", gossipDecodingTopicQueueCapacity));
+      }
+      this.gossipDecodingTopicQueueCapacity = gossipDecodingTopicQueueCapacity;
+      return this;
+    }
+
     public Builder blsToExecutionChangesSubnetEnabled(
         final boolean blsToExecutionChangesSubnetEnabled) {
       this.blsToExecutionChangesSubnetEnabled = blsToExecutionChangesSubnetEnabled;
@@ -0,0 +1,166 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.encoding;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingSupplier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+/**
+ * Decodes gossip messages on a bounded number of workers rather than on the network thread which
+ * received them.
+ *
+ * <p>Each topic has its own bounded queue and workers take one message at a time from each topic
+ * with pending messages in turn, so a flood on one topic can't delay decoding on the others.
+ * Messages arriving when their topic's queue is full are rejected with a {@link
+ * RejectedExecutionException}, which results in them being ignored.
+ */
+public class GossipDecodingExecutor {
+
+  private final AsyncRunner asyncRunner;
+  private final int maxThreads;
+  private final int topicQueueCapacity;
+  private final LabelledMetric<OperationTimer> decodeTimer;
+  private final LabelledMetric<Counter> droppedCounter;
+
+  private final Map<String, TopicQueue> topicQueues = new ConcurrentHashMap<>();
+  // Topics with pending messages, each present at most once
+  private final Queue<TopicQueue> readyTopics = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger activeWorkers = new AtomicInteger();
+
+  public GossipDecodingExecutor(
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final int maxThreads,
+      final int topicQueueCapacity) {
+    checkArgument(maxThreads > 0, "Max threads must be positive");
+    checkArgument(topicQueueCapacity > 0, "Topic queue capacity must be positive");
+    this.asyncRunner = asyncRunner;
+    this.maxThreads = maxThreads;
+    this.topicQueueCapacity = topicQueueCapacity;
+    this.decodeTimer =
+        metricsSystem.createLabelledTimer(
+            TekuMetricCategory.NETWORK,
+            "gossip_decode_time",
+            "Time taken to decode gossip messages",
+            "topic");
+    this.droppedCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.NETWORK,
+            "gossip_decode_dropped_total",
+            "Number of gossip messages dropped because the topic's decoding queue was full",
+            "topic");
+  }
+
+  public <T> SafeFuture<T> execute(final String topic, final ExceptionThrowingSupplier<T> decoder) {
+    final SafeFuture<T> result = new SafeFuture<>();
+    final TopicQueue queue = topicQueues.computeIfAbsent(topic, __ -> new TopicQueue());
+    if (!queue.offer(() -> decode(topic, decoder, result))) {
+      droppedCounter.labels(topic).inc();
+      return SafeFuture.failedFuture(
+          new RejectedExecutionException("Gossip decoding queue is full for topic " + topic));
+    }
+    startWorkerIfRequired();
+    return result;
+  }
+
+  private <T> void decode(
+      final String topic, final ExceptionThrowingSupplier<T> decoder, final SafeFuture<T> result) {
+    final OperationTimer.TimingContext timingContext = decodeTimer.labels(topic).startTimer();
+    try {
+      result.complete(decoder.get());
+    } catch (final Throwable t) {
+      result.completeExceptionally(t);
+    } finally {
+      timingContext.stopTimer();
+    }
+  }
+
+  private void startWorkerIfRequired() {
+    if (activeWorkers.incrementAndGet() > maxThreads) {
+      activeWorkers.decrementAndGet();
+      return;
+    }
+    asyncRunner
+        .runAsync(this::drainReadyTopics)
+        .finish(
+            error -> {
+              // The runner couldn't take the worker, so leave the messages for the next one
+              activeWorkers.decrementAndGet();
+            });
+  }
+
+  private void drainReadyTopics() {
+    TopicQueue queue;
+    while ((queue = readyTopics.poll()) != null) {
+      queue.pollAndRun();
+    }
+    activeWorkers.decrementAndGet();
+    // A message may have been queued after the last poll but before this worker stopped
+    if (!readyTopics.isEmpty()) {
+      startWorkerIfRequired();
+    }
+  }
+
+  private class TopicQueue {
+    private final Queue<Runnable> pending = new ArrayDeque<>();
+    private boolean ready;
+
+    boolean offer(final Runnable task) {
+      synchronized (this) {
+        if (pending.size() >= topicQueueCapacity) {
+          return false;
+        }
+        pending.add(task);
+        if (ready) {
+          return true;
+        }
+        ready = true;
+      }
+      readyTopics.add(this);
+      return true;
+    }
+
+    void pollAndRun() {
+      final Runnable task;
+      final boolean hasMore;
+      synchronized (this) {
+        task = pending.poll();
+        hasMore = !pending.isEmpty();
+        ready = hasMore;
+      }
+      // Requeue before running so other workers can continue with this topic in the meantime
+      if (hasMore) {
+        readyTopics.add(this);
+      }
+      if (task != null) {
+        task.run();
+      }
+    }
+  }
+}
@@ -16,6 +16,8 @@ package tech.pegasys.teku.networking.eth2.gossip.encoding;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingSupplier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
@@ -57,6 +59,20 @@ public interface GossipEncoding {
   <T extends SszData> T decodeMessage(PreparedGossipMessage message, SszSchema<T> valueType)
       throws DecodingException;
 
+  /**
+   * Schedules the decoding of a message received on the given topic. By default the message is
+   * decoded immediately on the calling thread.
+   *
+   * @param topic The topic the message was received on
+   * @param decoder Decodes the message
+   * @return A future completed with the decoded value, or exceptionally if decoding failed or the
+   *     message was dropped
+   */
+  default <T> SafeFuture<T> scheduleDecoding(
+      final String topic, final ExceptionThrowingSupplier<T> decoder) {
+    return SafeFuture.of(decoder);
+  }
+
   interface ForkDigestToMilestone {
     static ForkDigestToMilestone fromMap(final Map<Bytes4, SpecMilestone> map) {
       return (forkDigest) -> Optional.ofNullable(map.get(forkDigest));
@@ -0,0 +1,76 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.encoding;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+
+/**
+ * A bounded, lock-free cache of gossip message ids keyed by topic and compressed payload.
+ *
+ * <p>Entries live in a fixed number of slots and a new entry simply replaces whatever was in its
+ * slot, so lookups and inserts never block and the cache never grows. Keys are a keyed SipHash of
+ * the topic and payload rather than a SHA-256, which keeps the cost of a miss low. The hash key is
+ * chosen at random so peers can't craft payloads that collide with another message's entry.
+ */
+class GossipMessageIdCache {
+
+  private final HashFunction hashFunction;
+  private final AtomicReferenceArray<Entry> slots;
+  private final int slotMask;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  GossipMessageIdCache(final int capacity, final Counter hitCounter, final Counter missCounter) {
+    checkArgument(
+        capacity > 0 && Integer.bitCount(capacity) == 1, "Capacity must be a power of two");
+    final SecureRandom random = new SecureRandom();
+    this.hashFunction = Hashing.sipHash24(random.nextLong(), random.nextLong());
+    this.slots = new AtomicReferenceArray<>(capacity);
+    this.slotMask = capacity - 1;
+    this.hitCounter = hitCounter;
+    this.missCounter = missCounter;
+  }
+
+  Bytes getMessageId(
+      final String topic, final Bytes data, final Supplier<Bytes> messageIdSupplier) {
+    final long key =
+        hashFunction
+            .newHasher()
+            .putString(topic, UTF_8)
+            .putBytes(data.toArrayUnsafe())
+            .hash()
+            .asLong();
+    final int slot = (int) (key ^ (key >>> 32)) & slotMask;
+    final Entry entry = slots.get(slot);
+    if (entry != null && entry.key() == key) {
+      hitCounter.inc();
+      return entry.messageId();
+    }
+    missCounter.inc();
+    final Bytes messageId = messageIdSupplier.get();
+    slots.set(slot, new Entry(key, messageId));
+    return messageId;
+  }
+
+  private record Entry(long key, Bytes messageId) {}
+}
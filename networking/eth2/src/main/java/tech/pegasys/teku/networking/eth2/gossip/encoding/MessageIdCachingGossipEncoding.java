@@ -0,0 +1,151 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.encoding;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingSupplier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
+import tech.pegasys.teku.spec.config.NetworkingSpecConfig;
+
+/**
+ * Decorates a {@link GossipEncoding} to cache the message ids of received messages.
+ *
+ * <p>Peers forward the same bytes for the same message, so duplicates get their id, and are dropped
+ * by the gossip router, without being uncompressed. Each prepared message factory has its own
+ * cache and every topic handler creates its own factory, so a busy topic doesn't evict the entries
+ * of other topics.
+ */
+public class MessageIdCachingGossipEncoding implements GossipEncoding {
+
+  // Duplicates arrive within a few gossip heartbeats of the first copy. Even the busiest topic
+  // (aggregates, around a thousand messages per slot on mainnet) sees a few hundred messages in
+  // that window, so this keeps the chance of an entry being replaced early low.
+  static final int MESSAGE_ID_CACHE_CAPACITY = 2048;
+
+  private final GossipEncoding delegate;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public MessageIdCachingGossipEncoding(
+      final GossipEncoding delegate, final MetricsSystem metricsSystem) {
+    this.delegate = delegate;
+    final LabelledMetric<Counter> lookupCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.NETWORK,
+            "gossip_message_id_cache_lookups_total",
+            "Number of gossip message id cache lookups by result",
+            "result");
+    this.hitCounter = lookupCounter.labels("hit");
+    this.missCounter = lookupCounter.labels("miss");
+  }
+
+  @Override
+  public String getName() {
+    return delegate.getName();
+  }
+
+  @Override
+  public <T extends SszData> Bytes encode(final T value) {
+    return delegate.encode(value);
+  }
+
+  @Override
+  public Eth2PreparedGossipMessageFactory createPreparedGossipMessageFactory(
+      final ForkDigestToMilestone forkDigestToMilestone) {
+    return new CachingMessageFactory(
+        delegate.createPreparedGossipMessageFactory(forkDigestToMilestone),
+        new GossipMessageIdCache(MESSAGE_ID_CACHE_CAPACITY, hitCounter, missCounter));
+  }
+
+  @Override
+  public <T extends SszData> T decodeMessage(
+      final PreparedGossipMessage message, final SszSchema<T> valueType)
+      throws DecodingException {
+    return delegate.decodeMessage(message, valueType);
+  }
+
+  @Override
+  public <T> SafeFuture<T> scheduleDecoding(
+      final String topic, final ExceptionThrowingSupplier<T> decoder) {
+    return delegate.scheduleDecoding(topic, decoder);
+  }
+
+  private static class CachingMessageFactory implements Eth2PreparedGossipMessageFactory {
+    private final Eth2PreparedGossipMessageFactory delegate;
+    private final GossipMessageIdCache messageIdCache;
+
+    private CachingMessageFactory(
+        final Eth2PreparedGossipMessageFactory delegate,
+        final GossipMessageIdCache messageIdCache) {
+      this.delegate = delegate;
+      this.messageIdCache = messageIdCache;
+    }
+
+    @Override
+    public <T extends SszData> PreparedGossipMessage create(
+        final String topic,
+        final Bytes data,
+        final SszSchema<T> valueType,
+        final NetworkingSpecConfig networkingConfig) {
+      return new CachingPreparedGossipMessage(
+          topic, data, delegate.create(topic, data, valueType, networkingConfig), messageIdCache);
+    }
+
+    @Override
+    public PreparedGossipMessage create(
+        final String topic, final Bytes data, final NetworkingSpecConfig networkingConfig) {
+      return new CachingPreparedGossipMessage(
+          topic, data, delegate.create(topic, data, networkingConfig), messageIdCache);
+    }
+  }
+
+  private static class CachingPreparedGossipMessage implements PreparedGossipMessage {
+    private final PreparedGossipMessage delegate;
+    private final Supplier<Bytes> messageId;
+
+    private CachingPreparedGossipMessage(
+        final String topic,
+        final Bytes data,
+        final PreparedGossipMessage delegate,
+        final GossipMessageIdCache messageIdCache) {
+      this.delegate = delegate;
+      this.messageId =
+          Suppliers.memoize(() -> messageIdCache.getMessageId(topic, data, delegate::getMessageId));
+    }
+
+    @Override
+    public Bytes getMessageId() {
+      return messageId.get();
+    }
+
+    @Override
+    public DecodedMessageResult getDecodedMessage() {
+      return delegate.getDecodedMessage();
+    }
+
+    @Override
+    public Bytes getOriginalMessage() {
+      return delegate.getOriginalMessage();
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.encoding;
+
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingSupplier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
+
+/** Decorates a {@link GossipEncoding} to decode received messages on a worker pool. */
+public class PipelinedGossipEncoding implements GossipEncoding {
+
+  private final GossipEncoding delegate;
+  private final GossipDecodingExecutor decodingExecutor;
+
+  public PipelinedGossipEncoding(
+      final GossipEncoding delegate, final GossipDecodingExecutor decodingExecutor) {
+    this.delegate = delegate;
+    this.decodingExecutor = decodingExecutor;
+  }
+
+  @Override
+  public String getName() {
+    return delegate.getName();
+  }
+
+  @Override
+  public <T extends SszData> Bytes encode(final T value) {
+    return delegate.encode(value);
+  }
+
+  @Override
+  public Eth2PreparedGossipMessageFactory createPreparedGossipMessageFactory(
+      final ForkDigestToMilestone forkDigestToMilestone) {
+    return delegate.createPreparedGossipMessageFactory(forkDigestToMilestone);
+  }
+
+  @Override
+  public <T extends SszData> T decodeMessage(
+      final PreparedGossipMessage message, final SszSchema<T> valueType)
+      throws DecodingException {
+    return delegate.decodeMessage(message, valueType);
+  }
+
+  @Override
+  public <T> SafeFuture<T> scheduleDecoding(
+      final String topic, final ExceptionThrowingSupplier<T> decoder) {
+    return decodingExecutor.execute(topic, decoder);
+  }
+}
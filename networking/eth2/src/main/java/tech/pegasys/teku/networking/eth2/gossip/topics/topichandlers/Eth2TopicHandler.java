@@ -37,6 +37,7 @@ import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
 import tech.pegasys.teku.networking.p2p.gossip.TopicHandler;
 import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
+import tech.pegasys.teku.service.serviceutils.ServiceDeadlineExceededException;
 import tech.pegasys.teku.spec.config.NetworkingSpecConfig;
 import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
 import tech.pegasys.teku.storage.client.RecentChainData;
@@ -100,7 +101,8 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
 
   @Override
   public SafeFuture<ValidationResult> handleMessage(PreparedGossipMessage message) {
-    return SafeFuture.of(() -> deserialize(message))
+    return getGossipEncoding()
+        .scheduleDecoding(getTopic(), () -> deserialize(message))
         .thenCompose(
             deserialized -> {
               if (!forkValidator.isValid(deserialized)) {
@@ -169,6 +171,11 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
           "Discarding gossip message for topic {} because the signature verification queue is full",
           getTopic());
       response = ValidationResult.Ignore;
+    } else if (ExceptionUtil.hasCause(err, ServiceDeadlineExceededException.class)) {
+      LOG.debug(
+          "Discarding gossip message for topic {} because its signature was not verified before its deadline",
+          getTopic());
+      response = ValidationResult.Ignore;
     } else {
       LOG.warn("Encountered exception while processing message for topic {}", getTopic(), err);
       response = ValidationResult.Invalid;
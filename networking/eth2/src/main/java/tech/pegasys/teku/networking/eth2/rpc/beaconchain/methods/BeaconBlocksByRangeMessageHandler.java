@@ -26,6 +26,7 @@ import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
@@ -225,7 +226,7 @@ public class BeaconBlocksByRangeMessageHandler
 
   /** Sends the block and returns true if the request is now complete. */
   private SafeFuture<Boolean> handleLoadedBlock(
-      final RequestState requestState, final Optional<SignedBeaconBlock> block) {
+      final RequestState requestState, final Optional<Bytes> block) {
     return block
         .map(requestState::sendBlock)
         .orElse(SafeFuture.COMPLETE)
@@ -278,13 +279,13 @@ public class BeaconBlocksByRangeMessageHandler
       return !needsMoreBlocks() || hasReachedHeadSlot();
     }
 
-    SafeFuture<Void> sendBlock(final SignedBeaconBlock block) {
+    SafeFuture<Void> sendBlock(final Bytes blockSsz) {
       // request step is deprecated, if a step greater than 1 is requested, only return the first
       // block
       if (step.isGreaterThan(1L)) {
         remainingBlocks = ZERO;
       }
-      return callback.respond(block).thenRun(sentBlocks::incrementAndGet);
+      return callback.respondSerialized(currentSlot, blockSsz).thenRun(sentBlocks::incrementAndGet);
     }
 
     void incrementCurrentSlot() {
@@ -292,14 +293,22 @@ public class BeaconBlocksByRangeMessageHandler
       currentSlot = currentSlot.plus(step);
     }
 
-    SafeFuture<Optional<SignedBeaconBlock>> loadNextBlock() {
+    /**
+     * Loads the SSZ of the block at the current slot. Finalized blocks are sent as stored so they
+     * aren't deserialized only to be serialized again.
+     */
+    SafeFuture<Optional<Bytes>> loadNextBlock() {
       final UInt64 slot = this.currentSlot;
       final Bytes32 knownBlockRoot = knownBlockRoots.get(slot);
       if (knownBlockRoot != null) {
         // Known root so lookup by root
         return combinedChainDataClient
             .getBlockByBlockRoot(knownBlockRoot)
-            .thenApply(maybeBlock -> maybeBlock.filter(block -> block.getSlot().equals(slot)));
+            .thenApply(
+                maybeBlock ->
+                    maybeBlock
+                        .filter(block -> block.getSlot().equals(slot))
+                        .map(SignedBeaconBlock::sszSerialize));
       } else if ((!knownBlockRoots.isEmpty() && slot.compareTo(knownBlockRoots.firstKey()) >= 0)
           || slot.compareTo(headSlot) > 0) {
         // Unknown root but not finalized means this is an empty slot
@@ -307,7 +316,7 @@ public class BeaconBlocksByRangeMessageHandler
         return SafeFuture.completedFuture(Optional.empty());
       } else {
         // Must be a finalized block so lookup by slot
-        return combinedChainDataClient.getBlockAtSlotExact(slot);
+        return combinedChainDataClient.getBlockSszAtSlotExact(slot);
       }
     }
   }
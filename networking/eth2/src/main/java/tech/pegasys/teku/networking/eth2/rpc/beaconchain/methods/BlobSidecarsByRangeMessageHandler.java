@@ -26,6 +26,7 @@ import java.util.SortedMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
@@ -254,11 +255,13 @@ public class BlobSidecarsByRangeMessageHandler
       this.canonicalHotRoots = canonicalHotRoots;
     }
 
-    SafeFuture<Void> sendBlobSidecar(final BlobSidecar blobSidecar) {
-      return callback.respond(blobSidecar).thenRun(sentBlobSidecars::incrementAndGet);
+    SafeFuture<Void> sendBlobSidecar(final SerializedBlobSidecar blobSidecar) {
+      return callback
+          .respondSerialized(blobSidecar.slot(), blobSidecar.ssz())
+          .thenRun(sentBlobSidecars::incrementAndGet);
     }
 
-    SafeFuture<Optional<BlobSidecar>> loadNextBlobSidecar() {
+    SafeFuture<Optional<SerializedBlobSidecar>> loadNextBlobSidecar() {
       if (blobSidecarKeysIterator.isEmpty()) {
         return combinedChainDataClient
             .getBlobSidecarKeys(startSlot, endSlot, maxRequestBlobSidecars)
@@ -272,19 +275,19 @@ public class BlobSidecarsByRangeMessageHandler
       }
     }
 
-    private SafeFuture<Optional<BlobSidecar>> getNextBlobSidecar(
+    private SafeFuture<Optional<SerializedBlobSidecar>> getNextBlobSidecar(
         final Iterator<SlotAndBlockRootAndBlobIndex> blobSidecarKeysIterator) {
       if (blobSidecarKeysIterator.hasNext()) {
         final SlotAndBlockRootAndBlobIndex slotAndBlockRootAndBlobIndex =
             blobSidecarKeysIterator.next();
 
         if (finalizedSlot.isGreaterThanOrEqualTo(slotAndBlockRootAndBlobIndex.getSlot())) {
-          return combinedChainDataClient.getBlobSidecarByKey(slotAndBlockRootAndBlobIndex);
+          return loadBlobSidecar(slotAndBlockRootAndBlobIndex);
         }
 
         // not finalized, let's check if it is on canonical chain
         if (isCanonicalHotBlobSidecar(slotAndBlockRootAndBlobIndex)) {
-          return combinedChainDataClient.getBlobSidecarByKey(slotAndBlockRootAndBlobIndex);
+          return loadBlobSidecar(slotAndBlockRootAndBlobIndex);
         }
 
         // non-canonical, try next one
@@ -294,6 +297,18 @@ public class BlobSidecarsByRangeMessageHandler
       return SafeFuture.completedFuture(Optional.empty());
     }
 
+    // blob sidecars are sent as stored, without being deserialized
+    private SafeFuture<Optional<SerializedBlobSidecar>> loadBlobSidecar(
+        final SlotAndBlockRootAndBlobIndex slotAndBlockRootAndBlobIndex) {
+      return combinedChainDataClient
+          .getBlobSidecarSszByKey(slotAndBlockRootAndBlobIndex)
+          .thenApply(
+              maybeSsz ->
+                  maybeSsz.map(
+                      ssz ->
+                          new SerializedBlobSidecar(slotAndBlockRootAndBlobIndex.getSlot(), ssz)));
+    }
+
     private boolean isCanonicalHotBlobSidecar(
         final SlotAndBlockRootAndBlobIndex slotAndBlockRootAndBlobIndex) {
       return Optional.ofNullable(canonicalHotRoots.get(slotAndBlockRootAndBlobIndex.getSlot()))
@@ -306,4 +321,6 @@ public class BlobSidecarsByRangeMessageHandler
           || blobSidecarKeysIterator.map(iterator -> !iterator.hasNext()).orElse(false);
     }
   }
+
+  private record SerializedBlobSidecar(UInt64 slot, Bytes ssz) {}
 }
@@ -13,11 +13,26 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core;
 
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public interface ResponseCallback<T> {
   SafeFuture<Void> respond(T data);
 
+  /**
+   * Responds with a payload which is already SSZ serialized, avoiding deserializing data loaded
+   * from storage only to serialize it again. Callbacks which can't write serialized payloads
+   * return a failed future.
+   *
+   * @param slot the slot of the payload, used to determine the response context
+   * @param sszPayload the SSZ serialized payload
+   */
+  default SafeFuture<Void> respondSerialized(final UInt64 slot, final Bytes sszPayload) {
+    return SafeFuture.failedFuture(
+        new UnsupportedOperationException("Serialized responses are not supported"));
+  }
+
   void respondAndCompleteSuccessfully(T data);
 
   void completeSuccessfully();
@@ -17,6 +17,7 @@ import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.SUCCE
 
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.context.RpcContextCodec;
 
@@ -36,6 +37,16 @@ public final class RpcResponseEncoder<TPayload extends SszData, TContext> {
         Bytes.of(SUCCESS_RESPONSE_CODE), context, encoding.encodePayload(response));
   }
 
+  /**
+   * Encodes a successful response from a payload which is already SSZ serialized, such as one read
+   * straight from storage, so it doesn't need to be deserialized just to be re-serialized.
+   */
+  public Bytes encodeSuccessfulResponse(final UInt64 slot, final Bytes sszPayload) {
+    final Bytes context = contextCodec.encodeContextAtSlot(slot);
+    return Bytes.concatenate(
+        Bytes.of(SUCCESS_RESPONSE_CODE), context, encoding.encodeSerializedPayload(sszPayload));
+  }
+
   public Bytes encodeErrorResponse(RpcException error) {
     return Bytes.concatenate(
         Bytes.of(error.getResponseCode()), encoding.encodePayload(error.getErrorMessage()));
@@ -76,6 +76,14 @@ public class LengthPrefixedEncoding implements RpcEncoding {
     return encodeMessageWithLength(payload);
   }
 
+  @Override
+  public Bytes encodeSerializedPayload(final Bytes sszPayload) {
+    if (sszPayload.isEmpty()) {
+      return sszPayload;
+    }
+    return encodeMessageWithLength(sszPayload);
+  }
+
   @Override
   public <T extends SszData> RpcByteBufDecoder<T> createDecoder(SszSchema<T> payloadType) {
     if (payloadType.equals(EmptyMessage.SSZ_SCHEMA)) {
@@ -0,0 +1,126 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+
+class GossipDecodingExecutorTest {
+  private static final String TOPIC_A = "/eth2/00000000/topic_a/ssz_snappy";
+  private static final String TOPIC_B = "/eth2/00000000/topic_b/ssz_snappy";
+
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final List<String> decoded = new ArrayList<>();
+
+  @Test
+  void execute_shouldDecodeOnAsyncRunner() {
+    final GossipDecodingExecutor executor = createExecutor(2, 10);
+
+    final SafeFuture<String> result = executor.execute(TOPIC_A, () -> decode("a1"));
+
+    assertThat(result).isNotDone();
+    asyncRunner.executeQueuedActions();
+    assertThat(result).isCompletedWithValue("a1");
+  }
+
+  @Test
+  void execute_shouldCompleteExceptionallyWhenDecodingFails() {
+    final GossipDecodingExecutor executor = createExecutor(2, 10);
+    final DecodingException error = new DecodingException("Bad message");
+
+    final SafeFuture<String> result =
+        executor.execute(
+            TOPIC_A,
+            () -> {
+              throw error;
+            });
+
+    asyncRunner.executeQueuedActions();
+    assertThatSafeFuture(result).isCompletedExceptionallyWith(error);
+  }
+
+  @Test
+  void execute_shouldNotStartMoreThanMaxThreadsWorkers() {
+    final GossipDecodingExecutor executor = createExecutor(2, 10);
+
+    executor.execute(TOPIC_A, () -> decode("a1"));
+    executor.execute(TOPIC_A, () -> decode("a2"));
+    executor.execute(TOPIC_B, () -> decode("b1"));
+
+    assertThat(asyncRunner.countDelayedActions()).isEqualTo(2);
+    asyncRunner.executeQueuedActions();
+    assertThat(decoded).containsExactlyInAnyOrder("a1", "a2", "b1");
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+  }
+
+  @Test
+  void execute_shouldTakeMessagesFromEachTopicInTurn() {
+    final GossipDecodingExecutor executor = createExecutor(1, 10);
+
+    executor.execute(TOPIC_A, () -> decode("a1"));
+    executor.execute(TOPIC_A, () -> decode("a2"));
+    executor.execute(TOPIC_A, () -> decode("a3"));
+    executor.execute(TOPIC_B, () -> decode("b1"));
+    asyncRunner.executeQueuedActions();
+
+    assertThat(decoded).containsExactly("a1", "b1", "a2", "a3");
+  }
+
+  @Test
+  void execute_shouldRejectMessagesWhenTopicQueueIsFull() {
+    final GossipDecodingExecutor executor = createExecutor(1, 2);
+
+    final SafeFuture<String> a1 = executor.execute(TOPIC_A, () -> decode("a1"));
+    final SafeFuture<String> a2 = executor.execute(TOPIC_A, () -> decode("a2"));
+    final SafeFuture<String> a3 = executor.execute(TOPIC_A, () -> decode("a3"));
+    final SafeFuture<String> b1 = executor.execute(TOPIC_B, () -> decode("b1"));
+
+    assertThatSafeFuture(a3).isCompletedExceptionallyWith(RejectedExecutionException.class);
+    asyncRunner.executeQueuedActions();
+    assertThat(a1).isCompletedWithValue("a1");
+    assertThat(a2).isCompletedWithValue("a2");
+    assertThat(b1).isCompletedWithValue("b1");
+  }
+
+  @Test
+  void execute_shouldAcceptMessagesAgainOnceQueueIsDrained() {
+    final GossipDecodingExecutor executor = createExecutor(1, 1);
+
+    executor.execute(TOPIC_A, () -> decode("a1"));
+    asyncRunner.executeQueuedActions();
+    final SafeFuture<String> a2 = executor.execute(TOPIC_A, () -> decode("a2"));
+    asyncRunner.executeQueuedActions();
+
+    assertThat(a2).isCompletedWithValue("a2");
+  }
+
+  private GossipDecodingExecutor createExecutor(
+      final int maxThreads, final int topicQueueCapacity) {
+    return new GossipDecodingExecutor(
+        asyncRunner, new NoOpMetricsSystem(), maxThreads, topicQueueCapacity);
+  }
+
+  private String decode(final String message) {
+    decoded.add(message);
+    return message;
+  }
+}
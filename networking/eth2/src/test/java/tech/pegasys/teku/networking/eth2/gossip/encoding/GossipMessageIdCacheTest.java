@@ -0,0 +1,88 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubCounter;
+
+class GossipMessageIdCacheTest {
+  private static final String TOPIC_A = "/eth2/00000000/topic_a/ssz_snappy";
+  private static final String TOPIC_B = "/eth2/00000000/topic_b/ssz_snappy";
+
+  private final StubCounter lookupCounter = new StubCounter();
+  private final AtomicInteger calculations = new AtomicInteger();
+
+  @Test
+  void getMessageId_shouldOnlyCalculateIdOnceForDuplicates() {
+    final GossipMessageIdCache cache = createCache(16);
+    final Bytes data = Bytes.of(1, 2, 3);
+
+    final Bytes messageId1 = cache.getMessageId(TOPIC_A, data, calculate(Bytes.of(9)));
+    final Bytes messageId2 = cache.getMessageId(TOPIC_A, data.copy(), calculate(Bytes.of(8)));
+
+    assertThat(messageId1).isEqualTo(Bytes.of(9));
+    assertThat(messageId2).isEqualTo(messageId1);
+    assertThat(calculations).hasValue(1);
+    assertThat(lookupCounter.getValue("hit")).isEqualTo(1);
+    assertThat(lookupCounter.getValue("miss")).isEqualTo(1);
+  }
+
+  @Test
+  void getMessageId_shouldNotShareIdsBetweenTopics() {
+    final GossipMessageIdCache cache = createCache(16);
+    final Bytes data = Bytes.of(1, 2, 3);
+
+    cache.getMessageId(TOPIC_A, data, calculate(Bytes.of(9)));
+
+    assertThat(cache.getMessageId(TOPIC_B, data, calculate(Bytes.of(8)))).isEqualTo(Bytes.of(8));
+    assertThat(calculations).hasValue(2);
+  }
+
+  @Test
+  void getMessageId_shouldNotGrowBeyondCapacity() {
+    final GossipMessageIdCache cache = createCache(1);
+
+    cache.getMessageId(TOPIC_A, Bytes.of(1), calculate(Bytes.of(9)));
+    cache.getMessageId(TOPIC_A, Bytes.of(2), calculate(Bytes.of(8)));
+
+    // The only slot now holds the second message
+    assertThat(cache.getMessageId(TOPIC_A, Bytes.of(1), calculate(Bytes.of(9))))
+        .isEqualTo(Bytes.of(9));
+    assertThat(calculations).hasValue(3);
+    assertThat(lookupCounter.getValue("miss")).isEqualTo(3);
+  }
+
+  @Test
+  void shouldRejectCapacityThatIsNotAPowerOfTwo() {
+    assertThatThrownBy(() -> createCache(1000)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private Supplier<Bytes> calculate(final Bytes messageId) {
+    return () -> {
+      calculations.incrementAndGet();
+      return messageId;
+    };
+  }
+
+  private GossipMessageIdCache createCache(final int capacity) {
+    return new GossipMessageIdCache(
+        capacity, lookupCounter.labels("hit"), lookupCounter.labels("miss"));
+  }
+}
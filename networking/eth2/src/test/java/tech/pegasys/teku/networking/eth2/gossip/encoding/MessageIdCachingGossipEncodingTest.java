@@ -0,0 +1,89 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.metrics.StubCounter;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding.ForkDigestToMilestone;
+import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopics;
+import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.operations.SignedVoluntaryExit;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class MessageIdCachingGossipEncodingTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final Bytes4 forkDigest = Bytes4.fromHexStringLenient("0x01");
+  private final ForkDigestToMilestone forkDigestToMilestone =
+      ForkDigestToMilestone.fromMap(Map.of(forkDigest, SpecMilestone.PHASE0));
+
+  private final GossipEncoding encoding =
+      new MessageIdCachingGossipEncoding(GossipEncoding.SSZ_SNAPPY, metricsSystem);
+  private final Eth2PreparedGossipMessageFactory messageFactory =
+      encoding.createPreparedGossipMessageFactory(forkDigestToMilestone);
+
+  private final SignedVoluntaryExit exit = dataStructureUtil.randomSignedVoluntaryExit();
+  private final Bytes data = encoding.encode(exit);
+  private final String topic = GossipTopics.getTopic(forkDigest, "voluntary_exit", encoding);
+
+  @Test
+  void getMessageId_shouldReuseIdOfEarlierCopy() throws Exception {
+    final PreparedGossipMessage first = prepareMessage();
+    final PreparedGossipMessage duplicate = prepareMessage();
+
+    final Bytes expectedMessageId =
+        GossipEncoding.SSZ_SNAPPY
+            .createPreparedGossipMessageFactory(forkDigestToMilestone)
+            .create(topic, data, exit.getSchema(), spec.getNetworkingConfig())
+            .getMessageId();
+    assertThat(first.getMessageId()).isEqualTo(expectedMessageId);
+    assertThat(duplicate.getMessageId()).isEqualTo(expectedMessageId);
+    assertThat(getLookupCounter().getValue("miss")).isEqualTo(1);
+    assertThat(getLookupCounter().getValue("hit")).isEqualTo(1);
+
+    // The duplicate can still be decoded if it is handled
+    assertThat(encoding.decodeMessage(duplicate, exit.getSchema())).isEqualTo(exit);
+  }
+
+  @Test
+  void getMessageId_shouldOnlyLookUpIdOncePerMessage() {
+    final PreparedGossipMessage message = prepareMessage();
+
+    message.getMessageId();
+    message.getMessageId();
+
+    assertThat(getLookupCounter().getValue("miss")).isEqualTo(1);
+    assertThat(getLookupCounter().getValue("hit")).isZero();
+  }
+
+  private PreparedGossipMessage prepareMessage() {
+    return messageFactory.create(topic, data, exit.getSchema(), spec.getNetworkingConfig());
+  }
+
+  private StubCounter getLookupCounter() {
+    return metricsSystem.getCounter(
+        TekuMetricCategory.NETWORK, "gossip_message_id_cache_lookups_total");
+  }
+}
@@ -31,6 +31,7 @@ import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.Eth2TopicHandler;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
 import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
+import tech.pegasys.teku.service.serviceutils.ServiceDeadlineExceededException;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -267,6 +268,25 @@ public class Eth2TopicHandlerTest {
     assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Ignore);
   }
 
+  @Test
+  public void handleMessage_errorWhileProcessing_serviceDeadlineExceededExecution() {
+    MockEth2TopicHandler topicHandler =
+        new MockEth2TopicHandler(
+            recentChainData,
+            spec,
+            asyncRunner,
+            (b) -> {
+              throw new CompletionException(
+                  new ServiceDeadlineExceededException("Not verified before deadline"));
+            });
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(blockBytes));
+    asyncRunner.executeQueuedActions();
+
+    assertThatSafeFuture(result).isCompletedWithValue(ValidationResult.Ignore);
+  }
+
   @Test
   public void handleMessage_errorWhileProcessing_unknownError() {
     MockEth2TopicHandler topicHandler =
@@ -34,6 +34,7 @@ import java.util.Optional;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -103,7 +104,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
     when(peer.approveBlocksRequest(any(), anyLong())).thenReturn(allowedObjectsRequest);
     when(combinedChainDataClient.getEarliestAvailableBlockSlot())
         .thenReturn(completedFuture(Optional.of(ZERO)));
-    when(listener.respond(any())).thenReturn(SafeFuture.COMPLETE);
+    when(listener.respondSerialized(any(), any())).thenReturn(SafeFuture.COMPLETE);
   }
 
   @Test
@@ -227,7 +228,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
     withCanonicalHeadBlock(blocksWStates.get(1));
     withAncestorRoots(startBlock, count, skip, hotBlocks());
 
-    when(combinedChainDataClient.getBlockAtSlotExact(any()))
+    when(combinedChainDataClient.getBlockSszAtSlotExact(any()))
         .thenReturn(completedFuture(Optional.empty()));
 
     requestBlocks(startBlock, count, skip);
@@ -466,7 +467,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
   private void verifyBlocksReturned(final int... slots) {
     final InOrder inOrder = Mockito.inOrder(listener);
     for (int slot : slots) {
-      inOrder.verify(listener).respond(blocks.get(slot));
+      final SignedBeaconBlock block = blocks.get(slot);
+      inOrder.verify(listener).respondSerialized(block.getSlot(), block.sszSerialize());
     }
     inOrder.verify(listener).completeSuccessfully();
     verifyNoMoreInteractions(listener);
@@ -506,8 +508,11 @@ class BeaconBlocksByRangeMessageHandlerTest {
               final SignedBeaconBlock block = blocks.get(slot);
               final SafeFuture<Optional<SignedBeaconBlock>> result =
                   completedFuture(Optional.of(block));
+              final SafeFuture<Optional<Bytes>> sszResult =
+                  completedFuture(Optional.of(block.sszSerialize()));
               when(combinedChainDataClient.getBlockByBlockRoot(block.getRoot())).thenReturn(result);
-              when(combinedChainDataClient.getBlockAtSlotExact(block.getSlot())).thenReturn(result);
+              when(combinedChainDataClient.getBlockSszAtSlotExact(block.getSlot()))
+                  .thenReturn(sszResult);
               when(combinedChainDataClient.isFinalized(block.getSlot())).thenReturn(true);
             });
   }
@@ -33,6 +33,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.assertj.core.api.AssertionsForInterfaceTypes;
 import org.junit.jupiter.api.BeforeEach;
@@ -127,7 +128,7 @@ public class BlobSidecarsByRangeMessageHandlerTest {
     // everything is finalized by default
     when(combinedChainDataClient.getFinalizedBlockSlot())
         .thenReturn(Optional.of(startSlot.plus(count)));
-    when(listener.respond(any())).thenReturn(SafeFuture.COMPLETE);
+    when(listener.respondSerialized(any(), any())).thenReturn(SafeFuture.COMPLETE);
 
     // mock store
     when(store.getGenesisTime()).thenReturn(genesisTime);
@@ -248,9 +249,9 @@ public class BlobSidecarsByRangeMessageHandlerTest {
     verify(peer, times(1))
         .adjustBlobSidecarsRequest(eq(allowedObjectsRequest.get()), eq(Long.valueOf(0)));
 
-    verify(combinedChainDataClient, never()).getBlobSidecarByKey(any());
+    verify(combinedChainDataClient, never()).getBlobSidecarSszByKey(any());
 
-    verify(listener, never()).respond(any());
+    verify(listener, never()).respondSerialized(any(), any());
 
     verify(listener).completeSuccessfully();
   }
@@ -273,15 +274,17 @@ public class BlobSidecarsByRangeMessageHandlerTest {
         .adjustBlobSidecarsRequest(
             eq(allowedObjectsRequest.get()), eq(Long.valueOf(expectedSent.size())));
 
-    final ArgumentCaptor<BlobSidecar> argumentCaptor = ArgumentCaptor.forClass(BlobSidecar.class);
+    final ArgumentCaptor<Bytes> argumentCaptor = ArgumentCaptor.forClass(Bytes.class);
 
-    verify(listener, times(expectedSent.size())).respond(argumentCaptor.capture());
+    verify(listener, times(expectedSent.size())).respondSerialized(any(), argumentCaptor.capture());
 
-    final List<BlobSidecar> actualSent = argumentCaptor.getAllValues();
+    final List<Bytes> actualSent = argumentCaptor.getAllValues();
 
     verify(listener).completeSuccessfully();
 
-    AssertionsForInterfaceTypes.assertThat(actualSent).containsExactlyElementsOf(expectedSent);
+    AssertionsForInterfaceTypes.assertThat(actualSent)
+        .containsExactlyElementsOf(
+            expectedSent.stream().map(BlobSidecar::sszSerialize).collect(Collectors.toList()));
   }
 
   @Test
@@ -331,15 +334,17 @@ public class BlobSidecarsByRangeMessageHandlerTest {
         .adjustBlobSidecarsRequest(
             eq(allowedObjectsRequest.get()), eq(Long.valueOf(expectedSent.size())));
 
-    final ArgumentCaptor<BlobSidecar> argumentCaptor = ArgumentCaptor.forClass(BlobSidecar.class);
+    final ArgumentCaptor<Bytes> argumentCaptor = ArgumentCaptor.forClass(Bytes.class);
 
-    verify(listener, times(expectedSent.size())).respond(argumentCaptor.capture());
+    verify(listener, times(expectedSent.size())).respondSerialized(any(), argumentCaptor.capture());
 
-    final List<BlobSidecar> actualSent = argumentCaptor.getAllValues();
+    final List<Bytes> actualSent = argumentCaptor.getAllValues();
 
     verify(listener).completeSuccessfully();
 
-    AssertionsForInterfaceTypes.assertThat(actualSent).containsExactlyElementsOf(expectedSent);
+    AssertionsForInterfaceTypes.assertThat(actualSent)
+        .containsExactlyElementsOf(
+            expectedSent.stream().map(BlobSidecar::sszSerialize).collect(Collectors.toList()));
   }
 
   @Test
@@ -357,11 +362,11 @@ public class BlobSidecarsByRangeMessageHandlerTest {
     // no adjustment
     verify(peer, never()).adjustBlobSidecarsRequest(any(), anyLong());
 
-    final ArgumentCaptor<BlobSidecar> argumentCaptor = ArgumentCaptor.forClass(BlobSidecar.class);
+    final ArgumentCaptor<Bytes> argumentCaptor = ArgumentCaptor.forClass(Bytes.class);
 
-    verify(listener, never()).respond(argumentCaptor.capture());
+    verify(listener, never()).respondSerialized(any(), argumentCaptor.capture());
 
-    final List<BlobSidecar> actualSent = argumentCaptor.getAllValues();
+    final List<Bytes> actualSent = argumentCaptor.getAllValues();
 
     verify(listener).completeSuccessfully();
 
@@ -385,11 +390,11 @@ public class BlobSidecarsByRangeMessageHandlerTest {
     // no adjustment
     verify(peer, never()).adjustBlobSidecarsRequest(any(), anyLong());
 
-    final ArgumentCaptor<BlobSidecar> argumentCaptor = ArgumentCaptor.forClass(BlobSidecar.class);
+    final ArgumentCaptor<Bytes> argumentCaptor = ArgumentCaptor.forClass(Bytes.class);
 
-    verify(listener, never()).respond(argumentCaptor.capture());
+    verify(listener, never()).respondSerialized(any(), argumentCaptor.capture());
 
-    final List<BlobSidecar> actualSent = argumentCaptor.getAllValues();
+    final List<Bytes> actualSent = argumentCaptor.getAllValues();
 
     verify(listener).completeSuccessfully();
 
@@ -441,8 +446,8 @@ public class BlobSidecarsByRangeMessageHandlerTest {
             .index(key.getBlobIndex())
             .blockParentRoot(dataStructureUtil.randomBytes32())
             .build();
-    when(combinedChainDataClient.getBlobSidecarByKey(key))
-        .thenReturn(SafeFuture.completedFuture(Optional.of(blobSidecar)));
+    when(combinedChainDataClient.getBlobSidecarSszByKey(key))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(blobSidecar.sszSerialize())));
     return blobSidecar;
   }
 }
@@ -99,9 +99,12 @@ import tech.pegasys.teku.spec.datastructures.operations.SignedBlsToExecutionChan
 import tech.pegasys.teku.spec.datastructures.operations.SignedVoluntaryExit;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.PersistentPubKeyCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ShufflingCache;
 import tech.pegasys.teku.spec.executionlayer.ExecutionLayerBlockProductionManager;
 import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 import tech.pegasys.teku.statetransition.EpochCachePrimer;
 import tech.pegasys.teku.statetransition.LocalOperationAcceptedFilter;
 import tech.pegasys.teku.statetransition.MappedOperationPool;
@@ -150,6 +153,7 @@ import tech.pegasys.teku.statetransition.validation.ProposerSlashingValidator;
 import tech.pegasys.teku.statetransition.validation.SignedBlsToExecutionChangeValidator;
 import tech.pegasys.teku.statetransition.validation.VoluntaryExitValidator;
 import tech.pegasys.teku.statetransition.validation.signatures.AggregatingSignatureVerificationService;
+import tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationPriority;
 import tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationService;
 import tech.pegasys.teku.statetransition.validatorcache.ActiveValidatorCache;
 import tech.pegasys.teku.statetransition.validatorcache.ActiveValidatorChannel;
@@ -199,6 +203,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
   private static final Logger LOG = LogManager.getLogger();
 
   protected static final String KEY_VALUE_STORE_SUBDIRECTORY = "kvstore";
+  protected static final String PUBKEY_CACHE_FILE = "validator-pubkeys.dat";
 
   protected volatile BeaconChainConfiguration beaconConfig;
   protected volatile Spec spec;
@@ -256,6 +261,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
   protected volatile Optional<DataUnavailableBlockPool> dataUnavailableBlockPool = Optional.empty();
   protected volatile ProposersDataManager proposersDataManager;
   protected volatile KeyValueStore<String, Bytes> keyValueStore;
+  protected volatile PersistentPubKeyCache persistentPubKeyCache;
   protected volatile StorageQueryChannel storageQueryChannel;
   protected volatile StorageUpdateChannel storageUpdateChannel;
   protected volatile StableSubnetSubscriber stableSubnetSubscriber;
@@ -372,6 +378,12 @@ public class BeaconChainController extends Service implements BeaconChainControl
     storageQueryChannel = combinedStorageChannel;
     storageUpdateChannel = combinedStorageChannel;
     final VoteUpdateChannel voteUpdateChannel = eventChannels.getPublisher(VoteUpdateChannel.class);
+    // Must be in place before any states are loaded so their caches can use it
+    initPersistentPubKeyCache();
+    if (storeConfig.isShufflingCacheEnabled()) {
+      spec.setShufflingCache(
+          new ShufflingCache(metricsSystem, storeConfig.getShufflingCacheMaxSizeBytes()));
+    }
     // Init other services
     return initWeakSubjectivity(storageQueryChannel, storageUpdateChannel)
         .thenCompose(
@@ -446,6 +458,26 @@ public class BeaconChainController extends Service implements BeaconChainControl
     initOperationsReOrgManager();
   }
 
+  protected void initPersistentPubKeyCache() {
+    LOG.debug("BeaconChainController.initPersistentPubKeyCache()");
+    persistentPubKeyCache =
+        PersistentPubKeyCache.load(beaconDataDirectory.resolve(PUBKEY_CACHE_FILE));
+    spec.setPersistentPubKeyCache(persistentPubKeyCache);
+    eventChannels.subscribe(
+        FinalizedCheckpointChannel.class,
+        (checkpoint, fromOptimisticBlock) -> updatePersistentPubKeyCache());
+  }
+
+  private void updatePersistentPubKeyCache() {
+    // Only finalized registries are persisted so the cached records never need to be rolled back
+    beaconAsyncRunner
+        .runAsync(
+            () ->
+                persistentPubKeyCache.update(
+                    recentChainData.getStore().getLatestFinalized().getState()))
+        .finish(error -> LOG.warn("Failed to update validator public key cache", error));
+  }
+
   private void initKeyValueStore() {
     keyValueStore =
         new FileKeyValueStore(beaconDataDirectory.resolve(KEY_VALUE_STORE_SUBDIRECTORY));
@@ -853,12 +885,21 @@ public class BeaconChainController extends Service implements BeaconChainControl
             metricsSystem,
             asyncRunnerFactory,
             beaconAsyncRunner,
+            timeProvider,
             p2PConfig.getBatchVerifyMaxThreads(),
             p2PConfig.getBatchVerifyQueueCapacity(),
             p2PConfig.getBatchVerifyMaxBatchSize(),
             p2PConfig.isBatchVerifyStrictThreadLimitEnabled());
   }
 
+  protected AsyncBLSSignatureVerifier createGossipSignatureVerifier(
+      final SignatureVerificationPriority priority) {
+    // Gossip still waiting for verification a slot after it arrived has been overtaken by newer
+    // messages, so is dropped rather than delaying them further
+    return signatureVerificationService.withPriority(
+        priority, Duration.ofMillis(spec.getGenesisSpecConfig().getMillisPerSlot()));
+  }
+
   protected void initAttestationManager() {
     final PendingPool<ValidatableAttestation> pendingAttestations =
         poolFactory.createPendingPoolForAttestations(spec);
@@ -870,9 +911,15 @@ public class BeaconChainController extends Service implements BeaconChainControl
             "attestations");
     AttestationValidator attestationValidator =
         new AttestationValidator(
-            spec, recentChainData, signatureVerificationService, metricsSystem);
+            spec,
+            recentChainData,
+            createGossipSignatureVerifier(SignatureVerificationPriority.UNAGGREGATED),
+            metricsSystem);
     AggregateAttestationValidator aggregateValidator =
-        new AggregateAttestationValidator(spec, attestationValidator, signatureVerificationService);
+        new AggregateAttestationValidator(
+            spec,
+            attestationValidator,
+            createGossipSignatureVerifier(SignatureVerificationPriority.AGGREGATE));
     blockImporter.subscribeToVerifiedBlockAttestations(
         (slot, attestations) ->
             attestations.forEach(
@@ -907,7 +954,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 recentChainData,
                 syncCommitteeStateUtils,
                 timeProvider,
-                signatureVerificationService));
+                createGossipSignatureVerifier(SignatureVerificationPriority.AGGREGATE)));
 
     syncCommitteeMessagePool =
         new SyncCommitteeMessagePool(
@@ -916,7 +963,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 spec,
                 recentChainData,
                 syncCommitteeStateUtils,
-                signatureVerificationService,
+                createGossipSignatureVerifier(SignatureVerificationPriority.UNAGGREGATED),
                 timeProvider));
     eventChannels
         .subscribe(SlotEventsChannel.class, syncCommitteeContributionPool)
@@ -1300,6 +1347,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
     }
     slotProcessor.setCurrentSlot(currentSlot);
     performanceTracker.start(currentSlot);
+    updatePersistentPubKeyCache();
   }
 
   protected UInt64 getCurrentSlot(final UInt64 genesisTime) {
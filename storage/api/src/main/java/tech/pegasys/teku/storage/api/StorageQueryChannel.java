@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -45,8 +46,14 @@ public interface StorageQueryChannel extends ChannelInterface {
 
   SafeFuture<Optional<SignedBeaconBlock>> getFinalizedBlockAtSlot(UInt64 slot);
 
+  /** @return The SSZ serialized finalized block at the slot, as stored */
+  SafeFuture<Optional<Bytes>> getFinalizedBlockSszAtSlot(UInt64 slot);
+
   SafeFuture<Optional<SignedBeaconBlock>> getLatestFinalizedBlockAtSlot(UInt64 slot);
 
+  /** @return The finalized blocks from startSlot to endSlot (inclusive), in slot order */
+  SafeFuture<List<SignedBeaconBlock>> getFinalizedBlocksInRange(UInt64 startSlot, UInt64 endSlot);
+
   SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(Bytes32 blockRoot);
 
   SafeFuture<Optional<SignedBlockAndState>> getHotBlockAndStateByBlockRoot(Bytes32 blockRoot);
@@ -89,6 +96,9 @@ public interface StorageQueryChannel extends ChannelInterface {
 
   SafeFuture<Optional<BlobSidecar>> getBlobSidecar(SlotAndBlockRootAndBlobIndex key);
 
+  /** @return The SSZ serialized blob sidecar, as stored */
+  SafeFuture<Optional<Bytes>> getBlobSidecarSsz(SlotAndBlockRootAndBlobIndex key);
+
   SafeFuture<Optional<BlobSidecar>> getNonCanonicalBlobSidecar(SlotAndBlockRootAndBlobIndex key);
 
   /** This method could return non-canonical blob sidecar keys if the slot is not finalized */
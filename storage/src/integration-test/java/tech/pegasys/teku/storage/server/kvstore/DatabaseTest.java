@@ -270,6 +270,11 @@ public class DatabaseTest {
     // non added blobs must not be there
     assertThat(database.getBlobSidecar(blobSidecarToKey(blobSidecarNotAdded))).isEmpty();
 
+    // blobs can also be read as stored
+    assertThat(database.getBlobSidecarSsz(blobSidecarToKey(blobSidecar1)))
+        .contains(blobSidecar1.sszSerialize());
+    assertThat(database.getBlobSidecarSsz(blobSidecarToKey(blobSidecarNotAdded))).isEmpty();
+
     // all blobs must be streamed ordered by slot
     assertBlobSidecarKeys(
         blobSidecar1.getSlot(),
@@ -1220,6 +1225,29 @@ public class DatabaseTest {
     assertThat(database.getEarliestAvailableBlockSlot()).contains(genesisBlockAndState.getSlot());
   }
 
+  @TestTemplate
+  public void storeReconstructedFinalizedStates_shouldRecordStateRootsForWholeBatch(
+      final DatabaseContext context) throws IOException {
+    initialize(context);
+    chainBuilder.generateBlockAtSlot(1);
+    chainBuilder.generateBlockAtSlot(2);
+    // Slot 3 is empty
+    chainBuilder.generateBlockAtSlot(4);
+    chainBuilder.generateBlocksUpToSlot(6);
+    final List<SignedBlockAndState> blocksAndStates =
+        chainBuilder.streamBlocksAndStates(1, 6).toList();
+
+    database.storeReconstructedFinalizedStates(blocksAndStates);
+
+    for (SignedBlockAndState blockAndState : blocksAndStates) {
+      assertThat(database.getSlotForFinalizedStateRoot(blockAndState.getStateRoot()))
+          .contains(blockAndState.getSlot());
+    }
+    final Bytes32 emptySlotStateRoot = chainBuilder.getStateAtSlot(4).getStateRoots().getElement(3);
+    assertThat(database.getSlotForFinalizedStateRoot(emptySlotStateRoot))
+        .contains(UInt64.valueOf(3));
+  }
+
   @TestTemplate
   public void slotAndBlock_shouldGetStateRootsBeforeSlot(final DatabaseContext context)
       throws IOException {
@@ -2133,6 +2161,21 @@ public class DatabaseTest {
     assertThat(database.getFinalizedDepositSnapshot()).contains(depositTreeSnapshot);
   }
 
+  @TestTemplate
+  public void getFinalizedBlockSszAtSlot_shouldReturnStoredBlock(final DatabaseContext context)
+      throws Exception {
+    initialize(context, StateStorageMode.ARCHIVE);
+    addBlocks(chainBuilder.generateBlocksUpToSlot(6));
+    final SignedBlockAndState finalizedBlock = chainBuilder.generateBlockAtSlot(7);
+    addBlocks(finalizedBlock);
+    justifyAndFinalizeEpoch(
+        spec.computeEpochAtSlot(finalizedBlock.getSlot()).plus(1), finalizedBlock);
+
+    final SignedBeaconBlock block = chainBuilder.getBlockAtSlot(6);
+    assertThat(database.getFinalizedBlockSszAtSlot(block.getSlot())).contains(block.sszSerialize());
+    assertThat(database.getFinalizedBlockSszAtSlot(UInt64.valueOf(8))).isEmpty();
+  }
+
   @TestTemplate
   public void pruneFinalizedBlocks_shouldRemoveFinalizedBlocks(final DatabaseContext context)
       throws Exception {
@@ -0,0 +1,156 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.protoarray;
+
+import it.unimi.dsi.fastutil.ints.IntCollection;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+
+/**
+ * Computes fork choice deltas for one slot's worth of new attestations at 1M validators, with and
+ * without tracking which validators have pending votes.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class ProtoArrayScoreCalculatorBenchmark {
+  private static final int VALIDATOR_COUNT = 1_000_000;
+  private static final int NODE_COUNT = 64;
+  private static final int SLOTS_PER_EPOCH = 32;
+
+  @Param({"true", "false"})
+  boolean trackPendingVotes;
+
+  private final List<Bytes32> roots = new ArrayList<>();
+  private final List<UInt64> balances =
+      Collections.nCopies(VALIDATOR_COUNT, UInt64.valueOf(32_000_000_000L));
+  private ArrayVoteUpdater voteUpdater;
+  private int slot;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    for (int i = 0; i < NODE_COUNT; i++) {
+      roots.add(Bytes32.random());
+    }
+    voteUpdater = new ArrayVoteUpdater();
+    for (int i = 0; i < VALIDATOR_COUNT; i++) {
+      final Bytes32 root = roots.get(i % NODE_COUNT);
+      voteUpdater.putVote(UInt64.valueOf(i), new VoteTracker(root, root, UInt64.ZERO));
+    }
+    voteUpdater.validatorsWithPendingVotes.clear();
+  }
+
+  @Setup(Level.Invocation)
+  public void attest() {
+    // Each slot, one committee's worth of validators moves its vote to the latest block
+    slot++;
+    final Bytes32 head = roots.get(slot % NODE_COUNT);
+    for (int i = slot % SLOTS_PER_EPOCH; i < VALIDATOR_COUNT; i += SLOTS_PER_EPOCH) {
+      final UInt64 validatorIndex = UInt64.valueOf(i);
+      final VoteTracker vote = voteUpdater.getVote(validatorIndex);
+      voteUpdater.putVote(
+          validatorIndex, new VoteTracker(vote.getCurrentRoot(), head, UInt64.valueOf(slot)));
+    }
+  }
+
+  @Benchmark
+  public void computeDeltas(final Blackhole bh) {
+    bh.consume(
+        ProtoArrayScoreCalculator.computeDeltas(
+            voteUpdater,
+            NODE_COUNT,
+            root -> Optional.of(roots.indexOf(root)),
+            balances,
+            balances,
+            Optional.empty(),
+            Optional.empty(),
+            UInt64.ZERO,
+            UInt64.ZERO));
+  }
+
+  private class ArrayVoteUpdater implements VoteUpdater {
+    private final VoteTracker[] votes = new VoteTracker[VALIDATOR_COUNT];
+    private final IntSet validatorsWithPendingVotes = new IntOpenHashSet();
+    private UInt64 highestVotedValidatorIndex = UInt64.ZERO;
+
+    @Override
+    public VoteTracker getVote(final UInt64 validatorIndex) {
+      final VoteTracker vote = votes[validatorIndex.intValue()];
+      return vote != null ? vote : VoteTracker.DEFAULT;
+    }
+
+    @Override
+    public UInt64 getHighestVotedValidatorIndex() {
+      return highestVotedValidatorIndex;
+    }
+
+    @Override
+    public void putVote(final UInt64 validatorIndex, final VoteTracker vote) {
+      votes[validatorIndex.intValue()] = vote;
+      highestVotedValidatorIndex = highestVotedValidatorIndex.max(validatorIndex);
+      if (vote.hasPendingChange()) {
+        validatorsWithPendingVotes.add(validatorIndex.intValue());
+      } else {
+        validatorsWithPendingVotes.remove(validatorIndex.intValue());
+      }
+    }
+
+    @Override
+    public Optional<IntCollection> getValidatorsWithPendingVotes() {
+      return trackPendingVotes
+          ? Optional.of(new IntOpenHashSet(validatorsWithPendingVotes))
+          : Optional.empty();
+    }
+
+    @Override
+    public Bytes32 applyForkChoiceScoreChanges(
+        final UInt64 currentEpoch,
+        final Checkpoint finalizedCheckpoint,
+        final Checkpoint justifiedCheckpoint,
+        final List<UInt64> justifiedCheckpointEffectiveBalances,
+        final Optional<Bytes32> proposerBoostRoot,
+        final UInt64 proposerScoreBoostAmount) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void commit() {}
+  }
+}
@@ -23,9 +23,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -86,18 +88,43 @@ public class CombinedChainDataClient {
    * @return the block at the requested slot or empty if the slot was empty
    */
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockAtSlotExact(final UInt64 slot) {
+    return getBlockDataAtSlotExact(
+        slot, Function.identity(), historicalChainData::getFinalizedBlockAtSlot);
+  }
+
+  /**
+   * Returns the SSZ serialized block proposed for the requested slot on the canonical chain. If the
+   * slot was empty, no block is returned.
+   *
+   * <p>Finalized blocks are returned as stored, without being deserialized, so they can be served
+   * to peers without a round trip through {@link SignedBeaconBlock}.
+   *
+   * @param slot the slot to get the block for
+   * @return the serialized block at the requested slot or empty if the slot was empty
+   */
+  public SafeFuture<Optional<Bytes>> getBlockSszAtSlotExact(final UInt64 slot) {
+    return getBlockDataAtSlotExact(
+        slot, SignedBeaconBlock::sszSerialize, historicalChainData::getFinalizedBlockSszAtSlot);
+  }
+
+  private <T> SafeFuture<Optional<T>> getBlockDataAtSlotExact(
+      final UInt64 slot,
+      final Function<SignedBeaconBlock, T> recentBlockMapper,
+      final Function<UInt64, SafeFuture<Optional<T>>> finalizedBlockDataLoader) {
     if (!isChainDataFullyAvailable()) {
-      return BLOCK_NOT_AVAILABLE;
+      return completedFuture(Optional.empty());
     }
 
     // Try to pull root from recent data
     final Optional<Bytes32> recentRoot = recentChainData.getBlockRootInEffectBySlot(slot);
     if (recentRoot.isPresent()) {
       return getBlockByBlockRoot(recentRoot.get())
-          .thenApply(maybeBlock -> maybeBlock.filter(block -> block.getSlot().equals(slot)));
+          .thenApply(
+              maybeBlock ->
+                  maybeBlock.filter(block -> block.getSlot().equals(slot)).map(recentBlockMapper));
     }
 
-    return historicalChainData.getFinalizedBlockAtSlot(slot);
+    return finalizedBlockDataLoader.apply(slot);
   }
 
   /**
@@ -125,6 +152,19 @@ public class CombinedChainDataClient {
     return historicalChainData.getFinalizedBlockAtSlot(slot);
   }
 
+  /**
+   * Returns the finalized blocks from {@code startSlot} to {@code endSlot} (inclusive), in slot
+   * order, with a single range read from the database. Empty slots have no entry.
+   *
+   * @param startSlot the first slot to retrieve the block for
+   * @param endSlot the last slot to retrieve the block for
+   * @return the finalized blocks in the range
+   */
+  public SafeFuture<List<SignedBeaconBlock>> getFinalizedBlocksInRange(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return historicalChainData.getFinalizedBlocksInRange(startSlot, endSlot);
+  }
+
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockInEffectAtSlot(final UInt64 slot) {
     if (!isChainDataFullyAvailable()) {
       return BLOCK_NOT_AVAILABLE;
@@ -572,6 +612,11 @@ public class CombinedChainDataClient {
     return historicalChainData.getBlobSidecar(key);
   }
 
+  public SafeFuture<Optional<Bytes>> getBlobSidecarSszByKey(
+      final SlotAndBlockRootAndBlobIndex key) {
+    return historicalChainData.getBlobSidecarSsz(key);
+  }
+
   public SafeFuture<List<SlotAndBlockRootAndBlobIndex>> getBlobSidecarKeys(
       final UInt64 startSlot, final UInt64 endSlot, final UInt64 limit) {
     return historicalChainData.getBlobSidecarKeys(startSlot, endSlot, limit);
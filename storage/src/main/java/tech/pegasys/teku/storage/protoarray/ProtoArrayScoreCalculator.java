@@ -17,9 +17,12 @@ import static com.google.common.base.Preconditions.checkState;
 import static java.lang.Math.addExact;
 import static java.lang.Math.subtractExact;
 
+import it.unimi.dsi.fastutil.ints.IntCollection;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -37,6 +40,9 @@ class ProtoArrayScoreCalculator {
    * <p>The deltas are formed by a change between `oldBalances` and `newBalances`, and/or a change
    * of vote in `votes`.
    *
+   * <p>When the store tracks which validators have pending votes, only those validators and the
+   * validators whose balance changed are visited rather than every validator that has voted.
+   *
    * <p>## Errors
    *
    * <ul>
@@ -55,13 +61,35 @@ class ProtoArrayScoreCalculator {
       Optional<Bytes32> newProposerBoostRoot,
       UInt64 previousBoostAmount,
       UInt64 newBoostAmount) {
-    LongList deltas = new LongArrayList(Collections.nCopies(protoArraySize, 0L));
+    LongList deltas = LongArrayList.wrap(new long[protoArraySize]);
 
-    UInt64.rangeClosed(UInt64.ZERO, store.getHighestVotedValidatorIndex())
-        .forEach(
-            validatorIndex ->
-                computeDelta(
-                    store, getIndexByRoot, oldBalances, newBalances, deltas, validatorIndex));
+    final int highestVotedValidatorIndex = store.getHighestVotedValidatorIndex().intValue();
+    final Optional<IntCollection> validatorsWithPendingVotes =
+        store.getValidatorsWithPendingVotes();
+    if (validatorsWithPendingVotes.isPresent()) {
+      final IntIterator validatorsToUpdate =
+          getValidatorsToUpdate(
+                  validatorsWithPendingVotes.get(),
+                  highestVotedValidatorIndex,
+                  oldBalances,
+                  newBalances)
+              .iterator();
+      while (validatorsToUpdate.hasNext()) {
+        computeDelta(
+            store,
+            getIndexByRoot,
+            oldBalances,
+            newBalances,
+            deltas,
+            UInt64.valueOf(validatorsToUpdate.nextInt()));
+      }
+    } else {
+      UInt64.rangeClosed(UInt64.ZERO, UInt64.valueOf(highestVotedValidatorIndex))
+          .forEach(
+              validatorIndex ->
+                  computeDelta(
+                      store, getIndexByRoot, oldBalances, newBalances, deltas, validatorIndex));
+    }
 
     previousProposerBoostRoot.ifPresent(
         root -> subtractBalance(getIndexByRoot, deltas, root, previousBoostAmount));
@@ -70,6 +98,26 @@ class ProtoArrayScoreCalculator {
     return deltas;
   }
 
+  private static IntCollection getValidatorsToUpdate(
+      final IntCollection validatorsWithPendingVotes,
+      final int highestVotedValidatorIndex,
+      final List<UInt64> oldBalances,
+      final List<UInt64> newBalances) {
+    // The effective balances are cached per justified state so are usually the same list
+    if (oldBalances == newBalances) {
+      return validatorsWithPendingVotes;
+    }
+    final IntSet validatorsToUpdate = new IntOpenHashSet(validatorsWithPendingVotes);
+    for (int i = 0; i <= highestVotedValidatorIndex; i++) {
+      final UInt64 oldBalance = i < oldBalances.size() ? oldBalances.get(i) : UInt64.ZERO;
+      final UInt64 newBalance = i < newBalances.size() ? newBalances.get(i) : UInt64.ZERO;
+      if (!oldBalance.equals(newBalance)) {
+        validatorsToUpdate.add(i);
+      }
+    }
+    return validatorsToUpdate;
+  }
+
   private static void computeDelta(
       final VoteUpdater store,
       final Function<Bytes32, Optional<Integer>> getIndexByRoot,
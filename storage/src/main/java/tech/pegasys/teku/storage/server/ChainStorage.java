@@ -21,6 +21,7 @@ import java.util.Set;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -138,6 +139,13 @@ public class ChainStorage
         () -> database.storeReconstructedFinalizedState(finalizedState, blockRoot));
   }
 
+  @Override
+  public SafeFuture<Void> onReconstructedFinalizedStates(
+      final List<SignedBlockAndState> finalizedStates) {
+    return SafeFuture.fromRunnable(
+        () -> database.storeReconstructedFinalizedStates(finalizedStates));
+  }
+
   @Override
   public void onChainInitialized(final AnchorPoint initialAnchor) {
     database.storeInitialAnchor(initialAnchor);
@@ -170,11 +178,28 @@ public class ChainStorage
     return SafeFuture.of(() -> database.getFinalizedBlockAtSlot(slot));
   }
 
+  @Override
+  public SafeFuture<Optional<Bytes>> getFinalizedBlockSszAtSlot(final UInt64 slot) {
+    return SafeFuture.of(() -> database.getFinalizedBlockSszAtSlot(slot));
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getLatestFinalizedBlockAtSlot(final UInt64 slot) {
     return SafeFuture.of(() -> database.getLatestFinalizedBlockAtSlot(slot));
   }
 
+  @Override
+  public SafeFuture<List<SignedBeaconBlock>> getFinalizedBlocksInRange(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return SafeFuture.of(
+        () -> {
+          try (final Stream<SignedBeaconBlock> blocks =
+              database.streamFinalizedBlocks(startSlot, endSlot)) {
+            return blocks.toList();
+          }
+        });
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(final Bytes32 blockRoot) {
     return SafeFuture.of(() -> database.getSignedBlock(blockRoot));
@@ -311,6 +336,11 @@ public class ChainStorage
     return SafeFuture.of(() -> database.getBlobSidecar(key));
   }
 
+  @Override
+  public SafeFuture<Optional<Bytes>> getBlobSidecarSsz(final SlotAndBlockRootAndBlobIndex key) {
+    return SafeFuture.of(() -> database.getBlobSidecarSsz(key));
+  }
+
   @Override
   public SafeFuture<Optional<BlobSidecar>> getNonCanonicalBlobSidecar(
       final SlotAndBlockRootAndBlobIndex key) {
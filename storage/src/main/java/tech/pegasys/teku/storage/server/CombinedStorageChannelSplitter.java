@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -89,6 +90,12 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
     return updateDelegate.onReconstructedFinalizedState(finalizedState, blockRoot);
   }
 
+  @Override
+  public SafeFuture<Void> onReconstructedFinalizedStates(
+      final List<SignedBlockAndState> finalizedStates) {
+    return updateDelegate.onReconstructedFinalizedStates(finalizedStates);
+  }
+
   @Override
   public SafeFuture<Void> onWeakSubjectivityUpdate(
       final WeakSubjectivityUpdate weakSubjectivityUpdate) {
@@ -131,11 +138,22 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
     return asyncRunner.runAsync(() -> queryDelegate.getFinalizedBlockAtSlot(slot));
   }
 
+  @Override
+  public SafeFuture<Optional<Bytes>> getFinalizedBlockSszAtSlot(final UInt64 slot) {
+    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedBlockSszAtSlot(slot));
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getLatestFinalizedBlockAtSlot(final UInt64 slot) {
     return asyncRunner.runAsync(() -> queryDelegate.getLatestFinalizedBlockAtSlot(slot));
   }
 
+  @Override
+  public SafeFuture<List<SignedBeaconBlock>> getFinalizedBlocksInRange(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return asyncRunner.runAsync(() -> queryDelegate.getFinalizedBlocksInRange(startSlot, endSlot));
+  }
+
   @Override
   public SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(final Bytes32 blockRoot) {
     return asyncRunner.runAsync(() -> queryDelegate.getBlockByBlockRoot(blockRoot));
@@ -223,6 +241,11 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
     return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecar(key));
   }
 
+  @Override
+  public SafeFuture<Optional<Bytes>> getBlobSidecarSsz(final SlotAndBlockRootAndBlobIndex key) {
+    return asyncRunner.runAsync(() -> queryDelegate.getBlobSidecarSsz(key));
+  }
+
   @Override
   public SafeFuture<Optional<BlobSidecar>> getNonCanonicalBlobSidecar(
       final SlotAndBlockRootAndBlobIndex key) {
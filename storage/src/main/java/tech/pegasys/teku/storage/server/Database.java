@@ -29,6 +29,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
@@ -56,6 +57,13 @@ public interface Database extends AutoCloseable {
 
   void storeReconstructedFinalizedState(BeaconState state, Bytes32 blockRoot);
 
+  /**
+   * Stores consecutive reconstructed finalized states, in slot order, in a single transaction.
+   *
+   * @param blocksAndStates the reconstructed states along with the blocks which produced them
+   */
+  void storeReconstructedFinalizedStates(List<SignedBlockAndState> blocksAndStates);
+
   void updateWeakSubjectivityState(WeakSubjectivityUpdate weakSubjectivityUpdate);
 
   void storeBlobSidecar(BlobSidecar blobSidecar);
@@ -64,6 +72,9 @@ public interface Database extends AutoCloseable {
 
   Optional<BlobSidecar> getBlobSidecar(SlotAndBlockRootAndBlobIndex key);
 
+  /** @return The SSZ serialized blob sidecar as stored, without deserializing it */
+  Optional<Bytes> getBlobSidecarSsz(SlotAndBlockRootAndBlobIndex key);
+
   Optional<BlobSidecar> getNonCanonicalBlobSidecar(SlotAndBlockRootAndBlobIndex key);
 
   void removeBlobSidecars(SlotAndBlockRoot slotAndBlockRoot);
@@ -126,6 +137,14 @@ public interface Database extends AutoCloseable {
    */
   Optional<SignedBeaconBlock> getFinalizedBlockAtSlot(UInt64 slot);
 
+  /**
+   * Return the SSZ serialized finalized block at this slot, as stored and without deserializing it.
+   *
+   * @param slot The slot to query
+   * @return Returns the serialized finalized block proposed at this slot, if such a block exists
+   */
+  Optional<Bytes> getFinalizedBlockSszAtSlot(UInt64 slot);
+
   /** @return The earliest available finalized block's slot */
   Optional<UInt64> getEarliestAvailableBlockSlot();
 
@@ -31,6 +31,7 @@ import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -109,6 +110,12 @@ public class RetryingStorageUpdateChannel implements StorageUpdateChannel {
     return this.retry(() -> delegate.onReconstructedFinalizedState(finalizedState, blockRoot));
   }
 
+  @Override
+  public SafeFuture<Void> onReconstructedFinalizedStates(
+      final List<SignedBlockAndState> finalizedStates) {
+    return this.retry(() -> delegate.onReconstructedFinalizedStates(finalizedStates));
+  }
+
   @Override
   public SafeFuture<Void> onWeakSubjectivityUpdate(
       final WeakSubjectivityUpdate weakSubjectivityUpdate) {
@@ -34,6 +34,7 @@ import tech.pegasys.teku.spec.Spec;
 public class StorageConfiguration {
 
   public static final boolean DEFAULT_STORE_NON_CANONICAL_BLOCKS_ENABLED = false;
+  public static final boolean DEFAULT_HOT_STATE_TREE_STORAGE_ENABLED = false;
 
   public static final long DEFAULT_STORAGE_FREQUENCY = 2048L;
   public static final int DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE = 100_000;
@@ -57,6 +58,7 @@ public class StorageConfiguration {
   private final int blockPruningLimit;
   private final Duration blobsPruningInterval;
   private final int blobsPruningLimit;
+  private final boolean hotStateTreeStorageEnabled;
 
   private StorageConfiguration(
       final Eth1Address eth1DepositContract,
@@ -69,6 +71,7 @@ public class StorageConfiguration {
       final int blockPruningLimit,
       final Duration blobsPruningInterval,
       final int blobsPruningLimit,
+      final boolean hotStateTreeStorageEnabled,
       final Spec spec) {
     this.eth1DepositContract = eth1DepositContract;
     this.dataStorageMode = dataStorageMode;
@@ -80,6 +83,7 @@ public class StorageConfiguration {
     this.blockPruningLimit = blockPruningLimit;
     this.blobsPruningInterval = blobsPruningInterval;
     this.blobsPruningLimit = blobsPruningLimit;
+    this.hotStateTreeStorageEnabled = hotStateTreeStorageEnabled;
     this.spec = spec;
   }
 
@@ -127,6 +131,10 @@ public class StorageConfiguration {
     return blobsPruningLimit;
   }
 
+  public boolean isHotStateTreeStorageEnabled() {
+    return hotStateTreeStorageEnabled;
+  }
+
   public Spec getSpec() {
     return spec;
   }
@@ -145,6 +153,7 @@ public class StorageConfiguration {
     private int blockPruningLimit = DEFAULT_BLOCK_PRUNING_LIMIT;
     private Duration blobsPruningInterval = DEFAULT_BLOBS_PRUNING_INTERVAL;
     private int blobsPruningLimit = DEFAULT_BLOBS_PRUNING_LIMIT;
+    private boolean hotStateTreeStorageEnabled = DEFAULT_HOT_STATE_TREE_STORAGE_ENABLED;
 
     private Builder() {}
 
@@ -237,6 +246,11 @@ public class StorageConfiguration {
       return this;
     }
 
+    public Builder hotStateTreeStorageEnabled(final boolean hotStateTreeStorageEnabled) {
+      this.hotStateTreeStorageEnabled = hotStateTreeStorageEnabled;
+      return this;
+    }
+
     public StorageConfiguration build() {
       determineDataStorageMode();
       return new StorageConfiguration(
@@ -250,6 +264,7 @@ public class StorageConfiguration {
           blockPruningLimit,
           blobsPruningInterval,
           blobsPruningLimit,
+          hotStateTreeStorageEnabled,
           spec);
     }
 
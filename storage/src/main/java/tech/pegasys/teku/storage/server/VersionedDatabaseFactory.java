@@ -60,6 +60,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
   private final Eth1Address eth1Address;
   private final Spec spec;
   private final boolean storeNonCanonicalBlocks;
+  private final boolean storeHotStatesAsTree;
 
   public VersionedDatabaseFactory(
       final MetricsSystem metricsSystem, final Path dataPath, final StorageConfiguration config) {
@@ -72,6 +73,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     this.stateStorageFrequency = config.getDataStorageFrequency();
     this.eth1Address = config.getEth1DepositContract();
     this.storeNonCanonicalBlocks = config.isStoreNonCanonicalBlocksEnabled();
+    this.storeHotStatesAsTree = config.isHotStateTreeStorageEnabled();
     this.spec = config.getSpec();
 
     this.dbDirectory = this.dataDirectory.toPath().resolve(DB_PATH).toFile();
@@ -112,6 +114,12 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     createDirectories(dbVersion);
     saveDatabaseVersion(dbVersion);
     saveStorageMode(stateStorageMode);
+    if (storeHotStatesAsTree && !supportsHotStateTreeStorage(dbVersion)) {
+      LOG.warn(
+          "Hot state tree storage is not supported by database version {} and will be ignored. "
+              + "It is only supported by the v4, v5 and leveldb1 database versions",
+          dbVersion.getValue());
+    }
 
     Database database;
     switch (dbVersion) {
@@ -183,6 +191,15 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     return stateStorageMode;
   }
 
+  /** Only databases using the V4 hot dao can store hot states as tree nodes. */
+  @VisibleForTesting
+  static boolean supportsHotStateTreeStorage(final DatabaseVersion dbVersion) {
+    return switch (dbVersion) {
+      case V4, V5, LEVELDB1 -> true;
+      default -> false;
+    };
+  }
+
   private Database createV4Database() {
     try {
       DatabaseNetwork.init(
@@ -194,6 +211,8 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           stateStorageMode,
           stateStorageFrequency,
           storeNonCanonicalBlocks,
+          storeHotStatesAsTree,
+          maxKnownNodeCacheSize,
           spec);
     } catch (final IOException e) {
       throw DatabaseStorageException.unrecoverable("Failed to read configuration file", e);
@@ -218,6 +237,8 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           stateStorageMode,
           stateStorageFrequency,
           storeNonCanonicalBlocks,
+          storeHotStatesAsTree,
+          maxKnownNodeCacheSize,
           spec);
     } catch (final IOException e) {
       throw DatabaseStorageException.unrecoverable("Failed to read metadata", e);
@@ -261,6 +282,8 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           stateStorageMode,
           stateStorageFrequency,
           storeNonCanonicalBlocks,
+          storeHotStatesAsTree,
+          maxKnownNodeCacheSize,
           spec);
     } catch (final IOException e) {
       throw DatabaseStorageException.unrecoverable("Failed to read metadata", e);
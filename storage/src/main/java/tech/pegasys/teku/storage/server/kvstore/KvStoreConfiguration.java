@@ -53,6 +53,12 @@ public class KvStoreConfiguration {
   public static final int DEFAULT_BACKGROUND_THREAD_COUNT = 6;
   public static final long DEFAULT_CACHE_CAPACITY = 8 << 20;
   public static final long DEFAULT_WRITE_BUFFER_CAPACITY = 128 << 20;
+  public static final long DEFAULT_INDEX_CACHE_CAPACITY = 8 << 20;
+  public static final long DEFAULT_LARGE_VALUE_CACHE_CAPACITY = 8 << 20;
+  public static final boolean DEFAULT_BLOB_FILES_ENABLED = true;
+  public static final long DEFAULT_MIN_BLOB_SIZE = 4096;
+  public static final long DEFAULT_BLOB_FILE_SIZE = 256 << 20;
+  public static final int DEFAULT_BLOOM_FILTER_BITS_PER_KEY = 10;
   private static final boolean DEFAULT_OPTIMISE_FOR_SMALL_DB = false;
 
   /* --------------- Safe to Change Properties ------------ */
@@ -81,6 +87,25 @@ public class KvStoreConfiguration {
   @JsonProperty(value = "writeBufferCapacity", access = Access.WRITE_ONLY)
   private long writeBufferCapacity = DEFAULT_WRITE_BUFFER_CAPACITY;
 
+  @JsonProperty(value = "indexCacheCapacity", access = Access.WRITE_ONLY)
+  private long indexCacheCapacity = DEFAULT_INDEX_CACHE_CAPACITY;
+
+  @JsonProperty(value = "largeValueCacheCapacity", access = Access.WRITE_ONLY)
+  private long largeValueCacheCapacity = DEFAULT_LARGE_VALUE_CACHE_CAPACITY;
+
+  // Existing values stay in the SST files until compaction moves them, so this is safe to toggle
+  @JsonProperty(value = "blobFilesEnabled", access = Access.WRITE_ONLY)
+  private boolean blobFilesEnabled = DEFAULT_BLOB_FILES_ENABLED;
+
+  @JsonProperty(value = "minBlobSize", access = Access.WRITE_ONLY)
+  private long minBlobSize = DEFAULT_MIN_BLOB_SIZE;
+
+  @JsonProperty(value = "blobFileSize", access = Access.WRITE_ONLY)
+  private long blobFileSize = DEFAULT_BLOB_FILE_SIZE;
+
+  @JsonProperty(value = "bloomFilterBitsPerKey", access = Access.WRITE_ONLY)
+  private int bloomFilterBitsPerKey = DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
+
   // Safe to change but written to file as we need different defaults for hot and finalized
   @JsonProperty(value = "optimizeForSmallDb")
   private boolean optimizeForSmallDb = DEFAULT_OPTIMISE_FOR_SMALL_DB;
@@ -154,6 +179,30 @@ public class KvStoreConfiguration {
     return writeBufferCapacity;
   }
 
+  public long getIndexCacheCapacity() {
+    return indexCacheCapacity;
+  }
+
+  public long getLargeValueCacheCapacity() {
+    return largeValueCacheCapacity;
+  }
+
+  public boolean isBlobFilesEnabled() {
+    return blobFilesEnabled;
+  }
+
+  public long getMinBlobSize() {
+    return minBlobSize;
+  }
+
+  public long getBlobFileSize() {
+    return blobFileSize;
+  }
+
+  public int getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
   public CompressionType getCompressionType() {
     return compressionType;
   }
@@ -174,6 +223,12 @@ public class KvStoreConfiguration {
         .add("backgroundThreadCount", backgroundThreadCount)
         .add("cacheCapacity", cacheCapacity)
         .add("writeBufferCapacity", writeBufferCapacity)
+        .add("indexCacheCapacity", indexCacheCapacity)
+        .add("largeValueCacheCapacity", largeValueCacheCapacity)
+        .add("blobFilesEnabled", blobFilesEnabled)
+        .add("minBlobSize", minBlobSize)
+        .add("blobFileSize", blobFileSize)
+        .add("bloomFilterBitsPerKey", bloomFilterBitsPerKey)
         .add("compressionType", compressionType)
         .add("bottomMostCompressionType", bottomMostCompressionType)
         .add("databaseDir", databaseDir)
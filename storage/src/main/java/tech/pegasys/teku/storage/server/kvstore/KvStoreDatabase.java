@@ -56,6 +56,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockSummary;
 import tech.pegasys.teku.spec.datastructures.blocks.BlockAndCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
 import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
@@ -85,6 +86,7 @@ import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateSnaps
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateTreeStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4HotKvStoreDao;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4HotStateStorageLogic;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombined;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedSnapshotState;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
@@ -115,6 +117,7 @@ public class KvStoreDatabase implements Database {
   }
 
   public static Database createV4(
+      final MetricsSystem metricsSystem,
       final KvStoreAccessor hotDb,
       final KvStoreAccessor finalizedDb,
       final SchemaHotAdapter schemaHot,
@@ -122,11 +125,16 @@ public class KvStoreDatabase implements Database {
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
       final boolean storeNonCanonicalBlocks,
+      final boolean storeHotStatesAsTree,
+      final int maxKnownNodeCacheSize,
       final Spec spec) {
     final V4FinalizedStateSnapshotStorageLogic<SchemaFinalizedSnapshotStateAdapter>
         finalizedStateStorageLogic =
             new V4FinalizedStateSnapshotStorageLogic<>(stateStorageFrequency);
-    final V4HotKvStoreDao hotDao = new V4HotKvStoreDao(hotDb, schemaHot);
+    final V4HotStateStorageLogic hotStateStorageLogic =
+        new V4HotStateStorageLogic(
+            metricsSystem, spec, storeHotStatesAsTree, maxKnownNodeCacheSize);
+    final V4HotKvStoreDao hotDao = new V4HotKvStoreDao(hotDb, schemaHot, hotStateStorageLogic);
     final KvStoreCombinedDaoAdapter dao =
         new KvStoreCombinedDaoAdapter(
             hotDao,
@@ -204,6 +212,11 @@ public class KvStoreDatabase implements Database {
     return dao.getFinalizedBlockAtSlot(slot);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockSszAtSlot(final UInt64 slot) {
+    return dao.getFinalizedBlockSszAtSlot(slot);
+  }
+
   @Override
   public Optional<UInt64> getEarliestAvailableBlockSlot() {
     return dao.getEarliestFinalizedBlockSlot();
@@ -592,6 +605,29 @@ public class KvStoreDatabase implements Database {
     }
   }
 
+  @Override
+  public void storeReconstructedFinalizedStates(final List<SignedBlockAndState> blocksAndStates) {
+    if (blocksAndStates.isEmpty()) {
+      return;
+    }
+    try (final FinalizedUpdater updater = finalizedUpdater()) {
+      // Only the first state needs to look up the last stored state to know which slots' state
+      // roots are missing, each later state follows on from the one before it in the batch
+      final BeaconState firstState = blocksAndStates.get(0).getState();
+      final UInt64 firstUnrecordedSlot =
+          getLatestAvailableFinalizedState(firstState.getSlot().minusMinZero(ONE))
+              .map(lastState -> lastState.getSlot().increment())
+              .orElse(firstState.getSlot());
+      final StateRootRecorder recorder =
+          new StateRootRecorder(firstUnrecordedSlot, updater::addFinalizedStateRoot, spec);
+      for (SignedBlockAndState blockAndState : blocksAndStates) {
+        updater.addReconstructedFinalizedState(blockAndState.getRoot(), blockAndState.getState());
+        recorder.acceptNextState(blockAndState.getState());
+      }
+      updater.commit();
+    }
+  }
+
   private void handleAddFinalizedStateRoot(BeaconState state, FinalizedUpdater updater) {
     final Optional<BeaconState> maybeLastState =
         getLatestAvailableFinalizedState(state.getSlot().minusMinZero(ONE));
@@ -801,6 +837,11 @@ public class KvStoreDatabase implements Database {
     return maybePayload.map(payload -> spec.deserializeBlobSidecar(payload, key.getSlot()));
   }
 
+  @Override
+  public Optional<Bytes> getBlobSidecarSsz(final SlotAndBlockRootAndBlobIndex key) {
+    return dao.getBlobSidecar(key);
+  }
+
   @Override
   public Optional<BlobSidecar> getNonCanonicalBlobSidecar(final SlotAndBlockRootAndBlobIndex key) {
     final Optional<Bytes> maybePayload = dao.getNonCanonicalBlobSidecar(key);
@@ -260,6 +260,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     return db.get(schema.getColumnFinalizedBlocksBySlot(), slot);
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockSszAtSlot(final UInt64 slot) {
+    return db.getRaw(schema.getColumnFinalizedBlocksBySlot(), slot);
+  }
+
   @Override
   public Optional<UInt64> getEarliestFinalizedBlockSlot() {
     return db.getFirstEntry(schema.getColumnFinalizedBlocksBySlot()).map(ColumnEntry::getKey);
@@ -17,21 +17,34 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
 
 class KvStoreTreeNodeSource implements TreeNodeSource {
 
   private final KvStoreAccessor db;
-  private final SchemaCombinedTreeState schema;
+  private final KvStoreColumn<Bytes32, CompressedBranchInfo> branchesColumn;
+  private final KvStoreColumn<Bytes32, Bytes> leavesColumn;
 
   public KvStoreTreeNodeSource(final KvStoreAccessor db, final SchemaCombinedTreeState schema) {
+    this(
+        db,
+        schema.getColumnFinalizedStateMerkleTreeBranches(),
+        schema.getColumnFinalizedStateMerkleTreeLeaves());
+  }
+
+  public KvStoreTreeNodeSource(
+      final KvStoreAccessor db,
+      final KvStoreColumn<Bytes32, CompressedBranchInfo> branchesColumn,
+      final KvStoreColumn<Bytes32, Bytes> leavesColumn) {
     this.db = db;
-    this.schema = schema;
+    this.branchesColumn = branchesColumn;
+    this.leavesColumn = leavesColumn;
   }
 
   @Override
   public CompressedBranchInfo loadBranchNode(final Bytes32 rootHash, final long gIndex) {
-    return db.get(schema.getColumnFinalizedStateMerkleTreeBranches(), rootHash)
+    return db.get(branchesColumn, rootHash)
         .orElseThrow(
             () ->
                 new IllegalArgumentException("Unknown branch node: " + rootHash + " at " + gIndex));
@@ -39,6 +52,6 @@ class KvStoreTreeNodeSource implements TreeNodeSource {
 
   @Override
   public Bytes loadLeafNode(final Bytes32 rootHash, final long gIndex) {
-    return db.get(schema.getColumnFinalizedStateMerkleTreeLeaves(), rootHash).orElse(rootHash);
+    return db.get(leavesColumn, rootHash).orElse(rootHash);
   }
 }
@@ -64,6 +64,10 @@ public class V4FinalizedKvStoreDao {
     return db.get(schema.getColumnFinalizedBlocksBySlot(), slot);
   }
 
+  public Optional<Bytes> getFinalizedBlockSszAtSlot(final UInt64 slot) {
+    return db.getRaw(schema.getColumnFinalizedBlocksBySlot(), slot);
+  }
+
   public Optional<UInt64> getEarliestFinalizedBlockSlot() {
     return db.getFirstEntry(schema.getColumnFinalizedBlocksBySlot()).map(ColumnEntry::getKey);
   }
@@ -37,6 +37,7 @@ import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.HotUpdater;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4HotStateStorageLogic.HotStateUpdater;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaHotAdapter;
@@ -45,10 +46,15 @@ public class V4HotKvStoreDao {
   // Persistent data
   private final KvStoreAccessor db;
   private final SchemaHotAdapter schema;
+  private final V4HotStateStorageLogic stateStorageLogic;
 
-  public V4HotKvStoreDao(final KvStoreAccessor db, final SchemaHotAdapter schema) {
+  public V4HotKvStoreDao(
+      final KvStoreAccessor db,
+      final SchemaHotAdapter schema,
+      final V4HotStateStorageLogic stateStorageLogic) {
     this.db = db;
     this.schema = schema;
+    this.stateStorageLogic = stateStorageLogic;
   }
 
   public Optional<UInt64> getGenesisTime() {
@@ -80,7 +86,7 @@ public class V4HotKvStoreDao {
   }
 
   public Optional<BeaconState> getHotState(final Bytes32 root) {
-    return db.get(schema.getColumnHotStatesByRoot(), root);
+    return stateStorageLogic.getHotState(db, schema, root);
   }
 
   @MustBeClosed
@@ -135,7 +141,7 @@ public class V4HotKvStoreDao {
 
   @MustBeClosed
   public V4HotUpdater hotUpdater() {
-    return new V4HotUpdater(db, schema);
+    return new V4HotUpdater(db, schema, stateStorageLogic);
   }
 
   public <T> Optional<Bytes> getRawVariable(final KvStoreVariable<T> var) {
@@ -187,10 +193,15 @@ public class V4HotKvStoreDao {
 
     private final KvStoreTransaction transaction;
     private final SchemaHotAdapter schema;
+    private final HotStateUpdater stateUpdater;
 
-    V4HotUpdater(final KvStoreAccessor db, final SchemaHotAdapter schema) {
+    V4HotUpdater(
+        final KvStoreAccessor db,
+        final SchemaHotAdapter schema,
+        final V4HotStateStorageLogic stateStorageLogic) {
       this.transaction = db.startTransaction();
       this.schema = schema;
+      this.stateUpdater = stateStorageLogic.updater(db, transaction, schema);
     }
 
     @Override
@@ -248,7 +259,7 @@ public class V4HotKvStoreDao {
 
     @Override
     public void addHotState(final Bytes32 blockRoot, final BeaconState state) {
-      transaction.put(schema.getColumnHotStatesByRoot(), blockRoot, state);
+      stateUpdater.addHotState(blockRoot, state);
     }
 
     @Override
@@ -286,7 +297,7 @@ public class V4HotKvStoreDao {
 
     @Override
     public void deleteHotState(final Bytes32 blockRoot) {
-      transaction.delete(schema.getColumnHotStatesByRoot(), blockRoot);
+      stateUpdater.deleteHotState(blockRoot);
     }
 
     @Override
@@ -312,6 +323,7 @@ public class V4HotKvStoreDao {
     @Override
     public void commit() {
       // Commit db updates
+      stateUpdater.commit();
       transaction.commit();
       close();
     }
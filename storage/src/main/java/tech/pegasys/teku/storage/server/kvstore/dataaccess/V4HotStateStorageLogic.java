@@ -0,0 +1,344 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.collections.LimitedSet;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.LeafDataNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeStore;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaHotAdapter;
+
+/**
+ * Stores hot states either as full SSZ snapshots or as content-addressed merkle tree nodes.
+ *
+ * <p>In tree mode only the branch and leaf nodes not already present in the database are written.
+ * Every stored node keeps a reference count of the stored branches (and hot state entries) that
+ * point at it so that nodes can be pruned as soon as the last hot state using them is deleted.
+ * Leaves of 32 bytes or less are inlined in their parent branch and are not counted.
+ *
+ * <p>Reads and deletes always handle both formats so that the storage mode can be changed on an
+ * existing database.
+ */
+public class V4HotStateStorageLogic {
+  private static final int MAX_BRANCH_LEVELS_SKIPPED = 5;
+
+  private final Spec spec;
+  private final boolean storeHotStatesAsTree;
+  private final Set<Bytes32> knownStoredBranchesCache;
+  private final LabelledMetric<Counter> bytesWrittenCounter;
+  private final LabelledMetric<Counter> branchNodeCounter;
+
+  public V4HotStateStorageLogic(
+      final MetricsSystem metricsSystem,
+      final Spec spec,
+      final boolean storeHotStatesAsTree,
+      final int maxKnownNodeCacheSize) {
+    this.spec = spec;
+    this.storeHotStatesAsTree = storeHotStatesAsTree;
+    this.knownStoredBranchesCache = LimitedSet.createSynchronized(maxKnownNodeCacheSize);
+    this.bytesWrittenCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.STORAGE_HOT_DB,
+            "hot_state_bytes_written",
+            "Number of bytes of hot state data written to the database",
+            "format");
+    this.branchNodeCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.STORAGE_HOT_DB,
+            "hot_state_branch_nodes",
+            "Number of hot state tree branch nodes stored, skipped or pruned",
+            "type");
+  }
+
+  public Optional<BeaconState> getHotState(
+      final KvStoreAccessor db, final SchemaHotAdapter schema, final Bytes32 blockRoot) {
+    final Optional<Bytes32> maybeStateRoot =
+        db.get(schema.getColumnHotStateTreeRootsByBlockRoot(), blockRoot);
+    if (maybeStateRoot.isEmpty()) {
+      return db.get(schema.getColumnHotStatesByRoot(), blockRoot);
+    }
+    final Optional<UInt64> maybeSlot =
+        db.get(schema.getColumnHotStateTreeSlotsByBlockRoot(), blockRoot);
+    if (maybeSlot.isEmpty()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(
+          spec.atSlot(maybeSlot.get())
+              .getSchemaDefinitions()
+              .getBeaconStateSchema()
+              .load(
+                  new KvStoreTreeNodeSource(
+                      db,
+                      schema.getColumnHotStateMerkleTreeBranches(),
+                      schema.getColumnHotStateMerkleTreeLeaves()),
+                  maybeStateRoot.get(),
+                  GIndexUtil.SELF_G_INDEX));
+    } catch (final IllegalArgumentException e) {
+      // Nodes may have been pruned while the state was being loaded
+      if (db.get(schema.getColumnHotStateTreeRootsByBlockRoot(), blockRoot).isEmpty()) {
+        return Optional.empty();
+      }
+      throw e;
+    }
+  }
+
+  HotStateUpdater updater(
+      final KvStoreAccessor db,
+      final KvStoreTransaction transaction,
+      final SchemaHotAdapter schema) {
+    return new HotStateUpdater(db, transaction, schema);
+  }
+
+  class HotStateUpdater implements TreeNodeStore {
+    private final KvStoreAccessor db;
+    private final KvStoreTransaction transaction;
+    private final SchemaHotAdapter schema;
+
+    private final Map<Bytes32, Optional<Bytes32>> updatedStateRoots = new HashMap<>();
+    private final Map<Bytes32, Bytes32[]> newlyStoredBranches = new HashMap<>();
+    private final Set<Bytes32> knownMissingBranches = new HashSet<>();
+    // Roots of the visited nodes which are stored, so only they are reference counted by parents
+    private final Set<Bytes32> storedNodes = new HashSet<>();
+    private final Map<Bytes32, Long> referenceCountChanges = new HashMap<>();
+
+    private long snapshotBytesWritten = 0;
+    private long treeBytesWritten = 0;
+    private int skippedBranchNodes = 0;
+    private int storedLeafNodes = 0;
+    private int prunedBranchNodes = 0;
+
+    private HotStateUpdater(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final SchemaHotAdapter schema) {
+      this.db = db;
+      this.transaction = transaction;
+      this.schema = schema;
+    }
+
+    public void addHotState(final Bytes32 blockRoot, final BeaconState state) {
+      deleteTreeState(blockRoot);
+      if (!storeHotStatesAsTree) {
+        transaction.put(schema.getColumnHotStatesByRoot(), blockRoot, state);
+        snapshotBytesWritten += state.getSchema().getSszSize(state.getBackingNode());
+        return;
+      }
+      final Bytes32 stateRoot = state.hashTreeRoot();
+      transaction.delete(schema.getColumnHotStatesByRoot(), blockRoot);
+      transaction.put(schema.getColumnHotStateTreeRootsByBlockRoot(), blockRoot, stateRoot);
+      transaction.put(schema.getColumnHotStateTreeSlotsByBlockRoot(), blockRoot, state.getSlot());
+      treeBytesWritten += Bytes32.SIZE + Long.BYTES;
+      updatedStateRoots.put(blockRoot, Optional.of(stateRoot));
+      state
+          .getSchema()
+          .storeBackingNodes(
+              this, MAX_BRANCH_LEVELS_SKIPPED, GIndexUtil.SELF_G_INDEX, state.getBackingNode());
+      updateReferenceCount(stateRoot, 1);
+    }
+
+    public void deleteHotState(final Bytes32 blockRoot) {
+      transaction.delete(schema.getColumnHotStatesByRoot(), blockRoot);
+      deleteTreeState(blockRoot);
+    }
+
+    private void deleteTreeState(final Bytes32 blockRoot) {
+      final Optional<Bytes32> maybeStateRoot =
+          updatedStateRoots.containsKey(blockRoot)
+              ? updatedStateRoots.get(blockRoot)
+              : db.get(schema.getColumnHotStateTreeRootsByBlockRoot(), blockRoot);
+      if (maybeStateRoot.isEmpty()) {
+        return;
+      }
+      transaction.delete(schema.getColumnHotStateTreeRootsByBlockRoot(), blockRoot);
+      transaction.delete(schema.getColumnHotStateTreeSlotsByBlockRoot(), blockRoot);
+      updatedStateRoots.put(blockRoot, Optional.empty());
+      updateReferenceCount(maybeStateRoot.get(), -1);
+    }
+
+    @Override
+    public boolean canSkipBranch(final Bytes32 root, final long gIndex) {
+      final boolean result = isBranchStored(root);
+      if (result) {
+        skippedBranchNodes++;
+        storedNodes.add(root);
+      } else {
+        knownMissingBranches.add(root);
+      }
+      return result;
+    }
+
+    @Override
+    public void storeBranchNode(
+        final Bytes32 root, final long gIndex, final int depth, final Bytes32[] children) {
+      storedNodes.add(root);
+      if (!knownMissingBranches.remove(root) && isBranchStored(root)) {
+        return;
+      }
+      newlyStoredBranches.put(root, children);
+      transaction.put(
+          schema.getColumnHotStateMerkleTreeBranches(),
+          root,
+          new CompressedBranchInfo(depth, children));
+      treeBytesWritten += Integer.BYTES + (long) children.length * Bytes32.SIZE;
+      for (Bytes32 child : children) {
+        // Leaves of 32 bytes or less are inlined in the branch so have no count to maintain
+        if (storedNodes.contains(child)) {
+          updateReferenceCount(child, 1);
+        }
+      }
+    }
+
+    @Override
+    public void storeLeafNode(final TreeNode treeNode, final long gIndex) {
+      checkArgument(treeNode instanceof LeafDataNode, "Can't store a non-leaf node");
+      final LeafDataNode node = (LeafDataNode) treeNode;
+      if (node.getData().size() > Bytes32.SIZE && !node.hashTreeRoot().isZero()) {
+        storedLeafNodes++;
+        storedNodes.add(node.hashTreeRoot());
+        transaction.put(
+            schema.getColumnHotStateMerkleTreeLeaves(), node.hashTreeRoot(), node.getData());
+        treeBytesWritten += node.getData().size();
+      }
+    }
+
+    private boolean isBranchStored(final Bytes32 root) {
+      return newlyStoredBranches.containsKey(root)
+          || knownStoredBranchesCache.contains(root)
+          || db.getRaw(schema.getColumnHotStateMerkleTreeBranches(), root).isPresent();
+    }
+
+    private void updateReferenceCount(final Bytes32 root, final long change) {
+      referenceCountChanges.merge(root, change, Long::sum);
+    }
+
+    private long getStoredReferenceCount(final Bytes32 root) {
+      return db.get(schema.getColumnHotStateMerkleTreeReferenceCounts(), root)
+          .map(UInt64::longValue)
+          .orElse(0L);
+    }
+
+    private Optional<Bytes32[]> getChildren(final Bytes32 root) {
+      final Bytes32[] children = newlyStoredBranches.get(root);
+      if (children != null) {
+        return Optional.of(children);
+      }
+      return db.get(schema.getColumnHotStateMerkleTreeBranches(), root)
+          .map(CompressedBranchInfo::getChildren);
+    }
+
+    /**
+     * Writes the updated reference counts and prunes any nodes that are no longer referenced.
+     * Must be called before the underlying transaction is committed.
+     */
+    public void commit() {
+      final Map<Bytes32, Long> updatedCounts = new HashMap<>();
+      final Deque<Bytes32> unreferencedNodes = new ArrayDeque<>();
+      referenceCountChanges.forEach(
+          (root, change) -> {
+            if (change == 0) {
+              return;
+            }
+            final long count = getStoredReferenceCount(root) + change;
+            updatedCounts.put(root, count);
+            if (count <= 0) {
+              unreferencedNodes.add(root);
+            }
+          });
+
+      knownStoredBranchesCache.addAll(newlyStoredBranches.keySet());
+      while (!unreferencedNodes.isEmpty()) {
+        final Bytes32 root = unreferencedNodes.removeFirst();
+        final Optional<Bytes32[]> maybeChildren = getChildren(root);
+        transaction.delete(schema.getColumnHotStateMerkleTreeBranches(), root);
+        transaction.delete(schema.getColumnHotStateMerkleTreeLeaves(), root);
+        transaction.delete(schema.getColumnHotStateMerkleTreeReferenceCounts(), root);
+        knownStoredBranchesCache.remove(root);
+        if (maybeChildren.isEmpty()) {
+          continue;
+        }
+        prunedBranchNodes++;
+        for (Bytes32 child : maybeChildren.get()) {
+          final long currentCount =
+              updatedCounts.computeIfAbsent(child, this::getStoredReferenceCount);
+          if (currentCount <= 0) {
+            // Inline leaves are not reference counted
+            continue;
+          }
+          updatedCounts.put(child, currentCount - 1);
+          if (currentCount == 1) {
+            unreferencedNodes.add(child);
+          }
+        }
+      }
+
+      updatedCounts.forEach(
+          (root, count) -> {
+            if (count > 0) {
+              transaction.put(
+                  schema.getColumnHotStateMerkleTreeReferenceCounts(), root, UInt64.valueOf(count));
+              treeBytesWritten += Long.BYTES;
+            }
+          });
+
+      bytesWrittenCounter.labels("snapshot").inc(snapshotBytesWritten);
+      bytesWrittenCounter.labels("tree").inc(treeBytesWritten);
+      branchNodeCounter.labels("stored").inc(newlyStoredBranches.size());
+      branchNodeCounter.labels("skipped").inc(skippedBranchNodes);
+      branchNodeCounter.labels("pruned").inc(prunedBranchNodes);
+    }
+
+    @Override
+    public Collection<Bytes32> getStoredBranchRoots() {
+      return newlyStoredBranches.keySet();
+    }
+
+    @Override
+    public int getStoredBranchNodeCount() {
+      return newlyStoredBranches.size();
+    }
+
+    @Override
+    public int getSkippedBranchNodeCount() {
+      return skippedBranchNodes;
+    }
+
+    @Override
+    public int getStoredLeafNodeCount() {
+      return storedLeafNodes;
+    }
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.schema;
+
+/**
+ * Describes the shape of the data held in a {@link KvStoreColumn} so the underlying store can tune
+ * each column for its access pattern. Stores which don't support per-column tuning ignore it.
+ */
+public enum KvStoreColumnProfile {
+  /** General purpose settings, matching those used before columns had profiles. */
+  DEFAULT,
+
+  /**
+   * Small keys and values, such as roots, slots and state tree nodes, which are mostly read by
+   * exact key. Uses bloom filters and a hash index within data blocks to avoid reads for missing
+   * keys and speed up point lookups.
+   */
+  INDEX,
+
+  /**
+   * Large, write-once values such as blocks and state snapshots. Values are separated from keys
+   * into blob files so compaction rewrites only the small keys rather than the values.
+   */
+  LARGE_VALUE,
+
+  /**
+   * Large values which are written once and deleted in slot order once they age out, such as blob
+   * sidecars. Stored uncompressed in blob files, as the values don't compress, with blob garbage
+   * collection reclaiming the space of pruned values.
+   */
+  EXPIRING_LARGE_VALUE
+}
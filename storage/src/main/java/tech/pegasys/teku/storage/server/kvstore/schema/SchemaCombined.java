@@ -21,6 +21,7 @@ import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
@@ -47,6 +48,16 @@ public interface SchemaCombined extends Schema {
 
   KvStoreColumn<Bytes32, BeaconState> getColumnHotStatesByRoot();
 
+  KvStoreColumn<Bytes32, Bytes32> getColumnHotStateTreeRootsByBlockRoot();
+
+  KvStoreColumn<Bytes32, UInt64> getColumnHotStateTreeSlotsByBlockRoot();
+
+  KvStoreColumn<Bytes32, CompressedBranchInfo> getColumnHotStateMerkleTreeBranches();
+
+  KvStoreColumn<Bytes32, Bytes> getColumnHotStateMerkleTreeLeaves();
+
+  KvStoreColumn<Bytes32, UInt64> getColumnHotStateMerkleTreeReferenceCounts();
+
   KvStoreColumn<Bytes32, UInt64> getColumnSlotsByFinalizedRoot();
 
   KvStoreColumn<UInt64, SignedBeaconBlock> getColumnFinalizedBlocksBySlot();
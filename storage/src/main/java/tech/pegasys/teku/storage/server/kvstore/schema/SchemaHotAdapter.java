@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.storage.server.kvstore.schema;
 
+import com.google.common.collect.ImmutableMap;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -21,6 +22,7 @@ import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
@@ -65,6 +67,26 @@ public class SchemaHotAdapter implements Schema {
     return delegate.getColumnHotStatesByRoot();
   }
 
+  public KvStoreColumn<Bytes32, Bytes32> getColumnHotStateTreeRootsByBlockRoot() {
+    return delegate.getColumnHotStateTreeRootsByBlockRoot();
+  }
+
+  public KvStoreColumn<Bytes32, UInt64> getColumnHotStateTreeSlotsByBlockRoot() {
+    return delegate.getColumnHotStateTreeSlotsByBlockRoot();
+  }
+
+  public KvStoreColumn<Bytes32, CompressedBranchInfo> getColumnHotStateMerkleTreeBranches() {
+    return delegate.getColumnHotStateMerkleTreeBranches();
+  }
+
+  public KvStoreColumn<Bytes32, Bytes> getColumnHotStateMerkleTreeLeaves() {
+    return delegate.getColumnHotStateMerkleTreeLeaves();
+  }
+
+  public KvStoreColumn<Bytes32, UInt64> getColumnHotStateMerkleTreeReferenceCounts() {
+    return delegate.getColumnHotStateMerkleTreeReferenceCounts();
+  }
+
   public KvStoreColumn<SlotAndBlockRootAndBlobIndex, Bytes>
       getColumnBlobSidecarBySlotRootBlobIndex() {
     return delegate.getColumnBlobSidecarBySlotRootBlobIndex();
@@ -107,23 +129,23 @@ public class SchemaHotAdapter implements Schema {
   }
 
   public Map<String, KvStoreColumn<?, ?>> getColumnMap() {
-    return Map.of(
-        "HOT_BLOCKS_BY_ROOT",
-        getColumnHotBlocksByRoot(),
-        "CHECKPOINT_STATES",
-        getColumnCheckpointStates(),
-        "VOTES",
-        getColumnVotes(),
-        "DEPOSITS_FROM_BLOCK_EVENTS",
-        getColumnDepositsFromBlockEvents(),
-        "STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT",
-        getColumnStateRootToSlotAndBlockRoot(),
-        "HOT_STATES_BY_ROOT",
-        getColumnHotStatesByRoot(),
-        "HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT",
-        getColumnHotBlockCheckpointEpochsByRoot(),
-        "BLOB_SIDECAR_BY_SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX",
-        getColumnBlobSidecarBySlotRootBlobIndex());
+    return ImmutableMap.<String, KvStoreColumn<?, ?>>builder()
+        .put("HOT_BLOCKS_BY_ROOT", getColumnHotBlocksByRoot())
+        .put("CHECKPOINT_STATES", getColumnCheckpointStates())
+        .put("VOTES", getColumnVotes())
+        .put("DEPOSITS_FROM_BLOCK_EVENTS", getColumnDepositsFromBlockEvents())
+        .put("STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT", getColumnStateRootToSlotAndBlockRoot())
+        .put("HOT_STATES_BY_ROOT", getColumnHotStatesByRoot())
+        .put("HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT", getColumnHotBlockCheckpointEpochsByRoot())
+        .put("HOT_STATE_TREE_ROOTS_BY_BLOCK_ROOT", getColumnHotStateTreeRootsByBlockRoot())
+        .put("HOT_STATE_TREE_SLOTS_BY_BLOCK_ROOT", getColumnHotStateTreeSlotsByBlockRoot())
+        .put("HOT_STATE_TREE_BRANCHES", getColumnHotStateMerkleTreeBranches())
+        .put("HOT_STATE_TREE_LEAVES", getColumnHotStateMerkleTreeLeaves())
+        .put("HOT_STATE_TREE_REFERENCE_COUNTS", getColumnHotStateMerkleTreeReferenceCounts())
+        .put(
+            "BLOB_SIDECAR_BY_SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX",
+            getColumnBlobSidecarBySlotRootBlobIndex())
+        .build();
   }
 
   public Map<String, KvStoreVariable<?>> getVariableMap() {
@@ -13,9 +13,13 @@
 
 package tech.pegasys.teku.storage.server.kvstore.schema;
 
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.INDEX;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.LARGE_VALUE;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.CHECKPOINT_EPOCHS_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.CHECKPOINT_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.COMPRESSED_BRANCH_INFO_KV_STORE_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.DEPOSIT_SNAPSHOT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.MIN_GENESIS_TIME_BLOCK_EVENT_SERIALIZER;
@@ -25,10 +29,12 @@ import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSeri
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
@@ -56,11 +62,24 @@ public abstract class V6SchemaCombined implements SchemaCombined {
   private static final KvStoreColumn<UInt64, DepositsFromBlockEvent> DEPOSITS_FROM_BLOCK_EVENTS =
       KvStoreColumn.create(4, UINT64_SERIALIZER, DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER);
   private static final KvStoreColumn<Bytes32, SlotAndBlockRoot> STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT =
-      KvStoreColumn.create(5, BYTES32_SERIALIZER, SLOT_AND_BLOCK_ROOT_SERIALIZER);
+      KvStoreColumn.create(5, BYTES32_SERIALIZER, SLOT_AND_BLOCK_ROOT_SERIALIZER, INDEX);
   private final KvStoreColumn<Bytes32, BeaconState> hotStatesByRoot;
   private static final KvStoreColumn<Bytes32, BlockCheckpoints>
       HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT =
-          KvStoreColumn.create(7, BYTES32_SERIALIZER, CHECKPOINT_EPOCHS_SERIALIZER);
+          KvStoreColumn.create(7, BYTES32_SERIALIZER, CHECKPOINT_EPOCHS_SERIALIZER, INDEX);
+
+  // Hot states stored as deduplicated merkle tree nodes rather than full snapshots
+  private static final KvStoreColumn<Bytes32, Bytes32> HOT_STATE_TREE_ROOTS_BY_BLOCK_ROOT =
+      KvStoreColumn.create(8, BYTES32_SERIALIZER, BYTES32_SERIALIZER, INDEX);
+  private static final KvStoreColumn<Bytes32, UInt64> HOT_STATE_TREE_SLOTS_BY_BLOCK_ROOT =
+      KvStoreColumn.create(9, BYTES32_SERIALIZER, UINT64_SERIALIZER, INDEX);
+  private static final KvStoreColumn<Bytes32, CompressedBranchInfo> HOT_STATE_TREE_BRANCHES =
+      KvStoreColumn.create(
+          10, BYTES32_SERIALIZER, COMPRESSED_BRANCH_INFO_KV_STORE_SERIALIZER, INDEX);
+  private static final KvStoreColumn<Bytes32, Bytes> HOT_STATE_TREE_LEAVES =
+      KvStoreColumn.create(11, BYTES32_SERIALIZER, BYTES_SERIALIZER, INDEX);
+  private static final KvStoreColumn<Bytes32, UInt64> HOT_STATE_TREE_REFERENCE_COUNTS =
+      KvStoreColumn.create(12, BYTES32_SERIALIZER, UINT64_SERIALIZER, INDEX);
 
   // Variables
   private static final KvStoreVariable<UInt64> GENESIS_TIME =
@@ -89,14 +108,15 @@ public abstract class V6SchemaCombined implements SchemaCombined {
     this.finalizedOffset = finalizedOffset;
     final KvStoreSerializer<SignedBeaconBlock> signedBlockSerializer =
         KvStoreSerializer.createSignedBlockSerializer(spec);
-    hotBlocksByRoot = KvStoreColumn.create(1, BYTES32_SERIALIZER, signedBlockSerializer);
+    hotBlocksByRoot =
+        KvStoreColumn.create(1, BYTES32_SERIALIZER, signedBlockSerializer, LARGE_VALUE);
     final KvStoreSerializer<BeaconState> stateSerializer =
         KvStoreSerializer.createStateSerializer(spec);
-    checkpointStates = KvStoreColumn.create(2, CHECKPOINT_SERIALIZER, stateSerializer);
-    hotStatesByRoot = KvStoreColumn.create(6, BYTES32_SERIALIZER, stateSerializer);
+    checkpointStates = KvStoreColumn.create(2, CHECKPOINT_SERIALIZER, stateSerializer, LARGE_VALUE);
+    hotStatesByRoot = KvStoreColumn.create(6, BYTES32_SERIALIZER, stateSerializer, LARGE_VALUE);
     latestFinalizedState = KvStoreVariable.create(5, stateSerializer);
 
-    votes = KvStoreColumn.create(3, UINT64_SERIALIZER, VOTE_TRACKER_SERIALIZER);
+    votes = KvStoreColumn.create(3, UINT64_SERIALIZER, VOTE_TRACKER_SERIALIZER, INDEX);
 
     optimisticTransitionBlockSlot = KvStoreVariable.create(finalizedOffset + 1, UINT64_SERIALIZER);
     earliestBlobSidecarSlot = KvStoreVariable.create(finalizedOffset + 2, UINT64_SERIALIZER);
@@ -137,6 +157,31 @@ public abstract class V6SchemaCombined implements SchemaCombined {
     return hotStatesByRoot;
   }
 
+  @Override
+  public KvStoreColumn<Bytes32, Bytes32> getColumnHotStateTreeRootsByBlockRoot() {
+    return HOT_STATE_TREE_ROOTS_BY_BLOCK_ROOT;
+  }
+
+  @Override
+  public KvStoreColumn<Bytes32, UInt64> getColumnHotStateTreeSlotsByBlockRoot() {
+    return HOT_STATE_TREE_SLOTS_BY_BLOCK_ROOT;
+  }
+
+  @Override
+  public KvStoreColumn<Bytes32, CompressedBranchInfo> getColumnHotStateMerkleTreeBranches() {
+    return HOT_STATE_TREE_BRANCHES;
+  }
+
+  @Override
+  public KvStoreColumn<Bytes32, Bytes> getColumnHotStateMerkleTreeLeaves() {
+    return HOT_STATE_TREE_LEAVES;
+  }
+
+  @Override
+  public KvStoreColumn<Bytes32, UInt64> getColumnHotStateMerkleTreeReferenceCounts() {
+    return HOT_STATE_TREE_REFERENCE_COUNTS;
+  }
+
   @Override
   public KvStoreVariable<UInt64> getVariableGenesisTime() {
     return GENESIS_TIME;
@@ -202,6 +247,11 @@ public abstract class V6SchemaCombined implements SchemaCombined {
         .put("STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT", getColumnStateRootToSlotAndBlockRoot())
         .put("HOT_STATES_BY_ROOT", getColumnHotStatesByRoot())
         .put("HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT", getColumnHotBlockCheckpointEpochsByRoot())
+        .put("HOT_STATE_TREE_ROOTS_BY_BLOCK_ROOT", getColumnHotStateTreeRootsByBlockRoot())
+        .put("HOT_STATE_TREE_SLOTS_BY_BLOCK_ROOT", getColumnHotStateTreeSlotsByBlockRoot())
+        .put("HOT_STATE_TREE_BRANCHES", getColumnHotStateMerkleTreeBranches())
+        .put("HOT_STATE_TREE_LEAVES", getColumnHotStateMerkleTreeLeaves())
+        .put("HOT_STATE_TREE_REFERENCE_COUNTS", getColumnHotStateMerkleTreeReferenceCounts())
         .put("SLOTS_BY_FINALIZED_ROOT", getColumnSlotsByFinalizedRoot())
         .put("FINALIZED_BLOCKS_BY_SLOT", getColumnFinalizedBlocksBySlot())
         .put("SLOTS_BY_FINALIZED_STATE_ROOT", getColumnSlotsByFinalizedStateRoot())
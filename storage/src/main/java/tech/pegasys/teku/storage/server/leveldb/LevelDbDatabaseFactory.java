@@ -38,6 +38,8 @@ public class LevelDbDatabaseFactory {
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
       final boolean storeNonCanonicalBlocks,
+      final boolean storeHotStatesAsTree,
+      final int maxKnownNodeCacheSize,
       final Spec spec) {
     final V6SchemaCombinedSnapshot combinedSchema = V6SchemaCombinedSnapshot.createV4(spec);
     final SchemaHotAdapter schemaHot = combinedSchema.asSchemaHot();
@@ -52,6 +54,7 @@ public class LevelDbDatabaseFactory {
             finalizedConfiguration,
             schemaFinalized.getAllColumns());
     return KvStoreDatabase.createV4(
+        metricsSystem,
         hotDb,
         finalizedDb,
         schemaHot,
@@ -59,6 +62,8 @@ public class LevelDbDatabaseFactory {
         stateStorageMode,
         stateStorageFrequency,
         storeNonCanonicalBlocks,
+        storeHotStatesAsTree,
+        maxKnownNodeCacheSize,
         spec);
   }
 
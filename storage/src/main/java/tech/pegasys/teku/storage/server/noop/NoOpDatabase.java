@@ -32,6 +32,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
@@ -67,6 +68,9 @@ public class NoOpDatabase implements Database {
   @Override
   public void storeReconstructedFinalizedState(BeaconState state, Bytes32 blockRoot) {}
 
+  @Override
+  public void storeReconstructedFinalizedStates(final List<SignedBlockAndState> blocksAndStates) {}
+
   @Override
   public void updateWeakSubjectivityState(WeakSubjectivityUpdate weakSubjectivityUpdate) {}
 
@@ -100,6 +104,11 @@ public class NoOpDatabase implements Database {
     return Optional.empty();
   }
 
+  @Override
+  public Optional<Bytes> getFinalizedBlockSszAtSlot(final UInt64 slot) {
+    return Optional.empty();
+  }
+
   @Override
   public Optional<UInt64> getEarliestAvailableBlockSlot() {
     return Optional.empty();
@@ -286,6 +295,11 @@ public class NoOpDatabase implements Database {
     return Optional.empty();
   }
 
+  @Override
+  public Optional<Bytes> getBlobSidecarSsz(final SlotAndBlockRootAndBlobIndex key) {
+    return Optional.empty();
+  }
+
   @Override
   public Optional<BlobSidecar> getNonCanonicalBlobSidecar(final SlotAndBlockRootAndBlobIndex key) {
     return Optional.empty();
@@ -38,6 +38,8 @@ public class RocksDbDatabaseFactory {
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
       final boolean storeNonCanonicalBlocks,
+      final boolean storeHotStatesAsTree,
+      final int maxKnownNodeCacheSize,
       final Spec spec) {
 
     final V6SchemaCombinedSnapshot combinedSchema = V6SchemaCombinedSnapshot.createV4(spec);
@@ -48,16 +50,17 @@ public class RocksDbDatabaseFactory {
             metricsSystem,
             STORAGE_HOT_DB,
             hotConfiguration,
-            schemaHot.getAllColumns(),
+            schemaHot.getColumnMap(),
             schemaHot.getDeletedColumnIds());
     final KvStoreAccessor finalizedDb =
         RocksDbInstanceFactory.create(
             metricsSystem,
             STORAGE_FINALIZED_DB,
             finalizedConfiguration,
-            schemaFinalized.getAllColumns(),
+            schemaFinalized.getColumnMap(),
             schemaFinalized.getDeletedColumnIds());
     return KvStoreDatabase.createV4(
+        metricsSystem,
         hotDb,
         finalizedDb,
         schemaHot,
@@ -65,6 +68,8 @@ public class RocksDbDatabaseFactory {
         stateStorageMode,
         stateStorageFrequency,
         storeNonCanonicalBlocks,
+        storeHotStatesAsTree,
+        maxKnownNodeCacheSize,
         spec);
   }
 
@@ -82,7 +87,7 @@ public class RocksDbDatabaseFactory {
             metricsSystem,
             STORAGE,
             hotConfiguration,
-            schema.getAllColumns(),
+            schema.getColumnMap(),
             schema.getDeletedColumnIds());
 
     return KvStoreDatabase.createWithStateSnapshots(
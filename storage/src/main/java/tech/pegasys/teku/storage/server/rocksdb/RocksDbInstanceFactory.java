@@ -19,6 +19,7 @@ import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -28,11 +29,14 @@ import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
+import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.Env;
 import org.rocksdb.LRUCache;
 import org.rocksdb.RocksDBException;
@@ -43,6 +47,7 @@ import tech.pegasys.teku.storage.server.DatabaseStorageException;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile;
 import tech.pegasys.teku.storage.server.kvstore.schema.Schema;
 
 public class RocksDbInstanceFactory {
@@ -54,9 +59,10 @@ public class RocksDbInstanceFactory {
       final MetricsSystem metricsSystem,
       final MetricCategory metricCategory,
       final KvStoreConfiguration configuration,
-      final Collection<KvStoreColumn<?, ?>> columns,
+      final Map<String, KvStoreColumn<?, ?>> columnsByName,
       final Collection<Bytes> deletedColumns)
       throws DatabaseStorageException {
+    final Collection<KvStoreColumn<?, ?>> columns = columnsByName.values();
     // Track resources that need to be closed
     checkArgument(
         Stream.concat(columns.stream().map(KvStoreColumn::getId), deletedColumns.stream())
@@ -69,12 +75,10 @@ public class RocksDbInstanceFactory {
     final TransactionDBOptions txOptions = new TransactionDBOptions();
     final RocksDbStats rocksDbStats = new RocksDbStats(metricsSystem, metricCategory);
     final DBOptions dbOptions = createDBOptions(configuration, rocksDbStats.getStats());
-    final LRUCache blockCache = new LRUCache(configuration.getCacheCapacity());
-    final ColumnFamilyOptions columnFamilyOptions =
-        createColumnFamilyOptions(configuration, blockCache);
     final List<AutoCloseable> resources =
-        new ArrayList<>(
-            List.of(txOptions, dbOptions, columnFamilyOptions, rocksDbStats, blockCache));
+        new ArrayList<>(List.of(txOptions, dbOptions, rocksDbStats));
+    final Map<KvStoreColumnProfile, ColumnFamilyOptions> columnFamilyOptions =
+        createColumnFamilyOptions(configuration, rocksDbStats, resources);
 
     List<ColumnFamilyDescriptor> columnDescriptors =
         createColumnFamilyDescriptors(columns, deletedColumns, columnFamilyOptions);
@@ -109,6 +113,7 @@ public class RocksDbInstanceFactory {
       resources.add(db);
 
       rocksDbStats.registerMetrics(db);
+      rocksDbStats.registerColumnMetrics(db, columnHandlesByName(columnsByName, columnHandlesMap));
 
       return new RocksDbInstance(db, defaultHandle, columnHandlesMap, resources);
     } catch (RocksDBException e) {
@@ -117,6 +122,14 @@ public class RocksDbInstanceFactory {
     }
   }
 
+  private static Map<String, ColumnFamilyHandle> columnHandlesByName(
+      final Map<String, KvStoreColumn<?, ?>> columnsByName,
+      final Map<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandles) {
+    final ImmutableMap.Builder<String, ColumnFamilyHandle> builder = ImmutableMap.builder();
+    columnsByName.forEach((name, column) -> builder.put(name, columnHandles.get(column)));
+    return builder.build();
+  }
+
   private static ColumnFamilyHandle getDefaultHandle(List<ColumnFamilyHandle> columnHandles) {
     return columnHandles.stream()
         .filter(
@@ -152,24 +165,99 @@ public class RocksDbInstanceFactory {
     return options;
   }
 
+  /**
+   * Creates the column family options for each column profile. Index columns and large value
+   * columns each get their own block cache so that scanning through blocks or states can't evict
+   * the index blocks used by every lookup.
+   */
+  private static Map<KvStoreColumnProfile, ColumnFamilyOptions> createColumnFamilyOptions(
+      final KvStoreConfiguration configuration,
+      final RocksDbStats rocksDbStats,
+      final List<AutoCloseable> resources) {
+    final LRUCache defaultCache = new LRUCache(configuration.getCacheCapacity());
+    final LRUCache indexCache = new LRUCache(configuration.getIndexCacheCapacity());
+    final LRUCache largeValueCache = new LRUCache(configuration.getLargeValueCacheCapacity());
+    final BloomFilter bloomFilter = new BloomFilter(configuration.getBloomFilterBitsPerKey());
+    resources.addAll(List.of(defaultCache, indexCache, largeValueCache, bloomFilter));
+    rocksDbStats.registerBlockCacheMetrics(
+        Map.of(
+            KvStoreColumnProfile.DEFAULT,
+            defaultCache,
+            KvStoreColumnProfile.INDEX,
+            indexCache,
+            KvStoreColumnProfile.LARGE_VALUE,
+            largeValueCache));
+
+    final BlockBasedTableConfig indexTableConfig =
+        createBlockBasedTableConfig(indexCache)
+            .setFilterPolicy(bloomFilter)
+            .setWholeKeyFiltering(true)
+            .setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash);
+    final Map<KvStoreColumnProfile, ColumnFamilyOptions> options =
+        new EnumMap<>(KvStoreColumnProfile.class);
+    options.put(
+        KvStoreColumnProfile.DEFAULT,
+        createColumnFamilyOptions(configuration, createBlockBasedTableConfig(defaultCache)));
+    options.put(
+        KvStoreColumnProfile.INDEX, createColumnFamilyOptions(configuration, indexTableConfig));
+    options.put(
+        KvStoreColumnProfile.LARGE_VALUE,
+        createBlobColumnFamilyOptions(
+            configuration, largeValueCache, configuration.getCompressionType()));
+    options.put(
+        KvStoreColumnProfile.EXPIRING_LARGE_VALUE,
+        createBlobColumnFamilyOptions(
+            configuration, largeValueCache, CompressionType.NO_COMPRESSION));
+    resources.addAll(options.values());
+    return options;
+  }
+
   private static ColumnFamilyOptions createColumnFamilyOptions(
-      final KvStoreConfiguration configuration, final Cache cache) {
+      final KvStoreConfiguration configuration, final BlockBasedTableConfig tableConfig) {
     return new ColumnFamilyOptions()
         .setCompressionType(configuration.getCompressionType())
         .setBottommostCompressionType(configuration.getBottomMostCompressionType())
-        .setTableFormatConfig(createBlockBasedTableConfig(cache));
+        .setTableFormatConfig(tableConfig);
+  }
+
+  private static ColumnFamilyOptions createBlobColumnFamilyOptions(
+      final KvStoreConfiguration configuration,
+      final Cache cache,
+      final CompressionType blobCompressionType) {
+    final ColumnFamilyOptions options =
+        createColumnFamilyOptions(configuration, createBlockBasedTableConfig(cache));
+    if (!configuration.isBlobFilesEnabled()) {
+      return options;
+    }
+    // Values are written once and only removed by pruning so garbage collection of blob files
+    // rarely has live values to relocate
+    return options
+        .setEnableBlobFiles(true)
+        .setMinBlobSize(configuration.getMinBlobSize())
+        .setBlobFileSize(configuration.getBlobFileSize())
+        .setBlobCompressionType(blobCompressionType)
+        .setEnableBlobGarbageCollection(true);
   }
 
   private static List<ColumnFamilyDescriptor> createColumnFamilyDescriptors(
       final Collection<KvStoreColumn<?, ?>> columns,
       final Collection<Bytes> deletedColumns,
-      final ColumnFamilyOptions columnFamilyOptions) {
+      final Map<KvStoreColumnProfile, ColumnFamilyOptions> columnFamilyOptions) {
+    final ColumnFamilyOptions defaultOptions =
+        columnFamilyOptions.get(KvStoreColumnProfile.DEFAULT);
     final List<ColumnFamilyDescriptor> columnDescriptors =
-        Stream.concat(columns.stream().map(KvStoreColumn::getId), deletedColumns.stream())
-            .map(id -> new ColumnFamilyDescriptor(id.toArrayUnsafe(), columnFamilyOptions))
+        Stream.concat(
+                columns.stream()
+                    .map(
+                        column ->
+                            new ColumnFamilyDescriptor(
+                                column.getId().toArrayUnsafe(),
+                                columnFamilyOptions.get(column.getProfile()))),
+                deletedColumns.stream()
+                    .map(id -> new ColumnFamilyDescriptor(id.toArrayUnsafe(), defaultOptions)))
             .collect(Collectors.toCollection(ArrayList::new));
     columnDescriptors.add(
-        new ColumnFamilyDescriptor(Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(), columnFamilyOptions));
+        new ColumnFamilyDescriptor(Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(), defaultOptions));
     return Collections.unmodifiableList(columnDescriptors);
   }
 
@@ -18,18 +18,23 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
+import org.rocksdb.Cache;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.HistogramData;
 import org.rocksdb.HistogramType;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.Statistics;
 import org.rocksdb.TickerType;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile;
 
 /**
  * Taken from
@@ -176,6 +181,20 @@ public class RocksDbStats implements AutoCloseable {
     HistogramType.READ_NUM_MERGE_OPERANDS,
   };
 
+  // Per column properties, reported with the column name as a label
+  static final Map<String, String> COLUMN_PROPERTIES =
+      Map.of(
+          "column_estimated_live_data_size",
+          "rocksdb.estimate-live-data-size",
+          "column_total_sst_files_size",
+          "rocksdb.total-sst-files-size",
+          "column_live_blob_file_size",
+          "rocksdb.live-blob-file-size",
+          "column_estimated_pending_compaction_bytes",
+          "rocksdb.estimate-pending-compaction-bytes",
+          "column_num_files_at_level0",
+          "rocksdb.num-files-at-level0");
+
   private boolean closed = false;
   private final Statistics stats;
   private final MetricsSystem metricsSystem;
@@ -220,6 +239,51 @@ public class RocksDbStats implements AutoCloseable {
     }
   }
 
+  public void registerColumnMetrics(
+      final RocksDB database, final Map<String, ColumnFamilyHandle> columnHandles) {
+    COLUMN_PROPERTIES.forEach(
+        (metricName, property) -> {
+          final LabelledGauge gauge =
+              metricsSystem.createLabelledGauge(
+                  category,
+                  metricName,
+                  "RocksDB reported " + property + " property for each column",
+                  "column");
+          columnHandles.forEach(
+              (columnName, handle) ->
+                  gauge.labels(
+                      () -> getLongProperty(database, handle, property),
+                      columnName.toLowerCase(Locale.ROOT)));
+        });
+  }
+
+  public void registerBlockCacheMetrics(final Map<KvStoreColumnProfile, Cache> caches) {
+    final LabelledGauge gauge =
+        metricsSystem.createLabelledGauge(
+            category,
+            "block_cache_usage",
+            "Memory used by entries in each RocksDB block cache",
+            "profile");
+    caches.forEach(
+        (profile, cache) ->
+            gauge.labels(
+                () -> ifOpen(cache::getUsage, 0L), profile.name().toLowerCase(Locale.ROOT)));
+  }
+
+  private long getLongProperty(
+      final RocksDB database, final ColumnFamilyHandle handle, final String name) {
+    return ifOpen(
+        () -> {
+          try {
+            return database.getLongProperty(handle, name);
+          } catch (RocksDBException e) {
+            LOG.warn("Failed to load " + name + " property for RocksDB metrics");
+            return 0L;
+          }
+        },
+        0L);
+  }
+
   private long getLongProperty(final RocksDB database, final String name) {
     return ifOpen(
         () -> {
@@ -0,0 +1,305 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.LazyBranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.LeafDataNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * A single memory budget shared by the state caches of the {@link Store}.
+ *
+ * <p>States share most of their backing tree with the states they were derived from, so the number
+ * of cached states says little about the heap they retain. Each entry is instead weighed by the
+ * tree nodes it doesn't share with the cached state nearest to it by slot, which is usually its
+ * parent or child. The weight is estimated when the entry is added and isn't revisited as
+ * neighbouring entries come and go, so the budget is an estimate rather than a hard limit.
+ *
+ * <p>Once the total weight exceeds the budget, entries are evicted using GreedyDual-Size: the
+ * priority of an entry is its regeneration cost divided by its weight, plus an inflation value
+ * which rises to the priority of each evicted entry. States which are small or expensive to
+ * regenerate are retained in preference to large ones that are cheap to regenerate, while entries
+ * which are no longer accessed gradually age out.
+ */
+class StateCacheMemoryBudget {
+
+  // Approximate object header, hash and child reference overhead of each tree node
+  static final long TREE_NODE_OVERHEAD_BYTES = 64;
+
+  private final long maxSizeBytes;
+  private final NavigableSet<CacheEntry<?, ?>> evictionQueue =
+      new TreeSet<>(
+          Comparator.<CacheEntry<?, ?>>comparingDouble(entry -> entry.priority)
+              .thenComparingLong(entry -> entry.sequence));
+  private long sizeBytes;
+  private double inflation;
+  private long nextSequence;
+
+  StateCacheMemoryBudget(final long maxSizeBytes) {
+    checkArgument(maxSizeBytes > 0, "Max size must be positive");
+    this.maxSizeBytes = maxSizeBytes;
+  }
+
+  /**
+   * Creates a cache whose entries are weighed against, and evicted within, this budget.
+   *
+   * @param stateGetter extracts the state retained by a cached value
+   * @param regenerationCost the relative cost of regenerating a cached value if it's evicted
+   * @return the new cache
+   */
+  <K, V> Map<K, V> createCache(
+      final Function<V, BeaconState> stateGetter, final ToLongFunction<V> regenerationCost) {
+    return new BudgetedCache<>(stateGetter, regenerationCost);
+  }
+
+  synchronized long getSizeBytes() {
+    return sizeBytes;
+  }
+
+  synchronized int size() {
+    return evictionQueue.size();
+  }
+
+  private synchronized TreeNode findBaseline(final BeaconState state) {
+    CacheEntry<?, ?> nearest = null;
+    long nearestDistance = Long.MAX_VALUE;
+    for (CacheEntry<?, ?> entry : evictionQueue) {
+      if (!entry.state.getSchema().equals(state.getSchema())) {
+        continue;
+      }
+      final long distance =
+          Math.abs(entry.state.getSlot().longValue() - state.getSlot().longValue());
+      if (distance < nearestDistance) {
+        nearest = entry;
+        nearestDistance = distance;
+      }
+    }
+    // The default tree shares the empty subtrees of every list, so without a neighbour the
+    // whole state is counted without walking the unused capacity of its lists
+    return nearest != null ? nearest.state.getBackingNode() : state.getSchema().getDefaultTree();
+  }
+
+  /**
+   * Estimates the heap retained by the nodes of {@code node} which are not shared with {@code
+   * baseline}. Both trees must have the same shape, which holds for states with the same schema.
+   */
+  static long estimateUniqueSize(final TreeNode node, final TreeNode baseline) {
+    if (node == baseline) {
+      return 0;
+    }
+    // Lazily loaded children are left unloaded rather than read in just to be weighed
+    if (node instanceof BranchNode branch && !(node instanceof LazyBranchNode)) {
+      if (baseline instanceof BranchNode baselineBranch
+          && !(baseline instanceof LazyBranchNode)) {
+        return TREE_NODE_OVERHEAD_BYTES
+            + estimateUniqueSize(branch.left(), baselineBranch.left())
+            + estimateUniqueSize(branch.right(), baselineBranch.right());
+      }
+      return TREE_NODE_OVERHEAD_BYTES;
+    }
+    if (node instanceof LeafDataNode leaf) {
+      return TREE_NODE_OVERHEAD_BYTES + leaf.getData().size();
+    }
+    return TREE_NODE_OVERHEAD_BYTES;
+  }
+
+  private void add(final CacheEntry<?, ?> entry) {
+    entry.sequence = nextSequence++;
+    entry.priority = inflation + (double) entry.regenerationCost / entry.weight;
+    evictionQueue.add(entry);
+    sizeBytes += entry.weight;
+  }
+
+  private void remove(final CacheEntry<?, ?> entry) {
+    evictionQueue.remove(entry);
+    sizeBytes -= entry.weight;
+  }
+
+  private void touch(final CacheEntry<?, ?> entry) {
+    remove(entry);
+    add(entry);
+  }
+
+  private void evictIfRequired() {
+    while (sizeBytes > maxSizeBytes && !evictionQueue.isEmpty()) {
+      final CacheEntry<?, ?> evicted = evictionQueue.pollFirst();
+      sizeBytes -= evicted.weight;
+      inflation = evicted.priority;
+      evicted.cache.entries.remove(evicted.key);
+    }
+  }
+
+  private static class CacheEntry<K, V> {
+    private final BudgetedCache<K, V> cache;
+    private final K key;
+    private final V value;
+    private final BeaconState state;
+    private final long weight;
+    private final long regenerationCost;
+    private double priority;
+    private long sequence;
+
+    private CacheEntry(
+        final BudgetedCache<K, V> cache,
+        final K key,
+        final V value,
+        final BeaconState state,
+        final long weight,
+        final long regenerationCost) {
+      this.cache = cache;
+      this.key = key;
+      this.value = value;
+      this.state = state;
+      this.weight = weight;
+      this.regenerationCost = regenerationCost;
+    }
+  }
+
+  private class BudgetedCache<K, V> extends AbstractMap<K, V> {
+    private final Map<K, CacheEntry<K, V>> entries = new HashMap<>();
+    private final Function<V, BeaconState> stateGetter;
+    private final ToLongFunction<V> regenerationCost;
+
+    private BudgetedCache(
+        final Function<V, BeaconState> stateGetter, final ToLongFunction<V> regenerationCost) {
+      this.stateGetter = stateGetter;
+      this.regenerationCost = regenerationCost;
+    }
+
+    @Override
+    public V get(final Object key) {
+      synchronized (StateCacheMemoryBudget.this) {
+        final CacheEntry<K, V> entry = entries.get(key);
+        if (entry == null) {
+          return null;
+        }
+        touch(entry);
+        return entry.value;
+      }
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+      synchronized (StateCacheMemoryBudget.this) {
+        return entries.containsKey(key);
+      }
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+      final BeaconState state = stateGetter.apply(value);
+      // Walk the trees outside the lock so lookups aren't blocked while weighing large states
+      final long weight =
+          Math.max(
+              TREE_NODE_OVERHEAD_BYTES,
+              estimateUniqueSize(state.getBackingNode(), findBaseline(state)));
+      final CacheEntry<K, V> entry =
+          new CacheEntry<>(this, key, value, state, weight, regenerationCost.applyAsLong(value));
+      synchronized (StateCacheMemoryBudget.this) {
+        final CacheEntry<K, V> previous = entries.put(key, entry);
+        if (previous != null) {
+          StateCacheMemoryBudget.this.remove(previous);
+        }
+        add(entry);
+        evictIfRequired();
+        return previous != null ? previous.value : null;
+      }
+    }
+
+    @Override
+    public V remove(final Object key) {
+      synchronized (StateCacheMemoryBudget.this) {
+        final CacheEntry<K, V> entry = entries.remove(key);
+        if (entry == null) {
+          return null;
+        }
+        StateCacheMemoryBudget.this.remove(entry);
+        return entry.value;
+      }
+    }
+
+    @Override
+    public int size() {
+      synchronized (StateCacheMemoryBudget.this) {
+        return entries.size();
+      }
+    }
+
+    @Override
+    public void clear() {
+      synchronized (StateCacheMemoryBudget.this) {
+        entries.values().forEach(StateCacheMemoryBudget.this::remove);
+        entries.clear();
+      }
+    }
+
+    /** Iterates over a snapshot of the entries, removing entries from the cache via the iterator */
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+          final List<Entry<K, V>> snapshot;
+          synchronized (StateCacheMemoryBudget.this) {
+            snapshot = new ArrayList<>(entries.size());
+            entries.forEach((key, entry) -> snapshot.add(new SimpleEntry<>(key, entry.value)));
+          }
+          final Iterator<Entry<K, V>> delegate = snapshot.iterator();
+          return new Iterator<>() {
+            private Entry<K, V> current;
+
+            @Override
+            public boolean hasNext() {
+              return delegate.hasNext();
+            }
+
+            @Override
+            public Entry<K, V> next() {
+              current = delegate.next();
+              return current;
+            }
+
+            @Override
+            public void remove() {
+              delegate.remove();
+              BudgetedCache.this.remove(current.getKey());
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return BudgetedCache.this.size();
+        }
+      };
+    }
+  }
+}
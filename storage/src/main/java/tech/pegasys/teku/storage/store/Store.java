@@ -20,6 +20,8 @@ import static tech.pegasys.teku.dataproviders.lookup.BlockProvider.fromMap;
 import static tech.pegasys.teku.infrastructure.time.TimeUtilities.secondsToMillis;
 
 import com.google.common.annotations.VisibleForTesting;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -31,6 +33,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -88,6 +91,7 @@ class Store implements UpdatableStore {
   private Optional<SettableGauge> epochStatesCountGauge = Optional.empty();
 
   final Optional<Map<Bytes32, StateAndBlockSummary>> maybeEpochStates;
+  private final Optional<StateCacheMemoryBudget> stateCacheMemoryBudget;
 
   private final Spec spec;
   private final StateAndBlockSummaryProvider stateProvider;
@@ -109,6 +113,8 @@ class Store implements UpdatableStore {
   final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStates;
   VoteTracker[] votes;
   UInt64 highestVotedValidatorIndex;
+  // Validators whose votes have changed since fork choice scores were last applied
+  final IntSet validatorsWithPendingVotes = new IntOpenHashSet();
 
   private Store(
       final MetricsSystem metricsSystem,
@@ -130,7 +136,8 @@ class Store implements UpdatableStore {
       final Map<UInt64, VoteTracker> votes,
       final Map<Bytes32, SignedBeaconBlock> blocks,
       final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStates,
-      final Optional<Map<Bytes32, StateAndBlockSummary>> maybeEpochStates) {
+      final Optional<Map<Bytes32, StateAndBlockSummary>> maybeEpochStates,
+      final Optional<StateCacheMemoryBudget> stateCacheMemoryBudget) {
     checkArgument(
         time.isGreaterThanOrEqualTo(genesisTime),
         "Time must be greater than or equal to genesisTime");
@@ -145,6 +152,7 @@ class Store implements UpdatableStore {
     this.spec = spec;
     this.states = states;
     this.checkpointStates = checkpointStates;
+    this.stateCacheMemoryBudget = stateCacheMemoryBudget;
 
     // Store instance variables
     this.initialCheckpoint = initialCheckpoint;
@@ -158,7 +166,13 @@ class Store implements UpdatableStore {
         votes.keySet().stream().max(Comparator.naturalOrder()).orElse(UInt64.ZERO);
     this.votes =
         new VoteTracker[this.highestVotedValidatorIndex.intValue() + VOTE_TRACKER_SPARE_CAPACITY];
-    votes.forEach((key, value) -> this.votes[key.intValue()] = value);
+    votes.forEach(
+        (key, value) -> {
+          this.votes[key.intValue()] = value;
+          if (value.hasPendingChange()) {
+            validatorsWithPendingVotes.add(key.intValue());
+          }
+        });
 
     // Track latest finalized block
     this.finalizedAnchor = finalizedAnchor;
@@ -203,20 +217,54 @@ class Store implements UpdatableStore {
     // Create limited collections for non-final data
     final Map<Bytes32, SignedBeaconBlock> blocks =
         LimitedMap.createSynchronized(config.getBlockCacheSize());
-    final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStateTaskQueue =
-        CachingTaskQueue.create(
-            asyncRunner,
-            metricsSystem,
-            "memory_checkpoint_states",
-            config.getCheckpointStateCacheSize());
-    final CachingTaskQueue<Bytes32, StateAndBlockSummary> stateTaskQueue =
-        CachingTaskQueue.create(
-            asyncRunner, metricsSystem, "memory_states", config.getStateCacheSize());
-
-    final Optional<Map<Bytes32, StateAndBlockSummary>> maybeEpochStates =
-        config.getEpochStateCacheSize() > 0
-            ? Optional.of(LimitedMap.createSynchronized(config.getEpochStateCacheSize()))
+    final Optional<StateCacheMemoryBudget> stateCacheMemoryBudget =
+        config.isStateCacheMemoryBudgetEnabled()
+            ? Optional.of(new StateCacheMemoryBudget(config.getStateCacheMaxSizeBytes()))
             : Optional.empty();
+    final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStateTaskQueue;
+    final CachingTaskQueue<Bytes32, StateAndBlockSummary> stateTaskQueue;
+    final Optional<Map<Bytes32, StateAndBlockSummary>> maybeEpochStates;
+    if (stateCacheMemoryBudget.isPresent()) {
+      // Checkpoint and epoch states need an epoch transition on top of the blocks to replay,
+      // other states only need the blocks since the start of their epoch
+      final StateCacheMemoryBudget budget = stateCacheMemoryBudget.get();
+      checkpointStateTaskQueue =
+          CachingTaskQueue.create(
+              asyncRunner,
+              metricsSystem,
+              "memory_checkpoint_states",
+              budget.<SlotAndBlockRoot, BeaconState>createCache(
+                  Function.identity(), state -> spec.getSlotsPerEpoch(state.getSlot())));
+      stateTaskQueue =
+          CachingTaskQueue.create(
+              asyncRunner,
+              metricsSystem,
+              "memory_states",
+              budget.<Bytes32, StateAndBlockSummary>createCache(
+                  StateAndBlockSummary::getState,
+                  summary -> getBlocksSinceEpochStart(spec, summary.getSlot())));
+      maybeEpochStates =
+          config.getEpochStateCacheSize() > 0
+              ? Optional.of(
+                  budget.<Bytes32, StateAndBlockSummary>createCache(
+                      StateAndBlockSummary::getState,
+                      summary -> spec.getSlotsPerEpoch(summary.getSlot())))
+              : Optional.empty();
+    } else {
+      checkpointStateTaskQueue =
+          CachingTaskQueue.create(
+              asyncRunner,
+              metricsSystem,
+              "memory_checkpoint_states",
+              config.getCheckpointStateCacheSize());
+      stateTaskQueue =
+          CachingTaskQueue.create(
+              asyncRunner, metricsSystem, "memory_states", config.getStateCacheSize());
+      maybeEpochStates =
+          config.getEpochStateCacheSize() > 0
+              ? Optional.of(LimitedMap.createSynchronized(config.getEpochStateCacheSize()))
+              : Optional.empty();
+    }
 
     final UInt64 currentEpoch = spec.computeEpochAtSlot(spec.getCurrentSlot(time, genesisTime));
     final ForkChoiceStrategy forkChoiceStrategy =
@@ -250,7 +298,12 @@ class Store implements UpdatableStore {
         votes,
         blocks,
         checkpointStateTaskQueue,
-        maybeEpochStates);
+        maybeEpochStates,
+        stateCacheMemoryBudget);
+  }
+
+  private static long getBlocksSinceEpochStart(final Spec spec, final UInt64 slot) {
+    return slot.mod(spec.getSlotsPerEpoch(slot)).longValue() + 1;
   }
 
   private static ProtoArray buildProtoArray(
@@ -317,6 +370,13 @@ class Store implements UpdatableStore {
       }
       states.startMetrics();
       checkpointStates.startMetrics();
+      stateCacheMemoryBudget.ifPresent(
+          budget ->
+              metricsSystem.createGauge(
+                  TekuMetricCategory.STORAGE,
+                  "memory_state_cache_size_bytes",
+                  "Estimated memory retained by states held in the in-memory store",
+                  budget::getSizeBytes));
     } finally {
       votesLock.writeLock().unlock();
       lock.writeLock().unlock();
@@ -590,6 +650,15 @@ class Store implements UpdatableStore {
     }
   }
 
+  IntSet getValidatorsWithPendingVotes() {
+    readVotesLock.lock();
+    try {
+      return new IntOpenHashSet(validatorsWithPendingVotes);
+    } finally {
+      readVotesLock.unlock();
+    }
+  }
+
   VoteTracker getVote(final UInt64 validatorIndex) {
     readVotesLock.lock();
     try {
@@ -28,6 +28,12 @@ public class StoreConfig {
   public static final int DEFAULT_CHECKPOINT_STATE_CACHE_SIZE = 20;
   public static final int DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS = 2;
 
+  /** Zero disables the memory budget, leaving the state caches limited by their entry counts */
+  public static final long DEFAULT_STATE_CACHE_MAX_SIZE_BYTES = 0;
+
+  /** Zero disables the shuffling cache shared between states */
+  public static final long DEFAULT_SHUFFLING_CACHE_MAX_SIZE_BYTES = 64L * 1024 * 1024;
+
   public static final int DEFAULT_EARLIEST_AVAILABLE_BLOCK_SLOT_QUERY_FREQUENCY = 0;
 
   private final int stateCacheSize;
@@ -37,6 +43,8 @@ public class StoreConfig {
   private final int checkpointStateCacheSize;
   private final int hotStatePersistenceFrequencyInEpochs;
   private final int earliestAvailableBlockSlotFrequency;
+  private final long stateCacheMaxSizeBytes;
+  private final long shufflingCacheMaxSizeBytes;
 
   private StoreConfig(
       final int stateCacheSize,
@@ -44,13 +52,17 @@ public class StoreConfig {
       final int checkpointStateCacheSize,
       final int hotStatePersistenceFrequencyInEpochs,
       final int earliestAvailableBlockSlotFrequency,
-      final int epochStateCacheSize) {
+      final int epochStateCacheSize,
+      final long stateCacheMaxSizeBytes,
+      final long shufflingCacheMaxSizeBytes) {
     this.stateCacheSize = stateCacheSize;
     this.blockCacheSize = blockCacheSize;
     this.checkpointStateCacheSize = checkpointStateCacheSize;
     this.hotStatePersistenceFrequencyInEpochs = hotStatePersistenceFrequencyInEpochs;
     this.earliestAvailableBlockSlotFrequency = earliestAvailableBlockSlotFrequency;
     this.epochStateCacheSize = epochStateCacheSize;
+    this.stateCacheMaxSizeBytes = stateCacheMaxSizeBytes;
+    this.shufflingCacheMaxSizeBytes = shufflingCacheMaxSizeBytes;
   }
 
   public static Builder builder() {
@@ -85,6 +97,27 @@ public class StoreConfig {
     return hotStatePersistenceFrequencyInEpochs;
   }
 
+  /**
+   * The estimated heap the state, checkpoint state and epoch state caches may retain between them.
+   * When enabled, this replaces the entry count limits of those caches.
+   */
+  public long getStateCacheMaxSizeBytes() {
+    return stateCacheMaxSizeBytes;
+  }
+
+  public boolean isStateCacheMemoryBudgetEnabled() {
+    return stateCacheMaxSizeBytes > 0;
+  }
+
+  /** The estimated heap the committee shuffles shared between states may retain. */
+  public long getShufflingCacheMaxSizeBytes() {
+    return shufflingCacheMaxSizeBytes;
+  }
+
+  public boolean isShufflingCacheEnabled() {
+    return shufflingCacheMaxSizeBytes > 0;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -98,7 +131,9 @@ public class StoreConfig {
         && epochStateCacheSize == that.epochStateCacheSize
         && blockCacheSize == that.blockCacheSize
         && checkpointStateCacheSize == that.checkpointStateCacheSize
-        && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs;
+        && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs
+        && stateCacheMaxSizeBytes == that.stateCacheMaxSizeBytes
+        && shufflingCacheMaxSizeBytes == that.shufflingCacheMaxSizeBytes;
   }
 
   @Override
@@ -108,7 +143,9 @@ public class StoreConfig {
         epochStateCacheSize,
         blockCacheSize,
         checkpointStateCacheSize,
-        hotStatePersistenceFrequencyInEpochs);
+        hotStatePersistenceFrequencyInEpochs,
+        stateCacheMaxSizeBytes,
+        shufflingCacheMaxSizeBytes);
   }
 
   public static class Builder {
@@ -120,6 +157,8 @@ public class StoreConfig {
     private int hotStatePersistenceFrequencyInEpochs =
         DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS;
     private int earliestAvailableBlockSlotFrequency = 0;
+    private long stateCacheMaxSizeBytes = DEFAULT_STATE_CACHE_MAX_SIZE_BYTES;
+    private long shufflingCacheMaxSizeBytes = DEFAULT_SHUFFLING_CACHE_MAX_SIZE_BYTES;
 
     private Builder() {}
 
@@ -130,7 +169,9 @@ public class StoreConfig {
           checkpointStateCacheSize,
           hotStatePersistenceFrequencyInEpochs,
           earliestAvailableBlockSlotFrequency,
-          epochStateCacheSize);
+          epochStateCacheSize,
+          stateCacheMaxSizeBytes,
+          shufflingCacheMaxSizeBytes);
     }
 
     public Builder stateCacheSize(final int stateCacheSize) {
@@ -157,6 +198,24 @@ public class StoreConfig {
       return this;
     }
 
+    public Builder stateCacheMaxSizeBytes(final long stateCacheMaxSizeBytes) {
+      if (stateCacheMaxSizeBytes < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid stateCacheMaxSizeBytes: %d", stateCacheMaxSizeBytes));
+      }
+      this.stateCacheMaxSizeBytes = stateCacheMaxSizeBytes;
+      return this;
+    }
+
+    public Builder shufflingCacheMaxSizeBytes(final long shufflingCacheMaxSizeBytes) {
+      if (shufflingCacheMaxSizeBytes < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid shufflingCacheMaxSizeBytes: %d", shufflingCacheMaxSizeBytes));
+      }
+      this.shufflingCacheMaxSizeBytes = shufflingCacheMaxSizeBytes;
+      return this;
+    }
+
     public Builder earliestAvailableBlockSlotFrequency(
         int earliestAvailableBlockSlotQueryFrequency) {
       this.earliestAvailableBlockSlotFrequency = earliestAvailableBlockSlotQueryFrequency;
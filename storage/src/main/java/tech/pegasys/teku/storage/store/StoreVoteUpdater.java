@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.storage.store;
 
+import it.unimi.dsi.fastutil.ints.IntCollection;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -63,6 +65,13 @@ public class StoreVoteUpdater implements VoteUpdater {
     highestVotedValidatorIndex = highestVotedValidatorIndex.max(validatorIndex);
   }
 
+  @Override
+  public Optional<IntCollection> getValidatorsWithPendingVotes() {
+    final IntSet validatorsWithPendingVotes = store.getValidatorsWithPendingVotes();
+    votes.keySet().forEach(index -> validatorsWithPendingVotes.add(index.intValue()));
+    return Optional.of(validatorsWithPendingVotes);
+  }
+
   @Override
   public Bytes32 applyForkChoiceScoreChanges(
       final UInt64 currentEpoch,
@@ -97,16 +106,29 @@ public class StoreVoteUpdater implements VoteUpdater {
     // Votes are applied to the store immediately since the changes to the in-memory ProtoArray
     // can't be rolled back.
 
-    store.highestVotedValidatorIndex = getHighestVotedValidatorIndex();
+    lock.writeLock().lock();
+    try {
+      store.highestVotedValidatorIndex = getHighestVotedValidatorIndex();
 
-    if (store.highestVotedValidatorIndex.intValue() >= store.votes.length) {
-      store.votes =
-          Arrays.copyOf(
-              store.votes,
-              store.highestVotedValidatorIndex.intValue() + Store.VOTE_TRACKER_SPARE_CAPACITY);
-    }
+      if (store.highestVotedValidatorIndex.intValue() >= store.votes.length) {
+        store.votes =
+            Arrays.copyOf(
+                store.votes,
+                store.highestVotedValidatorIndex.intValue() + Store.VOTE_TRACKER_SPARE_CAPACITY);
+      }
 
-    votes.forEach((key, value) -> store.votes[key.intValue()] = value);
+      votes.forEach(
+          (key, value) -> {
+            store.votes[key.intValue()] = value;
+            if (value.hasPendingChange()) {
+              store.validatorsWithPendingVotes.add(key.intValue());
+            } else {
+              store.validatorsWithPendingVotes.remove(key.intValue());
+            }
+          });
+    } finally {
+      lock.writeLock().unlock();
+    }
 
     voteUpdateChannel.onVotesUpdated(votes);
   }
@@ -19,6 +19,8 @@ import static tech.pegasys.teku.storage.protoarray.ProtoArrayScoreCalculator.com
 import static tech.pegasys.teku.storage.protoarray.ProtoArrayTestUtil.createStoreToManipulateVotes;
 import static tech.pegasys.teku.storage.protoarray.ProtoArrayTestUtil.getHash;
 
+import it.unimi.dsi.fastutil.ints.IntCollection;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.util.ArrayList;
@@ -28,6 +30,7 @@ import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.forkchoice.StubVoteUpdater;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
 
@@ -581,6 +584,53 @@ public class ProtoArrayScoreCalculatorTest {
     }
   }
 
+  @Test
+  void computeDeltas_shouldOnlyVisitValidatorsWithPendingVotesOrChangedBalances() {
+    final UInt64 balance = UInt64.valueOf(42);
+    final UInt64 increasedBalance = UInt64.valueOf(50);
+    final VoteUpdater trackingStore =
+        new StubVoteUpdater() {
+          @Override
+          public Optional<IntCollection> getValidatorsWithPendingVotes() {
+            return Optional.of(IntList.of(0));
+          }
+        };
+    for (int i = 0; i < 4; i++) {
+      indices.put(getHash(i), i);
+      oldBalances.add(balance);
+      newBalances.add(i == 1 ? increasedBalance : balance);
+    }
+    // Validator 0 has a pending vote, validator 1 has a settled vote but its balance changed
+    trackingStore.putVote(UInt64.valueOf(0), new VoteTracker(getHash(0), getHash(1), ZERO));
+    trackingStore.putVote(UInt64.valueOf(1), new VoteTracker(getHash(2), getHash(2), ZERO));
+    trackingStore.putVote(UInt64.valueOf(2), new VoteTracker(getHash(3), getHash(3), ZERO));
+    // Not reported as pending, so isn't visited
+    trackingStore.putVote(UInt64.valueOf(3), new VoteTracker(getHash(3), getHash(0), ZERO));
+
+    List<Long> deltas =
+        computeDeltas(
+            trackingStore,
+            indices.size(),
+            this::getIndex,
+            oldBalances,
+            newBalances,
+            oldProposerBoostRoot,
+            newProposerBoostRoot,
+            oldProposerBoostAmount,
+            newProposerBoostAmount);
+
+    assertThat(deltas)
+        .containsExactly(
+            -balance.longValue(),
+            balance.longValue(),
+            increasedBalance.minus(balance).longValue(),
+            0L);
+    assertThat(trackingStore.getVote(UInt64.valueOf(0)))
+        .isEqualTo(new VoteTracker(getHash(1), getHash(1), ZERO));
+    assertThat(trackingStore.getVote(UInt64.valueOf(3)))
+        .isEqualTo(new VoteTracker(getHash(3), getHash(0), ZERO));
+  }
+
   private void votesShouldBeUpdated(VoteUpdater store) {
     UInt64.rangeClosed(ZERO, store.getHighestVotedValidatorIndex())
         .forEach(
@@ -139,6 +139,19 @@ public class VersionedDatabaseFactoryTest {
     assertThat(dbFactory.getDatabaseVersion()).isEqualTo(version);
   }
 
+  @Test
+  public void supportsHotStateTreeStorage_onlyForDatabasesUsingV4HotDao() {
+    assertThat(VersionedDatabaseFactory.supportsHotStateTreeStorage(DatabaseVersion.V4)).isTrue();
+    assertThat(VersionedDatabaseFactory.supportsHotStateTreeStorage(DatabaseVersion.V5)).isTrue();
+    assertThat(VersionedDatabaseFactory.supportsHotStateTreeStorage(DatabaseVersion.LEVELDB1))
+        .isTrue();
+    assertThat(VersionedDatabaseFactory.supportsHotStateTreeStorage(DatabaseVersion.V6)).isFalse();
+    assertThat(VersionedDatabaseFactory.supportsHotStateTreeStorage(DatabaseVersion.LEVELDB2))
+        .isFalse();
+    assertThat(VersionedDatabaseFactory.supportsHotStateTreeStorage(DatabaseVersion.LEVELDB_TREE))
+        .isFalse();
+  }
+
   private void createDbDirectory(final Path dataPath) {
     final File dbDirectory =
         Paths.get(dataPath.toAbsolutePath().toString(), VersionedDatabaseFactory.DB_PATH).toFile();
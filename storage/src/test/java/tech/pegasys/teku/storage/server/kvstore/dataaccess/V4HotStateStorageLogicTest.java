@@ -0,0 +1,171 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubCounter;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.MockKvStoreInstance;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4HotKvStoreDao.V4HotUpdater;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaHotAdapter;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
+
+class V4HotStateStorageLogicTest {
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final SchemaHotAdapter schema = V6SchemaCombinedSnapshot.createV4(spec).asSchemaHot();
+  private final KvStoreAccessor db =
+      MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+
+  private final Bytes32 blockRoot1 = dataStructureUtil.randomBytes32();
+  private final Bytes32 blockRoot2 = dataStructureUtil.randomBytes32();
+  private final BeaconState state1 = dataStructureUtil.randomBeaconState(UInt64.valueOf(8));
+  private final BeaconState state2 = state1.updated(state -> state.setSlot(UInt64.valueOf(9)));
+
+  @Test
+  void shouldRoundTripStateStoredAsTree() {
+    final V4HotKvStoreDao dao = createDao(true);
+    addHotState(dao, blockRoot1, state1);
+
+    assertThat(db.size(schema.getColumnHotStatesByRoot())).isZero();
+    assertThat(db.size(schema.getColumnHotStateMerkleTreeBranches())).isPositive();
+    assertThat(dao.getHotState(blockRoot1)).contains(state1);
+  }
+
+  @Test
+  void shouldRoundTripStateStoredAsSnapshot() {
+    final V4HotKvStoreDao dao = createDao(false);
+    addHotState(dao, blockRoot1, state1);
+
+    assertThat(db.size(schema.getColumnHotStateMerkleTreeBranches())).isZero();
+    assertThat(dao.getHotState(blockRoot1)).contains(state1);
+  }
+
+  @Test
+  void shouldOnlyStoreNewNodesForSimilarStates() {
+    final V4HotKvStoreDao dao = createDao(true);
+    addHotState(dao, blockRoot1, state1);
+    final long branchCount = db.size(schema.getColumnHotStateMerkleTreeBranches());
+
+    addHotState(dao, blockRoot2, state2);
+
+    // Only the branches on the path from the root to the updated slot field are new
+    assertThat(db.size(schema.getColumnHotStateMerkleTreeBranches())).isLessThan(branchCount + 5);
+    assertThat(dao.getHotState(blockRoot1)).contains(state1);
+    assertThat(dao.getHotState(blockRoot2)).contains(state2);
+  }
+
+  @Test
+  void shouldOnlyStoreReferenceCountsForStoredNodes() {
+    final V4HotKvStoreDao dao = createDao(true);
+    addHotState(dao, blockRoot1, state1);
+    addHotState(dao, blockRoot2, state2);
+
+    // Leaves of 32 bytes or less are inlined in their branch and have no count
+    assertThat(db.size(schema.getColumnHotStateMerkleTreeReferenceCounts()))
+        .isEqualTo(
+            db.size(schema.getColumnHotStateMerkleTreeBranches())
+                + db.size(schema.getColumnHotStateMerkleTreeLeaves()));
+  }
+
+  @Test
+  void shouldPruneNodesOnlyWhenNoLongerReferenced() {
+    final V4HotKvStoreDao dao = createDao(true);
+    addHotState(dao, blockRoot1, state1);
+    final long branchCount = db.size(schema.getColumnHotStateMerkleTreeBranches());
+    addHotState(dao, blockRoot2, state2);
+
+    deleteHotState(dao, blockRoot1);
+    assertThat(dao.getHotState(blockRoot1)).isEmpty();
+    assertThat(dao.getHotState(blockRoot2)).contains(state2);
+    assertThat(db.size(schema.getColumnHotStateMerkleTreeBranches())).isEqualTo(branchCount);
+
+    deleteHotState(dao, blockRoot2);
+    assertThat(dao.getHotState(blockRoot2)).isEmpty();
+    assertThat(db.size(schema.getColumnHotStateMerkleTreeBranches())).isZero();
+    assertThat(db.size(schema.getColumnHotStateMerkleTreeLeaves())).isZero();
+    assertThat(db.size(schema.getColumnHotStateMerkleTreeReferenceCounts())).isZero();
+  }
+
+  @Test
+  void shouldHandleAddAndDeleteInSameUpdate() {
+    final V4HotKvStoreDao dao = createDao(true);
+    try (final V4HotUpdater updater = dao.hotUpdater()) {
+      updater.addHotState(blockRoot1, state1);
+      updater.deleteHotState(blockRoot1);
+      updater.commit();
+    }
+
+    assertThat(dao.getHotState(blockRoot1)).isEmpty();
+    assertThat(db.size(schema.getColumnHotStateMerkleTreeBranches())).isZero();
+    assertThat(db.size(schema.getColumnHotStateMerkleTreeReferenceCounts())).isZero();
+  }
+
+  @Test
+  void shouldDeleteTreeStateAfterSwitchingToSnapshotStorage() {
+    addHotState(createDao(true), blockRoot1, state1);
+
+    final V4HotKvStoreDao dao = createDao(false);
+    assertThat(dao.getHotState(blockRoot1)).contains(state1);
+
+    deleteHotState(dao, blockRoot1);
+    assertThat(dao.getHotState(blockRoot1)).isEmpty();
+    assertThat(db.size(schema.getColumnHotStateMerkleTreeBranches())).isZero();
+  }
+
+  @Test
+  void shouldReportBytesWrittenForEachFormat() {
+    addHotState(createDao(false), blockRoot1, state1);
+    addHotState(createDao(true), blockRoot2, state2);
+
+    final StubCounter bytesWritten =
+        metricsSystem.getCounter(TekuMetricCategory.STORAGE_HOT_DB, "hot_state_bytes_written");
+    assertThat(bytesWritten.getValue("snapshot")).isEqualTo(state1.sszSerialize().size());
+    assertThat(bytesWritten.getValue("tree")).isPositive();
+  }
+
+  private V4HotKvStoreDao createDao(final boolean storeHotStatesAsTree) {
+    return new V4HotKvStoreDao(
+        db,
+        schema,
+        new V4HotStateStorageLogic(metricsSystem, spec, storeHotStatesAsTree, 1000));
+  }
+
+  private void addHotState(
+      final V4HotKvStoreDao dao, final Bytes32 blockRoot, final BeaconState state) {
+    try (final V4HotUpdater updater = dao.hotUpdater()) {
+      updater.addHotState(blockRoot, state);
+      updater.commit();
+    }
+  }
+
+  private void deleteHotState(final V4HotKvStoreDao dao, final Bytes32 blockRoot) {
+    try (final V4HotUpdater updater = dao.hotUpdater()) {
+      updater.deleteHotState(blockRoot);
+      updater.commit();
+    }
+  }
+}
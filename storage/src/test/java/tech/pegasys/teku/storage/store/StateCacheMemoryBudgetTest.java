@@ -0,0 +1,107 @@
+/*
+ * Copyright Consensys Software Inc., 2023
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class StateCacheMemoryBudgetTest {
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final BeaconState state = dataStructureUtil.randomBeaconState(64);
+
+  @Test
+  void estimateUniqueSize_shouldBeZeroForIdenticalTrees() {
+    assertThat(
+            StateCacheMemoryBudget.estimateUniqueSize(
+                state.getBackingNode(), state.getBackingNode()))
+        .isZero();
+  }
+
+  @Test
+  void put_shouldOnlyWeighNodesNotSharedWithNearestState() {
+    final StateCacheMemoryBudget budget = new StateCacheMemoryBudget(Long.MAX_VALUE);
+    final Map<String, BeaconState> cache = budget.createCache(Function.identity(), __ -> 1);
+
+    cache.put("a", state);
+    final long fullSize = budget.getSizeBytes();
+    cache.put("b", state.updated(mutable -> mutable.setSlot(state.getSlot().plus(1))));
+
+    assertThat(fullSize).isGreaterThan(64 * StateCacheMemoryBudget.TREE_NODE_OVERHEAD_BYTES);
+    assertThat(budget.getSizeBytes() - fullSize).isLessThan(fullSize / 10);
+  }
+
+  @Test
+  void put_shouldEvictStatesWhichAreCheapToRegenerateFirst() {
+    final long stateSize =
+        StateCacheMemoryBudget.estimateUniqueSize(
+            state.getBackingNode(), state.getSchema().getDefaultTree());
+    final StateCacheMemoryBudget budget = new StateCacheMemoryBudget(stateSize * 5 / 2);
+    final Map<String, BeaconState> cache =
+        budget.createCache(Function.identity(), cachedState -> cachedState.getSlot().longValue());
+
+    cache.put("cheap", randomStateAtSlot(1));
+    cache.put("expensive1", randomStateAtSlot(100));
+    cache.put("expensive2", randomStateAtSlot(100));
+
+    assertThat(cache).containsOnlyKeys("expensive1", "expensive2");
+    assertThat(budget.size()).isEqualTo(2);
+  }
+
+  @Test
+  void put_shouldShareBudgetBetweenCaches() {
+    final long stateSize =
+        StateCacheMemoryBudget.estimateUniqueSize(
+            state.getBackingNode(), state.getSchema().getDefaultTree());
+    final StateCacheMemoryBudget budget = new StateCacheMemoryBudget(stateSize * 3 / 2);
+    final Map<String, BeaconState> cache1 = budget.createCache(Function.identity(), __ -> 1);
+    // Entries in the second cache are more expensive to regenerate
+    final Map<String, BeaconState> cache2 = budget.createCache(Function.identity(), __ -> 10);
+
+    cache1.put("a", randomStateAtSlot(1));
+    cache2.put("b", randomStateAtSlot(1));
+
+    assertThat(cache1).isEmpty();
+    assertThat(cache2).containsOnlyKeys("b");
+  }
+
+  @Test
+  void remove_shouldReleaseBudget() {
+    final StateCacheMemoryBudget budget = new StateCacheMemoryBudget(Long.MAX_VALUE);
+    final Map<String, BeaconState> cache = budget.createCache(Function.identity(), __ -> 1);
+    cache.put("a", state);
+    cache.put("b", randomStateAtSlot(5));
+
+    cache.remove("a");
+    cache.keySet().removeIf("b"::equals);
+
+    assertThat(cache).isEmpty();
+    assertThat(budget.size()).isZero();
+    assertThat(budget.getSizeBytes()).isZero();
+  }
+
+  private BeaconState randomStateAtSlot(final long slot) {
+    return dataStructureUtil
+        .randomBeaconState(64)
+        .updated(mutable -> mutable.setSlot(UInt64.valueOf(slot)));
+  }
+}
@@ -18,7 +18,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import it.unimi.dsi.fastutil.ints.IntSet;
 import java.util.Map;
+import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -69,6 +71,31 @@ class StoreVoteUpdaterTest extends AbstractStoreTest {
     assertThat(voteUpdater.getHighestVotedValidatorIndex()).isEqualTo(UInt64.valueOf(2));
   }
 
+  @Test
+  void shouldTrackValidatorsWithPendingVotes() {
+    final VoteTracker pendingVote =
+        new VoteTracker(
+            dataStructureUtil.randomBytes32(), dataStructureUtil.randomBytes32(), UInt64.ONE);
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    setVote(UInt64.ZERO, pendingVote);
+    setVote(UInt64.ONE, new VoteTracker(root, root, UInt64.ONE));
+
+    final VoteUpdater voteUpdater = store.startVoteUpdate(voteUpdateChannel);
+    voteUpdater.putVote(UInt64.valueOf(2), pendingVote);
+
+    assertThat(voteUpdater.getValidatorsWithPendingVotes()).contains(IntSet.of(0, 2));
+  }
+
+  @Test
+  void shouldStopTrackingPendingVoteWhenApplied() {
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    setVote(UInt64.ZERO, new VoteTracker(dataStructureUtil.randomBytes32(), root, UInt64.ONE));
+    setVote(UInt64.ZERO, new VoteTracker(root, root, UInt64.ONE));
+
+    assertThat(store.startVoteUpdate(voteUpdateChannel).getValidatorsWithPendingVotes())
+        .contains(IntSet.of());
+  }
+
   private void setVote(final UInt64 validatorIndex, final VoteTracker vote) {
     final VoteUpdater voteUpdater = store.startVoteUpdate(voteUpdateChannel);
     voteUpdater.putVote(validatorIndex, vote);
@@ -24,6 +24,7 @@ import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -60,6 +61,12 @@ public class StubStorageUpdateChannelWithDelays implements StorageUpdateChannel
     return asyncRunner.runAsync(() -> SafeFuture.COMPLETE);
   }
 
+  @Override
+  public SafeFuture<Void> onReconstructedFinalizedStates(
+      final List<SignedBlockAndState> finalizedStates) {
+    return asyncRunner.runAsync(() -> SafeFuture.COMPLETE);
+  }
+
   @Override
   public SafeFuture<Void> onWeakSubjectivityUpdate(
       final WeakSubjectivityUpdate weakSubjectivityUpdate) {
@@ -35,6 +35,7 @@ public class InMemoryKvStoreDatabaseFactory {
     final SchemaHotAdapter schemaHot = combinedSchema.asSchemaHot();
     final SchemaFinalizedSnapshotStateAdapter schemaFinalized = combinedSchema.asSchemaFinalized();
     return KvStoreDatabase.createV4(
+        new StubMetricsSystem(),
         hotDb,
         coldDb,
         schemaHot,
@@ -42,6 +43,8 @@ public class InMemoryKvStoreDatabaseFactory {
         storageMode,
         stateStorageFrequency,
         storeNonCanonicalBlocks,
+        false,
+        1000,
         spec);
   }
 
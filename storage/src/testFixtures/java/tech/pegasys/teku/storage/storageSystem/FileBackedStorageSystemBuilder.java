@@ -159,6 +159,8 @@ public class FileBackedStorageSystemBuilder {
         storageMode,
         stateStorageFrequency,
         storeNonCanonicalBlocks,
+        false,
+        10_000,
         spec);
   }
 
@@ -206,6 +208,8 @@ public class FileBackedStorageSystemBuilder {
         storageMode,
         stateStorageFrequency,
         storeNonCanonicalBlocks,
+        false,
+        10_000,
         spec);
   }
 
@@ -217,6 +221,8 @@ public class FileBackedStorageSystemBuilder {
         storageMode,
         stateStorageFrequency,
         storeNonCanonicalBlocks,
+        false,
+        10_000,
         spec);
   }
 }
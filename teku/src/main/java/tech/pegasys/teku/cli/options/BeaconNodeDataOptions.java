@@ -84,6 +84,19 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
       hidden = true)
   private int maxKnownNodeCacheSize = StorageConfiguration.DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE;
 
+  @CommandLine.Option(
+      names = {"--Xdata-storage-hot-state-tree-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Store hot states as deduplicated merkle tree nodes instead of full state snapshots. "
+              + "Only supported by the v4, v5 and leveldb1 database versions",
+      arity = "0..1",
+      fallbackValue = "true",
+      showDefaultValue = Visibility.ALWAYS,
+      hidden = true)
+  private boolean hotStateTreeStorageEnabled =
+      StorageConfiguration.DEFAULT_HOT_STATE_TREE_STORAGE_ENABLED;
+
   @CommandLine.Option(
       names = {"--reconstruct-historic-states"},
       paramLabel = "<BOOLEAN>",
@@ -152,6 +165,7 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
                 .dataStorageCreateDbVersion(parseDatabaseVersion())
                 .storeNonCanonicalBlocks(storeNonCanonicalBlocksEnabled)
                 .maxKnownNodeCacheSize(maxKnownNodeCacheSize)
+                .hotStateTreeStorageEnabled(hotStateTreeStorageEnabled)
                 .blockPruningInterval(Duration.ofSeconds(blockPruningIntervalSeconds))
                 .blockPruningLimit(blockPruningLimit)
                 .blobsPruningInterval(Duration.ofSeconds(blobsPruningIntervalSeconds))
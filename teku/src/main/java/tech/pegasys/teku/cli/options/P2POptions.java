@@ -199,6 +199,18 @@ public class P2POptions {
       arity = "1")
   private Integer forwardSyncRateLimit = SyncConfig.DEFAULT_FORWARD_SYNC_MAX_BLOCKS_PER_MINUTE;
 
+  @Option(
+      names = {"--Xp2p-sync-batch-signature-verification-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Verify the signatures of all blocks in a sync batch together, before importing them.",
+      fallbackValue = "true",
+      hidden = true,
+      arity = "0..1")
+  private boolean forwardSyncBatchSignatureVerificationEnabled =
+      SyncConfig.DEFAULT_FORWARD_SYNC_BATCH_SIGNATURE_VERIFICATION_ENABLED;
+
   @Option(
       names = {"--p2p-subscribe-all-subnets-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -272,6 +284,24 @@ public class P2POptions {
   private boolean batchVerifyStrictThreadLimitEnabled =
       P2PConfig.DEFAULT_BATCH_VERIFY_STRICT_THREAD_LIMIT_ENABLED;
 
+  @Option(
+      names = {"--Xp2p-gossip-decoding-max-threads"},
+      paramLabel = "<NUMBER>",
+      description =
+          "Maximum number of threads to use for decoding gossip messages. 0 decodes messages on the network thread",
+      arity = "1",
+      hidden = true)
+  private int gossipDecodingMaxThreads = P2PConfig.DEFAULT_GOSSIP_DECODING_MAX_THREADS;
+
+  @Option(
+      names = {"--Xp2p-gossip-decoding-topic-queue-capacity"},
+      paramLabel = "<NUMBER>",
+      description = "Maximum number of gossip messages per topic waiting to be decoded",
+      arity = "1",
+      hidden = true)
+  private int gossipDecodingTopicQueueCapacity =
+      P2PConfig.DEFAULT_GOSSIP_DECODING_TOPIC_QUEUE_CAPACITY;
+
   @Option(
       names = {"--p2p-discovery-site-local-addresses-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -330,6 +360,8 @@ public class P2POptions {
                     .batchVerifyQueueCapacity(batchVerifyQueueCapacity)
                     .batchVerifyMaxBatchSize(batchVerifyMaxBatchSize)
                     .batchVerifyStrictThreadLimitEnabled(batchVerifyStrictThreadLimitEnabled)
+                    .gossipDecodingMaxThreads(gossipDecodingMaxThreads)
+                    .gossipDecodingTopicQueueCapacity(gossipDecodingTopicQueueCapacity)
                     .targetSubnetSubscriberCount(p2pTargetSubnetSubscriberCount)
                     .isGossipScoringEnabled(gossipScoringEnabled)
                     .peerRateLimit(peerRateLimit)
@@ -375,7 +407,9 @@ public class P2POptions {
                     .historicalSyncBatchSize(historicalSyncBatchSize)
                     .forwardSyncMaxBlocksPerMinute(forwardSyncRateLimit)
                     .forwardSyncBatchSize(forwardSyncBatchSize)
-                    .forwardSyncMaxPendingBatches(forwardSyncMaxPendingBatches));
+                    .forwardSyncMaxPendingBatches(forwardSyncMaxPendingBatches)
+                    .forwardSyncBatchSignatureVerificationEnabled(
+                        forwardSyncBatchSignatureVerificationEnabled));
     natOptions.configure(builder);
   }
 }
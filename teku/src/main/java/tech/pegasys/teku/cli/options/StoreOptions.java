@@ -62,6 +62,24 @@ public class StoreOptions {
       arity = "1")
   private int checkpointStateCacheSize = StoreConfig.DEFAULT_CHECKPOINT_STATE_CACHE_SIZE;
 
+  @Option(
+      hidden = true,
+      names = {"--Xstore-state-cache-max-size-bytes"},
+      paramLabel = "<LONG>",
+      description =
+          "Estimated memory in bytes that cached states may use, favouring states that are expensive to regenerate. Replaces the state, checkpoint state and epoch state cache sizes when greater than zero.",
+      arity = "1")
+  private long stateCacheMaxSizeBytes = StoreConfig.DEFAULT_STATE_CACHE_MAX_SIZE_BYTES;
+
+  @Option(
+      hidden = true,
+      names = {"--Xstore-shuffling-cache-max-size-bytes"},
+      paramLabel = "<LONG>",
+      description =
+          "Estimated memory in bytes that committee shuffles shared between states may use. Zero disables sharing shuffles between states.",
+      arity = "1")
+  private long shufflingCacheMaxSizeBytes = StoreConfig.DEFAULT_SHUFFLING_CACHE_MAX_SIZE_BYTES;
+
   @Option(
       names = {"--Xstore-earliest-available-block-slot-cache-seconds"},
       hidden = true,
@@ -80,6 +98,8 @@ public class StoreOptions {
                 .stateCacheSize(stateCacheSize)
                 .epochStateCacheSize(epochStateCacheSize)
                 .earliestAvailableBlockSlotFrequency(earliestAvailableBlockSlotQueryFrequency)
-                .checkpointStateCacheSize(checkpointStateCacheSize));
+                .checkpointStateCacheSize(checkpointStateCacheSize)
+                .stateCacheMaxSizeBytes(stateCacheMaxSizeBytes)
+                .shufflingCacheMaxSizeBytes(shufflingCacheMaxSizeBytes));
   }
 }
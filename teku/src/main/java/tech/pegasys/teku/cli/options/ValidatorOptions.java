@@ -119,6 +119,30 @@ public class ValidatorOptions {
       arity = "1")
   private int executorThreads = ValidatorConfig.DEFAULT_EXECUTOR_THREADS;
 
+  @Option(
+      names = {"--Xvalidators-external-signer-virtual-threads-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Send requests to the external signer on virtual threads. Requires Java 21 or later",
+      hidden = true,
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean externalSignerVirtualThreadsEnabled =
+      ValidatorConfig.DEFAULT_EXTERNAL_SIGNER_VIRTUAL_THREADS_ENABLED;
+
+  @Option(
+      names = {"--Xvalidators-slashing-protection-group-commit-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Batch slashing protection record updates into a journal with a single sync per commit window instead of syncing a file per signature",
+      hidden = true,
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean slashingProtectionGroupCommitEnabled =
+      ValidatorConfig.DEFAULT_SLASHING_PROTECTION_GROUP_COMMIT_ENABLED;
+
   public void configure(TekuConfiguration.Builder builder) {
     builder.validator(
         config ->
@@ -133,7 +157,9 @@ public class ValidatorOptions {
                 .generateEarlyAttestations(generateEarlyAttestations)
                 .executorMaxQueueSize(executorMaxQueueSize)
                 .doppelgangerDetectionEnabled(doppelgangerDetectionEnabled)
-                .executorThreads(executorThreads));
+                .executorThreads(executorThreads)
+                .externalSignerVirtualThreadsEnabled(externalSignerVirtualThreadsEnabled)
+                .slashingProtectionGroupCommitEnabled(slashingProtectionGroupCommitEnabled));
     validatorProposerOptions.configure(builder);
     validatorKeysOptions.configure(builder);
   }
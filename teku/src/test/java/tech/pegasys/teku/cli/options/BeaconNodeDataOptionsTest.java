@@ -243,6 +243,25 @@ public class BeaconNodeDataOptionsTest extends AbstractBeaconNodeCommandTest {
         .isEqualTo(config);
   }
 
+  @Test
+  void shouldDefaultToStoringHotStatesAsSnapshots() {
+    final TekuConfiguration config = getTekuConfigurationFromArguments();
+    assertThat(config.storageConfiguration().isHotStateTreeStorageEnabled()).isFalse();
+  }
+
+  @Test
+  void shouldEnableHotStateTreeStorage() {
+    final TekuConfiguration config =
+        getTekuConfigurationFromArguments("--Xdata-storage-hot-state-tree-enabled");
+    assertThat(config.storageConfiguration().isHotStateTreeStorageEnabled()).isTrue();
+    assertThat(
+            createConfigBuilder()
+                .storageConfiguration(b -> b.hotStateTreeStorageEnabled(true))
+                .build())
+        .usingRecursiveComparison()
+        .isEqualTo(config);
+  }
+
   @Test
   void shouldNotAllowPruningBlocksAndReconstructingStates() {
     assertThatThrownBy(
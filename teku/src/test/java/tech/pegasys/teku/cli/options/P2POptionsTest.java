@@ -290,6 +290,19 @@ public class P2POptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(config.isBlsToExecutionChangesSubnetEnabled()).isFalse();
   }
 
+  @Test
+  public void gossipDecodingOptions_shouldBeSettable() {
+    final TekuConfiguration tekuConfiguration =
+        getTekuConfigurationFromArguments(
+            "--Xp2p-gossip-decoding-max-threads",
+            "0",
+            "--Xp2p-gossip-decoding-topic-queue-capacity",
+            "50");
+    final P2PConfig config = tekuConfiguration.p2p();
+    assertThat(config.getGossipDecodingMaxThreads()).isZero();
+    assertThat(config.getGossipDecodingTopicQueueCapacity()).isEqualTo(50);
+  }
+
   @Test
   public void historicalSyncBatchSize_shouldBeSettable() {
     TekuConfiguration tekuConfiguration =
@@ -330,6 +343,20 @@ public class P2POptionsTest extends AbstractBeaconNodeCommandTest {
         .isEqualTo(tekuConfiguration);
   }
 
+  @Test
+  public void forwardSyncBatchSignatureVerification_shouldBeDisableable() {
+    TekuConfiguration tekuConfiguration =
+        getTekuConfigurationFromArguments(
+            "--Xp2p-sync-batch-signature-verification-enabled", "false");
+    assertThat(tekuConfiguration.sync().isForwardSyncBatchSignatureVerificationEnabled()).isFalse();
+    assertThat(
+            createConfigBuilder()
+                .sync(s -> s.forwardSyncBatchSignatureVerificationEnabled(false))
+                .build())
+        .usingRecursiveComparison()
+        .isEqualTo(tekuConfiguration);
+  }
+
   @Test
   public void forwardSyncBatchSize_greaterThanMessageSizeShouldThrowException() {
     assertThatThrownBy(() -> createConfigBuilder().sync(s -> s.forwardSyncBatchSize(3000)).build())
@@ -43,6 +43,28 @@ public class StoreOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(globalConfiguration.getHotStatePersistenceFrequencyInEpochs()).isEqualTo(2);
   }
 
+  @Test
+  public void shufflingCacheMaxSizeBytes_shouldRespectCLIArg() {
+    final String[] args = {
+      "--Xstore-shuffling-cache-max-size-bytes", "1024",
+    };
+    TekuConfiguration tekuConfiguration = getTekuConfigurationFromArguments(args);
+    final StoreConfig globalConfiguration = tekuConfiguration.beaconChain().storeConfig();
+    assertThat(globalConfiguration.getShufflingCacheMaxSizeBytes()).isEqualTo(1024);
+
+    assertThat(createConfigBuilder().store(b -> b.shufflingCacheMaxSizeBytes(1024)).build())
+        .usingRecursiveComparison()
+        .isEqualTo(tekuConfiguration);
+  }
+
+  @Test
+  public void shufflingCacheMaxSizeBytes_shouldSetDefaultValue() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(globalConfiguration.getShufflingCacheMaxSizeBytes())
+        .isEqualTo(StoreConfig.DEFAULT_SHUFFLING_CACHE_MAX_SIZE_BYTES);
+  }
+
   @Test
   public void hotStatePersistenceFrequency_invalidNumber() {
     final String[] args = {
@@ -198,6 +198,36 @@ public class ValidatorClientCommandTest extends AbstractBeaconNodeCommandTest {
         .isEqualTo(1000);
   }
 
+  @Test
+  public void slashingProtectionGroupCommitShouldBeDisabledByDefault() {
+    final String[] args = {"vc", "--network", "minimal"};
+
+    final TekuConfiguration tekuConfig = getTekuConfigurationFromArguments(args);
+
+    assertThat(
+            tekuConfig
+                .validatorClient()
+                .getValidatorConfig()
+                .isSlashingProtectionGroupCommitEnabled())
+        .isFalse();
+  }
+
+  @Test
+  public void slashingProtectionGroupCommitShouldBeEnabled() {
+    final String[] args = {
+      "vc", "--network", "minimal", "--Xvalidators-slashing-protection-group-commit-enabled"
+    };
+
+    final TekuConfiguration tekuConfig = getTekuConfigurationFromArguments(args);
+
+    assertThat(
+            tekuConfig
+                .validatorClient()
+                .getValidatorConfig()
+                .isSlashingProtectionGroupCommitEnabled())
+        .isTrue();
+  }
+
   @Test
   public void clientExecutorThreadsShouldThrowOverLimit() {
     final String[] args = {
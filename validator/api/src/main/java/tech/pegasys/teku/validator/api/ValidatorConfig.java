@@ -44,6 +44,7 @@ public class ValidatorConfig {
   public static final boolean DEFAULT_FAILOVERS_SEND_SUBNET_SUBSCRIPTIONS_ENABLED = true;
   public static final boolean DEFAULT_FAILOVERS_PUBLISH_SIGNED_DUTIES_ENABLED = true;
   public static final boolean DEFAULT_VALIDATOR_CLIENT_SSZ_BLOCKS_ENABLED = true;
+  public static final boolean DEFAULT_VALIDATOR_CLIENT_SSZ_OPERATIONS_ENABLED = false;
   public static final boolean DEFAULT_DOPPELGANGER_DETECTION_ENABLED = false;
   public static final int DEFAULT_EXECUTOR_MAX_QUEUE_SIZE = 20_000;
   public static final Duration DEFAULT_VALIDATOR_EXTERNAL_SIGNER_TIMEOUT = Duration.ofSeconds(5);
@@ -59,6 +60,8 @@ public class ValidatorConfig {
   public static final UInt64 DEFAULT_BUILDER_REGISTRATION_GAS_LIMIT = UInt64.valueOf(30_000_000);
 
   public static final int DEFAULT_EXECUTOR_THREADS = 5;
+  public static final boolean DEFAULT_EXTERNAL_SIGNER_VIRTUAL_THREADS_ENABLED = false;
+  public static final boolean DEFAULT_SLASHING_PROTECTION_GROUP_COMMIT_ENABLED = false;
 
   private final List<String> validatorKeys;
   private final List<String> validatorExternalSignerPublicKeySources;
@@ -81,6 +84,7 @@ public class ValidatorConfig {
   private final boolean blindedBeaconBlocksEnabled;
   private final boolean builderRegistrationDefaultEnabled;
   private final boolean validatorClientUseSszBlocksEnabled;
+  private final boolean validatorClientUseSszOperationsEnabled;
   private final boolean doppelgangerDetectionEnabled;
   private final boolean failoversSendSubnetSubscriptionsEnabled;
   private final boolean failoversPublishSignedDutiesEnabled;
@@ -92,6 +96,8 @@ public class ValidatorConfig {
   private final Optional<String> sentryNodeConfigurationFile;
 
   private final int executorThreads;
+  private final boolean externalSignerVirtualThreadsEnabled;
+  private final boolean slashingProtectionGroupCommitEnabled;
 
   private ValidatorConfig(
       final List<String> validatorKeys,
@@ -115,6 +121,7 @@ public class ValidatorConfig {
       final boolean builderRegistrationDefaultEnabled,
       final boolean blindedBeaconBlocksEnabled,
       final boolean validatorClientUseSszBlocksEnabled,
+      final boolean validatorClientUseSszOperationsEnabled,
       final boolean doppelgangerDetectionEnabled,
       final boolean failoversSendSubnetSubscriptionsEnabled,
       final boolean failoversPublishSignedDutiesEnabled,
@@ -124,7 +131,9 @@ public class ValidatorConfig {
       final Optional<BLSPublicKey> builderRegistrationPublicKeyOverride,
       final int executorMaxQueueSize,
       final int executorThreads,
-      final Optional<String> sentryNodeConfigurationFile) {
+      final boolean externalSignerVirtualThreadsEnabled,
+      final Optional<String> sentryNodeConfigurationFile,
+      final boolean slashingProtectionGroupCommitEnabled) {
     this.validatorKeys = validatorKeys;
     this.validatorExternalSignerPublicKeySources = validatorExternalSignerPublicKeySources;
     this.validatorExternalSignerUrl = validatorExternalSignerUrl;
@@ -149,6 +158,7 @@ public class ValidatorConfig {
     this.blindedBeaconBlocksEnabled = blindedBeaconBlocksEnabled;
     this.builderRegistrationDefaultEnabled = builderRegistrationDefaultEnabled;
     this.validatorClientUseSszBlocksEnabled = validatorClientUseSszBlocksEnabled;
+    this.validatorClientUseSszOperationsEnabled = validatorClientUseSszOperationsEnabled;
     this.doppelgangerDetectionEnabled = doppelgangerDetectionEnabled;
     this.failoversSendSubnetSubscriptionsEnabled = failoversSendSubnetSubscriptionsEnabled;
     this.failoversPublishSignedDutiesEnabled = failoversPublishSignedDutiesEnabled;
@@ -158,7 +168,9 @@ public class ValidatorConfig {
     this.builderRegistrationPublicKeyOverride = builderRegistrationPublicKeyOverride;
     this.executorMaxQueueSize = executorMaxQueueSize;
     this.executorThreads = executorThreads;
+    this.externalSignerVirtualThreadsEnabled = externalSignerVirtualThreadsEnabled;
     this.sentryNodeConfigurationFile = sentryNodeConfigurationFile;
+    this.slashingProtectionGroupCommitEnabled = slashingProtectionGroupCommitEnabled;
   }
 
   public static Builder builder() {
@@ -260,6 +272,10 @@ public class ValidatorConfig {
     return validatorClientUseSszBlocksEnabled;
   }
 
+  public boolean isValidatorClientUseSszOperationsEnabled() {
+    return validatorClientUseSszOperationsEnabled;
+  }
+
   public boolean isDoppelgangerDetectionEnabled() {
     return doppelgangerDetectionEnabled;
   }
@@ -284,10 +300,18 @@ public class ValidatorConfig {
     return executorThreads;
   }
 
+  public boolean isExternalSignerVirtualThreadsEnabled() {
+    return externalSignerVirtualThreadsEnabled;
+  }
+
   public Optional<String> getSentryNodeConfigurationFile() {
     return sentryNodeConfigurationFile;
   }
 
+  public boolean isSlashingProtectionGroupCommitEnabled() {
+    return slashingProtectionGroupCommitEnabled;
+  }
+
   private void validateProposerDefaultFeeRecipientOrProposerConfigSource() {
     if (proposerDefaultFeeRecipient.isEmpty()
         && proposerConfigSource.isEmpty()
@@ -325,6 +349,8 @@ public class ValidatorConfig {
         DEFAULT_BUILDER_REGISTRATION_DEFAULT_ENABLED;
     private boolean blindedBlocksEnabled = DEFAULT_VALIDATOR_BLINDED_BLOCKS_ENABLED;
     private boolean validatorClientSszBlocksEnabled = DEFAULT_VALIDATOR_CLIENT_SSZ_BLOCKS_ENABLED;
+    private boolean validatorClientSszOperationsEnabled =
+        DEFAULT_VALIDATOR_CLIENT_SSZ_OPERATIONS_ENABLED;
     private boolean doppelgangerDetectionEnabled = DEFAULT_DOPPELGANGER_DETECTION_ENABLED;
     private boolean failoversSendSubnetSubscriptionsEnabled =
         DEFAULT_FAILOVERS_SEND_SUBNET_SUBSCRIPTIONS_ENABLED;
@@ -339,6 +365,10 @@ public class ValidatorConfig {
     private Optional<String> sentryNodeConfigurationFile = Optional.empty();
 
     private int executorThreads = DEFAULT_EXECUTOR_THREADS;
+    private boolean externalSignerVirtualThreadsEnabled =
+        DEFAULT_EXTERNAL_SIGNER_VIRTUAL_THREADS_ENABLED;
+    private boolean slashingProtectionGroupCommitEnabled =
+        DEFAULT_SLASHING_PROTECTION_GROUP_COMMIT_ENABLED;
 
     private Builder() {}
 
@@ -481,6 +511,12 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder validatorClientUseSszOperationsEnabled(
+        final boolean validatorClientUseSszOperationsEnabled) {
+      this.validatorClientSszOperationsEnabled = validatorClientUseSszOperationsEnabled;
+      return this;
+    }
+
     public Builder doppelgangerDetectionEnabled(final boolean doppelgangerDetectionEnabled) {
       this.doppelgangerDetectionEnabled = doppelgangerDetectionEnabled;
       return this;
@@ -545,6 +581,18 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder externalSignerVirtualThreadsEnabled(
+        final boolean externalSignerVirtualThreadsEnabled) {
+      this.externalSignerVirtualThreadsEnabled = externalSignerVirtualThreadsEnabled;
+      return this;
+    }
+
+    public Builder slashingProtectionGroupCommitEnabled(
+        final boolean slashingProtectionGroupCommitEnabled) {
+      this.slashingProtectionGroupCommitEnabled = slashingProtectionGroupCommitEnabled;
+      return this;
+    }
+
     public ValidatorConfig build() {
       validateExternalSignerUrlAndPublicKeys();
       validateExternalSignerKeystoreAndPasswordFileConfig();
@@ -573,6 +621,7 @@ public class ValidatorConfig {
           validatorsRegistrationDefaultEnabled,
           blindedBlocksEnabled,
           validatorClientSszBlocksEnabled,
+          validatorClientSszOperationsEnabled,
           doppelgangerDetectionEnabled,
           failoversSendSubnetSubscriptionsEnabled,
           failoversPublishSignedDutiesEnabled,
@@ -582,7 +631,9 @@ public class ValidatorConfig {
           builderRegistrationPublicKeyOverride,
           executorMaxQueueSize,
           executorThreads,
-          sentryNodeConfigurationFile);
+          externalSignerVirtualThreadsEnabled,
+          sentryNodeConfigurationFile,
+          slashingProtectionGroupCommitEnabled);
     }
 
     private void validateExternalSignerUrlAndPublicKeys() {
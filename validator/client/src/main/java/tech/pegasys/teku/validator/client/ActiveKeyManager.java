@@ -15,6 +15,7 @@ package tech.pegasys.teku.validator.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -32,6 +33,7 @@ import tech.pegasys.teku.data.SlashingProtectionImporter;
 import tech.pegasys.teku.data.SlashingProtectionIncrementalExporter;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.signatures.Signer;
+import tech.pegasys.teku.spec.signatures.SlashingProtector;
 import tech.pegasys.teku.validator.api.ValidatorTimingChannel;
 import tech.pegasys.teku.validator.client.doppelganger.DoppelgangerDetectionAction;
 import tech.pegasys.teku.validator.client.doppelganger.DoppelgangerDetector;
@@ -50,11 +52,15 @@ public class ActiveKeyManager implements KeyManager {
   private static final Logger LOG = LogManager.getLogger();
   private final ValidatorLoader validatorLoader;
   private final ValidatorTimingChannel validatorTimingChannel;
+  private final SlashingProtector slashingProtector;
 
   public ActiveKeyManager(
-      final ValidatorLoader validatorLoader, final ValidatorTimingChannel validatorTimingChannel) {
+      final ValidatorLoader validatorLoader,
+      final ValidatorTimingChannel validatorTimingChannel,
+      final SlashingProtector slashingProtector) {
     this.validatorLoader = validatorLoader;
     this.validatorTimingChannel = validatorTimingChannel;
+    this.slashingProtector = slashingProtector;
   }
 
   /**
@@ -140,6 +146,14 @@ public class ActiveKeyManager implements KeyManager {
       }
       // delete validator from owned validators list
       maybeValidator = validatorLoader.getOwnedValidators().removeValidator(publicKey);
+      // the exported data is read from the signing record file, which may lag behind
+      try {
+        slashingProtector.flushSigningRecords(List.of(publicKey));
+      } catch (final IOException e) {
+        LOG.error("Failed to write slashing protection data for " + publicKey, e);
+        deletionResults.add(DeleteKeyResult.error("Failed to write slashing protection data"));
+        continue;
+      }
       if (maybeValidator.isPresent()) {
         deletionResults.add(deleteValidator(maybeValidator.get(), exporter));
       } else {
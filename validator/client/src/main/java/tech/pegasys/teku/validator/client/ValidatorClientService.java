@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.validator.client;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.http.HttpClient;
 import java.nio.file.Path;
 import java.time.Duration;
@@ -41,6 +43,7 @@ import tech.pegasys.teku.service.serviceutils.ServiceConfig;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.signatures.GroupCommitSlashingProtector;
 import tech.pegasys.teku.spec.signatures.LocalSlashingProtector;
 import tech.pegasys.teku.spec.signatures.SlashingProtector;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
@@ -82,6 +85,7 @@ public class ValidatorClientService extends Service {
   private static final int DOPPELGANGER_DETECTOR_MAX_EPOCHS = 2;
   private final EventChannels eventChannels;
   private final ValidatorLoader validatorLoader;
+  private final SlashingProtector slashingProtector;
   private final BeaconNodeApi beaconNodeApi;
   private final ForkProvider forkProvider;
   private final Spec spec;
@@ -103,6 +107,7 @@ public class ValidatorClientService extends Service {
   private ValidatorClientService(
       final EventChannels eventChannels,
       final ValidatorLoader validatorLoader,
+      final SlashingProtector slashingProtector,
       final BeaconNodeApi beaconNodeApi,
       final ForkProvider forkProvider,
       final Optional<ProposerConfigManager> proposerConfigManager,
@@ -113,6 +118,7 @@ public class ValidatorClientService extends Service {
       final DoppelgangerDetectionAction doppelgangerDetectionAction) {
     this.eventChannels = eventChannels;
     this.validatorLoader = validatorLoader;
+    this.slashingProtector = slashingProtector;
     this.beaconNodeApi = beaconNodeApi;
     this.forkProvider = forkProvider;
     this.proposerConfigManager = proposerConfigManager;
@@ -141,7 +147,11 @@ public class ValidatorClientService extends Service {
         new GenesisDataProvider(asyncRunner, validatorApiChannel);
     final ForkProvider forkProvider = new ForkProvider(config.getSpec(), genesisDataProvider);
 
-    final ValidatorLoader validatorLoader = createValidatorLoader(services, config, asyncRunner);
+    final SlashingProtector slashingProtector =
+        createSlashingProtector(
+            services, validatorConfig, getSlashingProtectionPath(services.getDataDirLayout()));
+    final ValidatorLoader validatorLoader =
+        createValidatorLoader(services, config, asyncRunner, slashingProtector);
     final ValidatorRestApiConfig validatorApiConfig = config.getValidatorRestApiConfig();
     final Optional<ProposerConfigManager> proposerConfigManager;
     Optional<BeaconProposerPreparer> beaconProposerPreparer = Optional.empty();
@@ -192,6 +202,7 @@ public class ValidatorClientService extends Service {
         new ValidatorClientService(
             eventChannels,
             validatorLoader,
+            slashingProtector,
             beaconNodeApi,
             forkProvider,
             proposerConfigManager,
@@ -226,7 +237,8 @@ public class ValidatorClientService extends Service {
                     proposerConfigManager,
                     new ActiveKeyManager(
                         validatorLoader,
-                        services.getEventChannels().getPublisher(ValidatorTimingChannel.class)),
+                        services.getEventChannels().getPublisher(ValidatorTimingChannel.class),
+                        slashingProtector),
                     services.getDataDirLayout(),
                     services.getTimeProvider(),
                     validatorClientService.maybeDoppelgangerDetector);
@@ -350,11 +362,8 @@ public class ValidatorClientService extends Service {
   private static ValidatorLoader createValidatorLoader(
       final ServiceConfig services,
       final ValidatorClientConfiguration config,
-      final AsyncRunner asyncRunner) {
-    final Path slashingProtectionPath = getSlashingProtectionPath(services.getDataDirLayout());
-    final SlashingProtector slashingProtector =
-        new LocalSlashingProtector(
-            SyncDataAccessor.create(slashingProtectionPath), slashingProtectionPath);
+      final AsyncRunner asyncRunner,
+      final SlashingProtector slashingProtector) {
     final SlashingProtectionLogger slashingProtectionLogger =
         new SlashingProtectionLogger(
             slashingProtector, config.getSpec(), asyncRunner, ValidatorLogger.VALIDATOR_LOGGER);
@@ -377,6 +386,26 @@ public class ValidatorClientService extends Service {
             : Optional.empty());
   }
 
+  private static SlashingProtector createSlashingProtector(
+      final ServiceConfig services,
+      final ValidatorConfig validatorConfig,
+      final Path slashingProtectionPath) {
+    final SyncDataAccessor dataAccessor = SyncDataAccessor.create(slashingProtectionPath);
+    if (!validatorConfig.isSlashingProtectionGroupCommitEnabled()) {
+      return new LocalSlashingProtector(dataAccessor, slashingProtectionPath);
+    }
+    try {
+      // A single thread so journal commits run one after another
+      return new GroupCommitSlashingProtector(
+          dataAccessor,
+          slashingProtectionPath,
+          services.createAsyncRunner("slashing_protection", 1));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(
+          "Failed to initialise slashing protection journal in " + slashingProtectionPath, e);
+    }
+  }
+
   private void initializeValidators(
       final ValidatorApiChannel validatorApiChannel, final AsyncRunner asyncRunner) {
     validatorLoader.loadValidators();
@@ -536,10 +565,17 @@ public class ValidatorClientService extends Service {
   @Override
   protected SafeFuture<?> doStop() {
     return SafeFuture.allOf(
-        SafeFuture.fromRunnable(
-            () ->
-                maybeValidatorRestApi.ifPresent(
-                    restApi -> restApi.stop().ifExceptionGetsHereRaiseABug())),
-        beaconNodeApi.unsubscribeFromEvents());
+            SafeFuture.fromRunnable(
+                () ->
+                    maybeValidatorRestApi.ifPresent(
+                        restApi -> restApi.stop().ifExceptionGetsHereRaiseABug())),
+            beaconNodeApi.unsubscribeFromEvents())
+        .alwaysRun(
+            () -> {
+              // Compacts the journal so signing record files are complete for other tools
+              if (slashingProtector instanceof GroupCommitSlashingProtector groupCommitProtector) {
+                groupCommitProtector.close();
+              }
+            });
   }
 }
@@ -24,6 +24,7 @@ import java.security.GeneralSecurityException;
 import java.security.KeyManagementException;
 import java.security.KeyStore;
 import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
@@ -31,6 +32,7 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
 import org.apache.commons.lang3.tuple.Pair;
+import tech.pegasys.teku.infrastructure.async.VirtualThreads;
 import tech.pegasys.teku.infrastructure.crypto.SecureRandomProvider;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.validator.api.ValidatorConfig;
@@ -55,6 +57,12 @@ public class HttpClientExternalSignerFactory implements Supplier<HttpClient> {
               validatorConfig.getValidatorExternalSignerKeystorePasswordFilePair(),
               validatorConfig.getValidatorExternalSignerTruststorePasswordFilePair()));
     }
+    if (validatorConfig.isExternalSignerVirtualThreadsEnabled()) {
+      // Requests spend almost all their time waiting on the signer so don't need a pooled thread
+      VirtualThreads.createThreadFactory("external-signer-virtual-")
+          .map(Executors::newCachedThreadPool)
+          .ifPresent(builder::executor);
+    }
     return builder.build();
   }
 
@@ -34,6 +34,7 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -42,6 +43,7 @@ import java.util.Optional;
 import java.util.Set;
 import org.apache.commons.io.IOUtils;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import tech.pegasys.infrastructure.logging.LogCaptor;
@@ -50,10 +52,17 @@ import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSTestUtil;
 import tech.pegasys.teku.bls.keystore.model.KeyStoreData;
 import tech.pegasys.teku.data.SlashingProtectionIncrementalExporter;
+import tech.pegasys.teku.data.slashinginterchange.SignedAttestation;
+import tech.pegasys.teku.data.slashinginterchange.SlashingProtectionInterchangeFormat;
+import tech.pegasys.teku.infrastructure.async.DelayedExecutorAsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.signatures.GroupCommitSlashingProtector;
 import tech.pegasys.teku.spec.signatures.Signer;
+import tech.pegasys.teku.spec.signatures.SlashingProtector;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.validator.api.ValidatorTimingChannel;
 import tech.pegasys.teku.validator.client.doppelganger.DoppelgangerDetectionAction;
@@ -77,7 +86,9 @@ class ActiveKeyManagerTest {
       mock(SlashingProtectionIncrementalExporter.class);
   private final Signer signer = mock(Signer.class);
   private final ValidatorTimingChannel channel = mock(ValidatorTimingChannel.class);
-  private final ActiveKeyManager keyManager = new ActiveKeyManager(validatorLoader, channel);
+  private final SlashingProtector slashingProtector = mock(SlashingProtector.class);
+  private final ActiveKeyManager keyManager =
+      new ActiveKeyManager(validatorLoader, channel, slashingProtector);
   private final DoppelgangerDetector doppelgangerDetector = mock(DoppelgangerDetector.class);
   private final DoppelgangerDetectionAction doppelgangerDetectionAction =
       mock(DoppelgangerDetectionAction.class);
@@ -206,6 +217,46 @@ class ActiveKeyManagerTest {
     verify(channel, never()).onValidatorsAdded();
   }
 
+  @Test
+  void deleteValidators_shouldExportSignaturesNotYetCompacted(@TempDir final Path tempDir)
+      throws Exception {
+    final Bytes32 genesisValidatorsRoot = dataStructureUtil.randomBytes32();
+    final GroupCommitSlashingProtector groupCommitProtector =
+        new GroupCommitSlashingProtector(
+            SyncDataAccessor.create(tempDir), tempDir, DelayedExecutorAsyncRunner.create());
+    final Validator activeValidator = mock(Validator.class);
+    when(activeValidator.getPublicKey()).thenReturn(publicKey);
+    when(activeValidator.getSigner()).thenReturn(signer);
+    when(validatorLoader.getOwnedValidators())
+        .thenReturn(new OwnedValidators(Map.of(publicKey, activeValidator)));
+    when(validatorLoader.deleteLocalMutableValidator(publicKey))
+        .thenReturn(DeleteKeyResult.success());
+    final ActiveKeyManager groupCommitKeyManager =
+        new ActiveKeyManager(validatorLoader, channel, groupCommitProtector);
+
+    try {
+      assertThat(
+              groupCommitProtector.maySignAttestation(
+                  publicKey, genesisValidatorsRoot, UInt64.valueOf(4), UInt64.valueOf(6)))
+          .succeedsWithin(Duration.ofSeconds(5))
+          .isEqualTo(true);
+
+      final DeleteKeysResponse response =
+          groupCommitKeyManager.deleteValidators(List.of(publicKey), tempDir);
+
+      assertThat(response.getData().get(0).getStatus()).isEqualTo(DeletionStatus.DELETED);
+      final SlashingProtectionInterchangeFormat export =
+          new JsonProvider()
+              .jsonToObject(
+                  response.getSlashingProtection(), SlashingProtectionInterchangeFormat.class);
+      assertThat(export.data).hasSize(1);
+      assertThat(export.data.get(0).signedAttestations)
+          .containsExactly(new SignedAttestation(UInt64.valueOf(4), UInt64.valueOf(6), null));
+    } finally {
+      groupCommitProtector.close();
+    }
+  }
+
   @Test
   void deleteValidators_shouldRejectRequestToDeleteReadOnlyValidator(@TempDir final Path tempDir) {
     final Validator activeValidator = mock(Validator.class);
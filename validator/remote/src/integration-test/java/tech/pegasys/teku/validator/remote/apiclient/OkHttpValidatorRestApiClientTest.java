@@ -13,7 +13,6 @@
 
 package tech.pegasys.teku.validator.remote.apiclient;
 
-import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -21,7 +20,6 @@ import static org.junit.jupiter.api.Assertions.fail;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_ACCEPTED;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_INTERNAL_SERVER_ERROR;
-import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NO_CONTENT;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 
@@ -45,21 +43,14 @@ import org.junit.jupiter.params.provider.ValueSource;
 import tech.pegasys.teku.api.exceptions.RemoteServiceNotAvailableException;
 import tech.pegasys.teku.api.response.v1.beacon.GetGenesisResponse;
 import tech.pegasys.teku.api.response.v1.beacon.GetStateValidatorsResponse;
-import tech.pegasys.teku.api.response.v1.beacon.PostDataFailure;
-import tech.pegasys.teku.api.response.v1.beacon.PostDataFailureResponse;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse;
-import tech.pegasys.teku.api.response.v1.validator.GetAggregatedAttestationResponse;
 import tech.pegasys.teku.api.response.v1.validator.GetNewBlindedBlockResponse;
-import tech.pegasys.teku.api.response.v1.validator.GetSyncCommitteeContributionResponse;
 import tech.pegasys.teku.api.response.v2.validator.GetNewBlockResponseV2;
-import tech.pegasys.teku.api.schema.Attestation;
 import tech.pegasys.teku.api.schema.BLSSignature;
 import tech.pegasys.teku.api.schema.BeaconBlock;
-import tech.pegasys.teku.api.schema.SignedAggregateAndProof;
 import tech.pegasys.teku.api.schema.SignedBeaconBlock;
 import tech.pegasys.teku.api.schema.SignedVoluntaryExit;
 import tech.pegasys.teku.api.schema.SubnetSubscription;
-import tech.pegasys.teku.api.schema.altair.SyncCommitteeContribution;
 import tech.pegasys.teku.api.schema.bellatrix.BlindedBlockBellatrix;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.provider.JsonProvider;
@@ -382,188 +373,6 @@ class OkHttpValidatorRestApiClientTest {
     assertThat(request.getBody().readString(StandardCharsets.UTF_8)).isEqualTo(asJson(exit));
   }
 
-  @Test
-  public void sendSignedAttestation_MakesExpectedRequest() throws Exception {
-    final Attestation attestation = schemaObjects.attestation();
-
-    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
-
-    apiClient.sendSignedAttestations(List.of(attestation));
-
-    RecordedRequest request = mockWebServer.takeRequest();
-
-    assertThat(request.getMethod()).isEqualTo("POST");
-    assertThat(request.getPath())
-        .contains(ValidatorApiMethod.SEND_SIGNED_ATTESTATION.getPath(emptyMap()));
-    assertThat(request.getBody().readString(StandardCharsets.UTF_8))
-        .isEqualTo(asJson(List.of(attestation)));
-  }
-
-  @Test
-  public void sendSignedAttestation_WhenBadParameters_ThrowsIllegalArgumentException() {
-    final Attestation attestation = schemaObjects.attestation();
-
-    final PostDataFailureResponse response =
-        new PostDataFailureResponse(
-            SC_BAD_REQUEST, "Computer said no", List.of(new PostDataFailure(UInt64.ZERO, "Bad")));
-    mockWebServer.enqueue(
-        new MockResponse().setResponseCode(SC_BAD_REQUEST).setBody(asJson(response)));
-
-    assertThat(apiClient.sendSignedAttestations(List.of(attestation)))
-        .isPresent()
-        .get()
-        .usingRecursiveComparison()
-        .isEqualTo(response);
-  }
-
-  @Test
-  public void sendSignedAttestation_WhenServerError_ThrowsRuntimeException() {
-    final Attestation attestation = schemaObjects.attestation();
-
-    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_INTERNAL_SERVER_ERROR));
-
-    assertThatThrownBy(() -> apiClient.sendSignedAttestations(List.of(attestation)))
-        .isInstanceOf(RuntimeException.class)
-        .hasMessageContaining("Unexpected response from Beacon Node API");
-  }
-
-  @Test
-  public void createAggregate_MakesExpectedRequest() throws Exception {
-    final UInt64 slot = UInt64.valueOf(323);
-    final Bytes32 attestationHashTreeRoot = Bytes32.random();
-
-    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_NO_CONTENT));
-
-    apiClient.createAggregate(slot, attestationHashTreeRoot);
-
-    RecordedRequest request = mockWebServer.takeRequest();
-
-    assertThat(request.getMethod()).isEqualTo("GET");
-    assertThat(request.getPath()).contains(ValidatorApiMethod.GET_AGGREGATE.getPath(emptyMap()));
-    assertThat(request.getRequestUrl().queryParameter("slot")).isEqualTo(slot.toString());
-    assertThat(request.getRequestUrl().queryParameter("attestation_data_root"))
-        .isEqualTo(attestationHashTreeRoot.toHexString());
-  }
-
-  @Test
-  public void createAggregate_WhenBadParameters_ThrowsIllegalArgumentException() {
-    final Bytes32 attestationHashTreeRoot = Bytes32.random();
-
-    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_BAD_REQUEST));
-
-    assertThatThrownBy(() -> apiClient.createAggregate(UInt64.ONE, attestationHashTreeRoot))
-        .isInstanceOf(IllegalArgumentException.class);
-  }
-
-  @Test
-  public void createAggregate_WhenNotFound_ReturnsEmpty() {
-    final Bytes32 attestationHashTreeRoot = Bytes32.random();
-
-    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_NOT_FOUND));
-
-    assertThat(apiClient.createAggregate(UInt64.ONE, attestationHashTreeRoot)).isEmpty();
-  }
-
-  @Test
-  public void createAggregate_WhenServerError_ThrowsRuntimeException() {
-    final Bytes32 attestationHashTreeRoot = Bytes32.random();
-
-    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_INTERNAL_SERVER_ERROR));
-
-    assertThatThrownBy(() -> apiClient.createAggregate(UInt64.ONE, attestationHashTreeRoot))
-        .isInstanceOf(RuntimeException.class)
-        .hasMessageContaining("Unexpected response from Beacon Node API");
-  }
-
-  @Test
-  public void createAggregate_WhenSuccess_ReturnsAttestation() {
-    final Bytes32 attestationHashTreeRoot = Bytes32.random();
-    final Attestation expectedAttestation = schemaObjects.attestation();
-
-    mockWebServer.enqueue(
-        new MockResponse()
-            .setResponseCode(SC_OK)
-            .setBody(asJson(new GetAggregatedAttestationResponse(expectedAttestation))));
-
-    final Optional<Attestation> attestation =
-        apiClient.createAggregate(UInt64.ONE, attestationHashTreeRoot);
-
-    assertThat(attestation).isPresent();
-    assertThat(attestation.get()).usingRecursiveComparison().isEqualTo(expectedAttestation);
-  }
-
-  @Test
-  public void createSyncCommitteeContribution_WhenSuccess_ReturnsContribution() {
-    final SyncCommitteeContribution contribution =
-        schemaObjects.syncCommitteeContribution(UInt64.ONE);
-
-    mockWebServer.enqueue(
-        new MockResponse()
-            .setResponseCode(SC_OK)
-            .setBody(asJson(new GetSyncCommitteeContributionResponse(contribution))));
-
-    final Optional<SyncCommitteeContribution> response =
-        apiClient.createSyncCommitteeContribution(
-            contribution.slot,
-            contribution.subcommitteeIndex.intValue(),
-            contribution.beaconBlockRoot);
-
-    assertThat(response).isPresent();
-    assertThat(response.get()).usingRecursiveComparison().isEqualTo(contribution);
-  }
-
-  @Test
-  public void createSyncCommitteeContribution_WhenNotFound_ReturnsEmpty() {
-    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_NOT_FOUND));
-
-    assertThat(apiClient.createSyncCommitteeContribution(UInt64.ONE, 0, Bytes32.ZERO)).isEmpty();
-  }
-
-  @Test
-  public void sendAggregateAndProofs_MakesExpectedRequest() throws Exception {
-    final SignedAggregateAndProof signedAggregateAndProof = schemaObjects.signedAggregateAndProof();
-
-    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
-
-    apiClient.sendAggregateAndProofs(List.of(signedAggregateAndProof));
-
-    RecordedRequest request = mockWebServer.takeRequest();
-
-    assertThat(request.getMethod()).isEqualTo("POST");
-    assertThat(request.getPath())
-        .contains(ValidatorApiMethod.SEND_SIGNED_AGGREGATE_AND_PROOF.getPath(emptyMap()));
-    assertThat(request.getBody().readString(StandardCharsets.UTF_8))
-        .isEqualTo(asJson(List.of(signedAggregateAndProof)));
-  }
-
-  @Test
-  public void sendAggregateAndProofs_WhenBadParameters_ReturnsErrorResponse() {
-    final SignedAggregateAndProof signedAggregateAndProof = schemaObjects.signedAggregateAndProof();
-
-    final PostDataFailureResponse response =
-        new PostDataFailureResponse(
-            SC_BAD_REQUEST, "Computer said no", List.of(new PostDataFailure(UInt64.ZERO, "Bad")));
-    mockWebServer.enqueue(
-        new MockResponse().setResponseCode(SC_BAD_REQUEST).setBody(asJson(response)));
-
-    assertThat(apiClient.sendAggregateAndProofs(List.of(signedAggregateAndProof)))
-        .isPresent()
-        .get()
-        .usingRecursiveComparison()
-        .isEqualTo(response);
-  }
-
-  @Test
-  public void sendAggregateAndProofs_WhenServerError_ThrowsRuntimeException() {
-    final SignedAggregateAndProof signedAggregateAndProof = schemaObjects.signedAggregateAndProof();
-
-    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_INTERNAL_SERVER_ERROR));
-
-    assertThatThrownBy(() -> apiClient.sendAggregateAndProofs(List.of(signedAggregateAndProof)))
-        .isInstanceOf(RuntimeException.class)
-        .hasMessageContaining("Unexpected response from Beacon Node API");
-  }
-
   @Test
   public void subscribeToBeaconCommitteeForAggregation_MakesExpectedRequest() throws Exception {
     final int committeeIndex1 = 1;
@@ -695,28 +504,6 @@ class OkHttpValidatorRestApiClientTest {
     assertThatThrownBy(() -> apiClient.getGenesis()).isInstanceOf(RateLimitedException.class);
   }
 
-  @Test
-  void sendSyncCommitteeMessages_shouldReturnEmptyWhenResponseIsOk() {
-    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
-
-    assertThat(apiClient.sendSyncCommitteeMessages(emptyList())).isEmpty();
-  }
-
-  @Test
-  void sendSyncCommitteeMessages_shouldReturnErrorsFromBadResponse() {
-    final PostDataFailureResponse response =
-        new PostDataFailureResponse(
-            SC_BAD_REQUEST, "Computer said no", List.of(new PostDataFailure(UInt64.ZERO, "Bad")));
-    mockWebServer.enqueue(
-        new MockResponse().setResponseCode(SC_BAD_REQUEST).setBody(asJson(response)));
-
-    assertThat(apiClient.sendSyncCommitteeMessages(emptyList()))
-        .isPresent()
-        .get()
-        .usingRecursiveComparison()
-        .isEqualTo(response);
-  }
-
   private String asJson(Object object) {
     try {
       return jsonProvider.objectToJSON(object);
@@ -55,10 +55,10 @@ class OkHttpValidatorTypeDefClientTest extends AbstractTypeDefRequestTestBase {
     super.beforeEach(specContext);
     okHttpValidatorTypeDefClient =
         new OkHttpValidatorTypeDefClient(
-            okHttpClient, mockWebServer.url("/"), specContext.getSpec(), false);
+            okHttpClient, mockWebServer.url("/"), specContext.getSpec(), false, false);
     okHttpValidatorTypeDefClientWithPreferredSsz =
         new OkHttpValidatorTypeDefClient(
-            okHttpClient, mockWebServer.url("/"), specContext.getSpec(), true);
+            okHttpClient, mockWebServer.url("/"), specContext.getSpec(), true, true);
     sszRegisterValidatorsRequest =
         new RegisterValidatorsRequest(mockWebServer.url("/"), okHttpClient, true);
   }
@@ -0,0 +1,122 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.remote.typedef.handlers;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_INTERNAL_SERVER_ERROR;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestTemplate;
+import tech.pegasys.teku.api.exceptions.RemoteServiceNotAvailableException;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.TestSpecContext;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.networks.Eth2Network;
+import tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod;
+import tech.pegasys.teku.validator.remote.typedef.AbstractTypeDefRequestTestBase;
+
+@TestSpecContext(milestone = SpecMilestone.PHASE0, network = Eth2Network.MINIMAL)
+class CreateAggregateAttestationRequestTest extends AbstractTypeDefRequestTestBase {
+
+  private CreateAggregateAttestationRequest request;
+  private CreateAggregateAttestationRequest sszRequest;
+
+  @BeforeEach
+  void setupRequest() {
+    request =
+        new CreateAggregateAttestationRequest(mockWebServer.url("/"), okHttpClient, spec, false);
+    sszRequest =
+        new CreateAggregateAttestationRequest(mockWebServer.url("/"), okHttpClient, spec, true);
+  }
+
+  @TestTemplate
+  public void createAggregate_MakesExpectedRequest() throws Exception {
+    final UInt64 slot = UInt64.ONE;
+    final Bytes32 attestationHashTreeRoot = Bytes32.random();
+
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_NOT_FOUND));
+
+    request.createAggregate(slot, attestationHashTreeRoot);
+
+    final RecordedRequest recordedRequest = mockWebServer.takeRequest();
+
+    assertThat(recordedRequest.getMethod()).isEqualTo("GET");
+    assertThat(recordedRequest.getPath())
+        .contains(ValidatorApiMethod.GET_AGGREGATE.getPath(emptyMap()));
+    assertThat(recordedRequest.getRequestUrl().queryParameter("slot")).isEqualTo(slot.toString());
+    assertThat(recordedRequest.getRequestUrl().queryParameter("attestation_data_root"))
+        .isEqualTo(attestationHashTreeRoot.toHexString());
+  }
+
+  @TestTemplate
+  public void createAggregate_WhenBadParameters_ThrowsIllegalArgumentException() {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_BAD_REQUEST));
+
+    assertThatThrownBy(() -> request.createAggregate(UInt64.ONE, Bytes32.random()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @TestTemplate
+  public void createAggregate_WhenNotFound_ReturnsEmpty() {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_NOT_FOUND));
+
+    assertThat(request.createAggregate(UInt64.ONE, Bytes32.random())).isEmpty();
+  }
+
+  @TestTemplate
+  public void createAggregate_WhenServerError_ThrowsRemoteServiceNotAvailableException() {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_INTERNAL_SERVER_ERROR));
+
+    assertThatThrownBy(() -> request.createAggregate(UInt64.ONE, Bytes32.random()))
+        .isInstanceOf(RemoteServiceNotAvailableException.class)
+        .hasMessageContaining("Server error from Beacon Node API");
+  }
+
+  @TestTemplate
+  public void createAggregate_WhenSuccess_ReturnsAttestation() throws Exception {
+    final Attestation expectedAttestation = dataStructureUtil.randomAttestation();
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_OK)
+            .setBody(serializeSszObjectToJsonWithDataWrapper(expectedAttestation)));
+
+    assertThat(request.createAggregate(UInt64.ONE, expectedAttestation.hashTreeRoot()))
+        .contains(expectedAttestation);
+  }
+
+  @TestTemplate
+  public void createAggregate_WhenSszPreferred_ReturnsSszAttestation() throws Exception {
+    final Attestation expectedAttestation = dataStructureUtil.randomAttestation();
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_OK)
+            .setHeader("Content-Type", OCTET_STREAM_CONTENT_TYPE)
+            .setBody(new Buffer().write(expectedAttestation.sszSerialize().toArrayUnsafe())));
+
+    assertThat(sszRequest.createAggregate(UInt64.ONE, expectedAttestation.hashTreeRoot()))
+        .contains(expectedAttestation);
+    assertThat(mockWebServer.takeRequest().getHeader("Accept"))
+        .isEqualTo("application/octet-stream;q=0.9, application/json;q=0.4");
+  }
+}
@@ -24,6 +24,7 @@ import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import java.util.Optional;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestTemplate;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -39,10 +40,12 @@ import tech.pegasys.teku.validator.remote.typedef.AbstractTypeDefRequestTestBase
 class CreateAttestationDataRequestTest extends AbstractTypeDefRequestTestBase {
 
   private CreateAttestationDataRequest request;
+  private CreateAttestationDataRequest sszRequest;
 
   @BeforeEach
   void setupRequest() {
-    request = new CreateAttestationDataRequest(mockWebServer.url("/"), okHttpClient);
+    request = new CreateAttestationDataRequest(mockWebServer.url("/"), okHttpClient, false);
+    sszRequest = new CreateAttestationDataRequest(mockWebServer.url("/"), okHttpClient, true);
   }
 
   @TestTemplate
@@ -103,4 +106,22 @@ class CreateAttestationDataRequestTest extends AbstractTypeDefRequestTestBase {
 
     assertThat(attestationData.get()).isEqualTo(expectedAttestationData);
   }
+
+  @TestTemplate
+  public void createAttestationData_WhenSszPreferred_ReturnsSszAttestationData()
+      throws Exception {
+    final AttestationData expectedAttestationData = dataStructureUtil.randomAttestationData();
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_OK)
+            .setHeader("Content-Type", OCTET_STREAM_CONTENT_TYPE)
+            .setBody(new Buffer().write(expectedAttestationData.sszSerialize().toArrayUnsafe())));
+
+    final Optional<AttestationData> attestationData =
+        sszRequest.createAttestationData(UInt64.ONE, 1);
+
+    assertThat(attestationData).contains(expectedAttestationData);
+    assertThat(mockWebServer.takeRequest().getHeader("Accept"))
+        .isEqualTo("application/octet-stream;q=0.9, application/json;q=0.4");
+  }
 }
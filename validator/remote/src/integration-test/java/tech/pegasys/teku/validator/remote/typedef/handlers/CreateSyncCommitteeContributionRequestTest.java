@@ -0,0 +1,89 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.remote.typedef.handlers;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestTemplate;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.TestSpecContext;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeContribution;
+import tech.pegasys.teku.spec.networks.Eth2Network;
+import tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod;
+import tech.pegasys.teku.validator.remote.typedef.AbstractTypeDefRequestTestBase;
+
+@TestSpecContext(milestone = SpecMilestone.ALTAIR, network = Eth2Network.MINIMAL)
+class CreateSyncCommitteeContributionRequestTest extends AbstractTypeDefRequestTestBase {
+
+  private CreateSyncCommitteeContributionRequest request;
+
+  @BeforeEach
+  void setupRequest() {
+    request =
+        new CreateSyncCommitteeContributionRequest(
+            mockWebServer.url("/"), okHttpClient, spec, false);
+  }
+
+  @TestTemplate
+  public void createSyncCommitteeContribution_MakesExpectedRequest() throws Exception {
+    final UInt64 slot = UInt64.ONE;
+    final Bytes32 beaconBlockRoot = Bytes32.random();
+
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_NOT_FOUND));
+
+    request.createSyncCommitteeContribution(slot, 2, beaconBlockRoot);
+
+    final RecordedRequest recordedRequest = mockWebServer.takeRequest();
+
+    assertThat(recordedRequest.getMethod()).isEqualTo("GET");
+    assertThat(recordedRequest.getPath())
+        .contains(ValidatorApiMethod.GET_SYNC_COMMITTEE_CONTRIBUTION.getPath(emptyMap()));
+    assertThat(recordedRequest.getRequestUrl().queryParameter("slot")).isEqualTo(slot.toString());
+    assertThat(recordedRequest.getRequestUrl().queryParameter("subcommittee_index")).isEqualTo("2");
+    assertThat(recordedRequest.getRequestUrl().queryParameter("beacon_block_root"))
+        .isEqualTo(beaconBlockRoot.toHexString());
+  }
+
+  @TestTemplate
+  public void createSyncCommitteeContribution_WhenNotFound_ReturnsEmpty() {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_NOT_FOUND));
+
+    assertThat(request.createSyncCommitteeContribution(UInt64.ONE, 0, Bytes32.random())).isEmpty();
+  }
+
+  @TestTemplate
+  public void createSyncCommitteeContribution_WhenSuccess_ReturnsContribution() throws Exception {
+    final SyncCommitteeContribution contribution =
+        dataStructureUtil.randomSyncCommitteeContribution(UInt64.ONE);
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_OK)
+            .setBody(serializeSszObjectToJsonWithDataWrapper(contribution)));
+
+    assertThat(
+            request.createSyncCommitteeContribution(
+                contribution.getSlot(),
+                contribution.getSubcommitteeIndex().intValue(),
+                contribution.getBeaconBlockRoot()))
+        .contains(contribution);
+  }
+}
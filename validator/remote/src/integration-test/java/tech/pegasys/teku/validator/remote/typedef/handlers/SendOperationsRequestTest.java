@@ -0,0 +1,169 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.remote.typedef.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_INTERNAL_SERVER_ERROR;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_UNSUPPORTED_MEDIA_TYPE;
+import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_SIGNED_AGGREGATE_AND_PROOF;
+import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_SIGNED_ATTESTATION;
+
+import java.util.List;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestTemplate;
+import tech.pegasys.teku.api.exceptions.RemoteServiceNotAvailableException;
+import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.TestSpecContext;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof;
+import tech.pegasys.teku.spec.networks.Eth2Network;
+import tech.pegasys.teku.spec.schemas.ApiSchemas;
+import tech.pegasys.teku.validator.api.SubmitDataError;
+import tech.pegasys.teku.validator.remote.typedef.AbstractTypeDefRequestTestBase;
+
+@TestSpecContext(milestone = SpecMilestone.PHASE0, network = Eth2Network.MINIMAL)
+class SendOperationsRequestTest extends AbstractTypeDefRequestTestBase {
+
+  private AttestationSchema attestationSchema;
+  private List<Attestation> attestations;
+
+  @BeforeEach
+  void setupRequest() {
+    attestationSchema = schemaDefinitions.getAttestationSchema();
+    attestations =
+        List.of(dataStructureUtil.randomAttestation(), dataStructureUtil.randomAttestation());
+  }
+
+  @TestTemplate
+  void submit_sendsSszWhenPreferred() throws Exception {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+
+    final List<SubmitDataError> errors =
+        createRequest(true).submit(attestations, attestationSchema);
+
+    assertThat(errors).isEmpty();
+    final RecordedRequest recordedRequest = mockWebServer.takeRequest();
+    assertThat(recordedRequest.getPath()).isEqualTo("/eth/v1/beacon/pool/attestations");
+    assertThat(recordedRequest.getHeader("Content-Type")).isEqualTo(OCTET_STREAM_CONTENT_TYPE);
+    assertThat(
+            ApiSchemas.createOperationsListSchema(attestationSchema)
+                .sszDeserialize(Bytes.wrap(recordedRequest.getBody().readByteArray()))
+                .asList())
+        .isEqualTo(attestations);
+  }
+
+  @TestTemplate
+  void submit_sendsJsonWhenSszNotPreferred() throws Exception {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+
+    createRequest(false).submit(attestations, attestationSchema);
+
+    final RecordedRequest recordedRequest = mockWebServer.takeRequest();
+    assertThat(recordedRequest.getHeader("Content-Type")).isEqualTo(JSON_CONTENT_TYPE);
+    assertThat(
+            JsonUtil.parse(
+                recordedRequest.getBody().readUtf8(),
+                DeserializableTypeDefinition.listOf(attestationSchema.getJsonTypeDefinition())))
+        .isEqualTo(attestations);
+  }
+
+  @TestTemplate
+  void submit_fallsBackToJsonIfSszNotSupported() throws Exception {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_UNSUPPORTED_MEDIA_TYPE));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+    final SendOperationsRequest<Attestation> request = createRequest(true);
+
+    request.submit(attestations, attestationSchema);
+
+    assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+    assertThat(mockWebServer.takeRequest().getHeader("Content-Type"))
+        .isEqualTo(OCTET_STREAM_CONTENT_TYPE);
+    assertThat(mockWebServer.takeRequest().getHeader("Content-Type"))
+        .isEqualTo(JSON_CONTENT_TYPE);
+
+    // subsequent requests default immediately to json
+    request.submit(attestations, attestationSchema);
+
+    assertThat(mockWebServer.getRequestCount()).isEqualTo(3);
+    assertThat(mockWebServer.takeRequest().getHeader("Content-Type"))
+        .isEqualTo(JSON_CONTENT_TYPE);
+  }
+
+  @TestTemplate
+  void submit_returnsFailuresFromBadRequest() {
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_BAD_REQUEST)
+            .setBody(
+                "{\"code\":400,\"message\":\"Oh no\","
+                    + "\"failures\":[{\"index\":\"1\",\"message\":\"Bad\"}]}"));
+
+    assertThat(createRequest(true).submit(attestations, attestationSchema))
+        .containsExactly(new SubmitDataError(UInt64.ONE, "Bad"));
+  }
+
+  @TestTemplate
+  void submit_throwsIllegalArgumentExceptionWhenBadRequestHasNoFailures() {
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_BAD_REQUEST)
+            .setBody("{\"code\":400,\"message\":\"Invalid request\"}"));
+
+    assertThatThrownBy(() -> createRequest(true).submit(attestations, attestationSchema))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Invalid request");
+  }
+
+  @TestTemplate
+  void submit_throwsRemoteServiceNotAvailableExceptionWhenServerError() {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_INTERNAL_SERVER_ERROR));
+
+    assertThatThrownBy(() -> createRequest(false).submit(attestations, attestationSchema))
+        .isInstanceOf(RemoteServiceNotAvailableException.class)
+        .hasMessageContaining("Server error from Beacon Node API");
+  }
+
+  @TestTemplate
+  void submit_sendsAggregateAndProofsToAggregateEndpoint() throws Exception {
+    final List<SignedAggregateAndProof> aggregateAndProofs =
+        List.of(dataStructureUtil.randomSignedAggregateAndProof());
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+
+    final List<SubmitDataError> errors =
+        new SendOperationsRequest<SignedAggregateAndProof>(
+                mockWebServer.url("/"), okHttpClient, SEND_SIGNED_AGGREGATE_AND_PROOF, false)
+            .submit(aggregateAndProofs, schemaDefinitions.getSignedAggregateAndProofSchema());
+
+    assertThat(errors).isEmpty();
+    final RecordedRequest recordedRequest = mockWebServer.takeRequest();
+    assertThat(recordedRequest.getMethod()).isEqualTo("POST");
+    assertThat(recordedRequest.getPath()).isEqualTo("/eth/v1/validator/aggregate_and_proofs");
+  }
+
+  private SendOperationsRequest<Attestation> createRequest(final boolean preferSszEncoding) {
+    return new SendOperationsRequest<>(
+        mockWebServer.url("/"), okHttpClient, SEND_SIGNED_ATTESTATION, preferSszEncoding);
+  }
+}
@@ -13,7 +13,6 @@
 
 package tech.pegasys.teku.validator.remote;
 
-import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.toMap;
 
@@ -36,12 +35,10 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.api.migrated.ValidatorLivenessAtEpoch;
-import tech.pegasys.teku.api.response.v1.beacon.PostDataFailureResponse;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
 import tech.pegasys.teku.api.response.v1.validator.PostSyncDutiesResponse;
 import tech.pegasys.teku.api.response.v1.validator.PostValidatorLivenessResponse;
-import tech.pegasys.teku.api.schema.altair.ContributionAndProof;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -251,15 +248,7 @@ public class RemoteValidatorApiHandler implements RemoteValidatorApiChannel {
   @Override
   public SafeFuture<List<SubmitDataError>> sendSignedAttestations(
       final List<Attestation> attestations) {
-    final List<tech.pegasys.teku.api.schema.Attestation> schemaAttestations =
-        attestations.stream().map(tech.pegasys.teku.api.schema.Attestation::new).toList();
-
-    return sendRequest(
-        () ->
-            apiClient
-                .sendSignedAttestations(schemaAttestations)
-                .map(this::convertPostDataFailureResponseToSubmitDataErrors)
-                .orElse(emptyList()));
+    return sendRequest(() -> typeDefClient.sendSignedAttestations(attestations));
   }
 
   @Override
@@ -281,74 +270,20 @@ public class RemoteValidatorApiHandler implements RemoteValidatorApiChannel {
   @Override
   public SafeFuture<List<SubmitDataError>> sendSyncCommitteeMessages(
       final List<SyncCommitteeMessage> syncCommitteeMessages) {
-    return sendRequest(
-        () ->
-            apiClient
-                .sendSyncCommitteeMessages(
-                    syncCommitteeMessages.stream()
-                        .map(
-                            signature ->
-                                new tech.pegasys.teku.api.schema.altair.SyncCommitteeMessage(
-                                    signature.getSlot(),
-                                    signature.getBeaconBlockRoot(),
-                                    signature.getValidatorIndex(),
-                                    new tech.pegasys.teku.api.schema.BLSSignature(
-                                        signature.getSignature())))
-                        .toList())
-                .map(this::convertPostDataFailureResponseToSubmitDataErrors)
-                .orElse(emptyList()));
+    return sendRequest(() -> typeDefClient.sendSyncCommitteeMessages(syncCommitteeMessages));
   }
 
   @Override
   public SafeFuture<Void> sendSignedContributionAndProofs(
       final Collection<SignedContributionAndProof> signedContributionAndProofs) {
-    final List<tech.pegasys.teku.api.schema.altair.SignedContributionAndProof>
-        signedContributionsRestSchema =
-            signedContributionAndProofs.stream().map(this::asSignedContributionAndProofs).toList();
-    return sendRequest(() -> apiClient.sendContributionAndProofs(signedContributionsRestSchema));
-  }
-
-  private tech.pegasys.teku.api.schema.altair.SignedContributionAndProof
-      asSignedContributionAndProofs(final SignedContributionAndProof signedContributionAndProof) {
-    return new tech.pegasys.teku.api.schema.altair.SignedContributionAndProof(
-        asContributionAndProof(signedContributionAndProof.getMessage()),
-        new tech.pegasys.teku.api.schema.BLSSignature(signedContributionAndProof.getSignature()));
-  }
-
-  private ContributionAndProof asContributionAndProof(
-      final tech.pegasys.teku.spec.datastructures.operations.versions.altair.ContributionAndProof
-          message) {
-    return new ContributionAndProof(
-        message.getAggregatorIndex(),
-        new tech.pegasys.teku.api.schema.BLSSignature(message.getSelectionProof()),
-        asSyncCommitteeContribution(message.getContribution()));
-  }
-
-  private tech.pegasys.teku.api.schema.altair.SyncCommitteeContribution asSyncCommitteeContribution(
-      final SyncCommitteeContribution contribution) {
-    return new tech.pegasys.teku.api.schema.altair.SyncCommitteeContribution(
-        contribution.getSlot(),
-        contribution.getBeaconBlockRoot(),
-        contribution.getSubcommitteeIndex(),
-        contribution.getAggregationBits().sszSerialize(),
-        new tech.pegasys.teku.api.schema.BLSSignature(contribution.getSignature()));
-  }
-
-  private List<SubmitDataError> convertPostDataFailureResponseToSubmitDataErrors(
-      final PostDataFailureResponse postDataFailureResponse) {
-    return postDataFailureResponse.failures.stream()
-        .map(i -> new SubmitDataError(i.index, i.message))
-        .toList();
+    return sendRequest(
+        () -> typeDefClient.sendContributionAndProofs(signedContributionAndProofs));
   }
 
   @Override
   public SafeFuture<Optional<Attestation>> createAggregate(
       final UInt64 slot, final Bytes32 attestationHashTreeRoot) {
-    return sendRequest(
-        () ->
-            apiClient
-                .createAggregate(slot, attestationHashTreeRoot)
-                .map(attestation -> attestation.asInternalAttestation(spec)));
+    return sendRequest(() -> typeDefClient.createAggregate(slot, attestationHashTreeRoot));
   }
 
   @Override
@@ -356,26 +291,14 @@ public class RemoteValidatorApiHandler implements RemoteValidatorApiChannel {
       final UInt64 slot, final int subcommitteeIndex, final Bytes32 beaconBlockRoot) {
     return sendRequest(
         () ->
-            apiClient
-                .createSyncCommitteeContribution(slot, subcommitteeIndex, beaconBlockRoot)
-                .map(
-                    contribution ->
-                        tech.pegasys.teku.api.schema.altair.SyncCommitteeContribution
-                            .asInternalSyncCommitteeContribution(spec, contribution)));
+            typeDefClient.createSyncCommitteeContribution(
+                slot, subcommitteeIndex, beaconBlockRoot));
   }
 
   @Override
   public SafeFuture<List<SubmitDataError>> sendAggregateAndProofs(
       final List<SignedAggregateAndProof> aggregateAndProofs) {
-    return sendRequest(
-        () ->
-            apiClient
-                .sendAggregateAndProofs(
-                    aggregateAndProofs.stream()
-                        .map(tech.pegasys.teku.api.schema.SignedAggregateAndProof::new)
-                        .toList())
-                .map(this::convertPostDataFailureResponseToSubmitDataErrors)
-                .orElse(emptyList()));
+    return sendRequest(() -> typeDefClient.sendAggregateAndProofs(aggregateAndProofs));
   }
 
   @Override
@@ -491,11 +414,13 @@ public class RemoteValidatorApiHandler implements RemoteValidatorApiChannel {
       final OkHttpClient httpClient,
       final Spec spec,
       final boolean preferSszBlockEncoding,
+      final boolean preferSszOperationEncoding,
       final AsyncRunner asyncRunner) {
     final OkHttpValidatorRestApiClient apiClient =
         new OkHttpValidatorRestApiClient(endpoint, httpClient);
     final OkHttpValidatorTypeDefClient typeDefClient =
-        new OkHttpValidatorTypeDefClient(httpClient, endpoint, spec, preferSszBlockEncoding);
+        new OkHttpValidatorTypeDefClient(
+            httpClient, endpoint, spec, preferSszBlockEncoding, preferSszOperationEncoding);
     return new RemoteValidatorApiHandler(endpoint, spec, apiClient, typeDefClient, asyncRunner);
   }
 }
@@ -14,26 +14,19 @@
 package tech.pegasys.teku.validator.remote.apiclient;
 
 import static java.util.Collections.emptyMap;
-import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
-import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_AGGREGATE;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_ATTESTATION_DUTIES;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_BLOCK_HEADER;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_CONFIG_SPEC;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_GENESIS;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_PROPOSER_DUTIES;
-import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_SYNC_COMMITTEE_CONTRIBUTION;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_SYNC_COMMITTEE_DUTIES;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_UNSIGNED_BLINDED_BLOCK;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_UNSIGNED_BLOCK_V2;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_VALIDATORS;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.PREPARE_BEACON_PROPOSER;
-import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_CONTRIBUTION_AND_PROOF;
-import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_SIGNED_AGGREGATE_AND_PROOF;
-import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_SIGNED_ATTESTATION;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_SIGNED_BLINDED_BLOCK;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_SIGNED_BLOCK;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_SIGNED_VOLUNTARY_EXIT;
-import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_SYNC_COMMITTEE_MESSAGES;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_VALIDATOR_LIVENESS;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SUBSCRIBE_TO_BEACON_COMMITTEE_SUBNET;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SUBSCRIBE_TO_PERSISTENT_SUBNETS;
@@ -67,24 +60,17 @@ import tech.pegasys.teku.api.response.v1.beacon.GetStateValidatorsResponse;
 import tech.pegasys.teku.api.response.v1.beacon.PostDataFailureResponse;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse;
 import tech.pegasys.teku.api.response.v1.config.GetSpecResponse;
-import tech.pegasys.teku.api.response.v1.validator.GetAggregatedAttestationResponse;
 import tech.pegasys.teku.api.response.v1.validator.GetNewBlindedBlockResponse;
 import tech.pegasys.teku.api.response.v1.validator.GetProposerDutiesResponse;
-import tech.pegasys.teku.api.response.v1.validator.GetSyncCommitteeContributionResponse;
 import tech.pegasys.teku.api.response.v1.validator.PostAttesterDutiesResponse;
 import tech.pegasys.teku.api.response.v1.validator.PostSyncDutiesResponse;
 import tech.pegasys.teku.api.response.v1.validator.PostValidatorLivenessResponse;
 import tech.pegasys.teku.api.response.v2.validator.GetNewBlockResponseV2;
-import tech.pegasys.teku.api.schema.Attestation;
 import tech.pegasys.teku.api.schema.BLSSignature;
 import tech.pegasys.teku.api.schema.BeaconBlock;
-import tech.pegasys.teku.api.schema.SignedAggregateAndProof;
 import tech.pegasys.teku.api.schema.SignedBeaconBlock;
 import tech.pegasys.teku.api.schema.SignedVoluntaryExit;
 import tech.pegasys.teku.api.schema.SubnetSubscription;
-import tech.pegasys.teku.api.schema.altair.SignedContributionAndProof;
-import tech.pegasys.teku.api.schema.altair.SyncCommitteeContribution;
-import tech.pegasys.teku.api.schema.altair.SyncCommitteeMessage;
 import tech.pegasys.teku.api.schema.altair.SyncCommitteeSubnetSubscription;
 import tech.pegasys.teku.api.schema.bellatrix.BeaconPreparableProposer;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -201,16 +187,6 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
         .orElseGet(() -> SendSignedBlockResult.notImported("UNKNOWN"));
   }
 
-  @Override
-  public Optional<PostDataFailureResponse> sendSignedAttestations(
-      final List<Attestation> attestations) {
-    return post(
-        SEND_SIGNED_ATTESTATION,
-        attestations,
-        ResponseHandler.createForEmptyOkAndContentInBadResponse(
-            jsonProvider, PostDataFailureResponse.class));
-  }
-
   @Override
   public Optional<PostDataFailureResponse> sendVoluntaryExit(
       final SignedVoluntaryExit voluntaryExit) {
@@ -221,31 +197,6 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
             jsonProvider, PostDataFailureResponse.class));
   }
 
-  @Override
-  public Optional<Attestation> createAggregate(
-      final UInt64 slot, final Bytes32 attestationHashTreeRoot) {
-    final Map<String, String> queryParams = new HashMap<>();
-    queryParams.put("slot", encodeQueryParam(slot));
-    queryParams.put("attestation_data_root", encodeQueryParam(attestationHashTreeRoot));
-
-    return get(
-            GET_AGGREGATE,
-            queryParams,
-            createHandler(GetAggregatedAttestationResponse.class)
-                .withHandler(SC_NOT_FOUND, (request, response) -> Optional.empty()))
-        .map(result -> result.data);
-  }
-
-  @Override
-  public Optional<PostDataFailureResponse> sendAggregateAndProofs(
-      final List<SignedAggregateAndProof> signedAggregateAndProof) {
-    return post(
-        SEND_SIGNED_AGGREGATE_AND_PROOF,
-        signedAggregateAndProof,
-        ResponseHandler.createForEmptyOkAndContentInBadResponse(
-            jsonProvider, PostDataFailureResponse.class));
-  }
-
   @Override
   public void subscribeToBeaconCommittee(List<CommitteeSubscriptionRequest> requests) {
     final BeaconCommitteeSubscriptionRequest[] body =
@@ -267,16 +218,6 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
     post(SUBSCRIBE_TO_PERSISTENT_SUBNETS, subnetSubscriptions, createHandler());
   }
 
-  @Override
-  public Optional<PostDataFailureResponse> sendSyncCommitteeMessages(
-      final List<SyncCommitteeMessage> syncCommitteeMessages) {
-    return post(
-        SEND_SYNC_COMMITTEE_MESSAGES,
-        syncCommitteeMessages,
-        ResponseHandler.createForEmptyOkAndContentInBadResponse(
-            jsonProvider, PostDataFailureResponse.class));
-  }
-
   @Override
   public Optional<PostSyncDutiesResponse> getSyncCommitteeDuties(
       final UInt64 epoch, final Collection<Integer> validatorIndices) {
@@ -293,33 +234,6 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
     post(SUBSCRIBE_TO_SYNC_COMMITTEE_SUBNET, subnetSubscriptions, createHandler());
   }
 
-  @Override
-  public void sendContributionAndProofs(
-      final List<SignedContributionAndProof> signedContributionAndProofs) {
-    post(SEND_CONTRIBUTION_AND_PROOF, signedContributionAndProofs, createHandler());
-  }
-
-  @Override
-  public Optional<SyncCommitteeContribution> createSyncCommitteeContribution(
-      final UInt64 slot, final int subcommitteeIndex, final Bytes32 beaconBlockRoot) {
-    final Map<String, String> pathParams = Map.of();
-    final Map<String, String> queryParams =
-        Map.of(
-            "slot",
-            slot.toString(),
-            "subcommittee_index",
-            Integer.toString(subcommitteeIndex),
-            "beacon_block_root",
-            beaconBlockRoot.toHexString());
-    return get(
-            GET_SYNC_COMMITTEE_CONTRIBUTION,
-            pathParams,
-            queryParams,
-            createHandler(GetSyncCommitteeContributionResponse.class)
-                .withHandler(SC_NOT_FOUND, (request, response) -> Optional.empty()))
-        .map(response -> response.data);
-  }
-
   @Override
   public void prepareBeaconProposer(List<BeaconPreparableProposer> beaconPreparableProposers) {
     post(PREPARE_BEACON_PROPOSER, beaconPreparableProposers, createHandler());
@@ -25,16 +25,11 @@ import tech.pegasys.teku.api.response.v1.validator.GetProposerDutiesResponse;
 import tech.pegasys.teku.api.response.v1.validator.PostAttesterDutiesResponse;
 import tech.pegasys.teku.api.response.v1.validator.PostSyncDutiesResponse;
 import tech.pegasys.teku.api.response.v1.validator.PostValidatorLivenessResponse;
-import tech.pegasys.teku.api.schema.Attestation;
 import tech.pegasys.teku.api.schema.BLSSignature;
 import tech.pegasys.teku.api.schema.BeaconBlock;
-import tech.pegasys.teku.api.schema.SignedAggregateAndProof;
 import tech.pegasys.teku.api.schema.SignedBeaconBlock;
 import tech.pegasys.teku.api.schema.SignedVoluntaryExit;
 import tech.pegasys.teku.api.schema.SubnetSubscription;
-import tech.pegasys.teku.api.schema.altair.SignedContributionAndProof;
-import tech.pegasys.teku.api.schema.altair.SyncCommitteeContribution;
-import tech.pegasys.teku.api.schema.altair.SyncCommitteeMessage;
 import tech.pegasys.teku.api.schema.altair.SyncCommitteeSubnetSubscription;
 import tech.pegasys.teku.api.schema.bellatrix.BeaconPreparableProposer;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -57,33 +52,17 @@ public interface ValidatorRestApiClient {
 
   SendSignedBlockResult sendSignedBlock(SignedBeaconBlock beaconBlock);
 
-  Optional<PostDataFailureResponse> sendSignedAttestations(List<Attestation> attestation);
-
   Optional<PostDataFailureResponse> sendVoluntaryExit(SignedVoluntaryExit voluntaryExit);
 
-  Optional<Attestation> createAggregate(UInt64 slot, Bytes32 attestationHashTreeRoot);
-
-  Optional<PostDataFailureResponse> sendAggregateAndProofs(
-      List<SignedAggregateAndProof> signedAggregateAndProof);
-
   void subscribeToBeaconCommittee(List<CommitteeSubscriptionRequest> requests);
 
   void subscribeToPersistentSubnets(Set<SubnetSubscription> subnetSubscriptions);
 
-  Optional<PostDataFailureResponse> sendSyncCommitteeMessages(
-      List<SyncCommitteeMessage> syncCommitteeMessages);
-
   Optional<PostSyncDutiesResponse> getSyncCommitteeDuties(
       UInt64 epoch, Collection<Integer> validatorIndices);
 
   void subscribeToSyncCommitteeSubnets(List<SyncCommitteeSubnetSubscription> subnetSubscriptions);
 
-  void sendContributionAndProofs(
-      final List<SignedContributionAndProof> signedContributionAndProofs);
-
-  Optional<SyncCommitteeContribution> createSyncCommitteeContribution(
-      UInt64 slot, int subcommitteeIndex, Bytes32 beaconBlockRoot);
-
   void prepareBeaconProposer(final List<BeaconPreparableProposer> beaconPreparableProposers);
 
   Optional<PostValidatorLivenessResponse> sendValidatorsLiveness(
@@ -179,6 +179,7 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
         httpClient,
         spec,
         validatorConfig.isValidatorClientUseSszBlocksEnabled(),
+        validatorConfig.isValidatorClientUseSszOperationsEnabled(),
         asyncRunner);
   }
 
@@ -197,6 +198,7 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
                         httpClient,
                         spec,
                         validatorConfig.isValidatorClientUseSszBlocksEnabled(),
+                        validatorConfig.isValidatorClientUseSszOperationsEnabled(),
                         asyncRunner))
             .toList();
 
@@ -13,6 +13,13 @@
 
 package tech.pegasys.teku.validator.remote.typedef;
 
+import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_CONTRIBUTION_AND_PROOF;
+import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_SIGNED_AGGREGATE_AND_PROOF;
+import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_SIGNED_ATTESTATION;
+import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_SYNC_COMMITTEE_MESSAGES;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -27,14 +34,25 @@ import tech.pegasys.teku.spec.datastructures.blocks.BlockContainer;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockContainer;
 import tech.pegasys.teku.spec.datastructures.builder.SignedValidatorRegistration;
 import tech.pegasys.teku.spec.datastructures.genesis.GenesisData;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SignedContributionAndProof;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeContribution;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeMessage;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeMessageSchema;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsAltair;
 import tech.pegasys.teku.validator.api.SendSignedBlockResult;
+import tech.pegasys.teku.validator.api.SubmitDataError;
 import tech.pegasys.teku.validator.api.required.SyncingStatus;
+import tech.pegasys.teku.validator.remote.typedef.handlers.CreateAggregateAttestationRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.CreateAttestationDataRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.CreateBlockRequest;
+import tech.pegasys.teku.validator.remote.typedef.handlers.CreateSyncCommitteeContributionRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.GetGenesisRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.GetSyncingStatusRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.RegisterValidatorsRequest;
+import tech.pegasys.teku.validator.remote.typedef.handlers.SendOperationsRequest;
 import tech.pegasys.teku.validator.remote.typedef.handlers.SendSignedBlockRequest;
 
 public class OkHttpValidatorTypeDefClient {
@@ -51,12 +69,20 @@ public class OkHttpValidatorTypeDefClient {
   private final SendSignedBlockRequest sendSignedBlockRequest;
   private final RegisterValidatorsRequest registerValidatorsRequest;
   private final CreateAttestationDataRequest createAttestationDataRequest;
+  private final CreateAggregateAttestationRequest createAggregateAttestationRequest;
+  private final CreateSyncCommitteeContributionRequest createSyncCommitteeContributionRequest;
+  private final SendOperationsRequest<Attestation> sendSignedAttestationsRequest;
+  private final SendOperationsRequest<SignedAggregateAndProof> sendAggregateAndProofsRequest;
+  private final SendOperationsRequest<SyncCommitteeMessage> sendSyncCommitteeMessagesRequest;
+  private final SendOperationsRequest<SignedContributionAndProof>
+      sendContributionAndProofsRequest;
 
   public OkHttpValidatorTypeDefClient(
       final OkHttpClient okHttpClient,
       final HttpUrl baseEndpoint,
       final Spec spec,
-      final boolean preferSszBlockEncoding) {
+      final boolean preferSszBlockEncoding,
+      final boolean preferSszOperationEncoding) {
     this.okHttpClient = okHttpClient;
     this.baseEndpoint = baseEndpoint;
     this.spec = spec;
@@ -68,7 +94,28 @@ public class OkHttpValidatorTypeDefClient {
     this.registerValidatorsRequest =
         new RegisterValidatorsRequest(baseEndpoint, okHttpClient, false);
     this.createAttestationDataRequest =
-        new CreateAttestationDataRequest(baseEndpoint, okHttpClient);
+        new CreateAttestationDataRequest(baseEndpoint, okHttpClient, preferSszOperationEncoding);
+    this.createAggregateAttestationRequest =
+        new CreateAggregateAttestationRequest(
+            baseEndpoint, okHttpClient, spec, preferSszOperationEncoding);
+    this.createSyncCommitteeContributionRequest =
+        new CreateSyncCommitteeContributionRequest(
+            baseEndpoint, okHttpClient, spec, preferSszOperationEncoding);
+    this.sendSignedAttestationsRequest =
+        new SendOperationsRequest<>(
+            baseEndpoint, okHttpClient, SEND_SIGNED_ATTESTATION, preferSszOperationEncoding);
+    this.sendAggregateAndProofsRequest =
+        new SendOperationsRequest<>(
+            baseEndpoint,
+            okHttpClient,
+            SEND_SIGNED_AGGREGATE_AND_PROOF,
+            preferSszOperationEncoding);
+    this.sendSyncCommitteeMessagesRequest =
+        new SendOperationsRequest<>(
+            baseEndpoint, okHttpClient, SEND_SYNC_COMMITTEE_MESSAGES, preferSszOperationEncoding);
+    this.sendContributionAndProofsRequest =
+        new SendOperationsRequest<>(
+            baseEndpoint, okHttpClient, SEND_CONTRIBUTION_AND_PROOF, preferSszOperationEncoding);
   }
 
   public SyncingStatus getSyncingStatus() {
@@ -114,4 +161,58 @@ public class OkHttpValidatorTypeDefClient {
       final UInt64 slot, final int committeeIndex) {
     return createAttestationDataRequest.createAttestationData(slot, committeeIndex);
   }
+
+  public Optional<Attestation> createAggregate(
+      final UInt64 slot, final Bytes32 attestationHashTreeRoot) {
+    return createAggregateAttestationRequest.createAggregate(slot, attestationHashTreeRoot);
+  }
+
+  public Optional<SyncCommitteeContribution> createSyncCommitteeContribution(
+      final UInt64 slot, final int subcommitteeIndex, final Bytes32 beaconBlockRoot) {
+    return createSyncCommitteeContributionRequest.createSyncCommitteeContribution(
+        slot, subcommitteeIndex, beaconBlockRoot);
+  }
+
+  public List<SubmitDataError> sendSignedAttestations(final List<Attestation> attestations) {
+    if (attestations.isEmpty()) {
+      return List.of();
+    }
+    final UInt64 slot = attestations.get(0).getData().getSlot();
+    return sendSignedAttestationsRequest.submit(
+        attestations, spec.atSlot(slot).getSchemaDefinitions().getAttestationSchema());
+  }
+
+  public List<SubmitDataError> sendAggregateAndProofs(
+      final List<SignedAggregateAndProof> aggregateAndProofs) {
+    if (aggregateAndProofs.isEmpty()) {
+      return List.of();
+    }
+    final UInt64 slot =
+        aggregateAndProofs.get(0).getMessage().getAggregate().getData().getSlot();
+    return sendAggregateAndProofsRequest.submit(
+        aggregateAndProofs,
+        spec.atSlot(slot).getSchemaDefinitions().getSignedAggregateAndProofSchema());
+  }
+
+  public List<SubmitDataError> sendSyncCommitteeMessages(
+      final List<SyncCommitteeMessage> syncCommitteeMessages) {
+    if (syncCommitteeMessages.isEmpty()) {
+      return List.of();
+    }
+    return sendSyncCommitteeMessagesRequest.submit(
+        syncCommitteeMessages, SyncCommitteeMessageSchema.INSTANCE);
+  }
+
+  public void sendContributionAndProofs(
+      final Collection<SignedContributionAndProof> contributionAndProofs) {
+    if (contributionAndProofs.isEmpty()) {
+      return;
+    }
+    final List<SignedContributionAndProof> contributions = List.copyOf(contributionAndProofs);
+    final UInt64 slot = contributions.get(0).getMessage().getContribution().getSlot();
+    sendContributionAndProofsRequest.submit(
+        contributions,
+        SchemaDefinitionsAltair.required(spec.atSlot(slot).getSchemaDefinitions())
+            .getSignedContributionAndProofSchema());
+  }
 }
@@ -24,15 +24,18 @@ import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_SERVICE_U
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_TOO_MANY_REQUESTS;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.net.MediaType;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.io.IOException;
 import java.util.Optional;
+import java.util.function.Function;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.api.exceptions.RemoteServiceNotAvailableException;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
 import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
@@ -44,6 +47,7 @@ public class ResponseHandler<TObject> {
   private final Int2ObjectMap<ResponseHandler.Handler<TObject>> handlers =
       new Int2ObjectOpenHashMap<>();
   private final Optional<DeserializableTypeDefinition<TObject>> maybeTypeDefinition;
+  private Optional<Function<Bytes, TObject>> maybeSszParser = Optional.empty();
 
   public ResponseHandler(
       final Optional<DeserializableTypeDefinition<TObject>> maybeTypeDefinition) {
@@ -73,9 +77,23 @@ public class ResponseHandler<TObject> {
     return this;
   }
 
+  /** Parses successful responses with SSZ when the beacon node replies with octet-stream */
+  public ResponseHandler<TObject> withSszParser(final Function<Bytes, TObject> sszParser) {
+    this.maybeSszParser = Optional.of(sszParser);
+    return this;
+  }
+
   private Optional<TObject> defaultOkHandler(final Request request, final Response response)
       throws IOException {
     final ResponseBody responseBody = response.body();
+    if (responseBody != null && maybeSszParser.isPresent() && isOctetStream(response)) {
+      try {
+        return Optional.of(maybeSszParser.get().apply(Bytes.wrap(responseBody.bytes())));
+      } catch (final IllegalArgumentException ex) {
+        LOG.debug("Failed to decode SSZ response body", ex);
+        return Optional.empty();
+      }
+    }
     if (responseBody != null && maybeTypeDefinition.isPresent()) {
       try {
         return Optional.of(JsonUtil.parse(responseBody.string(), maybeTypeDefinition.get()));
@@ -86,6 +104,11 @@ public class ResponseHandler<TObject> {
     return Optional.empty();
   }
 
+  private static boolean isOctetStream(final Response response) {
+    final String contentType = response.header("Content-Type");
+    return contentType != null && MediaType.parse(contentType).is(MediaType.OCTET_STREAM);
+  }
+
   public Optional<TObject> handleResponse(final Request request, final Response response)
       throws IOException {
     return handlers
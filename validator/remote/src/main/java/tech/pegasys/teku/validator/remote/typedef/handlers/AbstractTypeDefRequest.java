@@ -39,6 +39,9 @@ public abstract class AbstractTypeDefRequest {
   private static final MediaType APPLICATION_JSON =
       MediaType.parse("application/json; charset=utf-8");
   private static final MediaType OCTET_STREAM = MediaType.parse("application/octet-stream");
+  // application/octet-stream is preferred, but will accept application/json
+  protected static final Map<String, String> PREFER_SSZ_HEADERS =
+      Map.of("Accept", "application/octet-stream;q=0.9, application/json;q=0.4");
   private static final Logger LOG = LogManager.getLogger();
   private final HttpUrl baseEndpoint;
   private final OkHttpClient httpClient;
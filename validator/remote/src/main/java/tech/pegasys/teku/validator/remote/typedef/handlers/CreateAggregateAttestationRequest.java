@@ -0,0 +1,68 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.remote.typedef.handlers;
+
+import static java.util.Collections.emptyMap;
+import static tech.pegasys.teku.ethereum.json.types.SharedApiTypes.withDataWrapper;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+
+import java.util.Map;
+import java.util.Optional;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation.AttestationSchema;
+import tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod;
+import tech.pegasys.teku.validator.remote.typedef.ResponseHandler;
+
+public class CreateAggregateAttestationRequest extends AbstractTypeDefRequest {
+
+  private final Spec spec;
+  private final boolean preferSszEncoding;
+
+  public CreateAggregateAttestationRequest(
+      final HttpUrl baseEndpoint,
+      final OkHttpClient okHttpClient,
+      final Spec spec,
+      final boolean preferSszEncoding) {
+    super(baseEndpoint, okHttpClient);
+    this.spec = spec;
+    this.preferSszEncoding = preferSszEncoding;
+  }
+
+  public Optional<Attestation> createAggregate(
+      final UInt64 slot, final Bytes32 attestationHashTreeRoot) {
+    final Map<String, String> queryParams =
+        Map.of(
+            "slot",
+            slot.toString(),
+            "attestation_data_root",
+            attestationHashTreeRoot.toHexString());
+    final AttestationSchema attestationSchema =
+        spec.atSlot(slot).getSchemaDefinitions().getAttestationSchema();
+    final ResponseHandler<Attestation> responseHandler =
+        new ResponseHandler<>(withDataWrapper(attestationSchema))
+            .withSszParser(attestationSchema::sszDeserialize)
+            .withHandler(SC_NOT_FOUND, (request, response) -> Optional.empty());
+    return get(
+        ValidatorApiMethod.GET_AGGREGATE,
+        emptyMap(),
+        queryParams,
+        preferSszEncoding ? PREFER_SSZ_HEADERS : emptyMap(),
+        responseHandler);
+  }
+}
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.validator.remote.typedef.handlers;
 
+import static java.util.Collections.emptyMap;
 import static tech.pegasys.teku.ethereum.json.types.SharedApiTypes.withDataWrapper;
 
 import java.util.HashMap;
@@ -27,8 +28,18 @@ import tech.pegasys.teku.validator.remote.typedef.ResponseHandler;
 
 public class CreateAttestationDataRequest extends AbstractTypeDefRequest {
 
-  public CreateAttestationDataRequest(final HttpUrl baseEndpoint, final OkHttpClient okHttpClient) {
+  private final ResponseHandler<AttestationData> responseHandler =
+      new ResponseHandler<>(withDataWrapper(AttestationData.SSZ_SCHEMA))
+          .withSszParser(AttestationData.SSZ_SCHEMA::sszDeserialize);
+
+  private final boolean preferSszEncoding;
+
+  public CreateAttestationDataRequest(
+      final HttpUrl baseEndpoint,
+      final OkHttpClient okHttpClient,
+      final boolean preferSszEncoding) {
     super(baseEndpoint, okHttpClient);
+    this.preferSszEncoding = preferSszEncoding;
   }
 
   public Optional<AttestationData> createAttestationData(
@@ -38,7 +49,9 @@ public class CreateAttestationDataRequest extends AbstractTypeDefRequest {
     queryParams.put("committee_index", Integer.toString(committeeIndex));
     return get(
         ValidatorApiMethod.GET_ATTESTATION_DATA,
+        emptyMap(),
         queryParams,
-        new ResponseHandler<>(withDataWrapper(AttestationData.SSZ_SCHEMA)));
+        preferSszEncoding ? PREFER_SSZ_HEADERS : emptyMap(),
+        responseHandler);
   }
 }
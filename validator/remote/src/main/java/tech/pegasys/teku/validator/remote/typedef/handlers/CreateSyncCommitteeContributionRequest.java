@@ -0,0 +1,72 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.remote.typedef.handlers;
+
+import static java.util.Collections.emptyMap;
+import static tech.pegasys.teku.ethereum.json.types.SharedApiTypes.withDataWrapper;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+
+import java.util.Map;
+import java.util.Optional;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeContribution;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeContributionSchema;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsAltair;
+import tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod;
+import tech.pegasys.teku.validator.remote.typedef.ResponseHandler;
+
+public class CreateSyncCommitteeContributionRequest extends AbstractTypeDefRequest {
+
+  private final Spec spec;
+  private final boolean preferSszEncoding;
+
+  public CreateSyncCommitteeContributionRequest(
+      final HttpUrl baseEndpoint,
+      final OkHttpClient okHttpClient,
+      final Spec spec,
+      final boolean preferSszEncoding) {
+    super(baseEndpoint, okHttpClient);
+    this.spec = spec;
+    this.preferSszEncoding = preferSszEncoding;
+  }
+
+  public Optional<SyncCommitteeContribution> createSyncCommitteeContribution(
+      final UInt64 slot, final int subcommitteeIndex, final Bytes32 beaconBlockRoot) {
+    final Map<String, String> queryParams =
+        Map.of(
+            "slot",
+            slot.toString(),
+            "subcommittee_index",
+            Integer.toString(subcommitteeIndex),
+            "beacon_block_root",
+            beaconBlockRoot.toHexString());
+    final SyncCommitteeContributionSchema contributionSchema =
+        SchemaDefinitionsAltair.required(spec.atSlot(slot).getSchemaDefinitions())
+            .getSyncCommitteeContributionSchema();
+    final ResponseHandler<SyncCommitteeContribution> responseHandler =
+        new ResponseHandler<>(withDataWrapper(contributionSchema))
+            .withSszParser(contributionSchema::sszDeserialize)
+            .withHandler(SC_NOT_FOUND, (request, response) -> Optional.empty());
+    return get(
+        ValidatorApiMethod.GET_SYNC_COMMITTEE_CONTRIBUTION,
+        emptyMap(),
+        queryParams,
+        preferSszEncoding ? PREFER_SSZ_HEADERS : emptyMap(),
+        responseHandler);
+  }
+}
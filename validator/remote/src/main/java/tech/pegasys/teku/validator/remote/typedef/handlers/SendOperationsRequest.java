@@ -0,0 +1,192 @@
+/*
+ * Copyright Consensys Software Inc., 2022
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.remote.typedef.handlers;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_UNSUPPORTED_MEDIA_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.STRING_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.UINT64_TYPE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.schemas.ApiSchemas;
+import tech.pegasys.teku.validator.api.SubmitDataError;
+import tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod;
+import tech.pegasys.teku.validator.remote.typedef.ResponseHandler;
+
+/**
+ * Submits a list of operations, such as attestations or sync committee messages, to a beacon node.
+ * When SSZ encoding is preferred the list is sent as SSZ, falling back to JSON for this and all
+ * later requests if the beacon node doesn't accept it.
+ */
+public class SendOperationsRequest<T extends SszData> extends AbstractTypeDefRequest {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final DeserializableTypeDefinition<SubmitDataError> SUBMIT_DATA_ERROR_TYPE =
+      DeserializableTypeDefinition.object(SubmitDataError.class, SubmitDataErrorBuilder.class)
+          .initializer(SubmitDataErrorBuilder::new)
+          .finisher(SubmitDataErrorBuilder::build)
+          .withField(
+              "index", UINT64_TYPE, SubmitDataError::getIndex, SubmitDataErrorBuilder::index)
+          .withField(
+              "message", STRING_TYPE, SubmitDataError::getMessage, SubmitDataErrorBuilder::message)
+          .build();
+
+  private static final DeserializableTypeDefinition<PostDataFailures> POST_DATA_FAILURES_TYPE =
+      DeserializableTypeDefinition.object(PostDataFailures.class)
+          .initializer(PostDataFailures::new)
+          .withOptionalField(
+              "failures",
+              DeserializableTypeDefinition.listOf(SUBMIT_DATA_ERROR_TYPE),
+              PostDataFailures::getFailures,
+              PostDataFailures::setFailures)
+          .build();
+
+  private final ResponseHandler<List<SubmitDataError>> jsonResponseHandler =
+      new ResponseHandler<List<SubmitDataError>>()
+          .withHandler(SC_BAD_REQUEST, this::handleBadRequest);
+  private final ResponseHandler<List<SubmitDataError>> sszResponseHandler =
+      new ResponseHandler<List<SubmitDataError>>()
+          .withHandler(SC_BAD_REQUEST, this::handleBadRequest)
+          .withHandler(SC_UNSUPPORTED_MEDIA_TYPE, this::handleUnsupportedSszRequest);
+
+  private final Map<SszSchema<T>, SszListSchema<T, ? extends SszList<T>>> listSchemas =
+      new ConcurrentHashMap<>();
+  private final ValidatorApiMethod apiMethod;
+  private final AtomicBoolean preferSszEncoding;
+
+  public SendOperationsRequest(
+      final HttpUrl baseEndpoint,
+      final OkHttpClient okHttpClient,
+      final ValidatorApiMethod apiMethod,
+      final boolean preferSszEncoding) {
+    super(baseEndpoint, okHttpClient);
+    this.apiMethod = apiMethod;
+    this.preferSszEncoding = new AtomicBoolean(preferSszEncoding);
+  }
+
+  public List<SubmitDataError> submit(
+      final List<T> operations, final SszSchema<T> operationSchema) {
+    if (preferSszEncoding.get()) {
+      final List<SubmitDataError> errors = submitAsSsz(operations, operationSchema);
+      if (preferSszEncoding.get()) {
+        return errors;
+      }
+    }
+    return submitAsJson(operations, operationSchema);
+  }
+
+  private List<SubmitDataError> submitAsSsz(
+      final List<T> operations, final SszSchema<T> operationSchema) {
+    final SszListSchema<T, ? extends SszList<T>> listSchema =
+        listSchemas.computeIfAbsent(operationSchema, ApiSchemas::createOperationsListSchema);
+    return postOctetStream(
+            apiMethod,
+            emptyMap(),
+            listSchema.createFromElements(operations).sszSerialize().toArrayUnsafe(),
+            sszResponseHandler)
+        .orElse(emptyList());
+  }
+
+  private List<SubmitDataError> submitAsJson(
+      final List<T> operations, final SszSchema<T> operationSchema) {
+    return postJson(
+            apiMethod,
+            emptyMap(),
+            operations,
+            SerializableTypeDefinition.listOf(operationSchema.getJsonTypeDefinition()),
+            jsonResponseHandler)
+        .orElse(emptyList());
+  }
+
+  private Optional<List<SubmitDataError>> handleBadRequest(
+      final Request request, final Response response) throws IOException {
+    final ResponseBody responseBody = response.body();
+    final String body = responseBody != null ? responseBody.string() : "";
+    try {
+      final Optional<List<SubmitDataError>> failures =
+          JsonUtil.parse(body, POST_DATA_FAILURES_TYPE).getFailures();
+      if (failures.isPresent()) {
+        return failures;
+      }
+    } catch (final JsonProcessingException ex) {
+      LOG.debug("Failed to decode bad request response body", ex);
+    }
+    // Not a list of failed operations, so the request itself was invalid
+    throw new IllegalArgumentException(
+        String.format(
+            "Invalid params response from Beacon Node API (url = %s, status = %s, message = %s)",
+            request.url(), response.code(), body));
+  }
+
+  private Optional<List<SubmitDataError>> handleUnsupportedSszRequest(
+      final Request request, final Response response) {
+    preferSszEncoding.set(false);
+    return Optional.empty();
+  }
+
+  private static class PostDataFailures {
+    private Optional<List<SubmitDataError>> failures = Optional.empty();
+
+    public Optional<List<SubmitDataError>> getFailures() {
+      return failures;
+    }
+
+    public void setFailures(final Optional<List<SubmitDataError>> failures) {
+      this.failures = failures;
+    }
+  }
+
+  private static class SubmitDataErrorBuilder {
+    private UInt64 index;
+    private String message;
+
+    public SubmitDataErrorBuilder index(final UInt64 index) {
+      this.index = index;
+      return this;
+    }
+
+    public SubmitDataErrorBuilder message(final String message) {
+      this.message = message;
+      return this;
+    }
+
+    public SubmitDataError build() {
+      return new SubmitDataError(index, message);
+    }
+  }
+}
@@ -27,7 +27,6 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
-import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.ssz.SszDataAssert.assertThatSszData;
 import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
 import static tech.pegasys.teku.validator.remote.RemoteValidatorApiHandler.MAX_PUBLIC_KEY_BATCH_SIZE;
@@ -47,8 +46,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import tech.pegasys.teku.api.migrated.ValidatorLivenessAtEpoch;
-import tech.pegasys.teku.api.response.v1.beacon.PostDataFailure;
-import tech.pegasys.teku.api.response.v1.beacon.PostDataFailureResponse;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
 import tech.pegasys.teku.api.response.v1.validator.GetProposerDutiesResponse;
@@ -361,27 +358,15 @@ class RemoteValidatorApiHandlerTest {
   public void sendSignedAttestation_InvokeApiWithCorrectRequest() {
     final Attestation attestation = dataStructureUtil.randomAttestation();
 
-    final PostDataFailureResponse failureResponse =
-        new PostDataFailureResponse(
-            SC_BAD_REQUEST, "Oh no", List.of(new PostDataFailure(UInt64.ZERO, "Bad")));
-    when(apiClient.sendSignedAttestations(any())).thenReturn(Optional.of(failureResponse));
-
-    final tech.pegasys.teku.api.schema.Attestation schemaAttestation =
-        new tech.pegasys.teku.api.schema.Attestation(attestation);
-
-    @SuppressWarnings("unchecked")
-    ArgumentCaptor<List<tech.pegasys.teku.api.schema.Attestation>> argumentCaptor =
-        ArgumentCaptor.forClass(List.class);
+    final List<SubmitDataError> errors = List.of(new SubmitDataError(UInt64.ZERO, "Bad"));
+    when(typeDefClient.sendSignedAttestations(List.of(attestation))).thenReturn(errors);
 
     final SafeFuture<List<SubmitDataError>> result =
         apiHandler.sendSignedAttestations(List.of(attestation));
     asyncRunner.executeQueuedActions();
 
-    verify(apiClient).sendSignedAttestations(argumentCaptor.capture());
-    assertThat(argumentCaptor.getValue())
-        .usingRecursiveComparison()
-        .isEqualTo(List.of(schemaAttestation));
-    assertThat(result).isCompletedWithValue(List.of(new SubmitDataError(UInt64.ZERO, "Bad")));
+    verify(typeDefClient).sendSignedAttestations(List.of(attestation));
+    assertThat(result).isCompletedWithValue(errors);
   }
 
   @Test
@@ -476,7 +461,8 @@ class RemoteValidatorApiHandlerTest {
     final UInt64 slot = dataStructureUtil.randomUInt64();
     final Bytes32 attHashTreeRoot = Bytes32.random();
 
-    when(apiClient.createAggregate(eq(slot), eq(attHashTreeRoot))).thenReturn(Optional.empty());
+    when(typeDefClient.createAggregate(eq(slot), eq(attHashTreeRoot)))
+        .thenReturn(Optional.empty());
 
     SafeFuture<Optional<Attestation>> future = apiHandler.createAggregate(slot, attHashTreeRoot);
 
@@ -489,18 +475,15 @@ class RemoteValidatorApiHandlerTest {
     final Bytes32 attHashTreeRoot = Bytes32.random();
 
     final Attestation attestation = dataStructureUtil.randomAttestation();
-    final tech.pegasys.teku.api.schema.Attestation schemaAttestation =
-        new tech.pegasys.teku.api.schema.Attestation(attestation);
 
-    when(apiClient.createAggregate(eq(slot), eq(attHashTreeRoot)))
-        .thenReturn(Optional.of(schemaAttestation));
+    when(typeDefClient.createAggregate(eq(slot), eq(attHashTreeRoot)))
+        .thenReturn(Optional.of(attestation));
 
     SafeFuture<Optional<Attestation>> future = apiHandler.createAggregate(slot, attHashTreeRoot);
 
     assertThatSszData(unwrapToValue(future)).isEqualByAllMeansTo(attestation);
   }
 
-  @SuppressWarnings("unchecked")
   @Test
   public void sendsAggregateAndProof_InvokeApiWithCorrectRequest() {
     final AggregateAndProof aggregateAndProof = dataStructureUtil.randomAggregateAndProof();
@@ -510,20 +493,11 @@ class RemoteValidatorApiHandlerTest {
             .getSignedAggregateAndProofSchema()
             .create(aggregateAndProof, signature);
 
-    tech.pegasys.teku.api.schema.SignedAggregateAndProof schemaSignedAggAndProof =
-        new tech.pegasys.teku.api.schema.SignedAggregateAndProof(signedAggregateAndProof);
-
-    ArgumentCaptor<List<tech.pegasys.teku.api.schema.SignedAggregateAndProof>> argumentCaptor =
-        ArgumentCaptor.forClass(List.class);
-
     final SafeFuture<List<SubmitDataError>> result =
         apiHandler.sendAggregateAndProofs(List.of(signedAggregateAndProof));
     asyncRunner.executeQueuedActions();
 
-    verify(apiClient).sendAggregateAndProofs(argumentCaptor.capture());
-    assertThat(argumentCaptor.getValue())
-        .usingRecursiveComparison()
-        .isEqualTo(List.of(schemaSignedAggAndProof));
+    verify(typeDefClient).sendAggregateAndProofs(List.of(signedAggregateAndProof));
     assertThat(result).isCompletedWithValue(emptyList());
   }
 